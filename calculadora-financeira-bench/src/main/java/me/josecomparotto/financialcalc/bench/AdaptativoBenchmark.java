@@ -0,0 +1,105 @@
+package me.josecomparotto.financialcalc.bench;
+
+import me.josecomparotto.financialcalc.core.adaptativo.AvaliacaoAdaptativa;
+import me.josecomparotto.financialcalc.core.juros.CalculadoraJurosCompostos;
+import me.josecomparotto.financialcalc.core.juros.CalculadoraJurosSimples;
+import me.josecomparotto.financialcalc.core.parcelas.CalculadoraParcelasPrice;
+import me.josecomparotto.financialcalc.core.parcelas.MotorCalculo;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.math.RoundingMode;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Avaliação adaptativa (double com limite de erro e recálculo em BigDecimal)
+ * contra o caminho só em BigDecimal, sobre 1000 entradas aleatórias. A taxa de
+ * acerto do double é impressa ao fim de cada trial.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class AdaptativoBenchmark {
+
+    private static final int ENTRADAS = 1000;
+    private static final int[] PRAZOS = {12, 24, 36, 48, 60, 72, 120, 240, 360, 420};
+
+    @Param({"false", "true"})
+    boolean adaptativo;
+
+    @Param({"DECIMAL128"})
+    ContextoCalculo contexto;
+
+    BigDecimal[] principais;
+    BigDecimal[] taxas;
+    int[] prazos;
+    AvaliacaoAdaptativa avaliacao;
+    CalculadoraJurosSimples simples;
+    CalculadoraJurosCompostos compostos;
+    CalculadoraParcelasPrice price;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        SplittableRandom random = new SplittableRandom(42);
+        principais = new BigDecimal[ENTRADAS];
+        taxas = new BigDecimal[ENTRADAS];
+        prazos = new int[ENTRADAS];
+        for (int i = 0; i < ENTRADAS; i++) {
+            principais[i] = BigDecimal.valueOf(100_000 + random.nextLong(50_000_000L), 2);
+            taxas[i] = BigDecimal.valueOf(20 + random.nextInt(500), 4);
+            prazos[i] = PRAZOS[random.nextInt(PRAZOS.length)];
+        }
+        MathContext mc = contexto.getMathContext();
+        avaliacao = adaptativo ? new AvaliacaoAdaptativa() : null;
+        simples = new CalculadoraJurosSimples(mc, avaliacao);
+        compostos = new CalculadoraJurosCompostos(mc, null, avaliacao);
+        price = new CalculadoraParcelasPrice(
+                mc, new MathContext(2, RoundingMode.HALF_UP), MotorCalculo.BIG_DECIMAL, null, avaliacao);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        if (avaliacao != null) {
+            System.out.println("avaliacao adaptativa: " + avaliacao.estatisticas());
+        }
+    }
+
+    @Benchmark
+    public void simples(Blackhole bh) {
+        for (int i = 0; i < ENTRADAS; i++) {
+            bh.consume(simples.calcularJuros(principais[i], taxas[i], prazos[i], 2));
+        }
+    }
+
+    @Benchmark
+    public void compostos(Blackhole bh) {
+        for (int i = 0; i < ENTRADAS; i++) {
+            bh.consume(compostos.calcularMontante(principais[i], taxas[i], prazos[i], 2));
+        }
+    }
+
+    @Benchmark
+    public void priceValorParcela(Blackhole bh) {
+        for (int i = 0; i < ENTRADAS; i++) {
+            bh.consume(price.calcularValorParcela(principais[i], taxas[i], prazos[i]));
+        }
+    }
+}
@@ -0,0 +1,98 @@
+package me.josecomparotto.financialcalc.bench;
+
+import me.josecomparotto.financialcalc.core.parcelas.AmortizacaoExtraordinaria;
+import me.josecomparotto.financialcalc.core.parcelas.CalculadoraParcelasPrice;
+import me.josecomparotto.financialcalc.core.parcelas.CalculadoraParcelasSac;
+import me.josecomparotto.financialcalc.core.parcelas.ICalculadoraParcelas;
+import me.josecomparotto.financialcalc.core.parcelas.ModoAmortizacaoExtraordinaria;
+import me.josecomparotto.financialcalc.core.parcelas.MotorCalculo;
+import me.josecomparotto.financialcalc.core.parcelas.Parcela;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Financiamento de 420 meses com 'eventos' amortizações extraordinárias
+ * (modos alternados): API incremental, que gera cada trecho só até o evento
+ * seguinte, contra regenerar o cronograma restante inteiro a cada evento.
+ * No motor BIG_DECIMAL ({@code -p motor=BIG_DECIMAL}) o PRICE de 420 meses
+ * custa ~100 ms por cronograma, e a regeneração com 100 eventos leva segundos.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class AmortizacaoExtraordinariaBenchmark {
+
+    private static final int PRAZO = 420;
+    private static final BigDecimal TAXA = new BigDecimal("0.0085");
+
+    @Param({"PRICE", "SAC"})
+    String sistema;
+
+    @Param({"1", "10", "100"})
+    int eventos;
+
+    @Param({"CENTAVOS"})
+    MotorCalculo motor;
+
+    ICalculadoraParcelas calculadora;
+    List<Parcela> cronograma;
+    List<AmortizacaoExtraordinaria> amortizacoes;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        MathContext mcResultado = new MathContext(2, RoundingMode.HALF_UP);
+        calculadora = sistema.equals("PRICE")
+                ? new CalculadoraParcelasPrice(MathContext.DECIMAL128, mcResultado, motor)
+                : new CalculadoraParcelasSac(MathContext.DECIMAL128, mcResultado, motor);
+        cronograma = calculadora.calcularParcelas(new BigDecimal("600000.00"), TAXA, PRAZO);
+        SplittableRandom random = new SplittableRandom(42);
+        amortizacoes = new ArrayList<>(eventos);
+        int passo = 200 / eventos;
+        for (int k = 0; k < eventos; k++) {
+            amortizacoes.add(new AmortizacaoExtraordinaria(1 + k * passo, BigDecimal.valueOf(500 + random.nextInt(1500)),
+                    k % 2 == 0 ? ModoAmortizacaoExtraordinaria.REDUZIR_PRAZO : ModoAmortizacaoExtraordinaria.REDUZIR_PARCELA));
+        }
+    }
+
+    @Benchmark
+    public List<Parcela> incremental() {
+        return calculadora instanceof CalculadoraParcelasPrice price
+                ? price.aplicarAmortizacoesExtraordinarias(cronograma, TAXA, amortizacoes)
+                : ((CalculadoraParcelasSac) calculadora).aplicarAmortizacoesExtraordinarias(cronograma, TAXA, amortizacoes);
+    }
+
+    // Um evento por chamada: cada evento copia o prefixo e gera o cronograma
+    // restante inteiro (o mesmo que calcularParcelas sobre o novo saldo), como
+    // na regeneração completa, mas com o mesmo resultado da versão encadeada.
+    @Benchmark
+    public List<Parcela> regeneracaoCompleta() {
+        List<Parcela> atual = cronograma;
+        for (AmortizacaoExtraordinaria evento : amortizacoes) {
+            atual = calculadora instanceof CalculadoraParcelasPrice price
+                    ? price.aplicarAmortizacaoExtraordinaria(atual, TAXA, evento)
+                    : ((CalculadoraParcelasSac) calculadora).aplicarAmortizacaoExtraordinaria(atual, TAXA, evento);
+        }
+        return atual;
+    }
+}
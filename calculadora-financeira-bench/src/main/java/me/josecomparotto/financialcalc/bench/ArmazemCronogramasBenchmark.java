@@ -0,0 +1,135 @@
+package me.josecomparotto.financialcalc.bench;
+
+import me.josecomparotto.financialcalc.core.parcelas.ArmazemCronogramas;
+import me.josecomparotto.financialcalc.core.parcelas.ICalculadoraParcelas;
+import me.josecomparotto.financialcalc.core.parcelas.MotorCalculo;
+import me.josecomparotto.financialcalc.core.parcelas.Parcela;
+import me.josecomparotto.financialcalc.core.parcelas.SistemaAmortizacao;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.math.RoundingMode;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Comparator;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Armazém de cronogramas em arquivo mapeado com 'contratos' financiamentos de
+ * 360 meses (PRICE e SAC, motor CENTAVOS): gravar todos os contratos em um
+ * armazém novo, e 10000 consultas a parcelas aleatórias lidas do armazém
+ * contra recalcular o cronograma de cada consulta.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ArmazemCronogramasBenchmark {
+
+    private static final int PRAZO = 360;
+    private static final int CONSULTAS = 10_000;
+    private static final BigDecimal TAXA = new BigDecimal("0.0099");
+
+    @Param({"10000", "50000"})
+    int contratos;
+
+    ICalculadoraParcelas price;
+    ICalculadoraParcelas sac;
+    Path diretorio;
+    ArmazemCronogramas armazem;
+    long[] consultas;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        MathContext mcResultado = new MathContext(2, RoundingMode.HALF_UP);
+        price = SistemaAmortizacao.PRICE.criarCalculadora(MathContext.DECIMAL128, mcResultado, MotorCalculo.CENTAVOS);
+        sac = SistemaAmortizacao.SAC.criarCalculadora(MathContext.DECIMAL128, mcResultado, MotorCalculo.CENTAVOS);
+        diretorio = Files.createTempDirectory("armazem-bench");
+        armazem = new ArmazemCronogramas(diretorio.resolve("leitura"));
+        gravar(armazem);
+        SplittableRandom random = new SplittableRandom(42);
+        consultas = new long[CONSULTAS];
+        for (int i = 0; i < CONSULTAS; i++) {
+            consultas[i] = (long) random.nextInt(contratos) * PRAZO + random.nextInt(PRAZO);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        armazem.close();
+        apagar(diretorio);
+    }
+
+    private ICalculadoraParcelas calculadora(long contrato) {
+        return contrato % 2 == 0 ? price : sac;
+    }
+
+    private static BigDecimal principal(long contrato) {
+        return BigDecimal.valueOf(10_000_000 + contrato * 137, 2);
+    }
+
+    private void gravar(ArmazemCronogramas destino) throws IOException {
+        for (long contrato = 0; contrato < contratos; contrato++) {
+            destino.adicionar(contrato, calculadora(contrato), principal(contrato), TAXA, PRAZO);
+        }
+    }
+
+    private static void apagar(Path raiz) throws IOException {
+        try (Stream<Path> caminhos = Files.walk(raiz)) {
+            for (Path p : caminhos.sorted(Comparator.reverseOrder()).toList()) {
+                Files.delete(p);
+            }
+        }
+    }
+
+    @Benchmark
+    public long gravarArmazem() throws IOException {
+        Path destino = Files.createTempDirectory(diretorio, "escrita");
+        try (ArmazemCronogramas novo = new ArmazemCronogramas(destino)) {
+            gravar(novo);
+            return novo.quantidadeParcelas();
+        } finally {
+            apagar(destino);
+        }
+    }
+
+    @Benchmark
+    public BigDecimal consultarArmazem() {
+        BigDecimal soma = BigDecimal.ZERO;
+        for (long consulta : consultas) {
+            soma = soma.add(armazem.parcela(consulta / PRAZO, (int) (consulta % PRAZO)).getSaldoDevedor());
+        }
+        return soma;
+    }
+
+    @Benchmark
+    public BigDecimal consultarRecalculando() {
+        BigDecimal soma = BigDecimal.ZERO;
+        for (long consulta : consultas) {
+            long contrato = consulta / PRAZO;
+            Parcela p = calculadora(contrato).calcularParcelas(principal(contrato), TAXA, PRAZO)
+                    .get((int) (consulta % PRAZO));
+            soma = soma.add(p.getSaldoDevedor());
+        }
+        return soma;
+    }
+
+}
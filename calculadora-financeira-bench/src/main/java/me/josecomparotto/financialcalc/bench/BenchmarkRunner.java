@@ -0,0 +1,35 @@
+package me.josecomparotto.financialcalc.bench;
+
+import org.openjdk.jmh.profile.GCProfiler;
+import org.openjdk.jmh.runner.Runner;
+import org.openjdk.jmh.runner.RunnerException;
+import org.openjdk.jmh.runner.options.CommandLineOptionException;
+import org.openjdk.jmh.runner.options.CommandLineOptions;
+import org.openjdk.jmh.runner.options.OptionsBuilder;
+
+import java.io.IOException;
+
+/**
+ * Ponto de entrada do benchmarks.jar. Aceita as mesmas opções do JMH
+ * (ex.: {@code ParcelasBenchmark.price -p numeroParcelas=420}) e sempre
+ * adiciona o GCProfiler, para que a taxa de alocação acompanhe o throughput.
+ */
+public class BenchmarkRunner {
+
+    public static void main(String[] args) throws IOException, RunnerException, CommandLineOptionException {
+        CommandLineOptions linhaDeComando = new CommandLineOptions(args);
+        if (linhaDeComando.shouldHelp()) {
+            linhaDeComando.showHelp();
+            return;
+        }
+        if (linhaDeComando.shouldList() || linhaDeComando.shouldListWithParams() || linhaDeComando.shouldListProfilers()) {
+            org.openjdk.jmh.Main.main(args);
+            return;
+        }
+        var opcoes = new OptionsBuilder()
+                .parent(linhaDeComando)
+                .addProfiler(GCProfiler.class)
+                .build();
+        new Runner(opcoes).run();
+    }
+}
@@ -0,0 +1,143 @@
+package me.josecomparotto.financialcalc.bench;
+
+import me.josecomparotto.financialcalc.core.calendario.CalculadoraCronogramaDatado;
+import me.josecomparotto.financialcalc.core.calendario.CalendarioDiasUteis;
+import me.josecomparotto.financialcalc.core.calendario.CronogramaDatado;
+import me.josecomparotto.financialcalc.core.calendario.FeriadosBrasil;
+import me.josecomparotto.financialcalc.core.parcelas.MotorCalculo;
+import me.josecomparotto.financialcalc.core.parcelas.SistemaAmortizacao;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.math.RoundingMode;
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.HashSet;
+import java.util.Set;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Vencimentos de 'contratos' financiamentos de 360 meses (30 anos, primeiro
+ * vencimento espalhado em 2025..2029) no calendário bancário nacional:
+ * LocalDate.plusMonths e busca em HashSet de feriados por parcela contra o
+ * índice do CalendarioDiasUteis. Os benchmarks proRata* geram 100 cronogramas
+ * datados de 360 meses com juros pro rata die (independente de 'contratos'),
+ * e datadoSac os mesmos cronogramas SAC só com as datas.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class CalendarioBenchmark {
+
+    private static final int PRAZO = 360;
+    private static final int CRONOGRAMAS = 100;
+    private static final BigDecimal TAXA = new BigDecimal("0.0099");
+
+    @Param({"10000", "100000"})
+    int contratos;
+
+    CalendarioDiasUteis calendario;
+    Set<LocalDate> feriados;
+    LocalDate[] primeiros;
+    CalculadoraCronogramaDatado price;
+    CalculadoraCronogramaDatado sac;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        calendario = CalendarioDiasUteis.brasil(2025, 2060);
+        feriados = new HashSet<>();
+        for (int ano = 2025; ano <= 2060; ano++) {
+            feriados.addAll(FeriadosBrasil.feriados(ano));
+        }
+        SplittableRandom random = new SplittableRandom(7);
+        primeiros = new LocalDate[contratos];
+        for (int i = 0; i < contratos; i++) {
+            primeiros[i] = LocalDate.of(2025, 1, 1).plusDays(random.nextInt(5 * 365));
+        }
+        MathContext mcResultado = new MathContext(2, RoundingMode.HALF_UP);
+        price = new CalculadoraCronogramaDatado(SistemaAmortizacao.PRICE, MathContext.DECIMAL128, mcResultado,
+                MotorCalculo.CENTAVOS, calendario);
+        sac = new CalculadoraCronogramaDatado(SistemaAmortizacao.SAC, MathContext.DECIMAL128, mcResultado,
+                MotorCalculo.CENTAVOS, calendario);
+    }
+
+    @Benchmark
+    public long vencimentosLocalDate() {
+        long soma = 0;
+        for (LocalDate primeiro : primeiros) {
+            for (int k = 0; k < PRAZO; k++) {
+                LocalDate vencimento = primeiro.plusMonths(k);
+                while (vencimento.getDayOfWeek() == DayOfWeek.SATURDAY || vencimento.getDayOfWeek() == DayOfWeek.SUNDAY
+                        || feriados.contains(vencimento)) {
+                    vencimento = vencimento.plusDays(1);
+                }
+                soma += vencimento.toEpochDay();
+            }
+        }
+        return soma;
+    }
+
+    @Benchmark
+    public long vencimentosIndice() {
+        long soma = 0;
+        for (LocalDate primeiro : primeiros) {
+            for (long vencimento : calendario.vencimentos(primeiro, PRAZO)) {
+                soma += vencimento;
+            }
+        }
+        return soma;
+    }
+
+    @Benchmark
+    public long datadoSac() {
+        long soma = 0;
+        for (int i = 0; i < CRONOGRAMAS; i++) {
+            CronogramaDatado cronograma = sac.calcular(principal(i), TAXA, PRAZO, primeiros[i]);
+            soma += cronograma.getDiaVencimento(PRAZO - 1);
+        }
+        return soma;
+    }
+
+    @Benchmark
+    public long proRataSac() {
+        long soma = 0;
+        for (int i = 0; i < CRONOGRAMAS; i++) {
+            CronogramaDatado cronograma = sac.calcularProRata(principal(i), TAXA, PRAZO,
+                    primeiros[i].minusDays(30), primeiros[i]);
+            soma += cronograma.getDiaVencimento(PRAZO - 1);
+        }
+        return soma;
+    }
+
+    @Benchmark
+    public long proRataPrice() {
+        long soma = 0;
+        for (int i = 0; i < CRONOGRAMAS; i++) {
+            CronogramaDatado cronograma = price.calcularProRata(principal(i), TAXA, PRAZO,
+                    primeiros[i].minusDays(30), primeiros[i]);
+            soma += cronograma.getDiaVencimento(PRAZO - 1);
+        }
+        return soma;
+    }
+
+    private static BigDecimal principal(int i) {
+        return BigDecimal.valueOf(10_000_000 + i * 137L, 2);
+    }
+
+}
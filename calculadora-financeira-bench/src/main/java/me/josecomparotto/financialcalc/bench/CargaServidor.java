@@ -0,0 +1,104 @@
+package me.josecomparotto.financialcalc.bench;
+
+import java.net.URI;
+import java.net.http.HttpClient;
+import java.net.http.HttpRequest;
+import java.net.http.HttpResponse;
+import java.time.Duration;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.concurrent.atomic.AtomicLong;
+
+/**
+ * Teste de carga local para {@code calcfin serve}: N clientes (virtual threads)
+ * fazem requisições em laço fechado e, ao final, são reportados vazão e
+ * latências p50/p90/p99/máx. Só deve ser apontado para localhost.
+ * <p>
+ * {@code java -cp calculadora-financeira-bench/target/benchmarks.jar me.josecomparotto.financialcalc.bench.CargaServidor
+ * [url] [requisicoes] [concorrencia] [aquecimento]}
+ */
+public class CargaServidor {
+
+    private static final String URL_PADRAO =
+            "http://127.0.0.1:8080/price?principal=250000&taxa=1.49%25&parcelas=360&summary=true";
+
+    public static void main(String[] args) throws Exception {
+        URI uri = URI.create(args.length > 0 ? args[0] : URL_PADRAO);
+        int requisicoes = args.length > 1 ? Integer.parseInt(args[1]) : 20_000;
+        int concorrencia = args.length > 2 ? Integer.parseInt(args[2]) : 32;
+        int aquecimento = args.length > 3 ? Integer.parseInt(args[3]) : 2_000;
+        String host = uri.getHost();
+        if (!host.equals("127.0.0.1") && !host.equals("localhost") && !host.equals("::1")) {
+            throw new IllegalArgumentException("Use apenas contra localhost: " + host);
+        }
+
+        try (ExecutorService executor = Executors.newVirtualThreadPerTaskExecutor();
+             HttpClient cliente = HttpClient.newBuilder()
+                     .executor(executor)
+                     .connectTimeout(Duration.ofSeconds(5))
+                     .build()) {
+            HttpRequest requisicao = HttpRequest.newBuilder(uri).timeout(Duration.ofSeconds(30)).GET().build();
+
+            executar(cliente, executor, requisicao, aquecimento, concorrencia);
+            Resultado resultado = executar(cliente, executor, requisicao, requisicoes, concorrencia);
+
+            long[] latencias = resultado.latencias();
+            Arrays.sort(latencias);
+            double segundos = resultado.duracaoNanos() / 1e9;
+            System.out.printf("url:          %s%n", uri);
+            System.out.printf("requisicoes:  %d (concorrencia %d, aquecimento %d)%n", latencias.length, concorrencia, aquecimento);
+            System.out.printf("erros:        %d nao-200, %d falhas%n", resultado.naoOk(), resultado.falhas());
+            System.out.printf("vazao:        %.1f req/s%n", latencias.length / segundos);
+            System.out.printf("latencia ms:  p50 %.3f | p90 %.3f | p99 %.3f | max %.3f%n",
+                    percentil(latencias, 0.50), percentil(latencias, 0.90), percentil(latencias, 0.99),
+                    latencias.length == 0 ? 0 : latencias[latencias.length - 1] / 1e6);
+        }
+    }
+
+    private record Resultado(long[] latencias, long duracaoNanos, long naoOk, long falhas) {
+    }
+
+    private static Resultado executar(HttpClient cliente, ExecutorService executor, HttpRequest requisicao,
+            int total, int concorrencia) throws Exception {
+        AtomicInteger proxima = new AtomicInteger();
+        AtomicLong naoOk = new AtomicLong();
+        AtomicLong falhas = new AtomicLong();
+        long[] latencias = new long[total];
+        List<Future<?>> clientes = new ArrayList<>(concorrencia);
+        long inicio = System.nanoTime();
+        for (int c = 0; c < concorrencia; c++) {
+            clientes.add(executor.submit(() -> {
+                for (int i = proxima.getAndIncrement(); i < total; i = proxima.getAndIncrement()) {
+                    long t0 = System.nanoTime();
+                    try {
+                        HttpResponse<byte[]> resposta = cliente.send(requisicao, HttpResponse.BodyHandlers.ofByteArray());
+                        if (resposta.statusCode() != 200) {
+                            naoOk.incrementAndGet();
+                        }
+                    } catch (Exception e) {
+                        falhas.incrementAndGet();
+                    }
+                    latencias[i] = System.nanoTime() - t0;
+                }
+                return null;
+            }));
+        }
+        for (Future<?> f : clientes) {
+            f.get();
+        }
+        return new Resultado(latencias, System.nanoTime() - inicio, naoOk.get(), falhas.get());
+    }
+
+    private static double percentil(long[] ordenadas, double p) {
+        if (ordenadas.length == 0) {
+            return 0;
+        }
+        int indice = (int) Math.ceil(p * ordenadas.length) - 1;
+        return ordenadas[Math.max(0, Math.min(indice, ordenadas.length - 1))] / 1e6;
+    }
+}
@@ -0,0 +1,27 @@
+package me.josecomparotto.financialcalc.bench;
+
+import java.math.MathContext;
+import java.math.RoundingMode;
+
+/**
+ * Contextos de cálculo exercitados pelos benchmarks.
+ * ALTA_PRECISAO substitui MathContext.UNLIMITED, que lança exceção em divisões
+ * com dízima (ex.: 1 / 1.01 no PRICE).
+ */
+public enum ContextoCalculo {
+
+    DECIMAL32(MathContext.DECIMAL32),
+    DECIMAL64(MathContext.DECIMAL64),
+    DECIMAL128(MathContext.DECIMAL128),
+    ALTA_PRECISAO(new MathContext(100, RoundingMode.HALF_EVEN));
+
+    private final MathContext mathContext;
+
+    ContextoCalculo(MathContext mathContext) {
+        this.mathContext = mathContext;
+    }
+
+    public MathContext getMathContext() {
+        return mathContext;
+    }
+}
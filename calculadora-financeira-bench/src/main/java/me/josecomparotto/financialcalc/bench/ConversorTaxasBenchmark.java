@@ -0,0 +1,97 @@
+package me.josecomparotto.financialcalc.bench;
+
+import me.josecomparotto.financialcalc.core.juros.ConversorTaxas;
+import me.josecomparotto.financialcalc.core.juros.ConversorTaxas.Periodo;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Conversão de 10000 taxas anuais em mensais e diárias úteis, sorteadas de um
+ * catálogo de 'distintas' taxas publicadas: com o cache do ConversorTaxas,
+ * sem cache (raízes de Newton a cada conversão) e por Math.pow em double.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ConversorTaxasBenchmark {
+
+    private static final int CONVERSOES = 10_000;
+
+    @Param({"50", "500"})
+    int distintas;
+
+    @Param({"DECIMAL64", "DECIMAL128"})
+    String contexto;
+
+    BigDecimal[] taxas;
+    double[] taxasDouble;
+    ConversorTaxas conversor;
+    MathContext mc;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        mc = ContextoCalculo.valueOf(contexto).getMathContext();
+        conversor = new ConversorTaxas(mc);
+        SplittableRandom random = new SplittableRandom(11);
+        BigDecimal[] catalogo = new BigDecimal[distintas];
+        for (int i = 0; i < distintas; i++) {
+            catalogo[i] = BigDecimal.valueOf(500 + random.nextInt(2500), 4);
+        }
+        taxas = new BigDecimal[CONVERSOES];
+        taxasDouble = new double[CONVERSOES];
+        for (int i = 0; i < CONVERSOES; i++) {
+            taxas[i] = catalogo[random.nextInt(distintas)];
+            taxasDouble[i] = taxas[i].doubleValue();
+        }
+    }
+
+    @Benchmark
+    public BigDecimal comCache() {
+        BigDecimal soma = BigDecimal.ZERO;
+        for (BigDecimal taxa : taxas) {
+            soma = soma.add(conversor.equivalente(taxa, Periodo.ANO, Periodo.MES))
+                    .add(conversor.equivalente(taxa, Periodo.ANO, Periodo.DIA_UTIL));
+        }
+        return soma;
+    }
+
+    @Benchmark
+    public BigDecimal semCache() {
+        BigDecimal soma = BigDecimal.ZERO;
+        for (BigDecimal taxa : taxas) {
+            BigDecimal fator = BigDecimal.ONE.add(taxa);
+            soma = soma.add(ConversorTaxas.potencia(fator, 1, 12, mc))
+                    .add(ConversorTaxas.potencia(fator, 1, 252, mc));
+        }
+        return soma;
+    }
+
+    @Benchmark
+    public double emDouble() {
+        double soma = 0;
+        for (double taxa : taxasDouble) {
+            soma += Math.pow(1 + taxa, 1.0 / 12) - 1;
+            soma += Math.pow(1 + taxa, 1.0 / 252) - 1;
+        }
+        return soma;
+    }
+
+}
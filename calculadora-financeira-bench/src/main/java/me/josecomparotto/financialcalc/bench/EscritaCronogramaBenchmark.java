@@ -0,0 +1,131 @@
+package me.josecomparotto.financialcalc.bench;
+
+import me.josecomparotto.financialcalc.core.parcelas.CalculadoraParcelasPrice;
+import me.josecomparotto.financialcalc.core.parcelas.CalculadoraParcelasSac;
+import me.josecomparotto.financialcalc.core.parcelas.EscritorCsvCronograma;
+import me.josecomparotto.financialcalc.core.parcelas.EscritorJsonCronograma;
+import me.josecomparotto.financialcalc.core.parcelas.ICalculadoraParcelas;
+import me.josecomparotto.financialcalc.core.parcelas.MotorCalculo;
+import me.josecomparotto.financialcalc.core.parcelas.Parcela;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.OutputStream;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.math.RoundingMode;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Exportação de 'contratos' cronogramas de 420 meses: CSV (layout de
+ * {@code -f csv}, com a linha TOTAL de cada um) por printf linha a linha, como
+ * a CLI fazia, e pelo EscritorCsvCronograma; e JSON/NDJSON pelo
+ * EscritorJsonCronograma. A saída vai para um stream descartável, então só a
+ * formatação é medida. Os cronogramas (200 distintos, repetidos) são gerados
+ * uma vez no setup.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class EscritaCronogramaBenchmark {
+
+    private static final int PRAZO = 420;
+    private static final int DISTINTOS = 200;
+
+    @Param({"1000", "10000"})
+    int contratos;
+
+    List<List<Parcela>> cronogramas;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        MathContext mcResultado = new MathContext(2, RoundingMode.HALF_UP);
+        ICalculadoraParcelas price = new CalculadoraParcelasPrice(MathContext.DECIMAL128, mcResultado, MotorCalculo.CENTAVOS);
+        ICalculadoraParcelas sac = new CalculadoraParcelasSac(MathContext.DECIMAL128, mcResultado, MotorCalculo.CENTAVOS);
+        SplittableRandom random = new SplittableRandom(42);
+        cronogramas = new ArrayList<>(DISTINTOS);
+        for (int i = 0; i < DISTINTOS; i++) {
+            BigDecimal principal = BigDecimal.valueOf(random.nextLong(5_000_000, 100_000_000), 2);
+            BigDecimal taxa = BigDecimal.valueOf(random.nextInt(40, 250), 4);
+            cronogramas.add((i % 2 == 0 ? price : sac).calcularParcelas(principal, taxa, PRAZO));
+        }
+    }
+
+    @Benchmark
+    public void printf() {
+        PrintWriter out = new PrintWriter(new BufferedWriter(
+                new OutputStreamWriter(OutputStream.nullOutputStream(), StandardCharsets.UTF_8), 64 * 1024));
+        out.println(EscritorCsvCronograma.CABECALHO);
+        for (int c = 0; c < contratos; c++) {
+            List<Parcela> parcelas = cronogramas.get(c % DISTINTOS);
+            BigDecimal totalParcela = BigDecimal.ZERO;
+            BigDecimal totalAmort = BigDecimal.ZERO;
+            BigDecimal totalJuros = BigDecimal.ZERO;
+            for (Parcela p : parcelas) {
+                out.printf("%s%d,%s,%s,%s,%s%n",
+                        "",
+                        p.getSerie(),
+                        p.getValorParcela(),
+                        p.getValorAmortizacao(),
+                        p.getValorJuros(),
+                        p.getSaldoDevedor());
+                totalParcela = totalParcela.add(p.getValorParcela());
+                totalAmort = totalAmort.add(p.getValorAmortizacao());
+                totalJuros = totalJuros.add(p.getValorJuros());
+            }
+            out.printf("%sTOTAL,%s,%s,%s,%s%n", "", totalParcela, totalAmort, totalJuros, "");
+        }
+        out.flush();
+    }
+
+    @Benchmark
+    public void escritor() throws IOException {
+        try (EscritorCsvCronograma csv = new EscritorCsvCronograma(Channels.newChannel(OutputStream.nullOutputStream()))) {
+            csv.escreverCabecalho();
+            for (int c = 0; c < contratos; c++) {
+                csv.escreverParcelas(cronogramas.get(c % DISTINTOS).iterator(), "");
+            }
+        }
+    }
+
+    @Benchmark
+    public void json() throws IOException {
+        escreverJson(EscritorJsonCronograma.Modo.JSON);
+    }
+
+    @Benchmark
+    public void ndjson() throws IOException {
+        escreverJson(EscritorJsonCronograma.Modo.NDJSON);
+    }
+
+    private void escreverJson(EscritorJsonCronograma.Modo modo) throws IOException {
+        try (EscritorJsonCronograma json = new EscritorJsonCronograma(Channels.newChannel(OutputStream.nullOutputStream()), modo)) {
+            for (int c = 0; c < contratos; c++) {
+                json.escreverCronograma(cronogramas.get(c % DISTINTOS).iterator());
+            }
+        }
+    }
+
+}
@@ -0,0 +1,153 @@
+package me.josecomparotto.financialcalc.bench;
+
+import me.josecomparotto.financialcalc.core.parcelas.CalculadoraParcelasSac;
+import me.josecomparotto.financialcalc.core.parcelas.EscritorCronogramaBinario;
+import me.josecomparotto.financialcalc.core.parcelas.LeitorCronogramaBinario;
+import me.josecomparotto.financialcalc.core.parcelas.MotorCalculo;
+import me.josecomparotto.financialcalc.core.parcelas.Parcela;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.math.RoundingMode;
+import java.nio.LongBuffer;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.Stream;
+
+/**
+ * Exportação de 'linhas' parcelas no formato binário (EscritorCronogramaBinario)
+ * contra o CSV da CLI (PrintWriter.printf com BigDecimal.toString), e a leitura
+ * de volta: colunas mapeadas somadas em long contra o parse de cada linha em
+ * BigDecimal. As linhas repetem um cronograma SAC de 1000 meses gerado uma vez,
+ * para que o custo medido seja só o da serialização. Os arquivos ficam em um
+ * diretório temporário (~360 MB em binário e ~500 MB em CSV com 10M linhas).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class FormatoBinarioBenchmark {
+
+    private static final int CICLO = 1000;
+
+    @Param({"1000000", "10000000"})
+    int linhas;
+
+    List<Parcela> ciclo;
+    Path diretorio;
+    Path binario;
+    Path csv;
+
+    @Setup(Level.Trial)
+    public void setup() throws IOException {
+        MathContext mcResultado = new MathContext(2, RoundingMode.HALF_UP);
+        ciclo = new CalculadoraParcelasSac(MathContext.DECIMAL128, mcResultado, MotorCalculo.CENTAVOS)
+                .calcularParcelas(new BigDecimal("850000.00"), new BigDecimal("0.0085"), CICLO);
+        diretorio = Files.createTempDirectory("formato-binario");
+        binario = diretorio.resolve("leitura.bin");
+        csv = diretorio.resolve("leitura.csv");
+        escreverBinario(binario);
+        escreverCsv(csv);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() throws IOException {
+        try (Stream<Path> arquivos = Files.list(diretorio)) {
+            for (Path arquivo : (Iterable<Path>) arquivos::iterator) {
+                Files.delete(arquivo);
+            }
+        }
+        Files.delete(diretorio);
+    }
+
+    @Benchmark
+    public int escritaBinaria() throws IOException {
+        return escreverBinario(diretorio.resolve("escrita.bin"));
+    }
+
+    @Benchmark
+    public int escritaCsv() throws IOException {
+        return escreverCsv(diretorio.resolve("escrita.csv"));
+    }
+
+    @Benchmark
+    public long leituraBinaria() throws IOException {
+        try (LeitorCronogramaBinario leitor = new LeitorCronogramaBinario(binario)) {
+            LongBuffer juros = leitor.naoEscalados(LeitorCronogramaBinario.Coluna.JUROS);
+            long soma = 0;
+            for (int i = 0, n = juros.limit(); i < n; i++) {
+                soma += juros.get(i);
+            }
+            return soma;
+        }
+    }
+
+    @Benchmark
+    public BigDecimal leituraCsv() throws IOException {
+        BigDecimal soma = BigDecimal.ZERO;
+        try (BufferedReader in = Files.newBufferedReader(csv, StandardCharsets.UTF_8)) {
+            in.readLine();
+            String linha;
+            while ((linha = in.readLine()) != null) {
+                String[] campos = linha.split(",");
+                new BigDecimal(campos[1]);
+                new BigDecimal(campos[2]);
+                soma = soma.add(new BigDecimal(campos[3]));
+                new BigDecimal(campos[4]);
+            }
+        }
+        return soma;
+    }
+
+    private int escreverBinario(Path arquivo) throws IOException {
+        try (EscritorCronogramaBinario escritor = new EscritorCronogramaBinario(arquivo, null, linhas)) {
+            escritor.escreverTodas(parcelas());
+            return escritor.getQuantidade();
+        }
+    }
+
+    // Mesmo formato de Main.writeParcelasCsv, sem a linha TOTAL.
+    private int escreverCsv(Path arquivo) throws IOException {
+        int escritas = 0;
+        try (PrintWriter out = new PrintWriter(Files.newBufferedWriter(arquivo, StandardCharsets.UTF_8))) {
+            out.println("serie,parcela,amortizacao,juros,saldo");
+            for (Iterator<Parcela> it = parcelas(); it.hasNext(); escritas++) {
+                Parcela p = it.next();
+                out.printf("%d,%s,%s,%s,%s%n",
+                        p.getSerie(),
+                        p.getValorParcela(),
+                        p.getValorAmortizacao(),
+                        p.getValorJuros(),
+                        p.getSaldoDevedor());
+            }
+        }
+        return escritas;
+    }
+
+    private Iterator<Parcela> parcelas() {
+        return Stream.iterate(0, i -> i + 1).limit(linhas).map(i -> ciclo.get(i % CICLO)).iterator();
+    }
+
+}
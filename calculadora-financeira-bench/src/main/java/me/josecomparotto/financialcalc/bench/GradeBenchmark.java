@@ -0,0 +1,93 @@
+package me.josecomparotto.financialcalc.bench;
+
+import me.josecomparotto.financialcalc.core.parcelas.CalculadoraGradePrice;
+import me.josecomparotto.financialcalc.core.parcelas.CalculadoraParcelasPrice;
+import me.josecomparotto.financialcalc.core.parcelas.GradePrice;
+import me.josecomparotto.financialcalc.core.parcelas.MotorCalculo;
+import me.josecomparotto.financialcalc.core.parcelas.Parcela;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.math.RoundingMode;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Grade de simulação 20 taxas x 40 prazos (12 a 480 meses): laço ingênuo com um
+ * cronograma completo por célula (motor CENTAVOS; no BIG_DECIMAL o saldo exato
+ * torna o laço dezenas de segundos mais lento), laço só com a prestação de cada
+ * célula e {@link CalculadoraGradePrice} (desconto incremental, linhas em paralelo).
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class GradeBenchmark {
+
+    @Param({"1", "4"})
+    int threads;
+
+    BigDecimal principal;
+    List<BigDecimal> taxas;
+    int[] prazos;
+    CalculadoraParcelasPrice price;
+    CalculadoraParcelasPrice priceCentavos;
+    CalculadoraGradePrice grade;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        principal = new BigDecimal("250000.00");
+        taxas = CalculadoraGradePrice.faixaTaxas(
+                new BigDecimal("0.005"), new BigDecimal("0.0195"), new BigDecimal("0.00075"));
+        prazos = CalculadoraGradePrice.faixaPrazos(12, 480, 12);
+        price = new CalculadoraParcelasPrice();
+        priceCentavos = new CalculadoraParcelasPrice(MathContext.DECIMAL128,
+                new MathContext(2, RoundingMode.HALF_UP), MotorCalculo.CENTAVOS);
+        grade = new CalculadoraGradePrice(threads);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        grade.close();
+    }
+
+    @Benchmark
+    public void ingenuoCronogramas(Blackhole bh) {
+        for (BigDecimal taxa : taxas) {
+            for (int prazo : prazos) {
+                List<Parcela> parcelas = priceCentavos.calcularParcelas(principal, taxa, prazo);
+                bh.consume(parcelas.get(0).getValorParcela());
+            }
+        }
+    }
+
+    @Benchmark
+    public void ingenuoPrestacoes(Blackhole bh) {
+        for (BigDecimal taxa : taxas) {
+            for (int prazo : prazos) {
+                bh.consume(price.calcularValorParcela(principal, taxa, prazo));
+            }
+        }
+    }
+
+    @Benchmark
+    public GradePrice grade() {
+        return grade.calcular(principal, taxas, prazos);
+    }
+}
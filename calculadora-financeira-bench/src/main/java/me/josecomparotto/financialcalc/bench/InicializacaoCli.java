@@ -0,0 +1,72 @@
+package me.josecomparotto.financialcalc.bench;
+
+import java.io.InputStream;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.List;
+
+/**
+ * Tempo até a primeira saída (primeiro byte em stdout) e tempo total de um
+ * processo curto, como {@code java -jar calcfin.jar price ...}, medido em
+ * várias execuções a partir do fork.
+ * <p>
+ * {@code java -cp benchmarks.jar me.josecomparotto.financialcalc.bench.InicializacaoCli <execucoes> <rotulo> -- <comando...>}
+ */
+public class InicializacaoCli {
+
+    private static final int AQUECIMENTO = 3;
+
+    public static void main(String[] args) throws Exception {
+        int separador = Arrays.asList(args).indexOf("--");
+        if (args.length < 4 || separador != 2) {
+            System.err.println("Uso: InicializacaoCli <execucoes> <rotulo> -- <comando...>");
+            System.exit(2);
+        }
+        int execucoes = Integer.parseInt(args[0]);
+        String rotulo = args[1];
+        List<String> comando = List.of(Arrays.copyOfRange(args, separador + 1, args.length));
+
+        for (int i = 0; i < AQUECIMENTO; i++) {
+            medir(comando);
+        }
+        long[] primeiraSaida = new long[execucoes];
+        long[] total = new long[execucoes];
+        for (int i = 0; i < execucoes; i++) {
+            long[] medida = medir(comando);
+            primeiraSaida[i] = medida[0];
+            total[i] = medida[1];
+        }
+        Arrays.sort(primeiraSaida);
+        Arrays.sort(total);
+        System.out.printf("%-28s primeira saida ms: p50 %7.1f  p90 %7.1f  min %7.1f | total ms: p50 %7.1f%n",
+                rotulo, ms(primeiraSaida, 0.5), ms(primeiraSaida, 0.9), primeiraSaida[0] / 1e6, ms(total, 0.5));
+    }
+
+    private static long[] medir(List<String> comando) throws Exception {
+        long inicio = System.nanoTime();
+        Process processo = new ProcessBuilder(new ArrayList<>(comando))
+                .redirectError(ProcessBuilder.Redirect.DISCARD)
+                .start();
+        long primeira = -1;
+        try (InputStream saida = processo.getInputStream()) {
+            byte[] buffer = new byte[8192];
+            int lidos;
+            while ((lidos = saida.read(buffer)) >= 0) {
+                if (primeira < 0 && lidos > 0) {
+                    primeira = System.nanoTime() - inicio;
+                }
+            }
+        }
+        int status = processo.waitFor();
+        long fim = System.nanoTime() - inicio;
+        if (status != 0 || primeira < 0) {
+            throw new IllegalStateException("Comando falhou (status " + status + "): " + comando);
+        }
+        return new long[] {primeira, fim};
+    }
+
+    private static double ms(long[] ordenadas, double p) {
+        int indice = (int) Math.ceil(p * ordenadas.length) - 1;
+        return ordenadas[Math.max(0, Math.min(indice, ordenadas.length - 1))] / 1e6;
+    }
+}
@@ -0,0 +1,104 @@
+package me.josecomparotto.financialcalc.bench;
+
+import me.josecomparotto.financialcalc.core.adaptativo.AvaliacaoAdaptativa;
+import me.josecomparotto.financialcalc.core.juros.CalculadoraJurosCompostos;
+import me.josecomparotto.financialcalc.core.juros.ICalculadoraJuros;
+import me.josecomparotto.financialcalc.core.metricas.CalculadoraJurosInstrumentada;
+import me.josecomparotto.financialcalc.core.metricas.CalculadoraParcelasInstrumentada;
+import me.josecomparotto.financialcalc.core.metricas.MetricasCalculo;
+import me.josecomparotto.financialcalc.core.parcelas.CalculadoraParcelasSac;
+import me.josecomparotto.financialcalc.core.parcelas.ICalculadoraParcelas;
+import me.josecomparotto.financialcalc.core.parcelas.MotorCalculo;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.math.RoundingMode;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Custo da instrumentação sobre chamadas baratas (1000 montantes compostos
+ * adaptativos e 1000 resumos SAC no motor CENTAVOS): calculadora direta,
+ * decorador com métricas desativadas, ativas sem e com medição de alocação.
+ * Sem gravação do Flight Recorder; com {@code -jvmArgs -XX:StartFlightRecording}
+ * o custo do EventoCalculo entra em todos os modos instrumentados.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class InstrumentacaoBenchmark {
+
+    private static final int ENTRADAS = 1000;
+    private static final int[] PRAZOS = {12, 24, 36, 48, 60, 72, 120, 240, 360, 420};
+
+    @Param({"DIRETA", "DESATIVADA", "ATIVA", "ATIVA_COM_ALOCACAO"})
+    String modo;
+
+    BigDecimal[] principais;
+    BigDecimal[] taxas;
+    int[] prazos;
+    MetricasCalculo metricas;
+    ICalculadoraJuros<BigDecimal, BigDecimal, Integer> compostos;
+    ICalculadoraParcelas sac;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        SplittableRandom random = new SplittableRandom(42);
+        principais = new BigDecimal[ENTRADAS];
+        taxas = new BigDecimal[ENTRADAS];
+        prazos = new int[ENTRADAS];
+        for (int i = 0; i < ENTRADAS; i++) {
+            principais[i] = BigDecimal.valueOf(100_000 + random.nextLong(50_000_000L), 2);
+            taxas[i] = BigDecimal.valueOf(20 + random.nextInt(500), 4);
+            prazos[i] = PRAZOS[random.nextInt(PRAZOS.length)];
+        }
+        MathContext mc = MathContext.DECIMAL128;
+        MathContext mcResultado = new MathContext(2, RoundingMode.HALF_UP);
+        compostos = new CalculadoraJurosCompostos(mc, null, new AvaliacaoAdaptativa());
+        sac = new CalculadoraParcelasSac(mc, mcResultado, MotorCalculo.CENTAVOS);
+        if (!modo.equals("DIRETA")) {
+            metricas = new MetricasCalculo(modo.equals("ATIVA_COM_ALOCACAO"));
+            metricas.setAtiva(!modo.equals("DESATIVADA"));
+            compostos = new CalculadoraJurosInstrumentada<>(compostos, "COMPOSTOS", mc, metricas);
+            sac = new CalculadoraParcelasInstrumentada(sac, "SAC", mc, mcResultado, metricas);
+        }
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        if (metricas != null && metricas.isAtiva()) {
+            metricas.estatisticas().forEach(System.out::println);
+        }
+    }
+
+    @Benchmark
+    public void compostos(Blackhole bh) {
+        for (int i = 0; i < ENTRADAS; i++) {
+            bh.consume(compostos.calcularMontante(principais[i], taxas[i], prazos[i], 2));
+        }
+    }
+
+    @Benchmark
+    public void sacResumo(Blackhole bh) {
+        for (int i = 0; i < ENTRADAS; i++) {
+            bh.consume(sac.calcularResumo(principais[i], taxas[i], prazos[i]));
+        }
+    }
+}
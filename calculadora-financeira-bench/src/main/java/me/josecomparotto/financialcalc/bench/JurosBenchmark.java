@@ -0,0 +1,77 @@
+package me.josecomparotto.financialcalc.bench;
+
+import me.josecomparotto.financialcalc.core.juros.CalculadoraJurosCompostos;
+import me.josecomparotto.financialcalc.core.juros.CalculadoraJurosSimples;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * calcularMontante/calcularJuros de juros simples e compostos.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class JurosBenchmark {
+
+    private static final BigDecimal TAXA_MENSAL = new BigDecimal("0.0149");
+    private static final BigDecimal TAXA_DIARIA = new BigDecimal("0.000493");
+    private static final int PRAZO_DIARIO = 10000;
+
+    @Param({"12", "60", "360", "420", "10000"})
+    int tempo;
+
+    @Param({"DECIMAL32", "DECIMAL64", "DECIMAL128", "ALTA_PRECISAO"})
+    ContextoCalculo contexto;
+
+    @Param({"2", "4"})
+    int escala;
+
+    BigDecimal principal;
+    BigDecimal taxa;
+    CalculadoraJurosSimples simples;
+    CalculadoraJurosCompostos compostos;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        principal = new BigDecimal("250000.00");
+        taxa = tempo >= PRAZO_DIARIO ? TAXA_DIARIA : TAXA_MENSAL;
+        simples = new CalculadoraJurosSimples(contexto.getMathContext());
+        compostos = new CalculadoraJurosCompostos(contexto.getMathContext());
+    }
+
+    @Benchmark
+    public BigDecimal simplesMontante() {
+        return simples.calcularMontante(principal, taxa, tempo, escala);
+    }
+
+    @Benchmark
+    public BigDecimal simplesJuros() {
+        return simples.calcularJuros(principal, taxa, tempo, escala);
+    }
+
+    @Benchmark
+    public BigDecimal compostosMontante() {
+        return compostos.calcularMontante(principal, taxa, tempo, escala);
+    }
+
+    @Benchmark
+    public BigDecimal compostosJuros() {
+        return compostos.calcularJuros(principal, taxa, tempo, escala);
+    }
+}
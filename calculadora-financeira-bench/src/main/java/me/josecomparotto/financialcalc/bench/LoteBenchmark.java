@@ -0,0 +1,73 @@
+package me.josecomparotto.financialcalc.bench;
+
+import me.josecomparotto.financialcalc.core.parcelas.CalculadoraParcelasLote;
+import me.josecomparotto.financialcalc.core.parcelas.ContratoParcelamento;
+import me.josecomparotto.financialcalc.core.parcelas.SistemaAmortizacao;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Escalabilidade do cálculo em lote de 1 a N threads. Cada operação precifica
+ * a carteira inteira, reduzindo cada cronograma ao seu tamanho.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class LoteBenchmark {
+
+    @Param({"1", "2", "4", "8", "16"})
+    int threads;
+
+    @Param({"1000"})
+    int contratos;
+
+    List<ContratoParcelamento> carteira;
+    CalculadoraParcelasLote lote;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        Random random = new Random(7);
+        int[] prazos = {12, 24, 36, 60, 120, 360};
+        SistemaAmortizacao[] sistemas = SistemaAmortizacao.values();
+        carteira = new ArrayList<>(contratos);
+        for (int k = 0; k < contratos; k++) {
+            SistemaAmortizacao sistema = sistemas[random.nextInt(sistemas.length)];
+            BigDecimal taxa = sistema == SistemaAmortizacao.SEM_JUROS ? BigDecimal.ZERO
+                    : BigDecimal.valueOf(50 + random.nextInt(250), 4);
+            carteira.add(new ContratoParcelamento(sistema,
+                    BigDecimal.valueOf(100_000 + random.nextInt(50_000_000), 2),
+                    taxa, prazos[random.nextInt(prazos.length)], 2));
+        }
+        lote = new CalculadoraParcelasLote(threads);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        lote.close();
+    }
+
+    @Benchmark
+    public List<Integer> calcularCarteira() {
+        return lote.calcular(carteira, List::size);
+    }
+}
@@ -0,0 +1,42 @@
+package me.josecomparotto.financialcalc.bench;
+
+import me.josecomparotto.financialcalc.core.parcelas.CronogramaColunar;
+import me.josecomparotto.financialcalc.core.parcelas.ICalculadoraParcelas;
+import me.josecomparotto.financialcalc.core.parcelas.MotorCalculo;
+import me.josecomparotto.financialcalc.core.parcelas.Parcela;
+import me.josecomparotto.financialcalc.core.parcelas.SistemaAmortizacao;
+import org.openjdk.jol.info.GraphLayout;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.math.RoundingMode;
+import java.util.List;
+
+/**
+ * Memória retida (JOL, grafo completo de objetos) por parcela: ArrayList&lt;Parcela&gt;
+ * de calcularParcelas contra CronogramaColunar de calcularCronograma.
+ * <p>
+ * {@code java -Djdk.attach.allowAttachSelf -cp calculadora-financeira-bench/target/benchmarks.jar me.josecomparotto.financialcalc.bench.MemoriaCronograma}
+ */
+public class MemoriaCronograma {
+
+    private static final int[] PRAZOS = {12, 60, 360, 420};
+
+    public static void main(String[] args) {
+        MathContext mcResultado = new MathContext(2, RoundingMode.HALF_UP);
+        BigDecimal principal = new BigDecimal("250000.00");
+        System.out.printf("%-10s %6s %14s %14s %8s%n", "sistema", "n", "lista B/parc", "colunar B/parc", "razao");
+        for (SistemaAmortizacao sistema : SistemaAmortizacao.values()) {
+            BigDecimal taxa = sistema == SistemaAmortizacao.SEM_JUROS ? BigDecimal.ZERO : new BigDecimal("0.0149");
+            ICalculadoraParcelas calc = sistema.criarCalculadora(MathContext.DECIMAL128, mcResultado, MotorCalculo.CENTAVOS);
+            for (int n : PRAZOS) {
+                List<Parcela> lista = calc.calcularParcelas(principal, taxa, n);
+                CronogramaColunar colunar = calc.calcularCronograma(principal, taxa, n);
+                double porParcelaLista = (double) GraphLayout.parseInstance(lista).totalSize() / n;
+                double porParcelaColunar = (double) GraphLayout.parseInstance(colunar).totalSize() / n;
+                System.out.printf("%-10s %6d %14.1f %14.1f %7.1fx%n", sistema, n, porParcelaLista,
+                        porParcelaColunar, porParcelaLista / porParcelaColunar);
+            }
+        }
+    }
+}
@@ -0,0 +1,85 @@
+package me.josecomparotto.financialcalc.bench;
+
+import me.josecomparotto.financialcalc.core.parcelas.CalculadoraParcelasPrice;
+import me.josecomparotto.financialcalc.core.parcelas.CalculadoraParcelasSac;
+import me.josecomparotto.financialcalc.core.parcelas.CalculadoraParcelasSemJuros;
+import me.josecomparotto.financialcalc.core.parcelas.MotorCalculo;
+import me.josecomparotto.financialcalc.core.parcelas.Parcela;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.math.RoundingMode;
+import java.util.List;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Geração de cronogramas completos (calcularParcelas) por sistema de amortização.
+ * Prazos de 10000 períodos simulam cronogramas diários e usam taxa diária.
+ */
+@BenchmarkMode(Mode.Throughput)
+@OutputTimeUnit(TimeUnit.SECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ParcelasBenchmark {
+
+    private static final BigDecimal TAXA_MENSAL = new BigDecimal("0.0149");
+    private static final BigDecimal TAXA_DIARIA = new BigDecimal("0.000493");
+    private static final int PRAZO_DIARIO = 10000;
+
+    @Param({"12", "60", "360", "420", "10000"})
+    int numeroParcelas;
+
+    @Param({"DECIMAL32", "DECIMAL64", "DECIMAL128", "ALTA_PRECISAO"})
+    ContextoCalculo contexto;
+
+    @Param({"2", "4"})
+    int escala;
+
+    @Param({"BIG_DECIMAL", "CENTAVOS"})
+    MotorCalculo motor;
+
+    BigDecimal principal;
+    BigDecimal taxa;
+    CalculadoraParcelasPrice price;
+    CalculadoraParcelasSac sac;
+    CalculadoraParcelasSemJuros semJuros;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        MathContext mcResultado = new MathContext(escala, RoundingMode.HALF_UP);
+        principal = new BigDecimal("250000.00");
+        taxa = numeroParcelas >= PRAZO_DIARIO ? TAXA_DIARIA : TAXA_MENSAL;
+        price = new CalculadoraParcelasPrice(contexto.getMathContext(), mcResultado, motor);
+        sac = new CalculadoraParcelasSac(contexto.getMathContext(), mcResultado, motor);
+        semJuros = new CalculadoraParcelasSemJuros(contexto.getMathContext(), mcResultado, motor);
+    }
+
+    @Benchmark
+    public List<Parcela> price() {
+        return price.calcularParcelas(principal, taxa, numeroParcelas);
+    }
+
+    @Benchmark
+    public List<Parcela> sac() {
+        return sac.calcularParcelas(principal, taxa, numeroParcelas);
+    }
+
+    @Benchmark
+    public List<Parcela> semJuros() {
+        return semJuros.calcularParcelas(principal, numeroParcelas);
+    }
+}
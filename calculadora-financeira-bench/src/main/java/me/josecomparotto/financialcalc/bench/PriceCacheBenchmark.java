@@ -0,0 +1,101 @@
+package me.josecomparotto.financialcalc.bench;
+
+import me.josecomparotto.financialcalc.core.parcelas.CacheFatoresPrice;
+import me.josecomparotto.financialcalc.core.parcelas.CalculadoraParcelasPrice;
+import me.josecomparotto.financialcalc.core.parcelas.MotorCalculo;
+import me.josecomparotto.financialcalc.core.parcelas.Parcela;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.math.RoundingMode;
+import java.util.Iterator;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Carteira de contratos PRICE sobre um catálogo fixo de pares (taxa, prazo),
+ * com e sem {@link CacheFatoresPrice}: cotação (primeira parcela) e
+ * cronograma completo no motor CENTAVOS.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class PriceCacheBenchmark {
+
+    private static final int CONTRATOS = 1000;
+    private static final int[] PRAZOS = {12, 24, 36, 48, 60, 72, 120, 240, 360, 420};
+
+    @Param({"false", "true"})
+    boolean cache;
+
+    @Param({"300"})
+    int catalogo;
+
+    @Param({"50"})
+    int principais;
+
+    BigDecimal[] valores;
+    BigDecimal[] taxas;
+    int[] prazos;
+    CalculadoraParcelasPrice cotacao;
+    CalculadoraParcelasPrice cronograma;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        SplittableRandom random = new SplittableRandom(42);
+        BigDecimal[] taxasCatalogo = new BigDecimal[catalogo];
+        int[] prazosCatalogo = new int[catalogo];
+        for (int i = 0; i < catalogo; i++) {
+            taxasCatalogo[i] = BigDecimal.valueOf(50 + i, 4);
+            prazosCatalogo[i] = PRAZOS[i % PRAZOS.length];
+        }
+        valores = new BigDecimal[CONTRATOS];
+        taxas = new BigDecimal[CONTRATOS];
+        prazos = new int[CONTRATOS];
+        for (int i = 0; i < CONTRATOS; i++) {
+            int item = random.nextInt(catalogo);
+            valores[i] = BigDecimal.valueOf(1000L + random.nextInt(principais) * 2500L, 0).setScale(2);
+            taxas[i] = taxasCatalogo[item];
+            prazos[i] = prazosCatalogo[item];
+        }
+        MathContext mcResultado = new MathContext(2, RoundingMode.HALF_UP);
+        CacheFatoresPrice cacheFatores = cache ? new CacheFatoresPrice() : null;
+        cotacao = new CalculadoraParcelasPrice(
+                MathContext.DECIMAL128, mcResultado, MotorCalculo.BIG_DECIMAL, cacheFatores);
+        cronograma = new CalculadoraParcelasPrice(
+                MathContext.DECIMAL128, mcResultado, MotorCalculo.CENTAVOS, cacheFatores);
+    }
+
+    @Benchmark
+    public void cotacao(Blackhole bh) {
+        for (int i = 0; i < CONTRATOS; i++) {
+            bh.consume(cotacao.iterarParcelas(valores[i], taxas[i], prazos[i]).next());
+        }
+    }
+
+    @Benchmark
+    public void cronogramaCentavos(Blackhole bh) {
+        for (int i = 0; i < CONTRATOS; i++) {
+            Iterator<Parcela> it = cronograma.iterarParcelas(valores[i], taxas[i], prazos[i]);
+            while (it.hasNext()) {
+                bh.consume(it.next());
+            }
+        }
+    }
+}
@@ -0,0 +1,104 @@
+package me.josecomparotto.financialcalc.bench;
+
+import me.josecomparotto.financialcalc.core.parcelas.CalculadoraParcelasLote;
+import me.josecomparotto.financialcalc.core.parcelas.ContratoParcelamento;
+import me.josecomparotto.financialcalc.core.parcelas.FluxoCarteira;
+import me.josecomparotto.financialcalc.core.parcelas.MotorCalculo;
+import me.josecomparotto.financialcalc.core.parcelas.Parcela;
+import me.josecomparotto.financialcalc.core.parcelas.SistemaAmortizacao;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.TearDown;
+import org.openjdk.jmh.annotations.Warmup;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+/**
+ * Projeção do fluxo de caixa de uma carteira de 'contratos' financiamentos de
+ * 360 meses (PRICE e SAC, início espalhado em 0..59) em 360 períodos:
+ * CalculadoraParcelasLote.projetar (motor CENTAVOS, acumuladores long por
+ * divisão do stream) contra gerar cada List&lt;Parcela&gt; e somar em BigDecimal,
+ * em uma thread. Os contratos são criados sob demanda a partir do índice, sem
+ * lista em memória. A soma ingênua com 1M contratos leva minutos por operação.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class ProjecaoCarteiraBenchmark {
+
+    private static final int PRAZO = 360;
+    private static final int HORIZONTE = 360;
+
+    @Param({"100000", "1000000"})
+    int contratos;
+
+    @Param({"1", "4", "8"})
+    int threads;
+
+    CalculadoraParcelasLote lote;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        lote = new CalculadoraParcelasLote(threads, null, MotorCalculo.CENTAVOS);
+    }
+
+    @TearDown(Level.Trial)
+    public void tearDown() {
+        lote.close();
+    }
+
+    private Stream<ContratoParcelamento> carteira() {
+        return IntStream.range(0, contratos).mapToObj(ProjecaoCarteiraBenchmark::contrato);
+    }
+
+    private static ContratoParcelamento contrato(int indice) {
+        SplittableRandom random = new SplittableRandom(indice);
+        SistemaAmortizacao sistema = random.nextBoolean() ? SistemaAmortizacao.PRICE : SistemaAmortizacao.SAC;
+        return new ContratoParcelamento(sistema,
+                BigDecimal.valueOf(random.nextLong(5_000_000, 100_000_000), 2),
+                BigDecimal.valueOf(random.nextInt(40, 250), 4), PRAZO, 2, random.nextInt(60));
+    }
+
+    @Benchmark
+    public FluxoCarteira projetar() {
+        return lote.projetar(carteira(), HORIZONTE);
+    }
+
+    @Benchmark
+    public BigDecimal[][] somarCronogramas() {
+        BigDecimal[][] totais = new BigDecimal[4][HORIZONTE];
+        for (BigDecimal[] coluna : totais) {
+            Arrays.fill(coluna, BigDecimal.ZERO);
+        }
+        carteira().forEach(c -> {
+            for (Parcela p : lote.calcular(c)) {
+                int t = c.getPeriodoInicial() + p.getSerie() - 1;
+                if (t < HORIZONTE) {
+                    totais[0][t] = totais[0][t].add(p.getValorParcela());
+                    totais[1][t] = totais[1][t].add(p.getValorAmortizacao());
+                    totais[2][t] = totais[2][t].add(p.getValorJuros());
+                    totais[3][t] = totais[3][t].add(p.getSaldoDevedor());
+                }
+            }
+        });
+        return totais;
+    }
+
+}
@@ -0,0 +1,86 @@
+package me.josecomparotto.financialcalc.bench;
+
+import me.josecomparotto.financialcalc.core.parcelas.CalculadoraTaxaImplicita;
+import org.openjdk.jmh.annotations.Benchmark;
+import org.openjdk.jmh.annotations.BenchmarkMode;
+import org.openjdk.jmh.annotations.Fork;
+import org.openjdk.jmh.annotations.Level;
+import org.openjdk.jmh.annotations.Measurement;
+import org.openjdk.jmh.annotations.Mode;
+import org.openjdk.jmh.annotations.OutputTimeUnit;
+import org.openjdk.jmh.annotations.Param;
+import org.openjdk.jmh.annotations.Scope;
+import org.openjdk.jmh.annotations.Setup;
+import org.openjdk.jmh.annotations.State;
+import org.openjdk.jmh.annotations.Warmup;
+import org.openjdk.jmh.infra.Blackhole;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+import java.util.SplittableRandom;
+import java.util.concurrent.TimeUnit;
+
+/**
+ * Taxa implícita de uma carteira de ofertas PRICE (principal, prestação, prazo):
+ * refinamento em BigDecimal por oferta e triagem em lote só em double.
+ */
+@BenchmarkMode(Mode.AverageTime)
+@OutputTimeUnit(TimeUnit.MILLISECONDS)
+@Warmup(iterations = 3, time = 2)
+@Measurement(iterations = 5, time = 2)
+@Fork(1)
+@State(Scope.Benchmark)
+public class TaxaImplicitaBenchmark {
+
+    private static final int[] PRAZOS = {12, 24, 36, 48, 60, 72, 120, 240, 360, 420};
+
+    @Param({"1000"})
+    int ofertas;
+
+    @Param({"DECIMAL64", "DECIMAL128"})
+    ContextoCalculo contexto;
+
+    BigDecimal[] principais;
+    BigDecimal[] prestacoes;
+    int[] prazos;
+    double[] principaisDouble;
+    double[] prestacoesDouble;
+    double[] taxas;
+    CalculadoraTaxaImplicita calculadora;
+
+    @Setup(Level.Trial)
+    public void setup() {
+        SplittableRandom random = new SplittableRandom(42);
+        principais = new BigDecimal[ofertas];
+        prestacoes = new BigDecimal[ofertas];
+        prazos = new int[ofertas];
+        principaisDouble = new double[ofertas];
+        prestacoesDouble = new double[ofertas];
+        taxas = new double[ofertas];
+        for (int k = 0; k < ofertas; k++) {
+            int n = PRAZOS[random.nextInt(PRAZOS.length)];
+            double v = 1000 + random.nextInt(500_000);
+            double i = 0.002 + random.nextDouble() * 0.05;
+            double p = v * i / -Math.expm1(-n * Math.log1p(i));
+            principais[k] = BigDecimal.valueOf(v).setScale(2);
+            prestacoes[k] = BigDecimal.valueOf(p).setScale(2, RoundingMode.HALF_UP);
+            prazos[k] = n;
+            principaisDouble[k] = v;
+            prestacoesDouble[k] = prestacoes[k].doubleValue();
+        }
+        calculadora = new CalculadoraTaxaImplicita(contexto.getMathContext());
+    }
+
+    @Benchmark
+    public void bigDecimal(Blackhole bh) {
+        for (int k = 0; k < ofertas; k++) {
+            bh.consume(calculadora.calcularTaxa(principais[k], prestacoes[k], prazos[k]));
+        }
+    }
+
+    @Benchmark
+    public double[] loteDouble() {
+        CalculadoraTaxaImplicita.calcularTaxas(principaisDouble, prestacoesDouble, prazos, taxas);
+        return taxas;
+    }
+}
@@ -6,36 +6,58 @@ import picocli.CommandLine.Mixin;
 import picocli.CommandLine.Option;
 import me.josecomparotto.financialcalc.core.juros.CalculadoraJurosCompostos;
 import me.josecomparotto.financialcalc.core.juros.CalculadoraJurosSimples;
+import me.josecomparotto.financialcalc.core.juros.ConversorTaxas;
+import me.josecomparotto.financialcalc.core.juros.ResultadoJuros;
+import me.josecomparotto.financialcalc.core.parcelas.CalculadoraGradePrice;
 import me.josecomparotto.financialcalc.core.parcelas.CalculadoraParcelasPrice;
 import me.josecomparotto.financialcalc.core.parcelas.CalculadoraParcelasSac;
 import me.josecomparotto.financialcalc.core.parcelas.CalculadoraParcelasSemJuros;
+import me.josecomparotto.financialcalc.core.parcelas.CalculadoraTaxaImplicita;
+import me.josecomparotto.financialcalc.core.parcelas.EscritorCronogramaBinario;
+import me.josecomparotto.financialcalc.core.parcelas.EscritorCsvCronograma;
+import me.josecomparotto.financialcalc.core.parcelas.EscritorJsonCronograma;
+import me.josecomparotto.financialcalc.core.parcelas.GradePrice;
 import me.josecomparotto.financialcalc.core.parcelas.Parcela;
+import me.josecomparotto.financialcalc.core.parcelas.ResultadoTaxa;
+import me.josecomparotto.financialcalc.core.parcelas.ResumoParcelas;
+import me.josecomparotto.financialcalc.core.parcelas.SistemaAmortizacao;
+import java.io.ByteArrayOutputStream;
+import java.io.FilterOutputStream;
 import java.io.IOException;
+import java.io.OutputStreamWriter;
 import java.io.PrintWriter;
+import java.io.UncheckedIOException;
+import java.nio.ByteBuffer;
+import java.nio.channels.Channels;
+import java.nio.channels.FileChannel;
+import java.nio.channels.WritableByteChannel;
 import java.nio.charset.StandardCharsets;
 import java.nio.file.Files;
 import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
 
 import java.math.BigDecimal;
 import java.math.MathContext;
 import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
 import java.util.Locale;
+import java.util.stream.Stream;
 
 @Command(
         name = "calcfin",
         description = "Calculadora Financeira - CLI",
-        mixinStandardHelpOptions = true,
-        subcommands = {
-                Main.Simples.class,
-                Main.Compostos.class,
-                Main.SemJuros.class,
-                Main.Sac.class,
-                Main.Price.class
-        }
+        mixinStandardHelpOptions = true
 )
 public class Main implements Runnable {
     private static final MathContext MC = MathContext.DECIMAL128;
+    // Maior precisao (casas decimais) aceita de entradas externas (lote e servidor):
+    // cada valor distinto cria e guarda uma calculadora.
+    static final int PRECISAO_MAXIMA = 10;
+
+    // Ordem em que aparecem no help.
+    private static final String[] SUBCOMMANDS = {"simples", "compostos", "semjuros", "sac", "price", "taxa", "grid", "batch", "serve"};
 
     public static void main(String[] args) {
         Locale.setDefault(Locale.US);
@@ -43,10 +65,40 @@ public class Main implements Runnable {
             new Menu().runInteractive();
             return;
         }
-        int exit = new CommandLine(new Main()).execute(args);
+        int exit = commandLine(args).execute(args);
         System.exit(exit);
     }
 
+    // O picocli introspecta cada subcomando registrado. Quando args[0] nomeia um
+    // subcomando, so ele e registrado; nos demais casos (help, erros) todos sao.
+    static CommandLine commandLine(String[] args) {
+        CommandLine cl = new CommandLine(new Main());
+        Object alvo = args.length > 0 ? subcommand(args[0]) : null;
+        if (alvo != null) {
+            cl.addSubcommand(alvo);
+        } else {
+            for (String name : SUBCOMMANDS) {
+                cl.addSubcommand(subcommand(name));
+            }
+        }
+        return cl;
+    }
+
+    private static Object subcommand(String name) {
+        return switch (name) {
+            case "simples" -> new Simples();
+            case "compostos" -> new Compostos();
+            case "semjuros" -> new SemJuros();
+            case "sac" -> new Sac();
+            case "price" -> new Price();
+            case "taxa" -> new Taxa();
+            case "grid" -> new Grid();
+            case "batch" -> new Batch();
+            case "serve" -> new Serve();
+            default -> null;
+        };
+    }
+
     @Override
     public void run() {
         CommandLine.usage(this, System.out);
@@ -56,14 +108,39 @@ public class Main implements Runnable {
         @Option(names = {"-p", "--precision"}, description = "Casas decimais (default: 2)")
         int precision = 2;
 
-        @Option(names = {"-f", "--format"}, description = "Formato de saida: csv ou humano (default: humano)", converter = FormatConverter.class)
+        @Option(names = {"-f", "--format"}, description = "Formato de saida: csv, json, ndjson, bin (cronograma binario, exige -o) ou humano (default: humano)", converter = FormatConverter.class)
         Format format = Format.HUMAN;
 
-        @Option(names = {"-o", "--output"}, description = "Arquivo de saida (usar com -f csv)")
+        @Option(names = {"-o", "--output"}, description = "Arquivo de saida (usar com -f csv, json, ndjson ou bin)")
         String output;
     }
 
-    enum Format { HUMAN, CSV }
+    enum Format { HUMAN, CSV, BIN, JSON, NDJSON }
+
+    // humano e csv valem em todos os subcomandos; 'extras' lista os demais formatos aceitos.
+    static boolean saidaValida(Format format, String output, Format... extras) {
+        if (format == Format.HUMAN || format == Format.CSV) {
+            if (output != null && format != Format.CSV) {
+                System.err.println("Erro: --output so e suportado com -f csv, json, ndjson ou bin.");
+                return false;
+            }
+            return true;
+        }
+        if (!List.of(extras).contains(format)) {
+            if (format == Format.BIN) {
+                System.err.println("Erro: -f bin so e suportado no cronograma de semjuros, sac e price (sem --summary).");
+            } else {
+                System.err.println("Erro: -f " + format.name().toLowerCase()
+                        + " so e suportado em simples, compostos e no cronograma de semjuros, sac e price (sem --summary).");
+            }
+            return false;
+        }
+        if (format == Format.BIN && (output == null || output.isBlank())) {
+            System.err.println("Erro: -f bin exige --output.");
+            return false;
+        }
+        return true;
+    }
 
     static class FormatConverter implements CommandLine.ITypeConverter<Format> {
         public Format convert(String value) {
@@ -72,8 +149,11 @@ public class Main implements Runnable {
             if (v.isEmpty()) return Format.HUMAN;
             return switch (v) {
                 case "csv" -> Format.CSV;
+                case "bin", "binario", "binary" -> Format.BIN;
+                case "json" -> Format.JSON;
+                case "ndjson", "jsonl" -> Format.NDJSON;
                 case "human", "humano", "formatado", "formatted", "humana", "formatada" -> Format.HUMAN;
-                default -> throw new CommandLine.TypeConversionException("Formato invalido: " + value + ". Use csv ou humano.");
+                default -> throw new CommandLine.TypeConversionException("Formato invalido: " + value + ". Use csv, json, ndjson, bin ou humano.");
             };
         }
     }
@@ -85,18 +165,17 @@ public class Main implements Runnable {
         @Option(names = {"-P", "--principal"}, required = true, description = "Principal (valor inicial)")
         BigDecimal principal;
 
-        @Option(names = {"-i", "--taxa"}, required = true, description = "Taxa por periodo (ex.: 0.1 ou 10%%)")
+        @Option(names = {"-i", "--taxa"}, required = true, description = "Taxa por periodo (ex.: 0.1, 10%% ou 12%%a.a.)")
         String taxaStr;
 
         @Option(names = {"-n", "--tempo"}, required = true, description = "Numero de periodos")
         int tempo;
 
         public void run() {
-            if (common.output != null && common.format != Format.CSV) {
-                System.err.println("Erro: --output so e suportado com -f csv.");
+            if (!saidaValida(common.format, common.output, Format.JSON, Format.NDJSON)) {
                 return;
             }
-            BigDecimal taxa = parseRate(taxaStr);
+            BigDecimal taxa = parseRate(taxaStr, true);
             var calc = new CalculadoraJurosSimples(MC);
             BigDecimal montante = calc.calcularMontante(principal, taxa, tempo, common.precision);
             BigDecimal juros = calc.calcularJuros(principal, taxa, tempo, common.precision);
@@ -111,22 +190,20 @@ public class Main implements Runnable {
         @Option(names = {"-P", "--principal"}, required = true)
         BigDecimal principal;
 
-        @Option(names = {"-i", "--taxa"}, required = true, description = "Taxa por periodo (ex.: 0.1 ou 10%%)")
+        @Option(names = {"-i", "--taxa"}, required = true, description = "Taxa por periodo (ex.: 0.1, 10%% ou 12%%a.a.)")
         String taxaStr;
 
         @Option(names = {"-n", "--tempo"}, required = true)
         int tempo;
 
         public void run() {
-            if (common.output != null && common.format != Format.CSV) {
-                System.err.println("Erro: --output so e suportado com -f csv.");
+            if (!saidaValida(common.format, common.output, Format.JSON, Format.NDJSON)) {
                 return;
             }
             BigDecimal taxa = parseRate(taxaStr);
             var calc = new CalculadoraJurosCompostos(MC);
-            BigDecimal montante = calc.calcularMontante(principal, taxa, tempo, common.precision);
-            BigDecimal juros = calc.calcularJuros(principal, taxa, tempo, common.precision);
-            printJuros("compostos", common.format, common.output, principal, taxa, tempo, montante, juros);
+            ResultadoJuros resultado = calc.calcularMontanteEJuros(principal, taxa, tempo, common.precision);
+            printJuros("compostos", common.format, common.output, principal, taxa, tempo, resultado.getMontante(), resultado.getJuros());
         }
     }
 
@@ -140,15 +217,21 @@ public class Main implements Runnable {
         @Option(names = {"-n", "--parcelas"}, required = true)
         int n;
 
+        @Option(names = {"--summary"}, description = "Exibe apenas totais e primeira/ultima parcela, sem gerar o cronograma")
+        boolean summary;
+
         public void run() {
-            if (common.output != null && common.format != Format.CSV) {
-                System.err.println("Erro: --output so e suportado com -f csv.");
+            if (summary ? !saidaValida(common.format, common.output)
+                    : !saidaValida(common.format, common.output, Format.BIN, Format.JSON, Format.NDJSON)) {
                 return;
             }
             MathContext mcResultado = new MathContext(common.precision, RoundingMode.HALF_UP);
             var calc = new CalculadoraParcelasSemJuros(MC, mcResultado);
-            List<Parcela> parcelas = calc.calcularParcelas(principal, n);
-            printParcelas(parcelas, common.format, common.output);
+            if (summary) {
+                printResumo(calc.calcularResumo(principal, n), common.format, common.output);
+                return;
+            }
+            printParcelas(calc.streamParcelas(principal, n), common.format, common.output, SistemaAmortizacao.SEM_JUROS, n);
         }
     }
 
@@ -159,21 +242,28 @@ public class Main implements Runnable {
         @Option(names = {"-P", "--principal"}, required = true)
         BigDecimal principal;
 
-        @Option(names = {"-i", "--taxa"}, required = true, description = "Taxa por periodo (ex.: 0.1 ou 10%%)")
+        @Option(names = {"-i", "--taxa"}, required = true, description = "Taxa por periodo (ex.: 0.1, 10%% ou 12%%a.a.)")
         String taxaStr;
 
         @Option(names = {"-n", "--parcelas"}, required = true)
         int n;
 
+        @Option(names = {"--summary"}, description = "Exibe apenas totais e primeira/ultima parcela, sem gerar o cronograma")
+        boolean summary;
+
         public void run() {
-            if (common.output != null && common.format != Format.CSV) {
-                System.err.println("Erro: --output so e suportado com -f csv.");
+            if (summary ? !saidaValida(common.format, common.output)
+                    : !saidaValida(common.format, common.output, Format.BIN, Format.JSON, Format.NDJSON)) {
                 return;
             }
             MathContext mcResultado = new MathContext(common.precision, RoundingMode.HALF_UP);
             var calc = new CalculadoraParcelasSac(MC, mcResultado);
-            List<Parcela> parcelas = calc.calcularParcelas(principal, parseRate(taxaStr), n);
-            printParcelas(parcelas, common.format, common.output);
+            BigDecimal taxa = parseRate(taxaStr);
+            if (summary) {
+                printResumo(calc.calcularResumo(principal, taxa, n), common.format, common.output);
+                return;
+            }
+            printParcelas(calc.streamParcelas(principal, taxa, n), common.format, common.output, SistemaAmortizacao.SAC, n);
         }
     }
 
@@ -184,77 +274,297 @@ public class Main implements Runnable {
         @Option(names = {"-P", "--principal"}, required = true)
         BigDecimal principal;
 
-        @Option(names = {"-i", "--taxa"}, required = true, description = "Taxa por periodo (ex.: 0.1 ou 10%%)")
+        @Option(names = {"-i", "--taxa"}, required = true, description = "Taxa por periodo (ex.: 0.1, 10%% ou 12%%a.a.)")
         String taxaStr;
 
         @Option(names = {"-n", "--parcelas"}, required = true)
         int n;
 
+        @Option(names = {"--summary"}, description = "Exibe apenas totais e primeira/ultima parcela, sem gerar o cronograma")
+        boolean summary;
+
         public void run() {
-            if (common.output != null && common.format != Format.CSV) {
-                System.err.println("Erro: --output so e suportado com -f csv.");
+            if (summary ? !saidaValida(common.format, common.output)
+                    : !saidaValida(common.format, common.output, Format.BIN, Format.JSON, Format.NDJSON)) {
                 return;
             }
             MathContext mcResultado = new MathContext(common.precision, RoundingMode.HALF_UP);
             var calc = new CalculadoraParcelasPrice(MC, mcResultado);
-            List<Parcela> parcelas = calc.calcularParcelas(principal, parseRate(taxaStr), n);
-            printParcelas(parcelas, common.format, common.output);
+            BigDecimal taxa = parseRate(taxaStr);
+            if (summary) {
+                printResumo(calc.calcularResumo(principal, taxa, n), common.format, common.output);
+                return;
+            }
+            printParcelas(calc.streamParcelas(principal, taxa, n), common.format, common.output, SistemaAmortizacao.PRICE, n);
         }
     }
 
-    private static void printParcelas(List<Parcela> parcelas, Format format, String outputFile) {
-        BigDecimal totalParcela = BigDecimal.ZERO;
-        BigDecimal totalAmort = BigDecimal.ZERO;
-        BigDecimal totalJuros = BigDecimal.ZERO;
-        if (format == Format.CSV) {
-            if (outputFile != null && !outputFile.isBlank()) {
-                try {
-                    Path path = Path.of(outputFile);
-                    if (path.getParent() != null) Files.createDirectories(path.getParent());
-                    try (PrintWriter pw = new PrintWriter(Files.newBufferedWriter(path, StandardCharsets.UTF_8))) {
-                        pw.println("serie,parcela,amortizacao,juros,saldo");
-                        for (Parcela p : parcelas) {
-                            pw.printf("%d,%s,%s,%s,%s%n",
-                                    p.getSerie(),
-                                    p.getValorParcela(),
-                                    p.getValorAmortizacao(),
-                                    p.getValorJuros(),
-                                    p.getSaldoDevedor());
-                            totalParcela = totalParcela.add(p.getValorParcela());
-                            totalAmort = totalAmort.add(p.getValorAmortizacao());
-                            totalJuros = totalJuros.add(p.getValorJuros());
-                        }
-                        pw.printf("TOTAL,%s,%s,%s,%s%n",
-                                totalParcela,
-                                totalAmort,
-                                totalJuros,
-                                "");
-                    }
-                } catch (IOException e) {
-                    throw new RuntimeException("Falha ao escrever arquivo: " + e.getMessage(), e);
-                }
+    @Command(name = "taxa", description = "Taxa implicita de um PRICE (principal, prestacao, parcelas) ou taxa interna de um fluxo (CET)")
+    static class Taxa implements Runnable {
+        @Option(names = {"-p", "--precision"}, description = "Casas decimais da taxa em %% (default: 6)")
+        int precision = 6;
+
+        @Option(names = {"-f", "--format"}, description = "Formato de saida: csv ou humano (default: humano)", converter = FormatConverter.class)
+        Format format = Format.HUMAN;
+
+        @Option(names = {"-o", "--output"}, description = "Arquivo de saida (usar com -f csv)")
+        String output;
+
+        @Option(names = {"-P", "--principal"}, description = "Valor financiado")
+        BigDecimal principal;
+
+        @Option(names = {"--parcela"}, description = "Valor da prestacao")
+        BigDecimal parcela;
+
+        @Option(names = {"-n", "--parcelas"}, description = "Numero de parcelas")
+        Integer n;
+
+        @Option(names = {"--tarifa"}, description = "Custos na contratacao, descontados do valor liberado (CET)")
+        BigDecimal tarifa = BigDecimal.ZERO;
+
+        @Option(names = {"--tarifa-parcela"}, description = "Encargos somados a cada prestacao (CET)")
+        BigDecimal tarifaParcela = BigDecimal.ZERO;
+
+        @Option(names = {"--fluxo"}, split = ",", description = "Fluxo de caixa t=0..n (ex.: -1000,350,350,350); substitui -P/--parcela/-n")
+        List<BigDecimal> fluxo;
+
+        public void run() {
+            if (!saidaValida(format, output)) {
+                return;
+            }
+            var calc = new CalculadoraTaxaImplicita(MC);
+            ResultadoTaxa resultado;
+            if (fluxo != null) {
+                resultado = calc.calcularTaxaInterna(fluxo);
+            } else if (principal == null || parcela == null || n == null) {
+                System.err.println("Erro: informe -P, --parcela e -n, ou --fluxo.");
+                return;
+            } else if (tarifa.signum() == 0 && tarifaParcela.signum() == 0) {
+                resultado = calc.calcularTaxa(principal, parcela, n);
             } else {
-                System.out.println("serie,parcela,amortizacao,juros,saldo");
-                for (Parcela p : parcelas) {
-                    System.out.printf("%d,%s,%s,%s,%s%n",
-                            p.getSerie(),
-                            p.getValorParcela(),
-                            p.getValorAmortizacao(),
-                            p.getValorJuros(),
-                            p.getSaldoDevedor());
-                    totalParcela = totalParcela.add(p.getValorParcela());
-                    totalAmort = totalAmort.add(p.getValorAmortizacao());
-                    totalJuros = totalJuros.add(p.getValorJuros());
+                List<BigDecimal> cet = new ArrayList<>(n + 1);
+                cet.add(principal.subtract(tarifa));
+                BigDecimal pagamento = parcela.add(tarifaParcela).negate();
+                for (int t = 1; t <= n; t++) {
+                    cet.add(pagamento);
+                }
+                resultado = calc.calcularTaxaInterna(cet);
+            }
+            printTaxa(resultado, precision, format, output);
+        }
+    }
+
+    @Command(name = "grid", description = "Grade PRICE de prestacoes e totais para faixas de taxas e prazos")
+    static class Grid implements Runnable {
+        @Mixin CommonOptions common;
+
+        @Option(names = {"-P", "--principal"}, required = true)
+        BigDecimal principal;
+
+        @Option(names = {"--taxas"}, required = true, description = "Taxas: inicio:fim:passo (ex.: 1%%:3%%:0.1%%; sufixo de periodo so nos extremos, passo a.m.) ou lista (ex.: 1%%,1.5%%,2%%)")
+        String taxasStr;
+
+        @Option(names = {"--prazos"}, required = true, description = "Prazos crescentes: inicio:fim:passo (ex.: 12:480:12) ou lista (ex.: 12,24,36)")
+        String prazosStr;
+
+        @Option(names = {"--cronograma"}, description = "Celula com cronograma completo, TAXA@PRAZO (ex.: 2%%@24); pode repetir")
+        List<String> cronogramas = new ArrayList<>();
+
+        @Option(names = {"--threads"}, description = "Threads de calculo (default: processadores disponiveis)")
+        int threads = Runtime.getRuntime().availableProcessors();
+
+        public void run() {
+            if (!saidaValida(common.format, common.output)) {
+                return;
+            }
+            if (threads <= 0) {
+                System.err.println("Erro: --threads deve ser positivo.");
+                return;
+            }
+            MathContext mcResultado = new MathContext(common.precision, RoundingMode.HALF_UP);
+            GradePrice grade;
+            try (CalculadoraGradePrice calc = new CalculadoraGradePrice(threads, MC, mcResultado)) {
+                List<BigDecimal> taxas = parseTaxas(taxasStr);
+                int[] prazos = parsePrazos(prazosStr);
+                List<GradePrice.Celula> detalhar = new ArrayList<>();
+                for (String c : cronogramas) {
+                    detalhar.add(celula(c, taxas, prazos));
+                }
+                grade = calc.calcular(principal, taxas, prazos, detalhar);
+            } catch (IllegalArgumentException e) {
+                System.err.println("Erro: " + e.getMessage());
+                return;
+            }
+            printGrade(grade, common.format, common.output);
+        }
+
+        private static List<BigDecimal> parseTaxas(String s) {
+            String[] partes = s.split(":");
+            if (partes.length == 3) {
+                // O sufixo de periodo converte so os extremos; o passo ja e a.m.
+                if (partes[2].toLowerCase(Locale.ROOT).contains("a.")) {
+                    throw new IllegalArgumentException("Passo de --taxas nao aceita sufixo de periodo: " + partes[2].trim());
+                }
+                return CalculadoraGradePrice.faixaTaxas(parseRate(partes[0]), parseRate(partes[1]), parseRate(partes[2]));
+            }
+            List<BigDecimal> taxas = new ArrayList<>();
+            for (String taxa : s.split(",")) {
+                taxas.add(parseRate(taxa));
+            }
+            return taxas;
+        }
+
+        private static int[] parsePrazos(String s) {
+            String[] partes = s.split(":");
+            if (partes.length == 3) {
+                return CalculadoraGradePrice.faixaPrazos(
+                        Integer.parseInt(partes[0].trim()), Integer.parseInt(partes[1].trim()), Integer.parseInt(partes[2].trim()));
+            }
+            return Stream.of(s.split(",")).mapToInt(p -> Integer.parseInt(p.trim())).toArray();
+        }
+
+        private static GradePrice.Celula celula(String s, List<BigDecimal> taxas, int[] prazos) {
+            int arroba = s.indexOf('@');
+            if (arroba < 0) {
+                throw new IllegalArgumentException("--cronograma deve ser TAXA@PRAZO: " + s);
+            }
+            BigDecimal taxa = parseRate(s.substring(0, arroba));
+            int prazo = Integer.parseInt(s.substring(arroba + 1).trim());
+            for (int linha = 0; linha < taxas.size(); linha++) {
+                if (taxas.get(linha).compareTo(taxa) != 0) continue;
+                for (int coluna = 0; coluna < prazos.length; coluna++) {
+                    if (prazos[coluna] == prazo) return new GradePrice.Celula(linha, coluna);
+                }
+            }
+            throw new IllegalArgumentException("--cronograma fora da grade: " + s);
+        }
+    }
+
+    @Command(name = "batch", description = "Calcula em lote os contratos de um arquivo CSV ou JSONL (um por linha)")
+    static class Batch implements Runnable {
+        @Option(names = {"--input"}, required = true, description = "Arquivo de contratos (- para stdin)")
+        String input;
+
+        @Option(names = {"--output"}, description = "Arquivo CSV de saida (default: stdout)")
+        String output;
+
+        @Option(names = {"--input-format"}, description = "csv ou jsonl (default: pela extensao; .jsonl/.ndjson = jsonl)")
+        String inputFormat;
+
+        @Option(names = {"--summary"}, description = "Uma linha de resumo por contrato em vez do cronograma")
+        boolean summary;
+
+        @Option(names = {"--threads"}, description = "Threads de calculo (default: processadores disponiveis)")
+        int threads = Runtime.getRuntime().availableProcessors();
+
+        @Option(names = {"--window"}, description = "Contratos em andamento ou aguardando escrita (default: 64)")
+        int window = 64;
+
+        @Option(names = {"--max-parcelas"}, description = "Maior numero de parcelas por contrato; acima dele a linha vira ERRO (default: 10000)")
+        int maxParcelas = 10_000;
+
+        public void run() {
+            if (threads <= 0 || window <= 0 || maxParcelas <= 0) {
+                System.err.println("Erro: --threads, --window e --max-parcelas devem ser positivos.");
+                return;
+            }
+            ProcessadorLote.FormatoEntrada formato;
+            try {
+                formato = ProcessadorLote.FormatoEntrada.de(inputFormat, input);
+            } catch (IllegalArgumentException e) {
+                System.err.println("Erro: " + e.getMessage());
+                return;
+            }
+            ProcessadorLote.Contagem contagem;
+            try (ProcessadorLote processador = new ProcessadorLote(MC, threads, window, summary, maxParcelas)) {
+                contagem = processador.processar(input, formato, output);
+            } catch (IllegalArgumentException e) {
+                System.err.println("Erro: " + e.getMessage());
+                return;
+            } catch (IOException e) {
+                throw new RuntimeException("Falha de E/S no lote: " + e.getMessage(), e);
+            }
+            System.err.printf("Lote: %d contratos, %d com erro%n", contagem.contratos(), contagem.erros());
+        }
+    }
+
+    @Command(name = "serve", description = "Servidor HTTP com os mesmos calculos dos subcomandos (JSON ou CSV)")
+    static class Serve implements Runnable {
+        @Option(names = {"--host"}, description = "Endereco de escuta (default: 127.0.0.1)")
+        String host = "127.0.0.1";
+
+        @Option(names = {"--port"}, description = "Porta (default: 8080)")
+        int port = 8080;
+
+        @Option(names = {"--max-concurrency"}, description = "Requisicoes simultaneas antes de responder 503 (default: 256)")
+        int maxConcurrency = 256;
+
+        @Option(names = {"--shutdown-timeout"}, description = "Segundos para concluir requisicoes ao encerrar (default: 5)")
+        int shutdownTimeout = 5;
+
+        @Option(names = {"--max-parcelas"}, description = "Maior numero de parcelas aceito por requisicao (default: 10000)")
+        int maxParcelas = 10_000;
+
+        public void run() {
+            if (maxConcurrency <= 0 || maxParcelas <= 0) {
+                System.err.println("Erro: --max-concurrency e --max-parcelas devem ser positivos.");
+                return;
+            }
+            ServidorHttp servidor;
+            try {
+                servidor = new ServidorHttp(host, port, maxConcurrency, shutdownTimeout, maxParcelas);
+            } catch (IOException e) {
+                throw new RuntimeException("Falha ao abrir a porta " + port + ": " + e.getMessage(), e);
+            }
+            Runtime.getRuntime().addShutdownHook(new Thread(servidor::encerrar, "calcfin-shutdown"));
+            servidor.iniciar();
+            System.out.println("Servindo em http://" + host + ":" + servidor.porta()
+                    + " (endpoints: /simples, /compostos, /semjuros, /sac, /price, /saude, /metricas)");
+            try {
+                servidor.aguardar();
+            } catch (InterruptedException e) {
+                Thread.currentThread().interrupt();
+                servidor.encerrar();
+            }
+        }
+    }
+
+    // Consome o stream linha a linha: apenas os totais ficam em memoria.
+    private static void printParcelas(Stream<Parcela> stream, Format format, String outputFile,
+            SistemaAmortizacao sistema, int n) {
+        Iterable<Parcela> parcelas = stream::iterator;
+        if (format == Format.BIN) {
+            try {
+                Path path = Path.of(outputFile);
+                if (path.getParent() != null) Files.createDirectories(path.getParent());
+                try (EscritorCronogramaBinario escritor = new EscritorCronogramaBinario(path, sistema, n)) {
+                    escritor.escreverTodas(parcelas.iterator());
                 }
-                System.out.printf("TOTAL,%s,%s,%s,%s%n",
-                        totalParcela,
-                        totalAmort,
-                        totalJuros,
-                        "");
+            } catch (IOException e) {
+                throw new RuntimeException("Falha ao escrever arquivo: " + e.getMessage(), e);
+            }
+        } else if (format == Format.CSV) {
+            try (EscritorCsvCronograma csv = new EscritorCsvCronograma(canalSaida(outputFile))) {
+                csv.escreverCabecalho();
+                csv.escreverParcelas(parcelas.iterator(), "");
+            } catch (IOException e) {
+                throw new RuntimeException("Falha ao escrever arquivo: " + e.getMessage(), e);
+            }
+        } else if (format == Format.JSON || format == Format.NDJSON) {
+            EscritorJsonCronograma.Modo modo = format == Format.JSON ? EscritorJsonCronograma.Modo.JSON : EscritorJsonCronograma.Modo.NDJSON;
+            try (EscritorJsonCronograma json = new EscritorJsonCronograma(canalSaida(outputFile), modo)) {
+                json.escreverCronograma(parcelas.iterator());
+            } catch (IOException e) {
+                throw new RuntimeException("Falha ao escrever arquivo: " + e.getMessage(), e);
             }
         } else {
+            BigDecimal totalParcela = BigDecimal.ZERO;
+            BigDecimal totalAmort = BigDecimal.ZERO;
+            BigDecimal totalJuros = BigDecimal.ZERO;
+            int scale = -1;
             System.out.println(" # | Parcela  | Amortizacao | Juros   | Saldo");
             for (Parcela p : parcelas) {
+                if (scale < 0) scale = p.getValorParcela().scale();
                 System.out.printf("%2d | %8s | %11s | %7s | %s%n",
                         p.getSerie(),
                         p.getValorParcela(),
@@ -265,7 +575,7 @@ public class Main implements Runnable {
                 totalAmort = totalAmort.add(p.getValorAmortizacao());
                 totalJuros = totalJuros.add(p.getValorJuros());
             }
-            int scale = parcelas.isEmpty() ? 2 : parcelas.get(0).getValorParcela().scale();
+            if (scale < 0) scale = 2;
             System.out.println("Totais:");
             System.out.println("  Parcelas: " + totalParcela.setScale(scale, java.math.RoundingMode.HALF_UP));
             System.out.println("  Amortizacao: " + totalAmort.setScale(scale, java.math.RoundingMode.HALF_UP));
@@ -274,6 +584,90 @@ public class Main implements Runnable {
         }
     }
 
+    // Arquivo de saida ou System.out; fechar o canal apenas descarrega System.out.
+    private static WritableByteChannel canalSaida(String outputFile) throws IOException {
+        if (outputFile == null || outputFile.isBlank()) {
+            return Channels.newChannel(new FilterOutputStream(System.out) {
+                @Override
+                public void write(byte[] b, int off, int len) throws IOException {
+                    out.write(b, off, len);
+                }
+
+                @Override
+                public void close() throws IOException {
+                    flush();
+                }
+            });
+        }
+        Path path = Path.of(outputFile);
+        if (path.getParent() != null) Files.createDirectories(path.getParent());
+        return FileChannel.open(path, StandardOpenOption.CREATE, StandardOpenOption.WRITE, StandardOpenOption.TRUNCATE_EXISTING);
+    }
+
+    static final String CSV_PARCELAS_HEADER = EscritorCsvCronograma.CABECALHO;
+    static final String CSV_RESUMO_HEADER = "parcelas,primeira,ultima,total_parcelas,total_amortizacao,total_juros";
+
+    // Cronograma em CSV como texto (lote), pelo EscritorCsvCronograma: linhas de dados
+    // e TOTAL precedidas por 'prefix'.
+    static String parcelasCsv(Iterator<Parcela> parcelas, String prefix, boolean header, int estimatedSize) {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream(estimatedSize);
+        try (EscritorCsvCronograma csv = new EscritorCsvCronograma(Channels.newChannel(bytes), 8 * 1024)) {
+            if (header) csv.escreverCabecalho();
+            csv.escreverParcelas(parcelas, prefix);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        return bytes.toString(StandardCharsets.UTF_8);
+    }
+
+    private static void printResumo(ResumoParcelas resumo, Format format, String outputFile) {
+        Parcela primeira = resumo.getPrimeiraParcela();
+        Parcela ultima = resumo.getUltimaParcela();
+        if (format == Format.CSV) {
+            if (outputFile != null && !outputFile.isBlank()) {
+                try {
+                    Path path = Path.of(outputFile);
+                    if (path.getParent() != null) Files.createDirectories(path.getParent());
+                    try (PrintWriter pw = new PrintWriter(Files.newBufferedWriter(path, StandardCharsets.UTF_8))) {
+                        writeResumoCsv(resumo, pw);
+                    }
+                } catch (IOException e) {
+                    throw new RuntimeException("Falha ao escrever arquivo: " + e.getMessage(), e);
+                }
+            } else {
+                PrintWriter out = new PrintWriter(System.out);
+                writeResumoCsv(resumo, out);
+                out.flush();
+            }
+        } else {
+            int scale = primeira.getValorParcela().scale();
+            System.out.println("Parcelas: " + resumo.getNumeroParcelas());
+            System.out.println("  Primeira: " + primeira.getValorParcela());
+            System.out.println("  Ultima: " + ultima.getValorParcela());
+            System.out.println("Totais:");
+            System.out.println("  Parcelas: " + resumo.getTotalParcelas().setScale(scale, java.math.RoundingMode.HALF_UP));
+            System.out.println("  Amortizacao: " + resumo.getTotalAmortizacao().setScale(scale, java.math.RoundingMode.HALF_UP));
+            System.out.println("  Juros: " + resumo.getTotalJuros().setScale(scale, java.math.RoundingMode.HALF_UP));
+            System.out.println();
+        }
+    }
+
+    static void writeResumoCsv(ResumoParcelas resumo, PrintWriter out) {
+        out.println(CSV_RESUMO_HEADER);
+        writeResumoCsvRow(resumo, "", out);
+    }
+
+    static void writeResumoCsvRow(ResumoParcelas resumo, String prefix, PrintWriter out) {
+        out.printf("%s%d,%s,%s,%s,%s,%s%n",
+                prefix,
+                resumo.getNumeroParcelas(),
+                resumo.getPrimeiraParcela().getValorParcela(),
+                resumo.getUltimaParcela().getValorParcela(),
+                resumo.getTotalParcelas(),
+                resumo.getTotalAmortizacao(),
+                resumo.getTotalJuros());
+    }
+
     private static void printJuros(String tipo, Format format, String outputFile, BigDecimal principal, BigDecimal taxa, int tempo, BigDecimal montante, BigDecimal juros) {
         if (format == Format.CSV) {
             if (outputFile != null && !outputFile.isBlank()) {
@@ -281,15 +675,24 @@ public class Main implements Runnable {
                     Path path = Path.of(outputFile);
                     if (path.getParent() != null) Files.createDirectories(path.getParent());
                     try (PrintWriter pw = new PrintWriter(Files.newBufferedWriter(path, StandardCharsets.UTF_8))) {
-                        pw.println("tipo,principal,taxa,tempo,montante,juros");
-                        pw.printf("%s,%s,%s,%d,%s,%s%n", tipo, principal, taxa, tempo, montante, juros);
+                        writeJurosCsv(tipo, principal, taxa, tempo, montante, juros, pw);
                     }
                 } catch (IOException e) {
                     throw new RuntimeException("Falha ao escrever arquivo: " + e.getMessage(), e);
                 }
             } else {
-                System.out.println("tipo,principal,taxa,tempo,montante,juros");
-                System.out.printf("%s,%s,%s,%d,%s,%s%n", tipo, principal, taxa, tempo, montante, juros);
+                PrintWriter out = new PrintWriter(System.out);
+                writeJurosCsv(tipo, principal, taxa, tempo, montante, juros, out);
+                out.flush();
+            }
+        } else if (format == Format.JSON || format == Format.NDJSON) {
+            try (WritableByteChannel canal = canalSaida(outputFile)) {
+                ByteBuffer json = StandardCharsets.UTF_8.encode(jurosJson(tipo, principal, taxa, tempo, montante, juros));
+                while (json.hasRemaining()) {
+                    canal.write(json);
+                }
+            } catch (IOException e) {
+                throw new RuntimeException("Falha ao escrever arquivo: " + e.getMessage(), e);
             }
         } else {
             System.out.println("Montante: " + montante);
@@ -297,14 +700,180 @@ public class Main implements Runnable {
         }
     }
 
-    private static BigDecimal parseRate(String s) {
+    // Um objeto por linha: igual em -f json e -f ndjson.
+    static String jurosJson(String tipo, BigDecimal principal, BigDecimal taxa, int tempo, BigDecimal montante, BigDecimal juros) {
+        return "{\"tipo\":\"" + tipo + "\",\"principal\":" + principal.toPlainString()
+                + ",\"taxa\":" + taxa.toPlainString() + ",\"tempo\":" + tempo
+                + ",\"montante\":" + montante.toPlainString() + ",\"juros\":" + juros.toPlainString() + "}\n";
+    }
+
+    static void writeJurosCsv(String tipo, BigDecimal principal, BigDecimal taxa, int tempo, BigDecimal montante, BigDecimal juros, PrintWriter out) {
+        out.println("tipo,principal,taxa,tempo,montante,juros");
+        out.printf("%s,%s,%s,%d,%s,%s%n", tipo, principal, taxa, tempo, montante, juros);
+    }
+
+    private static void printTaxa(ResultadoTaxa resultado, int precision, Format format, String outputFile) {
+        if (format == Format.CSV) {
+            if (outputFile != null && !outputFile.isBlank()) {
+                try {
+                    Path path = Path.of(outputFile);
+                    if (path.getParent() != null) Files.createDirectories(path.getParent());
+                    try (PrintWriter pw = new PrintWriter(Files.newBufferedWriter(path, StandardCharsets.UTF_8))) {
+                        writeTaxaCsv(resultado, precision, pw);
+                    }
+                } catch (IOException e) {
+                    throw new RuntimeException("Falha ao escrever arquivo: " + e.getMessage(), e);
+                }
+            } else {
+                PrintWriter out = new PrintWriter(System.out);
+                writeTaxaCsv(resultado, precision, out);
+                out.flush();
+            }
+        } else {
+            System.out.println("Taxa: " + percentual(resultado.getTaxa(), precision) + "% por periodo");
+            System.out.println("Iteracoes: " + resultado.getIteracoes() + (resultado.isConvergiu() ? " (convergiu)" : " (nao convergiu)"));
+        }
+    }
+
+    static void writeTaxaCsv(ResultadoTaxa resultado, int precision, PrintWriter out) {
+        out.println("taxa,taxa_percentual,iteracoes,convergiu");
+        out.printf("%s,%s,%d,%s%n",
+                resultado.getTaxa().setScale(precision + 2, RoundingMode.HALF_UP).toPlainString(),
+                percentual(resultado.getTaxa(), precision),
+                resultado.getIteracoes(),
+                resultado.isConvergiu());
+    }
+
+    private static String percentual(BigDecimal taxa, int precision) {
+        return taxa.movePointRight(2).setScale(precision, RoundingMode.HALF_UP).toPlainString();
+    }
+
+    private static void printGrade(GradePrice grade, Format format, String outputFile) {
+        if (format == Format.CSV) {
+            try (WritableByteChannel canal = canalSaida(outputFile)) {
+                writeGradeCsv(grade, canal);
+            } catch (IOException e) {
+                throw new RuntimeException("Falha ao escrever arquivo: " + e.getMessage(), e);
+            }
+        } else {
+            System.out.println("Prestacao (linhas: taxa por periodo; colunas: parcelas)");
+            printGradeTabela(grade, false);
+            System.out.println("Total pago");
+            printGradeTabela(grade, true);
+            for (int linha = 0; linha < grade.getLinhas(); linha++) {
+                for (int coluna = 0; coluna < grade.getColunas(); coluna++) {
+                    List<Parcela> cronograma = grade.getCronograma(linha, coluna);
+                    if (cronograma == null) continue;
+                    System.out.println("Cronograma: taxa " + percentual(grade.getTaxa(linha)) + ", "
+                            + grade.getPrazo(coluna) + " parcelas");
+                    printParcelas(cronograma.stream(), Format.HUMAN, null, SistemaAmortizacao.PRICE, cronograma.size());
+                }
+            }
+        }
+    }
+
+    private static void printGradeTabela(GradePrice grade, boolean total) {
+        StringBuilder linhaTexto = new StringBuilder(String.format("%10s", "taxa"));
+        for (int coluna = 0; coluna < grade.getColunas(); coluna++) {
+            linhaTexto.append(String.format(" | %12d", grade.getPrazo(coluna)));
+        }
+        System.out.println(linhaTexto);
+        for (int linha = 0; linha < grade.getLinhas(); linha++) {
+            linhaTexto.setLength(0);
+            linhaTexto.append(String.format("%10s", percentual(grade.getTaxa(linha))));
+            for (int coluna = 0; coluna < grade.getColunas(); coluna++) {
+                BigDecimal valor = total ? grade.getTotal(linha, coluna) : grade.getPrestacao(linha, coluna);
+                linhaTexto.append(String.format(" | %12s", valor));
+            }
+            System.out.println(linhaTexto);
+        }
+        System.out.println();
+    }
+
+    // Grade em formato longo (uma linha por celula). Com cronogramas, segue uma
+    // linha em branco e as parcelas no layout de -f csv precedidas de taxa e
+    // prazo, gravadas pelo EscritorCsvCronograma. Nao fecha o canal.
+    static void writeGradeCsv(GradePrice grade, WritableByteChannel canal) throws IOException {
+        PrintWriter out = new PrintWriter(new OutputStreamWriter(Channels.newOutputStream(canal), StandardCharsets.UTF_8));
+        out.println("taxa,prazo,prestacao,total");
+        for (int linha = 0; linha < grade.getLinhas(); linha++) {
+            for (int coluna = 0; coluna < grade.getColunas(); coluna++) {
+                out.printf("%s,%d,%s,%s%n",
+                        taxaCsv(grade.getTaxa(linha)),
+                        grade.getPrazo(coluna),
+                        grade.getPrestacao(linha, coluna),
+                        grade.getTotal(linha, coluna));
+            }
+        }
+        if (!grade.getCronogramas().isEmpty()) {
+            out.println();
+            out.println("taxa,prazo," + CSV_PARCELAS_HEADER);
+        }
+        out.flush();
+        if (out.checkError()) {
+            throw new IOException("Falha ao escrever a grade");
+        }
+        if (grade.getCronogramas().isEmpty()) {
+            return;
+        }
+        EscritorCsvCronograma csv = new EscritorCsvCronograma(canal);
+        for (int linha = 0; linha < grade.getLinhas(); linha++) {
+            for (int coluna = 0; coluna < grade.getColunas(); coluna++) {
+                List<Parcela> cronograma = grade.getCronograma(linha, coluna);
+                if (cronograma == null) continue;
+                csv.escreverParcelas(cronograma.iterator(),
+                        taxaCsv(grade.getTaxa(linha)) + "," + grade.getPrazo(coluna) + ",");
+            }
+        }
+        csv.flush();
+    }
+
+    // Taxas de faixas somadas passo a passo variam de escala (0.01, 0.015, 0.020).
+    private static String taxaCsv(BigDecimal taxa) {
+        return taxa.stripTrailingZeros().toPlainString();
+    }
+
+    private static String percentual(BigDecimal taxa) {
+        return taxa.movePointRight(2).stripTrailingZeros().toPlainString() + "%";
+    }
+
+    static BigDecimal parseRate(String s) {
+        return parseRate(s, false);
+    }
+
+    // Aceita um sufixo com o periodo da taxa publicada (a.a., a.s., a.t., a.m., a.d. ou
+    // a.d.u., ex.: 12%a.a.): a taxa e convertida para a.m., equivalente (juros compostos)
+    // ou, com 'proporcional', proporcional (juros simples).
+    static BigDecimal parseRate(String s, boolean proporcional) {
         String original = s == null ? "" : s.trim();
+        ConversorTaxas.Periodo periodo = null;
+        int sufixo = original.toLowerCase(Locale.ROOT).indexOf("a.");
+        if (sufixo >= 0) {
+            try {
+                periodo = ConversorTaxas.Periodo.doSufixo(original.substring(sufixo));
+            } catch (IllegalArgumentException e) {
+                throw new NumberFormatException("Periodo de taxa invalido: " + original.substring(sufixo));
+            }
+            original = original.substring(0, sufixo).trim();
+        }
         boolean hasPercent = original.contains("%");
         String raw = original.replace("%", "").replace(',', '.');
         BigDecimal v = new BigDecimal(raw);
         if (hasPercent || v.abs().compareTo(BigDecimal.ONE) >= 0) {
-            return v.divide(BigDecimal.valueOf(100), MC);
+            v = v.divide(BigDecimal.valueOf(100), MC);
         }
-        return v;
+        if (periodo == null || periodo == ConversorTaxas.Periodo.MES) {
+            return v;
+        }
+        ConversorTaxas conversor = Conversor.INSTANCIA;
+        return proporcional ? conversor.proporcional(v, periodo, ConversorTaxas.Periodo.MES)
+                : conversor.equivalente(v, periodo, ConversorTaxas.Periodo.MES);
+    }
+
+    // Conversoes de taxas com sufixo de periodo, compartilhadas por comandos, lote e
+    // servidor. Fica fora de Main para que o cache so seja criado na primeira taxa
+    // com sufixo, e nao a cada inicializacao (--help, taxas mensais).
+    private static final class Conversor {
+        static final ConversorTaxas INSTANCIA = new ConversorTaxas(MC);
     }
 }
\ No newline at end of file
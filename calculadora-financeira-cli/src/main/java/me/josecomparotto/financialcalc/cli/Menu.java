@@ -2,6 +2,7 @@ package me.josecomparotto.financialcalc.cli;
 
 import me.josecomparotto.financialcalc.core.juros.CalculadoraJurosCompostos;
 import me.josecomparotto.financialcalc.core.juros.CalculadoraJurosSimples;
+import me.josecomparotto.financialcalc.core.juros.ResultadoJuros;
 import me.josecomparotto.financialcalc.core.parcelas.CalculadoraParcelasPrice;
 import me.josecomparotto.financialcalc.core.parcelas.CalculadoraParcelasSac;
 import me.josecomparotto.financialcalc.core.parcelas.CalculadoraParcelasSemJuros;
@@ -129,8 +130,9 @@ public class Menu {
         int tempo = readInt(sc, "Tempo (periodos)");
         int prec = readPrecision(sc);
         var calc = new CalculadoraJurosCompostos(MC);
-        System.out.println("Montante: " + calc.calcularMontante(principal, taxa, tempo, prec));
-        System.out.println("Juros: " + calc.calcularJuros(principal, taxa, tempo, prec) + "\n");
+        ResultadoJuros resultado = calc.calcularMontanteEJuros(principal, taxa, tempo, prec);
+        System.out.println("Montante: " + resultado.getMontante());
+        System.out.println("Juros: " + resultado.getJuros() + "\n");
     }
 
     private void menuParcelasSemJuros(Scanner sc) {
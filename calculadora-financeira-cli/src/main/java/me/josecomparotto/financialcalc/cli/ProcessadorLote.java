@@ -0,0 +1,458 @@
+package me.josecomparotto.financialcalc.cli;
+
+import me.josecomparotto.financialcalc.core.parcelas.CalculadoraParcelasLote;
+import me.josecomparotto.financialcalc.core.parcelas.ICalculadoraParcelas;
+import me.josecomparotto.financialcalc.core.parcelas.Parcela;
+import me.josecomparotto.financialcalc.core.parcelas.SistemaAmortizacao;
+
+import java.io.BufferedReader;
+import java.io.BufferedWriter;
+import java.io.IOException;
+import java.io.InputStreamReader;
+import java.io.OutputStreamWriter;
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.nio.charset.StandardCharsets;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.NoSuchElementException;
+
+// Modo lote (calcfin batch): le um contrato por linha (CSV com cabecalho ou
+// JSONL) e escreve um unico CSV com os cronogramas (ou resumos) na ordem de
+// entrada. As linhas sao lidas sob demanda e calculadas em paralelo, com no
+// maximo 'janela' contratos em andamento ou aguardando escrita, entao a memoria
+// nao cresce com o tamanho do arquivo. Uma linha invalida vira uma linha ERRO
+// na saida e o processamento continua; contratos com mais de 'maxParcelas'
+// parcelas tambem, ja que cada cronograma fica inteiro em memoria ate ser escrito.
+//
+// Colunas/campos: sistema (price, sac, semjuros), principal, taxa (mesma sintaxe
+// de -i), parcelas e precision (opcional, default 2, de 0 a 10). A saida usa o layout de
+// -f csv precedido pela coluna 'linha' (numero da linha na entrada).
+final class ProcessadorLote implements AutoCloseable {
+
+    private static final int BUFFER = 64 * 1024;
+
+    private final CalculadoraParcelasLote lote;
+    private final int janela;
+    private final boolean resumo;
+    private final int maxParcelas;
+
+    ProcessadorLote(MathContext mcCalculo, int threads, int janela, boolean resumo, int maxParcelas) {
+        this.lote = new CalculadoraParcelasLote(threads, mcCalculo);
+        this.janela = janela;
+        this.resumo = resumo;
+        this.maxParcelas = maxParcelas;
+    }
+
+    enum FormatoEntrada {
+        CSV, JSONL;
+
+        static FormatoEntrada de(String nome, String arquivo) {
+            if (nome == null || nome.isBlank()) {
+                String a = arquivo == null ? "" : arquivo.toLowerCase();
+                return a.endsWith(".jsonl") || a.endsWith(".ndjson") ? JSONL : CSV;
+            }
+            return switch (nome.trim().toLowerCase()) {
+                case "csv" -> CSV;
+                case "jsonl", "ndjson" -> JSONL;
+                default -> throw new IllegalArgumentException("Formato de entrada invalido: " + nome + ". Use csv ou jsonl.");
+            };
+        }
+    }
+
+    record Contagem(long contratos, long erros) {
+    }
+
+    private record Linha(long numero, String texto) {
+    }
+
+    private record Resultado(String texto, boolean erro) {
+    }
+
+    Contagem processar(String entrada, FormatoEntrada formato, String saida) throws IOException {
+        try (BufferedReader leitor = abrirEntrada(entrada);
+             PrintWriter escritor = abrirSaida(saida)) {
+            Contagem contagem = processar(leitor, formato, escritor);
+            escritor.flush();
+            if (escritor.checkError()) {
+                throw new IOException("Falha ao escrever " + (saida == null ? "stdout" : saida));
+            }
+            return contagem;
+        }
+    }
+
+    Contagem processar(BufferedReader leitor, FormatoEntrada formato, PrintWriter saida) throws IOException {
+        Iterator<Linha> linhas = new IteradorLinhas(leitor);
+        Map<String, Integer> colunas = null;
+        if (formato == FormatoEntrada.CSV) {
+            if (!linhas.hasNext()) {
+                return new Contagem(0, 0);
+            }
+            colunas = lerCabecalho(linhas.next().texto());
+        }
+        Map<String, Integer> cabecalho = colunas;
+        saida.println("linha," + (resumo ? Main.CSV_RESUMO_HEADER : Main.CSV_PARCELAS_HEADER));
+        long[] contagem = new long[2];
+        try {
+            lote.processarEmOrdem(linhas, linha -> calcular(linha, cabecalho), janela, resultado -> {
+                saida.write(resultado.texto());
+                contagem[0]++;
+                if (resultado.erro()) {
+                    contagem[1]++;
+                }
+            });
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        return new Contagem(contagem[0], contagem[1]);
+    }
+
+    @Override
+    public void close() {
+        lote.close();
+    }
+
+    private Resultado calcular(Linha linha, Map<String, Integer> cabecalho) {
+        String prefixo = linha.numero() + ",";
+        try {
+            Map<String, String> campos = cabecalho == null ? lerObjetoJson(linha.texto()) : lerCsv(linha.texto(), cabecalho);
+            SistemaAmortizacao sistema = sistema(obrigatorio(campos, "sistema"));
+            BigDecimal principal = decimal(campos, "principal");
+            String taxaTexto = campos.get("taxa");
+            BigDecimal taxa;
+            if (sistema == SistemaAmortizacao.SEM_JUROS && (taxaTexto == null || taxaTexto.isBlank())) {
+                taxa = null;
+            } else {
+                taxa = taxa(obrigatorio(campos, "taxa"));
+            }
+            int n = inteiro(obrigatorio(campos, "parcelas"), "parcelas");
+            if (n > maxParcelas) {
+                throw new IllegalArgumentException("Numero de parcelas acima do limite de " + maxParcelas);
+            }
+            String precisaoTexto = campos.get("precision");
+            int precisao = precisaoTexto == null || precisaoTexto.isBlank() ? 2 : inteiro(precisaoTexto, "precision");
+            if (precisao < 0 || precisao > Main.PRECISAO_MAXIMA) {
+                throw new IllegalArgumentException("Campo precision deve estar entre 0 e " + Main.PRECISAO_MAXIMA);
+            }
+
+            ICalculadoraParcelas calc = lote.calculadora(sistema, precisao);
+            if (!resumo) {
+                Iterator<Parcela> parcelas = calc.iterarParcelas(principal, taxa, n);
+                return new Resultado(Main.parcelasCsv(parcelas, prefixo, false, 48 * Math.min(n, 10_000) + 64), false);
+            }
+            StringWriter texto = new StringWriter(96);
+            PrintWriter out = new PrintWriter(texto);
+            Main.writeResumoCsvRow(calc.calcularResumo(principal, taxa, n), prefixo, out);
+            out.flush();
+            return new Resultado(texto.toString(), false);
+        } catch (RuntimeException e) {
+            return new Resultado(prefixo + "ERRO," + csv(mensagem(e)) + System.lineSeparator(), true);
+        }
+    }
+
+    private static BufferedReader abrirEntrada(String entrada) throws IOException {
+        if (entrada.equals("-")) {
+            return new BufferedReader(new InputStreamReader(System.in, StandardCharsets.UTF_8), BUFFER);
+        }
+        return Files.newBufferedReader(Path.of(entrada), StandardCharsets.UTF_8);
+    }
+
+    private static PrintWriter abrirSaida(String saida) throws IOException {
+        if (saida == null || saida.isBlank() || saida.equals("-")) {
+            return new PrintWriter(new BufferedWriter(new OutputStreamWriter(System.out, StandardCharsets.UTF_8), BUFFER)) {
+                @Override
+                public void close() {
+                    flush();
+                }
+            };
+        }
+        Path path = Path.of(saida);
+        if (path.getParent() != null) Files.createDirectories(path.getParent());
+        return new PrintWriter(new BufferedWriter(Files.newBufferedWriter(path, StandardCharsets.UTF_8), BUFFER));
+    }
+
+    private static Map<String, Integer> lerCabecalho(String linha) {
+        List<String> nomes = dividirCsv(linha.startsWith("\uFEFF") ? linha.substring(1) : linha);
+        Map<String, Integer> colunas = new HashMap<>();
+        for (int i = 0; i < nomes.size(); i++) {
+            colunas.put(nomeCampo(nomes.get(i)), i);
+        }
+        for (String obrigatoria : new String[] {"sistema", "principal", "parcelas"}) {
+            if (!colunas.containsKey(obrigatoria)) {
+                throw new IllegalArgumentException("Cabecalho sem a coluna " + obrigatoria + ": " + linha);
+            }
+        }
+        return colunas;
+    }
+
+    private static String nomeCampo(String nome) {
+        String n = nome.trim().toLowerCase();
+        return switch (n) {
+            case "system" -> "sistema";
+            case "n" -> "parcelas";
+            case "precisao", "p" -> "precision";
+            default -> n;
+        };
+    }
+
+    private static Map<String, String> lerCsv(String linha, Map<String, Integer> cabecalho) {
+        List<String> valores = dividirCsv(linha);
+        Map<String, String> campos = new HashMap<>();
+        for (Map.Entry<String, Integer> coluna : cabecalho.entrySet()) {
+            if (coluna.getValue() < valores.size()) {
+                campos.put(coluna.getKey(), valores.get(coluna.getValue()));
+            }
+        }
+        return campos;
+    }
+
+    // Separacao por virgula com campos opcionalmente entre aspas ("" = aspas literais).
+    private static List<String> dividirCsv(String linha) {
+        List<String> campos = new ArrayList<>();
+        StringBuilder atual = new StringBuilder();
+        boolean aspas = false;
+        for (int i = 0; i < linha.length(); i++) {
+            char c = linha.charAt(i);
+            if (aspas) {
+                if (c == '"' && i + 1 < linha.length() && linha.charAt(i + 1) == '"') {
+                    atual.append('"');
+                    i++;
+                } else if (c == '"') {
+                    aspas = false;
+                } else {
+                    atual.append(c);
+                }
+            } else if (c == '"') {
+                aspas = true;
+            } else if (c == ',') {
+                campos.add(atual.toString().trim());
+                atual.setLength(0);
+            } else {
+                atual.append(c);
+            }
+        }
+        if (aspas) {
+            throw new IllegalArgumentException("Aspas nao fechadas");
+        }
+        campos.add(atual.toString().trim());
+        return campos;
+    }
+
+    // Objeto JSON plano: {"nome": "texto" | numero | true | false | null, ...}.
+    // Numeros sao mantidos como texto para virar BigDecimal sem passar por double.
+    private static Map<String, String> lerObjetoJson(String linha) {
+        Map<String, String> campos = new HashMap<>();
+        LeitorJson json = new LeitorJson(linha);
+        json.esperar('{');
+        if (!json.consumir('}')) {
+            do {
+                String nome = json.texto();
+                json.esperar(':');
+                String valor = json.valor();
+                if (valor != null) {
+                    campos.put(nomeCampo(nome), valor);
+                }
+            } while (json.consumir(','));
+            json.esperar('}');
+        }
+        json.fim();
+        return campos;
+    }
+
+    private static final class LeitorJson {
+
+        private final String s;
+        private int pos;
+
+        LeitorJson(String s) {
+            this.s = s;
+        }
+
+        private void espacos() {
+            while (pos < s.length() && Character.isWhitespace(s.charAt(pos))) pos++;
+        }
+
+        boolean consumir(char c) {
+            espacos();
+            if (pos < s.length() && s.charAt(pos) == c) {
+                pos++;
+                return true;
+            }
+            return false;
+        }
+
+        void esperar(char c) {
+            if (!consumir(c)) {
+                throw new IllegalArgumentException("JSON invalido: esperado '" + c + "' na posicao " + pos);
+            }
+        }
+
+        void fim() {
+            espacos();
+            if (pos != s.length()) {
+                throw new IllegalArgumentException("JSON invalido: conteudo extra na posicao " + pos);
+            }
+        }
+
+        String texto() {
+            esperar('"');
+            StringBuilder sb = new StringBuilder();
+            while (pos < s.length()) {
+                char c = s.charAt(pos++);
+                if (c == '"') {
+                    return sb.toString();
+                }
+                if (c == '\\' && pos < s.length()) {
+                    char e = s.charAt(pos++);
+                    switch (e) {
+                        case 'n' -> sb.append('\n');
+                        case 't' -> sb.append('\t');
+                        case 'r' -> sb.append('\r');
+                        case 'b' -> sb.append('\b');
+                        case 'f' -> sb.append('\f');
+                        case 'u' -> {
+                            if (pos + 4 > s.length()) {
+                                throw new IllegalArgumentException("JSON invalido: escape \\u incompleto");
+                            }
+                            sb.append((char) Integer.parseInt(s.substring(pos, pos + 4), 16));
+                            pos += 4;
+                        }
+                        default -> sb.append(e);
+                    }
+                } else {
+                    sb.append(c);
+                }
+            }
+            throw new IllegalArgumentException("JSON invalido: texto nao fechado");
+        }
+
+        String valor() {
+            espacos();
+            if (pos < s.length() && s.charAt(pos) == '"') {
+                return texto();
+            }
+            int inicio = pos;
+            while (pos < s.length() && ",}".indexOf(s.charAt(pos)) < 0 && !Character.isWhitespace(s.charAt(pos))) pos++;
+            String literal = s.substring(inicio, pos);
+            if (literal.isEmpty()) {
+                throw new IllegalArgumentException("JSON invalido: valor ausente na posicao " + inicio);
+            }
+            return literal.equals("null") ? null : literal;
+        }
+    }
+
+    private static String obrigatorio(Map<String, String> campos, String nome) {
+        String valor = campos.get(nome);
+        if (valor == null || valor.isBlank()) {
+            throw new IllegalArgumentException("Campo obrigatorio: " + nome);
+        }
+        return valor.trim();
+    }
+
+    private static SistemaAmortizacao sistema(String valor) {
+        return switch (valor.toLowerCase()) {
+            case "price" -> SistemaAmortizacao.PRICE;
+            case "sac" -> SistemaAmortizacao.SAC;
+            case "semjuros", "sem_juros", "sem-juros" -> SistemaAmortizacao.SEM_JUROS;
+            default -> throw new IllegalArgumentException("Sistema invalido: " + valor + ". Use price, sac ou semjuros.");
+        };
+    }
+
+    // A virgula so e separador decimal quando e o unico separador do valor
+    // ("1234,56"). Valores com ponto e virgula ("1.000,50"), com mais de uma
+    // virgula ou com uma virgula seguida de exatamente tres digitos ("1,000",
+    // mil ou um?) sao recusados em vez de lidos com a escala errada.
+    private static BigDecimal decimal(Map<String, String> campos, String nome) {
+        String valor = obrigatorio(campos, nome);
+        int virgula = valor.indexOf(',');
+        if (virgula >= 0 && (valor.indexOf('.') >= 0 || valor.indexOf(',', virgula + 1) >= 0
+                || valor.length() - virgula - 1 == 3)) {
+            throw new IllegalArgumentException("Campo " + nome + " invalido (separador decimal ambiguo): " + valor);
+        }
+        try {
+            return new BigDecimal(valor.replace(',', '.'));
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Campo " + nome + " invalido: " + valor);
+        }
+    }
+
+    private static BigDecimal taxa(String valor) {
+        try {
+            return Main.parseRate(valor);
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Campo taxa invalido: " + valor);
+        }
+    }
+
+    private static int inteiro(String valor, String nome) {
+        try {
+            return Integer.parseInt(valor.trim());
+        } catch (NumberFormatException e) {
+            throw new IllegalArgumentException("Campo " + nome + " invalido: " + valor);
+        }
+    }
+
+    private static String mensagem(RuntimeException e) {
+        String m = e.getMessage();
+        return m == null || m.isBlank() ? e.getClass().getSimpleName() : m;
+    }
+
+    private static String csv(String valor) {
+        String v = valor.replace('\r', ' ').replace('\n', ' ');
+        if (v.indexOf(',') < 0 && v.indexOf('"') < 0) {
+            return v;
+        }
+        return '"' + v.replace("\"", "\"\"") + '"';
+    }
+
+    // Linhas nao vazias do leitor, numeradas como no arquivo (a partir de 1).
+    private static final class IteradorLinhas implements Iterator<Linha> {
+
+        private final BufferedReader leitor;
+        private long numero;
+        private Linha proxima;
+
+        IteradorLinhas(BufferedReader leitor) {
+            this.leitor = leitor;
+        }
+
+        @Override
+        public boolean hasNext() {
+            if (proxima != null) {
+                return true;
+            }
+            try {
+                String texto;
+                while ((texto = leitor.readLine()) != null) {
+                    numero++;
+                    if (!texto.isBlank()) {
+                        proxima = new Linha(numero, texto);
+                        return true;
+                    }
+                }
+                return false;
+            } catch (IOException e) {
+                throw new UncheckedIOException(e);
+            }
+        }
+
+        @Override
+        public Linha next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            Linha linha = proxima;
+            proxima = null;
+            return linha;
+        }
+    }
+
+}
@@ -0,0 +1,389 @@
+package me.josecomparotto.financialcalc.cli;
+
+import com.sun.net.httpserver.HttpExchange;
+import com.sun.net.httpserver.HttpServer;
+import me.josecomparotto.financialcalc.core.juros.CalculadoraJurosCompostos;
+import me.josecomparotto.financialcalc.core.juros.CalculadoraJurosSimples;
+import me.josecomparotto.financialcalc.core.juros.ResultadoJuros;
+import me.josecomparotto.financialcalc.core.metricas.CalculadoraParcelasInstrumentada;
+import me.josecomparotto.financialcalc.core.metricas.EstatisticasOperacao;
+import me.josecomparotto.financialcalc.core.metricas.MetricasCalculo;
+import me.josecomparotto.financialcalc.core.parcelas.CacheFatoresPrice;
+import me.josecomparotto.financialcalc.core.parcelas.CalculadoraParcelasPrice;
+import me.josecomparotto.financialcalc.core.parcelas.EscritorCsvCronograma;
+import me.josecomparotto.financialcalc.core.parcelas.EscritorJsonCronograma;
+import me.josecomparotto.financialcalc.core.parcelas.ICalculadoraParcelas;
+import me.josecomparotto.financialcalc.core.parcelas.MotorCalculo;
+import me.josecomparotto.financialcalc.core.parcelas.Parcela;
+import me.josecomparotto.financialcalc.core.parcelas.ResumoParcelas;
+import me.josecomparotto.financialcalc.core.parcelas.SistemaAmortizacao;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.math.RoundingMode;
+import java.net.InetSocketAddress;
+import java.net.URLDecoder;
+import java.nio.channels.Channels;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.HashMap;
+import java.util.Iterator;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.CountDownLatch;
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Semaphore;
+
+// Modo servico (calcfin serve): expoe os subcomandos como endpoints HTTP.
+// Parametros vem da query string ou de um corpo application/x-www-form-urlencoded,
+// com os mesmos nomes das opcoes longas (principal, taxa, tempo, parcelas,
+// precision, format, summary). Cada requisicao roda em uma virtual thread; acima
+// de maxConcorrencia requisicoes simultaneas a resposta e 503. As calculadoras
+// de parcelas sao instrumentadas; GET /metricas lista chamadas, parcelas,
+// alocacao e latencia por sistema, precisao e faixa de prazo. Prazos acima de
+// maxParcelas e precisoes fora de 0..Main.PRECISAO_MAXIMA sao recusados com 400, e
+// os cronogramas sao escritos direto na resposta (chunked), sem montar o corpo
+// em memoria.
+final class ServidorHttp {
+
+    private static final MathContext MC = MathContext.DECIMAL128;
+    private static final int LIMITE_CORPO = 64 * 1024;
+
+    private final HttpServer server;
+    private final ExecutorService executor;
+    private final Semaphore vagas;
+    private final int prazoEncerramento;
+    private final int maxParcelas;
+    private final CountDownLatch encerrado = new CountDownLatch(1);
+    private final Map<String, Operacao> operacoes = new HashMap<>();
+    private final Map<String, ICalculadoraParcelas> calculadoras = new ConcurrentHashMap<>();
+    private final CacheFatoresPrice cachePrice = new CacheFatoresPrice();
+    private final MetricasCalculo metricas = new MetricasCalculo();
+    private volatile boolean encerrando;
+
+    ServidorHttp(String host, int porta, int maxConcorrencia, int prazoEncerramento, int maxParcelas) throws IOException {
+        this.server = HttpServer.create(new InetSocketAddress(host, porta), 0);
+        this.executor = Executors.newVirtualThreadPerTaskExecutor();
+        this.vagas = new Semaphore(maxConcorrencia);
+        this.prazoEncerramento = prazoEncerramento;
+        this.maxParcelas = maxParcelas;
+        operacoes.put("/simples", p -> juros("simples", p));
+        operacoes.put("/compostos", p -> juros("compostos", p));
+        operacoes.put("/semjuros", p -> parcelas(SistemaAmortizacao.SEM_JUROS, p));
+        operacoes.put("/sac", p -> parcelas(SistemaAmortizacao.SAC, p));
+        operacoes.put("/price", p -> parcelas(SistemaAmortizacao.PRICE, p));
+        server.createContext("/", this::atender);
+        server.setExecutor(executor);
+    }
+
+    void iniciar() {
+        server.start();
+    }
+
+    int porta() {
+        return server.getAddress().getPort();
+    }
+
+    // Para de aceitar conexoes, espera as requisicoes em andamento (ate o prazo)
+    // e libera quem estiver em aguardar().
+    void encerrar() {
+        if (encerrando) {
+            return;
+        }
+        encerrando = true;
+        server.stop(prazoEncerramento);
+        executor.close();
+        encerrado.countDown();
+    }
+
+    void aguardar() throws InterruptedException {
+        encerrado.await();
+    }
+
+    private void atender(HttpExchange exchange) throws IOException {
+        try {
+            String metodo = exchange.getRequestMethod();
+            if (!metodo.equals("GET") && !metodo.equals("POST")) {
+                responder(exchange, 405, "text/plain", "Metodo nao suportado: " + metodo + "\n");
+                return;
+            }
+            String caminho = exchange.getRequestURI().getPath();
+            if (caminho.equals("/saude")) {
+                responder(exchange, 200, "text/plain", "ok\n");
+                return;
+            }
+            if (caminho.equals("/metricas")) {
+                StringBuilder texto = new StringBuilder();
+                for (EstatisticasOperacao estatisticas : metricas.estatisticas()) {
+                    texto.append(estatisticas).append('\n');
+                }
+                responder(exchange, 200, "text/plain", texto.toString());
+                return;
+            }
+            Operacao operacao = operacoes.get(caminho);
+            if (operacao == null) {
+                responder(exchange, 404, "text/plain", "Endpoint desconhecido: " + caminho + "\n");
+                return;
+            }
+            if (!vagas.tryAcquire()) {
+                exchange.getResponseHeaders().set("Retry-After", "1");
+                responder(exchange, 503, "text/plain", "Servidor ocupado\n");
+                return;
+            }
+            try {
+                Parametros parametros = Parametros.ler(exchange);
+                Resposta resposta = operacao.executar(parametros);
+                if (resposta.escrita() == null) {
+                    responder(exchange, 200, resposta.tipo(), resposta.corpo());
+                } else {
+                    transmitir(exchange, resposta.tipo(), resposta.escrita());
+                }
+            } catch (CorpoGrandeException e) {
+                responder(exchange, 413, "text/plain", e.getMessage() + "\n");
+            } catch (IllegalArgumentException | ArithmeticException e) {
+                responder(exchange, 400, "text/plain", "Erro: " + e.getMessage() + "\n");
+            } finally {
+                vagas.release();
+            }
+        } catch (RuntimeException e) {
+            responder(exchange, 500, "text/plain", "Erro interno: " + e.getMessage() + "\n");
+        } finally {
+            exchange.close();
+        }
+    }
+
+    private static void responder(HttpExchange exchange, int status, String tipo, String corpo) throws IOException {
+        byte[] bytes = corpo.getBytes(StandardCharsets.UTF_8);
+        exchange.getResponseHeaders().set("Content-Type", tipo + "; charset=utf-8");
+        exchange.sendResponseHeaders(status, bytes.length);
+        try (OutputStream out = exchange.getResponseBody()) {
+            out.write(bytes);
+        }
+    }
+
+    // Corpo de tamanho desconhecido: a escrita fecha o canal ao terminar.
+    private static void transmitir(HttpExchange exchange, String tipo, Escrita escrita) throws IOException {
+        exchange.getResponseHeaders().set("Content-Type", tipo + "; charset=utf-8");
+        exchange.sendResponseHeaders(200, 0);
+        escrita.escrever(Channels.newChannel(exchange.getResponseBody()));
+    }
+
+    private Resposta juros(String tipo, Parametros p) {
+        BigDecimal principal = p.decimal("principal");
+        BigDecimal taxa = Main.parseRate(p.texto("taxa"), tipo.equals("simples"));
+        int tempo = p.inteiro("tempo");
+        int precisao = p.precisao();
+        BigDecimal montante;
+        BigDecimal juros;
+        if (tipo.equals("simples")) {
+            var calc = new CalculadoraJurosSimples(MC);
+            montante = calc.calcularMontante(principal, taxa, tempo, precisao);
+            juros = calc.calcularJuros(principal, taxa, tempo, precisao);
+        } else {
+            ResultadoJuros resultado = new CalculadoraJurosCompostos(MC)
+                    .calcularMontanteEJuros(principal, taxa, tempo, precisao);
+            montante = resultado.getMontante();
+            juros = resultado.getJuros();
+        }
+        if (p.csv()) {
+            StringWriter texto = new StringWriter();
+            PrintWriter out = new PrintWriter(texto);
+            Main.writeJurosCsv(tipo, principal, taxa, tempo, montante, juros, out);
+            out.flush();
+            return Resposta.csv(texto.toString());
+        }
+        return Resposta.json(Main.jurosJson(tipo, principal, taxa, tempo, montante, juros));
+    }
+
+    private Resposta parcelas(SistemaAmortizacao sistema, Parametros p) {
+        BigDecimal principal = p.decimal("principal");
+        BigDecimal taxa = sistema == SistemaAmortizacao.SEM_JUROS ? BigDecimal.ZERO : Main.parseRate(p.texto("taxa"));
+        int n = p.inteiro("parcelas");
+        if (n > maxParcelas) {
+            throw new IllegalArgumentException("Numero de parcelas acima do limite de " + maxParcelas);
+        }
+        ICalculadoraParcelas calc = calculadora(sistema, p.precisao());
+
+        if (p.booleano("summary")) {
+            ResumoParcelas resumo = calc.calcularResumo(principal, taxa, n);
+            if (p.csv()) {
+                StringWriter texto = new StringWriter();
+                PrintWriter out = new PrintWriter(texto);
+                Main.writeResumoCsv(resumo, out);
+                out.flush();
+                return Resposta.csv(texto.toString());
+            }
+            StringBuilder json = new StringBuilder(256);
+            json.append("{\"parcelas\":").append(resumo.getNumeroParcelas());
+            campo(json, "primeira", resumo.getPrimeiraParcela().getValorParcela());
+            campo(json, "ultima", resumo.getUltimaParcela().getValorParcela());
+            json.append(",\"totais\":{");
+            totais(json, resumo.getTotalParcelas(), resumo.getTotalAmortizacao(), resumo.getTotalJuros());
+            return Resposta.json(json.append("}}\n").toString());
+        }
+
+        Iterator<Parcela> parcelas = calc.iterarParcelas(principal, taxa, n);
+        if (p.csv()) {
+            return Resposta.fluxo("text/csv", canal -> {
+                try (EscritorCsvCronograma csv = new EscritorCsvCronograma(canal, 8 * 1024)) {
+                    csv.escreverCabecalho();
+                    csv.escreverParcelas(parcelas, "");
+                }
+            });
+        }
+        return Resposta.fluxo("application/json", canal -> {
+            try (EscritorJsonCronograma json = new EscritorJsonCronograma(canal, EscritorJsonCronograma.Modo.JSON, 8 * 1024)) {
+                json.escreverCronograma(parcelas);
+            }
+        });
+    }
+
+    // As calculadoras sao imutaveis: uma por (sistema, precisao) atende todas as threads.
+    private ICalculadoraParcelas calculadora(SistemaAmortizacao sistema, int precisao) {
+        return calculadoras.computeIfAbsent(sistema + "/" + precisao, chave -> {
+            MathContext mcResultado = new MathContext(precisao, RoundingMode.HALF_UP);
+            ICalculadoraParcelas calc = sistema == SistemaAmortizacao.PRICE
+                    ? new CalculadoraParcelasPrice(MC, mcResultado, MotorCalculo.BIG_DECIMAL, cachePrice)
+                    : sistema.criarCalculadora(MC, mcResultado);
+            return new CalculadoraParcelasInstrumentada(calc, sistema.name(), MC, mcResultado, metricas);
+        });
+    }
+
+    private static void totais(StringBuilder json, BigDecimal parcelas, BigDecimal amortizacao, BigDecimal juros) {
+        json.append("\"parcelas\":").append(parcelas.toPlainString());
+        campo(json, "amortizacao", amortizacao);
+        campo(json, "juros", juros);
+    }
+
+    private static void campo(StringBuilder json, String nome, BigDecimal valor) {
+        json.append(",\"").append(nome).append("\":").append(valor.toPlainString());
+    }
+
+    @FunctionalInterface
+    private interface Operacao {
+        Resposta executar(Parametros parametros);
+    }
+
+    @FunctionalInterface
+    private interface Escrita {
+        void escrever(WritableByteChannel canal) throws IOException;
+    }
+
+    private record Resposta(String tipo, String corpo, Escrita escrita) {
+        static Resposta json(String corpo) {
+            return new Resposta("application/json", corpo, null);
+        }
+
+        static Resposta csv(String corpo) {
+            return new Resposta("text/csv", corpo, null);
+        }
+
+        static Resposta fluxo(String tipo, Escrita escrita) {
+            return new Resposta(tipo, null, escrita);
+        }
+    }
+
+    @SuppressWarnings("serial")
+    private static final class CorpoGrandeException extends RuntimeException {
+        CorpoGrandeException() {
+            super("Corpo da requisicao acima de " + LIMITE_CORPO + " bytes");
+        }
+    }
+
+    private static final class Parametros {
+
+        private final Map<String, String> valores;
+
+        private Parametros(Map<String, String> valores) {
+            this.valores = valores;
+        }
+
+        static Parametros ler(HttpExchange exchange) throws IOException {
+            Map<String, String> valores = new HashMap<>();
+            decodificar(exchange.getRequestURI().getRawQuery(), valores);
+            if (exchange.getRequestMethod().equals("POST")) {
+                try (InputStream in = exchange.getRequestBody()) {
+                    byte[] corpo = in.readNBytes(LIMITE_CORPO + 1);
+                    if (corpo.length > LIMITE_CORPO) {
+                        throw new CorpoGrandeException();
+                    }
+                    decodificar(new String(corpo, StandardCharsets.UTF_8), valores);
+                }
+            }
+            return new Parametros(valores);
+        }
+
+        private static void decodificar(String texto, Map<String, String> valores) {
+            if (texto == null || texto.isBlank()) {
+                return;
+            }
+            for (String par : texto.trim().split("&")) {
+                if (par.isEmpty()) continue;
+                int igual = par.indexOf('=');
+                String nome = igual < 0 ? par : par.substring(0, igual);
+                String valor = igual < 0 ? "" : par.substring(igual + 1);
+                valores.put(URLDecoder.decode(nome, StandardCharsets.UTF_8), URLDecoder.decode(valor, StandardCharsets.UTF_8));
+            }
+        }
+
+        String texto(String nome) {
+            String valor = valores.get(nome);
+            if (valor == null || valor.isBlank()) {
+                throw new IllegalArgumentException("Parametro obrigatorio: " + nome);
+            }
+            return valor.trim();
+        }
+
+        BigDecimal decimal(String nome) {
+            String valor = texto(nome);
+            try {
+                return new BigDecimal(valor.replace(',', '.'));
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Parametro " + nome + " invalido: " + valor);
+            }
+        }
+
+        int inteiro(String nome) {
+            String valor = texto(nome);
+            try {
+                return Integer.parseInt(valor);
+            } catch (NumberFormatException e) {
+                throw new IllegalArgumentException("Parametro " + nome + " invalido: " + valor);
+            }
+        }
+
+        int inteiro(String nome, int padrao) {
+            return valores.containsKey(nome) ? inteiro(nome) : padrao;
+        }
+
+        // Limitada: cada precisao cria uma calculadora e uma entrada nas metricas.
+        int precisao() {
+            int precisao = inteiro("precision", 2);
+            if (precisao < 0 || precisao > Main.PRECISAO_MAXIMA) {
+                throw new IllegalArgumentException("Parametro precision deve estar entre 0 e " + Main.PRECISAO_MAXIMA);
+            }
+            return precisao;
+        }
+
+        boolean booleano(String nome) {
+            String valor = valores.get(nome);
+            return valor != null && (valor.isEmpty() || valor.equalsIgnoreCase("true") || valor.equals("1"));
+        }
+
+        boolean csv() {
+            String formato = valores.getOrDefault("format", "json").trim().toLowerCase();
+            return switch (formato) {
+                case "csv" -> true;
+                case "json" -> false;
+                default -> throw new IllegalArgumentException("Formato invalido: " + formato + ". Use json ou csv.");
+            };
+        }
+    }
+
+}
@@ -0,0 +1,69 @@
+package me.josecomparotto.financialcalc.cli;
+
+import java.io.IOException;
+import java.io.InputStream;
+import java.io.OutputStream;
+import java.io.PrintStream;
+import java.net.Socket;
+import java.nio.charset.StandardCharsets;
+import java.util.Locale;
+
+// Execucao de treino para o arquivo AppCDS do perfil "startup": roda cada
+// subcomando uma vez (saida descartada) para que as classes usadas por eles
+// entrem no arquivo gerado com -XX:ArchiveClassesAtExit.
+public class TreinoCds {
+
+    private static final String[][] EXECUCOES = {
+            {"--help"},
+            {"simples", "-P", "1000", "-i", "10%", "-n", "12"},
+            {"compostos", "-P", "2000", "-i", "10%", "-n", "5", "-f", "csv"},
+            {"semjuros", "-P", "999", "-n", "3"},
+            {"semjuros", "-P", "999", "-n", "3", "-f", "csv", "--summary"},
+            {"sac", "-P", "8000", "-i", "1%", "-n", "12", "-f", "csv"},
+            {"sac", "-P", "8000", "-i", "1%", "-n", "12", "--summary"},
+            {"price", "-P", "5000", "-i", "2%", "-n", "24"},
+            {"price", "-P", "5000", "-i", "2%", "-n", "24", "-f", "csv", "--summary"},
+            {"price", "-P", "5000", "-i", "0", "-n", "24"},
+            {"price", "-P", "5000", "-i", "24%a.a.", "-n", "24", "-f", "csv"},
+            {"taxa", "-P", "5000", "--parcela", "264.36", "-n", "24"},
+            {"taxa", "-P", "5000", "--parcela", "264.36", "-n", "24", "--tarifa", "150", "-f", "csv"},
+            {"grid", "-P", "250000", "--taxas", "1%:2%:0.5%", "--prazos", "12:36:12", "--cronograma", "1%@12"},
+            {"grid", "-P", "250000", "--taxas", "1%,2%", "--prazos", "12,24", "-f", "csv", "--cronograma", "2%@24"},
+    };
+
+    public static void main(String[] args) throws IOException {
+        Locale.setDefault(Locale.US);
+        PrintStream out = System.out;
+        PrintStream err = System.err;
+        PrintStream descarte = new PrintStream(OutputStream.nullOutputStream(), false, StandardCharsets.UTF_8);
+        System.setOut(descarte);
+        System.setErr(descarte);
+        try {
+            for (String[] execucao : EXECUCOES) {
+                Main.commandLine(execucao).execute(execucao);
+            }
+            treinarServidor();
+        } finally {
+            System.setOut(out);
+            System.setErr(err);
+        }
+        out.println("Treino CDS concluido: " + EXECUCOES.length + " execucoes + serve");
+    }
+
+    private static void treinarServidor() throws IOException {
+        ServidorHttp servidor = new ServidorHttp("127.0.0.1", 0, 4, 0, 10_000);
+        servidor.iniciar();
+        try (Socket socket = new Socket("127.0.0.1", servidor.porta())) {
+            OutputStream saida = socket.getOutputStream();
+            saida.write(("GET /price?principal=5000&taxa=2%25&parcelas=24 HTTP/1.0\r\n"
+                    + "Host: 127.0.0.1\r\n\r\n").getBytes(StandardCharsets.US_ASCII));
+            saida.flush();
+            try (InputStream entrada = socket.getInputStream()) {
+                entrada.readAllBytes();
+            }
+        } finally {
+            servidor.encerrar();
+        }
+    }
+
+}
@@ -0,0 +1,61 @@
+package me.josecomparotto.financialcalc.cli;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.BufferedReader;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.StringReader;
+import java.io.StringWriter;
+import java.math.MathContext;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ProcessadorLoteTest {
+
+    private static List<String> processar(String entrada) throws IOException {
+        StringWriter saida = new StringWriter();
+        try (ProcessadorLote processador = new ProcessadorLote(MathContext.DECIMAL128, 2, 4, true, 10_000);
+             PrintWriter out = new PrintWriter(saida)) {
+            processador.processar(new BufferedReader(new StringReader(entrada)), ProcessadorLote.FormatoEntrada.CSV, out);
+        }
+        return saida.toString().lines().toList();
+    }
+
+    @Test
+    void precisaoForaDoIntervalo_viraLinhaErro() throws IOException {
+        List<String> linhas = processar("""
+                sistema,principal,taxa,parcelas,precision
+                price,5000,2%,24,999999999
+                price,5000,2%,24,-1
+                price,5000,2%,24,10
+                price,5000,2%,24,11
+                """);
+        assertEquals(5, linhas.size());
+        assertEquals("2,ERRO,Campo precision deve estar entre 0 e 10", linhas.get(1));
+        assertEquals("3,ERRO,Campo precision deve estar entre 0 e 10", linhas.get(2));
+        assertTrue(linhas.get(3).startsWith("4,24,"), linhas.get(3));
+        assertEquals("5,ERRO,Campo precision deve estar entre 0 e 10", linhas.get(4));
+    }
+
+    @Test
+    void principalComVirgula_soComoUnicoSeparadorDecimal() throws IOException {
+        List<String> linhas = processar("""
+                sistema,principal,taxa,parcelas
+                price,"1,000",2%,12
+                price,"1.000,50",2%,12
+                price,"1,000,000",2%,12
+                price,"1000,5",2%,12
+                price,1000.5,2%,12
+                """);
+        assertEquals(6, linhas.size());
+        for (int k = 1; k <= 3; k++) {
+            assertTrue(linhas.get(k).startsWith((k + 1) + ",ERRO,\"Campo principal invalido (separador decimal ambiguo)"), linhas.get(k));
+        }
+        String decimalComVirgula = linhas.get(4).substring(linhas.get(4).indexOf(','));
+        String decimalComPonto = linhas.get(5).substring(linhas.get(5).indexOf(','));
+        assertEquals(decimalComPonto, decimalComVirgula);
+        assertTrue(linhas.get(5).startsWith("6,12,94.6"), linhas.get(5));
+    }
+}
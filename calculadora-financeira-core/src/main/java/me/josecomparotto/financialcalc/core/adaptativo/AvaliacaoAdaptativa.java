@@ -0,0 +1,71 @@
+package me.josecomparotto.financialcalc.core.adaptativo;
+
+import java.math.MathContext;
+import java.util.concurrent.atomic.LongAdder;
+
+// Caminho rápido em double com limite de erro rigoroso. A calculadora calcula o
+// valor em unidades da última casa do resultado (centavos, para precisão 2)
+// junto com uma cota do erro absoluto, que soma o erro do double e o do caminho
+// em BigDecimal no MathContext de cálculo. Se o intervalo valor ± erro não
+// contém ponto de desempate (k + 0,5), o valor exato e o calculado em
+// BigDecimal arredondam para o mesmo inteiro e o resultado é aceito; senão a
+// calculadora refaz o cálculo em BigDecimal.
+//
+// Uma instância só guarda contadores (LongAdder) e pode ser compartilhada por
+// várias calculadoras e threads.
+public final class AvaliacaoAdaptativa {
+
+    // Retorno de arredondarMeioParaCima quando o arredondamento não é garantido.
+    public static final long SEM_CERTIFICADO = Long.MIN_VALUE;
+
+    // Erro relativo máximo de uma operação em double corretamente arredondada.
+    public static final double U = 0x1p-53;
+
+    // Abaixo disto todo double com parte fracionária é representado com folga.
+    private static final double LIMITE_EXATO = 0x1p52;
+
+    private final LongAdder tentativas = new LongAdder();
+    private final LongAdder aceitas = new LongAdder();
+
+    public void registrar(boolean aceita) {
+        tentativas.increment();
+        if (aceita) {
+            aceitas.increment();
+        }
+    }
+
+    public EstatisticasAvaliacao estatisticas() {
+        return new EstatisticasAvaliacao(tentativas.sum(), aceitas.sum());
+    }
+
+    public void zerar() {
+        tentativas.reset();
+        aceitas.reset();
+    }
+
+    // Inteiro mais próximo, com empates afastando de zero (HALF_UP), de um valor
+    // cuja aproximação é 'aproximado' com erro absoluto de no máximo 'erro'.
+    public static long arredondarMeioParaCima(double aproximado, double erro) {
+        if (!Double.isFinite(aproximado) || !(erro >= 0 && erro < 0.5)) {
+            return SEM_CERTIFICADO;
+        }
+        double modulo = Math.abs(aproximado);
+        if (modulo + erro >= LIMITE_EXATO) {
+            return SEM_CERTIFICADO;
+        }
+        double piso = Math.floor(modulo);
+        double fracao = modulo - piso;
+        if (fracao >= 0.5 - erro && fracao <= 0.5 + erro) {
+            return SEM_CERTIFICADO;
+        }
+        long arredondado = (long) piso + (fracao > 0.5 ? 1 : 0);
+        return aproximado < 0 ? -arredondado : arredondado;
+    }
+
+    // Erro relativo de uma operação arredondada em mc: 10^(1 - precisão), ou
+    // zero quando mc é ilimitado.
+    public static double erroRelativo(MathContext mc) {
+        return mc.getPrecision() == 0 ? 0 : Math.pow(10, 1 - mc.getPrecision());
+    }
+
+}
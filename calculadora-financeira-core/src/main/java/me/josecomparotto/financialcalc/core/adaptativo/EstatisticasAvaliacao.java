@@ -0,0 +1,36 @@
+package me.josecomparotto.financialcalc.core.adaptativo;
+
+// Fotografia dos contadores de uma AvaliacaoAdaptativa.
+public final class EstatisticasAvaliacao {
+
+    private final long tentativas;
+    private final long aceitas;
+
+    public EstatisticasAvaliacao(long tentativas, long aceitas) {
+        this.tentativas = tentativas;
+        this.aceitas = aceitas;
+    }
+
+    public long getTentativas() {
+        return tentativas;
+    }
+
+    public long getAceitas() {
+        return aceitas;
+    }
+
+    // Cálculos refeitos em BigDecimal.
+    public long getRecalculadas() {
+        return tentativas - aceitas;
+    }
+
+    public double getTaxaAcerto() {
+        return tentativas == 0 ? 0.0 : (double) aceitas / tentativas;
+    }
+
+    @Override
+    public String toString() {
+        return "tentativas=" + tentativas + ", aceitas=" + aceitas + ", recalculadas=" + getRecalculadas();
+    }
+
+}
@@ -0,0 +1,117 @@
+package me.josecomparotto.financialcalc.core.cache;
+
+import java.util.LinkedHashMap;
+import java.util.Map;
+import java.util.concurrent.atomic.LongAdder;
+import java.util.function.Function;
+
+// Cache limitado e thread-safe com despejo LRU. As chaves são distribuídas em
+// segmentos independentes (cada um com seu próprio lock), de modo que threads
+// consultando chaves diferentes raramente disputam o mesmo lock.
+public class CacheLru<K, V> {
+
+    private final Segmento<K, V>[] segmentos;
+    private final int capacidade;
+    private final LongAdder acertos = new LongAdder();
+    private final LongAdder falhas = new LongAdder();
+    private final LongAdder despejos = new LongAdder();
+
+    public CacheLru(int capacidade) {
+        this(capacidade, Math.min(16, Math.max(1, capacidade / 16)));
+    }
+
+    @SuppressWarnings("unchecked")
+    public CacheLru(int capacidade, int quantidadeSegmentos) {
+        if (capacidade <= 0) {
+            throw new IllegalArgumentException("Capacidade deve ser positiva e diferente de zero");
+        }
+        if (quantidadeSegmentos <= 0 || quantidadeSegmentos > capacidade) {
+            throw new IllegalArgumentException("Quantidade de segmentos deve estar entre 1 e a capacidade");
+        }
+        this.capacidade = capacidade;
+        this.segmentos = (Segmento<K, V>[]) new Segmento<?, ?>[quantidadeSegmentos];
+        // Os primeiros 'resto' segmentos ficam com uma entrada a mais, para que a
+        // soma das capacidades seja exatamente a capacidade do cache.
+        int porSegmento = capacidade / quantidadeSegmentos;
+        int resto = capacidade % quantidadeSegmentos;
+        for (int k = 0; k < quantidadeSegmentos; k++) {
+            segmentos[k] = new Segmento<>(k < resto ? porSegmento + 1 : porSegmento, despejos);
+        }
+    }
+
+    // Retorna o valor associado à chave, calculando-o com 'calculo' na ausência.
+    // O cálculo roda fora do lock: duas threads podem calcular a mesma chave ao
+    // mesmo tempo, e a primeira a terminar prevalece.
+    public V obter(K chave, Function<? super K, ? extends V> calculo) {
+        Segmento<K, V> segmento = segmento(chave);
+        V valor;
+        synchronized (segmento) {
+            valor = segmento.get(chave);
+        }
+        if (valor != null) {
+            acertos.increment();
+            return valor;
+        }
+        falhas.increment();
+        V calculado = calculo.apply(chave);
+        synchronized (segmento) {
+            V existente = segmento.putIfAbsent(chave, calculado);
+            return existente != null ? existente : calculado;
+        }
+    }
+
+    public int tamanho() {
+        int total = 0;
+        for (Segmento<K, V> segmento : segmentos) {
+            synchronized (segmento) {
+                total += segmento.size();
+            }
+        }
+        return total;
+    }
+
+    public int getCapacidade() {
+        return capacidade;
+    }
+
+    public void limpar() {
+        for (Segmento<K, V> segmento : segmentos) {
+            synchronized (segmento) {
+                segmento.clear();
+            }
+        }
+    }
+
+    public EstatisticasCache estatisticas() {
+        return new EstatisticasCache(acertos.sum(), falhas.sum(), despejos.sum(), tamanho());
+    }
+
+    private Segmento<K, V> segmento(K chave) {
+        int h = chave.hashCode();
+        h ^= h >>> 16;
+        return segmentos[Math.floorMod(h, segmentos.length)];
+    }
+
+    @SuppressWarnings("serial")
+    private static final class Segmento<K, V> extends LinkedHashMap<K, V> {
+
+        private final int capacidade;
+        private final LongAdder despejos;
+
+        Segmento(int capacidade, LongAdder despejos) {
+            super(16, 0.75f, true);
+            this.capacidade = capacidade;
+            this.despejos = despejos;
+        }
+
+        @Override
+        protected boolean removeEldestEntry(Map.Entry<K, V> maisAntigo) {
+            if (size() > capacidade) {
+                despejos.increment();
+                return true;
+            }
+            return false;
+        }
+    }
+
+}
@@ -0,0 +1,44 @@
+package me.josecomparotto.financialcalc.core.cache;
+
+// Fotografia dos contadores de um CacheLru.
+public final class EstatisticasCache {
+
+    private final long acertos;
+    private final long falhas;
+    private final long despejos;
+    private final int tamanho;
+
+    public EstatisticasCache(long acertos, long falhas, long despejos, int tamanho) {
+        this.acertos = acertos;
+        this.falhas = falhas;
+        this.despejos = despejos;
+        this.tamanho = tamanho;
+    }
+
+    public long getAcertos() {
+        return acertos;
+    }
+
+    public long getFalhas() {
+        return falhas;
+    }
+
+    public long getDespejos() {
+        return despejos;
+    }
+
+    public int getTamanho() {
+        return tamanho;
+    }
+
+    public double getTaxaAcerto() {
+        long consultas = acertos + falhas;
+        return consultas == 0 ? 0.0 : (double) acertos / consultas;
+    }
+
+    @Override
+    public String toString() {
+        return "acertos=" + acertos + ", falhas=" + falhas + ", despejos=" + despejos + ", tamanho=" + tamanho;
+    }
+
+}
@@ -0,0 +1,217 @@
+package me.josecomparotto.financialcalc.core.calendario;
+
+import me.josecomparotto.financialcalc.core.juros.ConversorTaxas;
+import me.josecomparotto.financialcalc.core.parcelas.ICalculadoraParcelas;
+import me.josecomparotto.financialcalc.core.parcelas.MotorCalculo;
+import me.josecomparotto.financialcalc.core.parcelas.Parcela;
+import me.josecomparotto.financialcalc.core.parcelas.SistemaAmortizacao;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+
+// Cronogramas mensais com datas de vencimento reais, prorrogadas para o
+// próximo dia útil pelo CalendarioDiasUteis. calcular devolve o cronograma da
+// calculadora do sistema sem alteração, só com as datas. calcularProRata cobra
+// juros pro rata die entre as datas efetivas: a taxa é mensal, capitalizada por
+// dias corridos na base de 30 dias, e os juros de um período de d dias são
+// saldo * ((1 + i)^(d/30) - 1), arredondados na escala do resultado. No SAC,
+// amortizações e saldos são os da calculadora e a parcela é amortização + juros.
+// No PRICE a prestação é recalculada para que o valor presente das parcelas,
+// descontado pelas datas efetivas, seja o principal; a última parcela absorve o
+// resíduo do arredondamento e zera o saldo. SEM_JUROS usa o cronograma da
+// calculadora.
+public final class CalculadoraCronogramaDatado {
+
+    private final SistemaAmortizacao sistema;
+    private final ICalculadoraParcelas calculadora;
+    private final MathContext mcCalculo;
+    private final int scale;
+    private final RoundingMode rm;
+    private final CalendarioDiasUteis calendario;
+    private final ConversorTaxas conversor;
+
+    public CalculadoraCronogramaDatado(SistemaAmortizacao sistema, MathContext mcCalculo, MathContext mcResultado,
+            MotorCalculo motor, CalendarioDiasUteis calendario) {
+        if (sistema == null) {
+            throw new IllegalArgumentException("Sistema de amortização deve ser fornecido");
+        }
+        if (calendario == null) {
+            throw new IllegalArgumentException("Calendário deve ser fornecido");
+        }
+        this.sistema = sistema;
+        this.mcCalculo = mcCalculo == null ? MathContext.DECIMAL128 : mcCalculo;
+        MathContext resultado = mcResultado == null ? new MathContext(2, RoundingMode.HALF_UP) : mcResultado;
+        this.calculadora = sistema.criarCalculadora(this.mcCalculo, resultado, motor);
+        this.scale = resultado.getPrecision() > 0 ? resultado.getPrecision() : 2;
+        this.rm = resultado.getRoundingMode() == null ? RoundingMode.HALF_UP : resultado.getRoundingMode();
+        this.calendario = calendario;
+        this.conversor = new ConversorTaxas(this.mcCalculo);
+    }
+
+    public CronogramaDatado calcular(BigDecimal valorPrincipal, BigDecimal taxaJuros, Integer numeroParcelas,
+            LocalDate primeiroVencimento) {
+        Iterator<Parcela> parcelas = calculadora.iterarParcelas(valorPrincipal, taxaJuros, numeroParcelas);
+        long[] vencimentos = calendario.vencimentos(primeiroVencimento, numeroParcelas);
+        List<Parcela> lista = new ArrayList<>(numeroParcelas);
+        parcelas.forEachRemaining(lista::add);
+        return new CronogramaDatado(lista, vencimentos);
+    }
+
+    public CronogramaDatado calcularProRata(BigDecimal valorPrincipal, BigDecimal taxaJuros, Integer numeroParcelas,
+            LocalDate dataLiberacao, LocalDate primeiroVencimento) {
+        validarProRata(valorPrincipal, taxaJuros, numeroParcelas, dataLiberacao);
+        long[] vencimentos = calendario.vencimentos(primeiroVencimento, numeroParcelas);
+        long liberacao = dataLiberacao.toEpochDay();
+        if (vencimentos[0] <= liberacao) {
+            throw new IllegalArgumentException("Primeiro vencimento deve ser posterior à data de liberação");
+        }
+        List<Parcela> lista = switch (sistema) {
+            case PRICE -> proRataPrice(valorPrincipal, fatoresDiarios(taxaJuros), liberacao, vencimentos);
+            case SAC -> proRataSac(calculadora.iterarParcelas(valorPrincipal, taxaJuros, numeroParcelas),
+                    valorPrincipal, fatoresDiarios(taxaJuros), liberacao, vencimentos);
+            case SEM_JUROS -> {
+                List<Parcela> semJuros = new ArrayList<>(numeroParcelas);
+                calculadora.iterarParcelas(valorPrincipal, taxaJuros, numeroParcelas).forEachRemaining(semJuros::add);
+                yield semJuros;
+            }
+        };
+        return new CronogramaDatado(lista, vencimentos);
+    }
+
+    // O PRICE pro rata não passa pela calculadora do sistema, então as regras
+    // dela (taxa positiva) são conferidas aqui; SAC e SEM_JUROS as conferem ao
+    // criar o iterador.
+    private void validarProRata(BigDecimal valorPrincipal, BigDecimal taxaJuros, Integer numeroParcelas,
+            LocalDate dataLiberacao) {
+        if (valorPrincipal == null) {
+            throw new IllegalArgumentException("Valor principal deve ser fornecido");
+        }
+        if (numeroParcelas == null || numeroParcelas <= 0) {
+            throw new IllegalArgumentException("Número de parcelas deve ser positivo e diferente de zero");
+        }
+        if (sistema == SistemaAmortizacao.PRICE && (taxaJuros == null || taxaJuros.signum() <= 0)) {
+            throw new IllegalArgumentException("Taxa de juros deve ser positiva e diferente de zero");
+        }
+        if (dataLiberacao == null) {
+            throw new IllegalArgumentException("Data de liberação deve ser fornecida");
+        }
+    }
+
+    // O saldo exato antes da série k é V - (k - 1) * a, como na CalculadoraParcelasSac.
+    private List<Parcela> proRataSac(Iterator<Parcela> parcelas, BigDecimal valorPrincipal, FatoresDiarios fatores,
+            long liberacao, long[] vencimentos) {
+        BigDecimal valorAmortizacao = valorPrincipal.divide(BigDecimal.valueOf(vencimentos.length), mcCalculo);
+        List<Parcela> lista = new ArrayList<>(vencimentos.length);
+        long anterior = liberacao;
+        for (int k = 0; k < vencimentos.length; k++) {
+            Parcela p = parcelas.next();
+            BigDecimal saldo = valorPrincipal.subtract(valorAmortizacao.multiply(BigDecimal.valueOf(k)));
+            BigDecimal juros = saldo.multiply(fatores.taxa((int) (vencimentos[k] - anterior))).setScale(scale, rm);
+            p.setValorJuros(juros);
+            p.setValorParcela(p.getValorAmortizacao().add(juros));
+            lista.add(p);
+            anterior = vencimentos[k];
+        }
+        return lista;
+    }
+
+    // Prestação P = V / sum(v_k), com v_k o fator de desconto da liberação até o
+    // k-ésimo vencimento. Os valores arredondados seguem a CalculadoraParcelasPrice:
+    // amortização = saldo arredondado anterior - saldo arredondado, juros = P - amortização.
+    private List<Parcela> proRataPrice(BigDecimal valorPrincipal, FatoresDiarios fatores, long liberacao,
+            long[] vencimentos) {
+        BigDecimal soma = BigDecimal.ZERO;
+        BigDecimal desconto = BigDecimal.ONE;
+        long anterior = liberacao;
+        for (long vencimento : vencimentos) {
+            desconto = desconto.multiply(fatores.desconto((int) (vencimento - anterior)), mcCalculo);
+            soma = soma.add(desconto, mcCalculo);
+            anterior = vencimento;
+        }
+        BigDecimal prestacao = valorPrincipal.divide(soma, mcCalculo).setScale(scale, rm);
+
+        List<Parcela> lista = new ArrayList<>(vencimentos.length);
+        BigDecimal saldo = valorPrincipal;
+        BigDecimal saldoArred = valorPrincipal.setScale(scale, rm);
+        anterior = liberacao;
+        for (int k = 0; k < vencimentos.length; k++) {
+            BigDecimal juros = saldo.multiply(fatores.taxa((int) (vencimentos[k] - anterior)), mcCalculo);
+            Parcela p = new Parcela();
+            p.setSerie(k + 1);
+            if (k == vencimentos.length - 1) {
+                BigDecimal valorParcela = saldo.add(juros).setScale(scale, rm);
+                p.setValorParcela(valorParcela);
+                p.setValorAmortizacao(saldoArred);
+                p.setValorJuros(valorParcela.subtract(saldoArred));
+                p.setSaldoDevedor(BigDecimal.ZERO.setScale(scale));
+            } else {
+                BigDecimal novoSaldo = saldo.add(juros).subtract(prestacao);
+                BigDecimal novoSaldoArred = novoSaldo.setScale(scale, rm);
+                BigDecimal amortizacao = saldoArred.subtract(novoSaldoArred);
+                p.setValorParcela(prestacao);
+                p.setValorAmortizacao(amortizacao);
+                p.setValorJuros(prestacao.subtract(amortizacao));
+                p.setSaldoDevedor(novoSaldoArred);
+                saldo = novoSaldo;
+                saldoArred = novoSaldoArred;
+            }
+            lista.add(p);
+            anterior = vencimentos[k];
+        }
+        return lista;
+    }
+
+    // Taxa diária equivalente (base 30 dias corridos por mês), guardada no
+    // cache do conversor entre chamadas com a mesma taxa.
+    private FatoresDiarios fatoresDiarios(BigDecimal taxaMensal) {
+        BigDecimal taxaDiaria = conversor.equivalente(taxaMensal, ConversorTaxas.Periodo.MES, ConversorTaxas.Periodo.DIA);
+        return new FatoresDiarios(BigDecimal.ONE.add(taxaDiaria), mcCalculo);
+    }
+
+    // Taxa (1 + i)^(d/30) - 1 e desconto (1 + i)^(-d/30) de períodos de d dias,
+    // calculados a partir do fator diário (1 + i)^(1/30) e guardados por d: um
+    // cronograma mensal só tem uns poucos comprimentos de período distintos.
+    private static final class FatoresDiarios {
+
+        private final BigDecimal diario;
+        private final MathContext mc;
+        private BigDecimal[] taxas = new BigDecimal[40];
+        private BigDecimal[] descontos = new BigDecimal[40];
+
+        FatoresDiarios(BigDecimal diario, MathContext mc) {
+            this.diario = diario;
+            this.mc = mc;
+        }
+
+        BigDecimal taxa(int dias) {
+            garantir(dias);
+            if (taxas[dias] == null) {
+                taxas[dias] = diario.pow(dias, mc).subtract(BigDecimal.ONE, mc);
+            }
+            return taxas[dias];
+        }
+
+        BigDecimal desconto(int dias) {
+            garantir(dias);
+            if (descontos[dias] == null) {
+                descontos[dias] = BigDecimal.ONE.divide(diario.pow(dias, mc), mc);
+            }
+            return descontos[dias];
+        }
+
+        private void garantir(int dias) {
+            if (dias >= taxas.length) {
+                int tamanho = Math.max(dias + 1, taxas.length * 2);
+                taxas = Arrays.copyOf(taxas, tamanho);
+                descontos = Arrays.copyOf(descontos, tamanho);
+            }
+        }
+    }
+
+}
@@ -0,0 +1,42 @@
+package me.josecomparotto.financialcalc.core.calendario;
+
+import me.josecomparotto.financialcalc.core.parcelas.Parcela;
+
+import java.time.LocalDate;
+import java.util.Collections;
+import java.util.List;
+
+// Cronograma com a data de vencimento de cada parcela. As datas ficam em um
+// long[] de epoch-days alinhado às parcelas; o LocalDate só é criado sob demanda.
+public final class CronogramaDatado {
+
+    private final List<Parcela> parcelas;
+    private final long[] vencimentos;
+
+    CronogramaDatado(List<Parcela> parcelas, long[] vencimentos) {
+        this.parcelas = Collections.unmodifiableList(parcelas);
+        this.vencimentos = vencimentos;
+    }
+
+    public int tamanho() {
+        return vencimentos.length;
+    }
+
+    public List<Parcela> getParcelas() {
+        return parcelas;
+    }
+
+    public Parcela getParcela(int indice) {
+        return parcelas.get(indice);
+    }
+
+    // Vencimento (epoch-day) da parcela de índice 'indice', a partir de 0.
+    public long getDiaVencimento(int indice) {
+        return vencimentos[indice];
+    }
+
+    public LocalDate getVencimento(int indice) {
+        return LocalDate.ofEpochDay(vencimentos[indice]);
+    }
+
+}
@@ -0,0 +1,56 @@
+package me.josecomparotto.financialcalc.core.calendario;
+
+import java.time.LocalDate;
+import java.util.ArrayList;
+import java.util.List;
+
+// Feriados nacionais em que não há expediente bancário (calendário da ANBIMA):
+// os fixos, o Dia Nacional de Zumbi e da Consciência Negra a partir de 2024
+// (Lei 14.759/2023) e os móveis derivados da Páscoa (Carnaval, Sexta-feira
+// Santa e Corpus Christi). Feriados estaduais e municipais não entram.
+public final class FeriadosBrasil {
+
+    private FeriadosBrasil() {
+    }
+
+    public static List<LocalDate> feriados(int ano) {
+        LocalDate pascoa = pascoa(ano);
+        List<LocalDate> feriados = new ArrayList<>(13);
+        feriados.add(LocalDate.of(ano, 1, 1));
+        feriados.add(pascoa.minusDays(48));
+        feriados.add(pascoa.minusDays(47));
+        feriados.add(pascoa.minusDays(2));
+        feriados.add(LocalDate.of(ano, 4, 21));
+        feriados.add(LocalDate.of(ano, 5, 1));
+        feriados.add(pascoa.plusDays(60));
+        feriados.add(LocalDate.of(ano, 9, 7));
+        feriados.add(LocalDate.of(ano, 10, 12));
+        feriados.add(LocalDate.of(ano, 11, 2));
+        feriados.add(LocalDate.of(ano, 11, 15));
+        if (ano >= 2024) {
+            feriados.add(LocalDate.of(ano, 11, 20));
+        }
+        feriados.add(LocalDate.of(ano, 12, 25));
+        return feriados;
+    }
+
+    // Domingo de Páscoa no calendário gregoriano (algoritmo de Meeus/Jones/Butcher).
+    public static LocalDate pascoa(int ano) {
+        int a = ano % 19;
+        int b = ano / 100;
+        int c = ano % 100;
+        int d = b / 4;
+        int e = b % 4;
+        int f = (b + 8) / 25;
+        int g = (b - f + 1) / 3;
+        int h = (19 * a + b - d - g + 15) % 30;
+        int i = c / 4;
+        int k = c % 4;
+        int l = (32 + 2 * e + 2 * i - h - k) % 7;
+        int m = (a + 11 * h + 22 * l) / 451;
+        int mes = (h + l - 7 * m + 114) / 31;
+        int dia = (h + l - 7 * m + 114) % 31 + 1;
+        return LocalDate.of(ano, mes, dia);
+    }
+
+}
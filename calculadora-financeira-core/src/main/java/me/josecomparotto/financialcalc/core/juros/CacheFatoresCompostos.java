@@ -0,0 +1,50 @@
+package me.josecomparotto.financialcalc.core.juros;
+
+import me.josecomparotto.financialcalc.core.cache.CacheLru;
+import me.josecomparotto.financialcalc.core.cache.EstatisticasCache;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+
+// Cache dos fatores de capitalização (1 + i)^t, chaveados por (taxa, tempo,
+// MathContext). Pode ser compartilhado entre calculadoras e threads.
+// A taxa é comparada com equals: 0.1 e 0.10 são chaves distintas, pois o
+// fator resultante pode diferir na escala.
+public class CacheFatoresCompostos {
+
+    public static final int CAPACIDADE_PADRAO = 4096;
+
+    private final CacheLru<Chave, BigDecimal> cache;
+
+    public CacheFatoresCompostos() {
+        this(CAPACIDADE_PADRAO);
+    }
+
+    public CacheFatoresCompostos(int capacidade) {
+        this.cache = new CacheLru<>(capacidade);
+    }
+
+    public BigDecimal fator(BigDecimal taxaJuros, int tempo, MathContext mc) {
+        return cache.obter(new Chave(taxaJuros, tempo, mc), CacheFatoresCompostos::calcular);
+    }
+
+    public EstatisticasCache estatisticas() {
+        return cache.estatisticas();
+    }
+
+    public void limpar() {
+        cache.limpar();
+    }
+
+    static BigDecimal calcular(BigDecimal taxaJuros, int tempo, MathContext mc) {
+        return BigDecimal.ONE.add(taxaJuros, mc).pow(tempo, mc);
+    }
+
+    private static BigDecimal calcular(Chave chave) {
+        return calcular(chave.taxaJuros(), chave.tempo(), chave.mc());
+    }
+
+    private record Chave(BigDecimal taxaJuros, int tempo, MathContext mc) {
+    }
+
+}
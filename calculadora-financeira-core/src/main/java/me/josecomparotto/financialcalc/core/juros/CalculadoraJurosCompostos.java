@@ -1,23 +1,65 @@
 package me.josecomparotto.financialcalc.core.juros;
 
+import me.josecomparotto.financialcalc.core.adaptativo.AvaliacaoAdaptativa;
+
 import java.math.BigDecimal;
 import java.math.MathContext;
 import java.math.RoundingMode;
 
 public class CalculadoraJurosCompostos implements ICalculadoraJuros<BigDecimal, BigDecimal, Integer> {
 
+    // Acima disto o limite de erro do double deixa de ser útil.
+    private static final int TEMPO_MAXIMO_DOUBLE = 1_000_000;
+
     private final MathContext mc;
+    private final CacheFatoresCompostos cache;
+    private final AvaliacaoAdaptativa avaliacao;
 
     public CalculadoraJurosCompostos() {
         this.mc = MathContext.DECIMAL128;
+        this.cache = null;
+        this.avaliacao = null;
     }
 
     public CalculadoraJurosCompostos(MathContext mc) {
         this.mc = mc;
+        this.cache = null;
+        this.avaliacao = null;
+    }
+
+    // Com cache, o fator (1 + i)^t é calculado uma única vez por (taxa, tempo, mc).
+    public CalculadoraJurosCompostos(MathContext mc, CacheFatoresCompostos cache) {
+        this(mc, cache, null);
+    }
+
+    // Com avaliação adaptativa, o montante é calculado primeiro em double e só
+    // recai no fator em BigDecimal quando o arredondamento não é garantido.
+    public CalculadoraJurosCompostos(MathContext mc, CacheFatoresCompostos cache, AvaliacaoAdaptativa avaliacao) {
+        this.mc = mc;
+        this.cache = cache;
+        this.avaliacao = avaliacao;
     }
 
     @Override
     public BigDecimal calcularMontante(BigDecimal principal, BigDecimal taxaJuros, Integer tempo, Integer precisao) {
+        validar(principal, taxaJuros, tempo, precisao);
+        return calcularMontanteAdaptativo(principal, taxaJuros, tempo, precisao);
+    }
+
+    @Override
+    public BigDecimal calcularJuros(BigDecimal principal, BigDecimal taxaJuros, Integer tempo, Integer precisao) {
+        BigDecimal montante = calcularMontante(principal, taxaJuros, tempo, precisao);
+        return calcularJuros(principal, montante, precisao);
+    }
+
+    // Montante e juros com um único cálculo do fator de capitalização.
+    public ResultadoJuros calcularMontanteEJuros(BigDecimal principal, BigDecimal taxaJuros, Integer tempo, Integer precisao) {
+        validar(principal, taxaJuros, tempo, precisao);
+        BigDecimal montante = calcularMontanteAdaptativo(principal, taxaJuros, tempo, precisao);
+        return new ResultadoJuros(montante, calcularJuros(principal, montante, precisao));
+    }
+
+    private void validar(BigDecimal principal, BigDecimal taxaJuros, Integer tempo, Integer precisao) {
         if (principal == null || taxaJuros == null || tempo == null || precisao == null) {
             throw new IllegalArgumentException("Todos os argumentos devem ser fornecidos");
         }
@@ -27,15 +69,50 @@ public class CalculadoraJurosCompostos implements ICalculadoraJuros<BigDecimal,
         if (taxaJuros.signum() < 0) {
             throw new IllegalArgumentException("taxa de juros não pode ser negativa em juros compostos");
         }
+    }
+
+    private BigDecimal fator(BigDecimal taxaJuros, int tempo) {
+        return cache == null
+                ? CacheFatoresCompostos.calcular(taxaJuros, tempo, mc)
+                : cache.fator(taxaJuros, tempo, mc);
+    }
+
+    private BigDecimal calcularMontanteAdaptativo(BigDecimal principal, BigDecimal taxaJuros, int tempo, int precisao) {
+        if (avaliacao != null) {
+            long unidades = montanteDouble(principal.setScale(precisao, RoundingMode.HALF_UP), taxaJuros, tempo);
+            avaliacao.registrar(unidades != AvaliacaoAdaptativa.SEM_CERTIFICADO);
+            if (unidades != AvaliacaoAdaptativa.SEM_CERTIFICADO) {
+                return BigDecimal.valueOf(unidades, precisao);
+            }
+        }
+        return calcularMontante(principal, fator(taxaJuros, tempo), precisao);
+    }
+
+    // Montante em unidades de 10^-precisao, calculado em double como
+    // exp(t * log1p(i)). Com u = 2^-53 e z = t * log1p(i): log1p erra 1 ulp
+    // (2u) mais u herdado da taxa, o produto por t mais u, e o erro absoluto
+    // de z vira relativo no exp; exp erra 1 ulp e o produto final u, somando
+    // (4|z| + 3)u. O caminho em BigDecimal acumula até t + 3 arredondamentos
+    // em mc (1 + i, potência e produto).
+    private long montanteDouble(BigDecimal principalArred, BigDecimal taxaJuros, int tempo) {
+        if (principalArred.unscaledValue().bitLength() > 52 || tempo > TEMPO_MAXIMO_DOUBLE) {
+            return AvaliacaoAdaptativa.SEM_CERTIFICADO;
+        }
+        double z = tempo * Math.log1p(taxaJuros.doubleValue());
+        double montante = principalArred.unscaledValue().longValue() * Math.exp(z);
+        double erroRelativo = (4 * Math.abs(z) + 3) * AvaliacaoAdaptativa.U * 1.01
+                + (tempo + 3) * AvaliacaoAdaptativa.erroRelativo(mc);
+        return AvaliacaoAdaptativa.arredondarMeioParaCima(montante, Math.abs(montante) * erroRelativo);
+    }
+
+    private BigDecimal calcularMontante(BigDecimal principal, BigDecimal fator, Integer precisao) {
         return principal
             .setScale(precisao, RoundingMode.HALF_UP)
-            .multiply(BigDecimal.ONE.add(taxaJuros, mc).pow(tempo, mc), mc)
+            .multiply(fator, mc)
             .setScale(precisao, RoundingMode.HALF_UP);
     }
 
-    @Override
-    public BigDecimal calcularJuros(BigDecimal principal, BigDecimal taxaJuros, Integer tempo, Integer precisao) {
-        BigDecimal montante = calcularMontante(principal, taxaJuros, tempo, precisao);
+    private BigDecimal calcularJuros(BigDecimal principal, BigDecimal montante, Integer precisao) {
         return montante
             .subtract(principal, mc)
             .setScale(precisao, RoundingMode.HALF_UP);
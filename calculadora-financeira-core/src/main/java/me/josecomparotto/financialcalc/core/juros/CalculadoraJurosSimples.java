@@ -1,5 +1,7 @@
 package me.josecomparotto.financialcalc.core.juros;
 
+import me.josecomparotto.financialcalc.core.adaptativo.AvaliacaoAdaptativa;
+
 import java.math.BigDecimal;
 import java.math.MathContext;
 import java.math.RoundingMode;
@@ -7,13 +9,22 @@ import java.math.RoundingMode;
 public class CalculadoraJurosSimples implements ICalculadoraJuros<BigDecimal, BigDecimal, Integer> {
 
     private final MathContext mc;
+    private final AvaliacaoAdaptativa avaliacao;
 
     public CalculadoraJurosSimples() {
         this.mc = MathContext.DECIMAL128;
+        this.avaliacao = null;
     }
 
     public CalculadoraJurosSimples(MathContext mc) {
+        this(mc, null);
+    }
+
+    // Com avaliação adaptativa, os juros são calculados primeiro em double e só
+    // recaem em BigDecimal quando o arredondamento não é garantido.
+    public CalculadoraJurosSimples(MathContext mc, AvaliacaoAdaptativa avaliacao) {
         this.mc = mc;
+        this.avaliacao = avaliacao;
     }
 
     @Override
@@ -27,13 +38,31 @@ public class CalculadoraJurosSimples implements ICalculadoraJuros<BigDecimal, Bi
         if (taxaJuros.signum() < 0) {
             throw new IllegalArgumentException("taxa de juros não pode ser negativa em juros simples");
         }
-        return principal
-                .setScale(precisao, RoundingMode.HALF_UP)
+        BigDecimal principalArred = principal.setScale(precisao, RoundingMode.HALF_UP);
+        if (avaliacao != null) {
+            long unidades = jurosDouble(principalArred, taxaJuros, tempo);
+            avaliacao.registrar(unidades != AvaliacaoAdaptativa.SEM_CERTIFICADO);
+            if (unidades != AvaliacaoAdaptativa.SEM_CERTIFICADO) {
+                return BigDecimal.valueOf(unidades, precisao);
+            }
+        }
+        return principalArred
                 .multiply(taxaJuros, mc)
                 .multiply(BigDecimal.valueOf(tempo), mc)
                 .setScale(precisao, RoundingMode.HALF_UP);
     }
 
+    // Juros em unidades de 10^-precisao, calculados em double: taxa u e dois
+    // produtos u cada (t é exato); o caminho em BigDecimal arredonda duas vezes em mc.
+    private long jurosDouble(BigDecimal principalArred, BigDecimal taxaJuros, int tempo) {
+        if (principalArred.unscaledValue().bitLength() > 52) {
+            return AvaliacaoAdaptativa.SEM_CERTIFICADO;
+        }
+        double juros = principalArred.unscaledValue().longValue() * taxaJuros.doubleValue() * tempo;
+        double erroRelativo = 3 * AvaliacaoAdaptativa.U * 1.01 + 2 * AvaliacaoAdaptativa.erroRelativo(mc);
+        return AvaliacaoAdaptativa.arredondarMeioParaCima(juros, Math.abs(juros) * erroRelativo);
+    }
+
     @Override
     public BigDecimal calcularMontante(BigDecimal principal, BigDecimal taxaJuros, Integer tempo, Integer precisao) {
         BigDecimal juros = calcularJuros(principal, taxaJuros, tempo, precisao);
@@ -0,0 +1,201 @@
+package me.josecomparotto.financialcalc.core.juros;
+
+import me.josecomparotto.financialcalc.core.cache.CacheLru;
+import me.josecomparotto.financialcalc.core.cache.EstatisticasCache;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.MathContext;
+import java.util.Locale;
+
+// Conversão de taxas entre periodicidades. A taxa equivalente (juros compostos)
+// de i ao período de origem é (1 + i)^(p/q) - 1, com p/q a razão entre os
+// períodos de destino e de origem, e a proporcional (juros simples) é i * p/q.
+// Os períodos são medidos em frações do ano: 360 dias corridos (ano comercial),
+// 252 dias úteis, 12 meses, 4 trimestres, 2 semestres.
+// BigDecimal não tem potência fracionária: ela é calculada com uma semente em
+// double e passos de Newton com dígitos de guarda, até o passo ficar abaixo da
+// última casa, e o resultado é arredondado para o MathContext. A convergência é
+// quadrática, então bastam dois ou três passos para DECIMAL128. As taxas
+// equivalentes ficam em um cache LRU por (taxa, origem, destino), já que os
+// produtos publicam poucas taxas distintas; a taxa é comparada com equals, como
+// em CacheFatoresCompostos.
+public class ConversorTaxas {
+
+    public static final int CAPACIDADE_PADRAO = 1024;
+
+    // Dígitos além da precisão pedida nos cálculos intermediários: cobrem o
+    // cancelamento em (1 + i)^(p/q) - 1 para taxas de até 1e-15.
+    private static final int DIGITOS_GUARDA = 20;
+    private static final int MAXIMO_PASSOS = 50;
+
+    public enum Periodo {
+        DIA("a.d.", 360),
+        DIA_UTIL("a.d.u.", 252),
+        MES("a.m.", 12),
+        TRIMESTRE("a.t.", 4),
+        SEMESTRE("a.s.", 2),
+        ANO("a.a.", 1);
+
+        private final String sufixo;
+        private final int porAno;
+
+        Periodo(String sufixo, int porAno) {
+            this.sufixo = sufixo;
+            this.porAno = porAno;
+        }
+
+        public String getSufixo() {
+            return sufixo;
+        }
+
+        public int getPorAno() {
+            return porAno;
+        }
+
+        // Aceita o sufixo com ou sem o ponto final e em qualquer caixa ("a.a", "A.M.").
+        public static Periodo doSufixo(String sufixo) {
+            if (sufixo != null) {
+                String normalizado = sufixo.trim().toLowerCase(Locale.ROOT);
+                for (Periodo periodo : values()) {
+                    if (periodo.sufixo.equals(normalizado) || periodo.sufixo.equals(normalizado + ".")) {
+                        return periodo;
+                    }
+                }
+            }
+            throw new IllegalArgumentException("Sufixo de taxa desconhecido: " + sufixo);
+        }
+    }
+
+    private final MathContext mc;
+    private final CacheLru<Chave, BigDecimal> cache;
+
+    public ConversorTaxas() {
+        this(MathContext.DECIMAL128);
+    }
+
+    public ConversorTaxas(MathContext mc) {
+        this(mc, CAPACIDADE_PADRAO);
+    }
+
+    public ConversorTaxas(MathContext mc, int capacidadeCache) {
+        this.mc = validar(mc == null ? MathContext.DECIMAL128 : mc);
+        this.cache = new CacheLru<>(capacidadeCache);
+    }
+
+    // Taxa equivalente no período de destino (juros compostos).
+    public BigDecimal equivalente(BigDecimal taxa, Periodo origem, Periodo destino) {
+        validar(taxa, origem, destino);
+        if (origem == destino) {
+            return taxa.round(mc);
+        }
+        return cache.obter(new Chave(taxa, origem, destino), this::calcular);
+    }
+
+    // Taxa proporcional no período de destino (juros simples).
+    public BigDecimal proporcional(BigDecimal taxa, Periodo origem, Periodo destino) {
+        validar(taxa, origem, destino);
+        return taxa.multiply(BigDecimal.valueOf(origem.porAno))
+                .divide(BigDecimal.valueOf(destino.porAno), mc);
+    }
+
+    public MathContext getMathContext() {
+        return mc;
+    }
+
+    public EstatisticasCache estatisticas() {
+        return cache.estatisticas();
+    }
+
+    public void limpar() {
+        cache.limpar();
+    }
+
+    private BigDecimal calcular(Chave chave) {
+        int p = chave.origem().porAno;
+        int q = chave.destino().porAno;
+        BigDecimal fator = potenciaNewton(BigDecimal.ONE.add(chave.taxa()), p, q, trabalho(mc));
+        return fator.subtract(BigDecimal.ONE).round(mc);
+    }
+
+    // a^(p/q), para a > 0 e q > 0, na precisão de 'mc'.
+    public static BigDecimal potencia(BigDecimal a, int p, int q, MathContext mc) {
+        return potenciaNewton(a, p, q, trabalho(validar(mc))).round(mc);
+    }
+
+    // Raiz n-ésima de a > 0, na precisão de 'mc'.
+    public static BigDecimal raiz(BigDecimal a, int n, MathContext mc) {
+        return raizNewton(a, n, trabalho(validar(mc))).round(mc);
+    }
+
+    // a^(p/q) sem o arredondamento final: 'mc' já inclui os dígitos de guarda.
+    private static BigDecimal potenciaNewton(BigDecimal a, int p, int q, MathContext mc) {
+        if (q <= 0) {
+            throw new IllegalArgumentException("Denominador do expoente deve ser positivo");
+        }
+        int mdc = BigInteger.valueOf(p).gcd(BigInteger.valueOf(q)).intValue();
+        if (mdc > 1) {
+            p /= mdc;
+            q /= mdc;
+        }
+        BigDecimal base = p >= 0 ? a.pow(p, mc) : BigDecimal.ONE.divide(a.pow(-p, mc), mc);
+        return raizNewton(base, q, mc);
+    }
+
+    private static MathContext trabalho(MathContext mc) {
+        return new MathContext(mc.getPrecision() + DIGITOS_GUARDA, mc.getRoundingMode());
+    }
+
+    private static BigDecimal raizNewton(BigDecimal a, int n, MathContext mc) {
+        if (a == null || a.signum() <= 0) {
+            throw new IllegalArgumentException("Raiz definida apenas para valores positivos");
+        }
+        if (n <= 0) {
+            throw new IllegalArgumentException("Índice da raiz deve ser positivo");
+        }
+        if (n == 1) {
+            return a.round(mc);
+        }
+        BigDecimal x = semente(a, n, mc);
+        BigDecimal bn = BigDecimal.valueOf(n);
+        for (int passo = 0; passo < MAXIMO_PASSOS; passo++) {
+            BigDecimal potencia = x.pow(n - 1, mc);
+            BigDecimal delta = x.multiply(potencia, mc).subtract(a, mc).divide(bn.multiply(potencia, mc), mc);
+            x = x.subtract(delta, mc);
+            if (delta.signum() == 0 || delta.abs().compareTo(x.ulp()) <= 0) {
+                break;
+            }
+        }
+        return x;
+    }
+
+    // a^(1/n) em double, calculado pelo logaritmo decimal para não estourar
+    // quando 'a' sai da faixa do double.
+    private static BigDecimal semente(BigDecimal a, int n, MathContext mc) {
+        int expoente = a.precision() - a.scale() - 1;
+        double log10 = expoente + Math.log10(a.scaleByPowerOfTen(-expoente).doubleValue());
+        double log10Raiz = log10 / n;
+        double inteiro = Math.floor(log10Raiz);
+        return new BigDecimal(Math.pow(10, log10Raiz - inteiro), mc).scaleByPowerOfTen((int) inteiro);
+    }
+
+    private static MathContext validar(MathContext mc) {
+        if (mc.getPrecision() == 0) {
+            throw new IllegalArgumentException("Conversão de taxas exige MathContext com precisão finita");
+        }
+        return mc;
+    }
+
+    private static void validar(BigDecimal taxa, Periodo origem, Periodo destino) {
+        if (taxa == null || taxa.compareTo(BigDecimal.ONE.negate()) <= 0) {
+            throw new IllegalArgumentException("Taxa deve ser fornecida e maior que -100%");
+        }
+        if (origem == null || destino == null) {
+            throw new IllegalArgumentException("Períodos de origem e destino devem ser fornecidos");
+        }
+    }
+
+    private record Chave(BigDecimal taxa, Periodo origem, Periodo destino) {
+    }
+
+}
@@ -0,0 +1,23 @@
+package me.josecomparotto.financialcalc.core.juros;
+
+import java.math.BigDecimal;
+
+public final class ResultadoJuros {
+
+    private final BigDecimal montante;
+    private final BigDecimal juros;
+
+    public ResultadoJuros(BigDecimal montante, BigDecimal juros) {
+        this.montante = montante;
+        this.juros = juros;
+    }
+
+    public BigDecimal getMontante() {
+        return montante;
+    }
+
+    public BigDecimal getJuros() {
+        return juros;
+    }
+
+}
@@ -0,0 +1,61 @@
+package me.josecomparotto.financialcalc.core.metricas;
+
+import me.josecomparotto.financialcalc.core.juros.ICalculadoraJuros;
+
+import java.math.MathContext;
+
+// Decorador que mede cada chamada a uma ICalculadoraJuros em MetricasCalculo e
+// emite um EventoCalculo, com o tempo no lugar do prazo e a precisão pedida na
+// chamada (0 quando nula) como precisão do resultado.
+public final class CalculadoraJurosInstrumentada<MoneyType extends Number, RateType extends Number, TimeType extends Number>
+        implements ICalculadoraJuros<MoneyType, RateType, TimeType> {
+
+    private final ICalculadoraJuros<MoneyType, RateType, TimeType> delegada;
+    private final String calculadora;
+    private final MathContext mcCalculo;
+    private final MetricasCalculo metricas;
+
+    public CalculadoraJurosInstrumentada(ICalculadoraJuros<MoneyType, RateType, TimeType> delegada, String calculadora,
+                                         MathContext mcCalculo, MetricasCalculo metricas) {
+        if (delegada == null || calculadora == null || mcCalculo == null || metricas == null) {
+            throw new IllegalArgumentException("Calculadora, nome, contexto e métricas devem ser fornecidos");
+        }
+        this.delegada = delegada;
+        this.calculadora = calculadora;
+        this.mcCalculo = mcCalculo;
+        this.metricas = metricas;
+    }
+
+    public ICalculadoraJuros<MoneyType, RateType, TimeType> getDelegada() {
+        return delegada;
+    }
+
+    @Override
+    public MoneyType calcularJuros(MoneyType principal, RateType taxaJuros, TimeType tempo, Integer precisao) {
+        Medicao medicao = Medicao.iniciar(metricas);
+        if (medicao == null) {
+            return delegada.calcularJuros(principal, taxaJuros, tempo, precisao);
+        }
+        MoneyType juros = delegada.calcularJuros(principal, taxaJuros, tempo, precisao);
+        medicao.pausar();
+        concluir(medicao, "calcularJuros", tempo, precisao);
+        return juros;
+    }
+
+    @Override
+    public MoneyType calcularMontante(MoneyType principal, RateType taxaJuros, TimeType tempo, Integer precisao) {
+        Medicao medicao = Medicao.iniciar(metricas);
+        if (medicao == null) {
+            return delegada.calcularMontante(principal, taxaJuros, tempo, precisao);
+        }
+        MoneyType montante = delegada.calcularMontante(principal, taxaJuros, tempo, precisao);
+        medicao.pausar();
+        concluir(medicao, "calcularMontante", tempo, precisao);
+        return montante;
+    }
+
+    private void concluir(Medicao medicao, String operacao, TimeType tempo, Integer precisao) {
+        medicao.concluir(calculadora, operacao, mcCalculo, precisao == null ? 0 : precisao, tempo.intValue(), 0);
+    }
+
+}
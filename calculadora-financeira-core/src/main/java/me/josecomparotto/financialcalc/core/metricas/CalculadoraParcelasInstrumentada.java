@@ -0,0 +1,151 @@
+package me.josecomparotto.financialcalc.core.metricas;
+
+import me.josecomparotto.financialcalc.core.parcelas.CronogramaColunar;
+import me.josecomparotto.financialcalc.core.parcelas.ICalculadoraParcelas;
+import me.josecomparotto.financialcalc.core.parcelas.Parcela;
+import me.josecomparotto.financialcalc.core.parcelas.ResumoParcelas;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+// Decorador que mede cada chamada a uma ICalculadoraParcelas em MetricasCalculo
+// e emite um EventoCalculo. Os resultados são os da delegada; chamadas que
+// lançam exceção não são registradas.
+//
+// Em iterarParcelas (e streamParcelas) a latência e a alocação somam só o tempo
+// dentro da delegada, e a chamada é registrada quando o iterador se esgota;
+// iteradores abandonados antes do fim não entram nas métricas. O evento cobre
+// do início ao fim do consumo. calcularResumo conta zero parcelas geradas,
+// já que as calculadoras o obtêm sem gerar o cronograma quando podem.
+public final class CalculadoraParcelasInstrumentada implements ICalculadoraParcelas {
+
+    private final ICalculadoraParcelas delegada;
+    private final String calculadora;
+    private final MathContext mcCalculo;
+    private final int precisaoResultado;
+    private final MetricasCalculo metricas;
+
+    // 'calculadora' identifica a delegada nas métricas (por exemplo, o nome do
+    // SistemaAmortizacao); os MathContext são os usados para criá-la.
+    public CalculadoraParcelasInstrumentada(ICalculadoraParcelas delegada, String calculadora,
+                                            MathContext mcCalculo, MathContext mcResultado,
+                                            MetricasCalculo metricas) {
+        if (delegada == null || calculadora == null || mcCalculo == null || mcResultado == null || metricas == null) {
+            throw new IllegalArgumentException("Calculadora, nome, contextos e métricas devem ser fornecidos");
+        }
+        this.delegada = delegada;
+        this.calculadora = calculadora;
+        this.mcCalculo = mcCalculo;
+        this.precisaoResultado = mcResultado.getPrecision();
+        this.metricas = metricas;
+    }
+
+    public ICalculadoraParcelas getDelegada() {
+        return delegada;
+    }
+
+    @Override
+    public List<Parcela> calcularParcelas(BigDecimal valorPrincipal, BigDecimal taxaJuros, Integer numeroParcelas) {
+        Medicao medicao = Medicao.iniciar(metricas);
+        if (medicao == null) {
+            return delegada.calcularParcelas(valorPrincipal, taxaJuros, numeroParcelas);
+        }
+        List<Parcela> parcelas = delegada.calcularParcelas(valorPrincipal, taxaJuros, numeroParcelas);
+        medicao.pausar();
+        concluir(medicao, "calcularParcelas", numeroParcelas, parcelas.size());
+        return parcelas;
+    }
+
+    @Override
+    public Iterator<Parcela> iterarParcelas(BigDecimal valorPrincipal, BigDecimal taxaJuros, Integer numeroParcelas) {
+        Medicao medicao = Medicao.iniciar(metricas);
+        if (medicao == null) {
+            return delegada.iterarParcelas(valorPrincipal, taxaJuros, numeroParcelas);
+        }
+        Iterator<Parcela> parcelas = delegada.iterarParcelas(valorPrincipal, taxaJuros, numeroParcelas);
+        medicao.pausar();
+        return new IteradorInstrumentado(parcelas, medicao, numeroParcelas);
+    }
+
+    @Override
+    public CronogramaColunar calcularCronograma(BigDecimal valorPrincipal, BigDecimal taxaJuros,
+                                               Integer numeroParcelas) {
+        Medicao medicao = Medicao.iniciar(metricas);
+        if (medicao == null) {
+            return delegada.calcularCronograma(valorPrincipal, taxaJuros, numeroParcelas);
+        }
+        CronogramaColunar cronograma = delegada.calcularCronograma(valorPrincipal, taxaJuros, numeroParcelas);
+        medicao.pausar();
+        concluir(medicao, "calcularCronograma", numeroParcelas, cronograma.tamanho());
+        return cronograma;
+    }
+
+    @Override
+    public Parcela calcularParcela(BigDecimal valorPrincipal, BigDecimal taxaJuros, Integer numeroParcelas,
+                                   int serie) {
+        Medicao medicao = Medicao.iniciar(metricas);
+        if (medicao == null) {
+            return delegada.calcularParcela(valorPrincipal, taxaJuros, numeroParcelas, serie);
+        }
+        Parcela parcela = delegada.calcularParcela(valorPrincipal, taxaJuros, numeroParcelas, serie);
+        medicao.pausar();
+        concluir(medicao, "calcularParcela", numeroParcelas, 1);
+        return parcela;
+    }
+
+    @Override
+    public ResumoParcelas calcularResumo(BigDecimal valorPrincipal, BigDecimal taxaJuros, Integer numeroParcelas) {
+        Medicao medicao = Medicao.iniciar(metricas);
+        if (medicao == null) {
+            return delegada.calcularResumo(valorPrincipal, taxaJuros, numeroParcelas);
+        }
+        ResumoParcelas resumo = delegada.calcularResumo(valorPrincipal, taxaJuros, numeroParcelas);
+        medicao.pausar();
+        concluir(medicao, "calcularResumo", numeroParcelas, 0);
+        return resumo;
+    }
+
+    private void concluir(Medicao medicao, String operacao, int prazo, long parcelas) {
+        medicao.concluir(calculadora, operacao, mcCalculo, precisaoResultado, prazo, parcelas);
+    }
+
+    private final class IteradorInstrumentado implements Iterator<Parcela> {
+
+        private final Iterator<Parcela> parcelas;
+        private final int prazo;
+        private Medicao medicao;
+        private long geradas;
+
+        IteradorInstrumentado(Iterator<Parcela> parcelas, Medicao medicao, int prazo) {
+            this.parcelas = parcelas;
+            this.medicao = medicao;
+            this.prazo = prazo;
+        }
+
+        @Override
+        public boolean hasNext() {
+            boolean existe = parcelas.hasNext();
+            if (!existe && medicao != null) {
+                concluir(medicao, "iterarParcelas", prazo, geradas);
+                medicao = null;
+            }
+            return existe;
+        }
+
+        @Override
+        public Parcela next() {
+            if (medicao == null) {
+                throw new NoSuchElementException();
+            }
+            medicao.retomar();
+            Parcela parcela = parcelas.next();
+            medicao.pausar();
+            geradas++;
+            return parcela;
+        }
+    }
+
+}
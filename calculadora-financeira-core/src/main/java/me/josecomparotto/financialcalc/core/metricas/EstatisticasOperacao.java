@@ -0,0 +1,83 @@
+package me.josecomparotto.financialcalc.core.metricas;
+
+// Fotografia das métricas de uma (calculadora, operação, precisões, faixa de prazo).
+public final class EstatisticasOperacao {
+
+    private final String calculadora;
+    private final String operacao;
+    private final int precisaoCalculo;
+    private final int precisaoResultado;
+    private final int faixaPrazo;
+    private final long chamadas;
+    private final long parcelas;
+    private final long chamadasMedidas;
+    private final long bytesAlocados;
+    private final ResumoLatencia latencia;
+
+    EstatisticasOperacao(String calculadora, String operacao, int precisaoCalculo, int precisaoResultado,
+                         int faixaPrazo, long chamadas, long parcelas, long chamadasMedidas, long bytesAlocados,
+                         ResumoLatencia latencia) {
+        this.calculadora = calculadora;
+        this.operacao = operacao;
+        this.precisaoCalculo = precisaoCalculo;
+        this.precisaoResultado = precisaoResultado;
+        this.faixaPrazo = faixaPrazo;
+        this.chamadas = chamadas;
+        this.parcelas = parcelas;
+        this.chamadasMedidas = chamadasMedidas;
+        this.bytesAlocados = bytesAlocados;
+        this.latencia = latencia;
+    }
+
+    public String getCalculadora() {
+        return calculadora;
+    }
+
+    public String getOperacao() {
+        return operacao;
+    }
+
+    public int getPrecisaoCalculo() {
+        return precisaoCalculo;
+    }
+
+    public int getPrecisaoResultado() {
+        return precisaoResultado;
+    }
+
+    // Maior prazo da faixa (12, 60, 120, 240, 360, 480 ou Integer.MAX_VALUE).
+    public int getFaixaPrazo() {
+        return faixaPrazo;
+    }
+
+    public long getChamadas() {
+        return chamadas;
+    }
+
+    public long getParcelas() {
+        return parcelas;
+    }
+
+    // Soma das chamadas em que a alocação pôde ser medida.
+    public long getBytesAlocados() {
+        return bytesAlocados;
+    }
+
+    // Média sobre as chamadas medidas, ou -1 se nenhuma foi medida.
+    public double getBytesPorChamada() {
+        return chamadasMedidas == 0 ? -1 : (double) bytesAlocados / chamadasMedidas;
+    }
+
+    public ResumoLatencia getLatencia() {
+        return latencia;
+    }
+
+    @Override
+    public String toString() {
+        return calculadora + " " + operacao + " mc=" + precisaoCalculo + " precisao=" + precisaoResultado
+                + " prazo<=" + (faixaPrazo == Integer.MAX_VALUE ? "max" : faixaPrazo)
+                + ": chamadas=" + chamadas + ", parcelas=" + parcelas
+                + ", bytes/chamada=" + Math.round(getBytesPorChamada()) + ", " + latencia;
+    }
+
+}
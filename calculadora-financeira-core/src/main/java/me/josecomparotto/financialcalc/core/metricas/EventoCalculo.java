@@ -0,0 +1,46 @@
+package me.josecomparotto.financialcalc.core.metricas;
+
+import jdk.jfr.Category;
+import jdk.jfr.DataAmount;
+import jdk.jfr.Description;
+import jdk.jfr.Label;
+import jdk.jfr.Name;
+import jdk.jfr.StackTrace;
+
+// Evento do JDK Flight Recorder emitido pelas calculadoras instrumentadas.
+// Fora de uma gravação (-XX:StartFlightRecording ou jcmd <pid> JFR.start) não
+// custa nada além do teste de isEnabled().
+@Name("calculadorafinanceira.Calculo")
+@Label("Cálculo financeiro")
+@Category("Calculadora Financeira")
+@Description("Uma chamada a uma calculadora de parcelas ou de juros")
+@StackTrace(false)
+final class EventoCalculo extends jdk.jfr.Event {
+
+    @Label("Calculadora")
+    String calculadora;
+
+    @Label("Operação")
+    String operacao;
+
+    @Label("Prazo")
+    @Description("Número de parcelas, ou tempo nos juros")
+    int prazo;
+
+    @Label("Precisão de cálculo")
+    int precisaoCalculo;
+
+    @Label("Arredondamento")
+    String arredondamento;
+
+    @Label("Precisão do resultado")
+    int precisaoResultado;
+
+    @Label("Parcelas geradas")
+    long parcelas;
+
+    @Label("Bytes alocados")
+    @DataAmount
+    long bytesAlocados;
+
+}
@@ -0,0 +1,68 @@
+package me.josecomparotto.financialcalc.core.metricas;
+
+import java.util.concurrent.atomic.AtomicLongArray;
+import java.util.concurrent.atomic.LongAccumulator;
+import java.util.concurrent.atomic.LongAdder;
+
+// Histograma de latências em nanossegundos com baldes log-lineares, no estilo
+// do HdrHistogram: valores abaixo de 16 têm balde próprio e cada potência de
+// dois acima disso é dividida em 16 baldes, então um percentil difere do valor
+// real em no máximo 1/16. Registrar é um incremento atômico, sem trava, e a
+// memória é fixa (960 contadores) qualquer que seja o número de registros.
+public final class HistogramaLatencia {
+
+    private static final int BITS_SUBDIVISAO = 4;
+    private static final int SUBDIVISOES = 1 << BITS_SUBDIVISAO;
+    static final int BALDES = SUBDIVISOES + (63 - BITS_SUBDIVISAO) * SUBDIVISOES;
+
+    private final AtomicLongArray contagens = new AtomicLongArray(BALDES);
+    private final LongAdder soma = new LongAdder();
+    private final LongAccumulator maximo = new LongAccumulator(Math::max, 0);
+
+    public void registrar(long nanos) {
+        long valor = Math.max(nanos, 0);
+        contagens.getAndIncrement(indice(valor));
+        soma.add(valor);
+        maximo.accumulate(valor);
+    }
+
+    // Fotografia dos contadores. Registros concorrentes podem ou não entrar,
+    // mas o total é sempre a soma dos baldes copiados.
+    public ResumoLatencia resumo() {
+        long[] copia = new long[BALDES];
+        for (int k = 0; k < BALDES; k++) {
+            copia[k] = contagens.get(k);
+        }
+        return new ResumoLatencia(copia, soma.sum(), maximo.get());
+    }
+
+    // Não é atômico em relação a registros concorrentes.
+    public void zerar() {
+        for (int k = 0; k < BALDES; k++) {
+            contagens.set(k, 0);
+        }
+        soma.reset();
+        maximo.reset();
+    }
+
+    static int indice(long valor) {
+        if (valor < SUBDIVISOES) {
+            return (int) valor;
+        }
+        int expoente = 63 - Long.numberOfLeadingZeros(valor);
+        int mantissa = (int) (valor >>> (expoente - BITS_SUBDIVISAO)) & (SUBDIVISOES - 1);
+        return SUBDIVISOES + (expoente - BITS_SUBDIVISAO) * SUBDIVISOES + mantissa;
+    }
+
+    // Maior valor que cai no balde 'indice'.
+    static long limiteSuperior(int indice) {
+        if (indice < SUBDIVISOES) {
+            return indice;
+        }
+        int expoente = (indice - SUBDIVISOES) / SUBDIVISOES + BITS_SUBDIVISAO;
+        int mantissa = (indice - SUBDIVISOES) % SUBDIVISOES;
+        long largura = 1L << (expoente - BITS_SUBDIVISAO);
+        return (SUBDIVISOES + mantissa) * largura + largura - 1;
+    }
+
+}
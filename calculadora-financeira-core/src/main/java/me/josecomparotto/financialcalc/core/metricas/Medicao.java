@@ -0,0 +1,75 @@
+package me.josecomparotto.financialcalc.core.metricas;
+
+import java.math.MathContext;
+
+// Tempo, alocação e EventoCalculo de uma chamada instrumentada. A medição pode
+// ser pausada e retomada (iteradores medem só o tempo dentro de next()).
+final class Medicao {
+
+    private final MetricasCalculo metricas;
+    private final boolean registrar;
+    private final EventoCalculo evento;
+    private long nanos;
+    private long bytes;
+    private long inicio;
+    private long bytesInicio;
+
+    private Medicao(MetricasCalculo metricas, boolean registrar, EventoCalculo evento) {
+        this.metricas = metricas;
+        this.registrar = registrar;
+        this.evento = evento;
+    }
+
+    // null quando nem as métricas nem o evento estão ativos: a chamada segue
+    // direto para a calculadora sem medir nada.
+    static Medicao iniciar(MetricasCalculo metricas) {
+        boolean registrar = metricas.isAtiva();
+        if (!registrar && !eventoHabilitado()) {
+            return null;
+        }
+        EventoCalculo evento = new EventoCalculo();
+        evento.begin();
+        Medicao medicao = new Medicao(metricas, registrar, evento);
+        medicao.retomar();
+        return medicao;
+    }
+
+    // O evento não escapa daqui, então a alocação é eliminada pelo JIT.
+    private static boolean eventoHabilitado() {
+        return new EventoCalculo().isEnabled();
+    }
+
+    void retomar() {
+        bytesInicio = registrar ? metricas.bytesAlocados() : -1;
+        inicio = System.nanoTime();
+    }
+
+    void pausar() {
+        nanos += System.nanoTime() - inicio;
+        if (bytes >= 0) {
+            long fim = bytesInicio < 0 ? -1 : metricas.bytesAlocados();
+            bytes = fim < 0 ? -1 : bytes + (fim - bytesInicio);
+        }
+    }
+
+    // Chamar depois de pausar().
+    void concluir(String calculadora, String operacao, MathContext mcCalculo, int precisaoResultado,
+                  int prazo, long parcelas) {
+        if (registrar) {
+            metricas.registrar(calculadora, operacao, mcCalculo, precisaoResultado, prazo, nanos, parcelas, bytes);
+        }
+        evento.end();
+        if (evento.shouldCommit()) {
+            evento.calculadora = calculadora;
+            evento.operacao = operacao;
+            evento.prazo = prazo;
+            evento.precisaoCalculo = mcCalculo.getPrecision();
+            evento.arredondamento = mcCalculo.getRoundingMode().name();
+            evento.precisaoResultado = precisaoResultado;
+            evento.parcelas = parcelas;
+            evento.bytesAlocados = bytes;
+            evento.commit();
+        }
+    }
+
+}
@@ -0,0 +1,128 @@
+package me.josecomparotto.financialcalc.core.metricas;
+
+import java.lang.management.ManagementFactory;
+import java.lang.management.ThreadMXBean;
+import java.math.MathContext;
+import java.util.ArrayList;
+import java.util.Comparator;
+import java.util.List;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.atomic.LongAdder;
+
+// Registro de métricas das calculadoras instrumentadas: chamadas, latência,
+// parcelas geradas e bytes alocados por (calculadora, operação, precisões,
+// faixa de prazo). Uma instância pode ser compartilhada por várias
+// calculadoras e threads; os contadores são LongAdder e o histograma não trava.
+//
+// Desativada (setAtiva(false)), as calculadoras instrumentadas vão direto à
+// delegada, com custo de uma leitura volátil por chamada, a menos que haja uma
+// gravação do JDK Flight Recorder com EventoCalculo habilitado.
+public final class MetricasCalculo {
+
+    // Limites superiores das faixas de prazo; acima do último, Integer.MAX_VALUE.
+    private static final int[] FAIXAS_PRAZO = {12, 60, 120, 240, 360, 480};
+
+    private static final com.sun.management.ThreadMXBean ALOCACAO = beanAlocacao();
+
+    private final ConcurrentHashMap<Chave, Acumulador> acumuladores = new ConcurrentHashMap<>();
+    private final boolean medirAlocacao;
+    private volatile boolean ativa = true;
+
+    public MetricasCalculo() {
+        this(true);
+    }
+
+    // A medição de alocação soma duas leituras do contador da thread por chamada;
+    // é ignorada quando a JVM não a suporta (ou em virtual threads).
+    public MetricasCalculo(boolean medirAlocacao) {
+        this.medirAlocacao = medirAlocacao && ALOCACAO != null;
+    }
+
+    public boolean isAtiva() {
+        return ativa;
+    }
+
+    public void setAtiva(boolean ativa) {
+        this.ativa = ativa;
+    }
+
+    // Uma entrada por chave com ao menos uma chamada, em ordem de calculadora,
+    // operação, precisões e faixa de prazo.
+    public List<EstatisticasOperacao> estatisticas() {
+        List<EstatisticasOperacao> estatisticas = new ArrayList<>(acumuladores.size());
+        acumuladores.forEach((chave, acumulador) -> estatisticas.add(acumulador.fotografar(chave)));
+        estatisticas.sort(Comparator.comparing(EstatisticasOperacao::getCalculadora)
+                .thenComparing(EstatisticasOperacao::getOperacao)
+                .thenComparingInt(EstatisticasOperacao::getPrecisaoCalculo)
+                .thenComparingInt(EstatisticasOperacao::getPrecisaoResultado)
+                .thenComparingInt(EstatisticasOperacao::getFaixaPrazo));
+        return estatisticas;
+    }
+
+    public void zerar() {
+        acumuladores.clear();
+    }
+
+    // Bytes alocados pela thread atual até agora, ou -1 sem medição.
+    long bytesAlocados() {
+        return medirAlocacao ? ALOCACAO.getCurrentThreadAllocatedBytes() : -1;
+    }
+
+    void registrar(String calculadora, String operacao, MathContext mcCalculo, int precisaoResultado,
+                   int prazo, long nanos, long parcelas, long bytes) {
+        Chave chave = new Chave(calculadora, operacao, mcCalculo.getPrecision(), precisaoResultado, faixaPrazo(prazo));
+        Acumulador acumulador = acumuladores.get(chave);
+        if (acumulador == null) {
+            acumulador = acumuladores.computeIfAbsent(chave, c -> new Acumulador());
+        }
+        acumulador.chamadas.increment();
+        acumulador.parcelas.add(parcelas);
+        if (bytes >= 0) {
+            acumulador.chamadasMedidas.increment();
+            acumulador.bytes.add(bytes);
+        }
+        acumulador.latencia.registrar(nanos);
+    }
+
+    static int faixaPrazo(int prazo) {
+        for (int limite : FAIXAS_PRAZO) {
+            if (prazo <= limite) {
+                return limite;
+            }
+        }
+        return Integer.MAX_VALUE;
+    }
+
+    private static com.sun.management.ThreadMXBean beanAlocacao() {
+        try {
+            ThreadMXBean bean = ManagementFactory.getThreadMXBean();
+            if (bean instanceof com.sun.management.ThreadMXBean sun
+                    && sun.isThreadAllocatedMemorySupported() && sun.isThreadAllocatedMemoryEnabled()) {
+                return sun;
+            }
+        } catch (LinkageError | RuntimeException e) {
+            // sem jdk.management: segue sem medir alocação
+        }
+        return null;
+    }
+
+    private record Chave(String calculadora, String operacao, int precisaoCalculo, int precisaoResultado,
+                         int faixaPrazo) {
+    }
+
+    private static final class Acumulador {
+
+        final LongAdder chamadas = new LongAdder();
+        final LongAdder parcelas = new LongAdder();
+        final LongAdder chamadasMedidas = new LongAdder();
+        final LongAdder bytes = new LongAdder();
+        final HistogramaLatencia latencia = new HistogramaLatencia();
+
+        EstatisticasOperacao fotografar(Chave chave) {
+            return new EstatisticasOperacao(chave.calculadora(), chave.operacao(), chave.precisaoCalculo(),
+                    chave.precisaoResultado(), chave.faixaPrazo(), chamadas.sum(), parcelas.sum(),
+                    chamadasMedidas.sum(), bytes.sum(), latencia.resumo());
+        }
+    }
+
+}
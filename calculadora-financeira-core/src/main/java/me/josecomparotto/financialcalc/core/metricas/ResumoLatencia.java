@@ -0,0 +1,60 @@
+package me.josecomparotto.financialcalc.core.metricas;
+
+// Fotografia de um HistogramaLatencia. Valores em nanossegundos.
+public final class ResumoLatencia {
+
+    private final long[] contagens;
+    private final long total;
+    private final long soma;
+    private final long maximo;
+
+    ResumoLatencia(long[] contagens, long soma, long maximo) {
+        this.contagens = contagens;
+        long total = 0;
+        for (long contagem : contagens) {
+            total += contagem;
+        }
+        this.total = total;
+        this.soma = soma;
+        this.maximo = maximo;
+    }
+
+    public long getTotal() {
+        return total;
+    }
+
+    public long getMaximo() {
+        return maximo;
+    }
+
+    public double getMedia() {
+        return total == 0 ? 0.0 : (double) soma / total;
+    }
+
+    // Menor limite de balde que cobre 'percentual' % dos registros (0 < percentual <= 100),
+    // nunca acima do máximo registrado.
+    public long percentil(double percentual) {
+        if (!(percentual > 0 && percentual <= 100)) {
+            throw new IllegalArgumentException("Percentual deve estar entre 0 (exclusive) e 100");
+        }
+        if (total == 0) {
+            return 0;
+        }
+        long posicao = Math.max(1, (long) Math.ceil(percentual / 100 * total));
+        long acumulado = 0;
+        for (int k = 0; k < contagens.length; k++) {
+            acumulado += contagens[k];
+            if (acumulado >= posicao) {
+                return Math.min(HistogramaLatencia.limiteSuperior(k), maximo);
+            }
+        }
+        return maximo;
+    }
+
+    @Override
+    public String toString() {
+        return "total=" + total + ", media=" + Math.round(getMedia()) + "ns, p50=" + percentil(50)
+                + "ns, p99=" + percentil(99) + "ns, max=" + maximo + "ns";
+    }
+
+}
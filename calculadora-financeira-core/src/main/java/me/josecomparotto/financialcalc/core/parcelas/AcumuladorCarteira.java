@@ -0,0 +1,109 @@
+package me.josecomparotto.financialcalc.core.parcelas;
+
+import java.math.BigDecimal;
+import java.util.Iterator;
+import java.util.function.Consumer;
+
+// Totais por período de parte de uma carteira, em long não escalado. Cada
+// divisão do stream paralelo tem o seu (sem sincronização) e eles são
+// combinados no fim. No motor CENTAVOS as linhas vêm direto do gerador, sem
+// criar Parcela; nos demais casos cada Parcela é convertida para a escala comum.
+final class AcumuladorCarteira {
+
+    private static final int SEM_ESCALA = -1;
+
+    private final long[] parcelas;
+    private final long[] amortizacoes;
+    private final long[] juros;
+    private final long[] saldos;
+    private final Consumer<GeradorCentavos> linhaGerador = this::adicionar;
+    private final Consumer<Parcela> linhaParcela = this::adicionar;
+    private int escala = SEM_ESCALA;
+    private long contratos;
+    // Período da série 0 do contrato corrente.
+    private int deslocamento;
+
+    AcumuladorCarteira(int horizonte) {
+        this.parcelas = new long[horizonte];
+        this.amortizacoes = new long[horizonte];
+        this.juros = new long[horizonte];
+        this.saldos = new long[horizonte];
+    }
+
+    void adicionar(ContratoParcelamento contrato, ICalculadoraParcelas calculadora) {
+        Iterator<Parcela> linhas = calculadora.iterarParcelas(contrato.getValorPrincipal(), contrato.getTaxaJuros(),
+                contrato.getNumeroParcelas());
+        deslocamento = contrato.getPeriodoInicial() - 1;
+        if (linhas instanceof IteradorCentavos centavos) {
+            centavos.percorrer(linhaGerador, linhaParcela);
+        } else {
+            linhas.forEachRemaining(linhaParcela);
+        }
+        contratos++;
+    }
+
+    private void adicionar(GeradorCentavos gerador) {
+        int periodo = deslocamento + gerador.serie;
+        if (periodo < 0 || periodo >= parcelas.length) {
+            return;
+        }
+        definirEscala(gerador.escala);
+        // No sem juros a coluna de juros tem escala 0, mas é sempre zero.
+        long valorJuros = gerador.escalaJuros() == escala ? gerador.juros
+                : Math.multiplyExact(gerador.juros, GeradorCentavos.potenciaDez(escala - gerador.escalaJuros()));
+        somar(periodo, gerador.parcela, gerador.amortizacao, valorJuros, gerador.saldo);
+    }
+
+    private void adicionar(Parcela parcela) {
+        int periodo = deslocamento + parcela.getSerie();
+        if (periodo < 0 || periodo >= parcelas.length) {
+            return;
+        }
+        definirEscala(parcela.getValorParcela().scale());
+        somar(periodo, naoEscalado(parcela.getValorParcela()), naoEscalado(parcela.getValorAmortizacao()),
+                naoEscalado(parcela.getValorJuros()), naoEscalado(parcela.getSaldoDevedor()));
+    }
+
+    private void somar(int periodo, long parcela, long amortizacao, long valorJuros, long saldo) {
+        parcelas[periodo] = Math.addExact(parcelas[periodo], parcela);
+        amortizacoes[periodo] = Math.addExact(amortizacoes[periodo], amortizacao);
+        juros[periodo] = Math.addExact(juros[periodo], valorJuros);
+        saldos[periodo] = Math.addExact(saldos[periodo], saldo);
+    }
+
+    private void definirEscala(int escalaLinha) {
+        if (escala == SEM_ESCALA) {
+            escala = escalaLinha;
+        } else if (escala != escalaLinha) {
+            throw new IllegalArgumentException("Contratos com escalas diferentes (" + escala + " e " + escalaLinha
+                    + ") na mesma projeção");
+        }
+    }
+
+    private long naoEscalado(BigDecimal valor) {
+        long v = GeradorCentavos.naoEscalado(valor, escala);
+        if (v == GeradorCentavos.FORA_DO_INTERVALO) {
+            throw new IllegalArgumentException("Valor " + valor + " não cabe na escala " + escala + " da projeção");
+        }
+        return v;
+    }
+
+    void combinar(AcumuladorCarteira outro) {
+        if (outro.escala != SEM_ESCALA) {
+            definirEscala(outro.escala);
+        }
+        for (int t = 0; t < parcelas.length; t++) {
+            parcelas[t] = Math.addExact(parcelas[t], outro.parcelas[t]);
+            amortizacoes[t] = Math.addExact(amortizacoes[t], outro.amortizacoes[t]);
+            juros[t] = Math.addExact(juros[t], outro.juros[t]);
+            saldos[t] = Math.addExact(saldos[t], outro.saldos[t]);
+        }
+        contratos += outro.contratos;
+    }
+
+    // Sem nenhuma parcela no horizonte, os totais ficam na escala 2.
+    FluxoCarteira resultado() {
+        return new FluxoCarteira(escala == SEM_ESCALA ? 2 : escala, contratos, parcelas, amortizacoes, juros, saldos);
+    }
+
+}
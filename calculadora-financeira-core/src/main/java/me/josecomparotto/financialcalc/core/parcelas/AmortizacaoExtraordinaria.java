@@ -0,0 +1,45 @@
+package me.josecomparotto.financialcalc.core.parcelas;
+
+import java.math.BigDecimal;
+
+// Pagamento extra feito junto com a parcela da série 'serie' (0 = antes da
+// primeira), abatido do saldo devedor após essa parcela.
+public final class AmortizacaoExtraordinaria {
+
+    private final int serie;
+    private final BigDecimal valor;
+    private final ModoAmortizacaoExtraordinaria modo;
+
+    public AmortizacaoExtraordinaria(int serie, BigDecimal valor, ModoAmortizacaoExtraordinaria modo) {
+        if (serie < 0) {
+            throw new IllegalArgumentException("Série da amortização extraordinária não pode ser negativa");
+        }
+        if (valor == null || valor.signum() <= 0) {
+            throw new IllegalArgumentException("Valor da amortização extraordinária deve ser positivo");
+        }
+        if (modo == null) {
+            throw new IllegalArgumentException("Modo da amortização extraordinária deve ser fornecido");
+        }
+        this.serie = serie;
+        this.valor = valor;
+        this.modo = modo;
+    }
+
+    public int getSerie() {
+        return serie;
+    }
+
+    public BigDecimal getValor() {
+        return valor;
+    }
+
+    public ModoAmortizacaoExtraordinaria getModo() {
+        return modo;
+    }
+
+    @Override
+    public String toString() {
+        return "AmortizacaoExtraordinaria{serie=" + serie + ", valor=" + valor + ", modo=" + modo + "}";
+    }
+
+}
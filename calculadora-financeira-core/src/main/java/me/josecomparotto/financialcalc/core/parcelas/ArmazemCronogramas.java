@@ -0,0 +1,349 @@
+package me.josecomparotto.financialcalc.core.parcelas;
+
+import java.io.IOException;
+import java.io.UncheckedIOException;
+import java.math.BigDecimal;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.function.Consumer;
+
+// Armazém em disco de cronogramas pré-calculados, fora do heap: as parcelas
+// ficam em registros de largura fixa em arquivos mapeados em memória
+// (MappedByteBuffer) e só viram Parcela quando lidas. Um índice de contrato para
+// deslocamento dá acesso O(1) a qualquer parcela.
+// O diretório guarda dois arquivos, little-endian. parcelas.dat tem um registro
+// de 40 bytes por parcela: parcela, amortização, juros e saldo (int64 não
+// escalados), série (int32) e 4 bytes reservados. contratos.dat tem um
+// cabeçalho de 32 bytes (magic "CFAR", versão, número de contratos e de
+// parcelas) e uma entrada de 32 bytes por contrato, com o id, o primeiro
+// registro, a quantidade de parcelas e a escala de cada coluna.
+// A escrita é só por acréscimo: as parcelas de um contrato são gravadas após as
+// existentes, depois a entrada do índice e por último os contadores do
+// cabeçalho, de modo que um contrato interrompido no meio não aparece ao
+// reabrir. As páginas alteradas chegam ao disco pelo sistema operacional;
+// sincronizar força a gravação. O índice em memória (uma tabela de int) é
+// reconstruído ao abrir a partir das entradas do arquivo.
+public final class ArmazemCronogramas implements AutoCloseable {
+
+    static final String ARQUIVO_PARCELAS = "parcelas.dat";
+    static final String ARQUIVO_CONTRATOS = "contratos.dat";
+
+    static final int MAGIC = 0x52414643; // "CFAR" em little-endian
+    static final short VERSAO = 1;
+    static final int TAMANHO_REGISTRO = 40;
+    static final int TAMANHO_ENTRADA = 32;
+    static final int TAMANHO_CABECALHO = 32;
+
+    private static final int REGISTROS_POR_BLOCO = 1 << 20;
+    private static final int ENTRADAS_POR_BLOCO = 1 << 16;
+    private static final int SEM_ESCALA = Integer.MIN_VALUE;
+
+    private final ArquivoMapeado parcelas;
+    private final ArquivoMapeado contratos;
+    private final Consumer<GeradorCentavos> linhaGerador = this::gravar;
+    private final Consumer<Parcela> linhaParcela = this::gravar;
+    private long quantidadeContratos;
+    private long quantidadeParcelas;
+    // Entrada + 1 de cada contrato, endereçada pelo id (sondagem linear).
+    private int[] tabela;
+    private boolean fechado;
+
+    // Contrato sendo gravado.
+    private final int[] escalas = new int[4];
+    private long proximoRegistro;
+
+    public ArmazemCronogramas(Path diretorio) throws IOException {
+        if (diretorio == null) {
+            throw new IllegalArgumentException("Diretório não pode ser nulo");
+        }
+        Files.createDirectories(diretorio);
+        this.parcelas = new ArquivoMapeado(diretorio.resolve(ARQUIVO_PARCELAS), TAMANHO_REGISTRO * REGISTROS_POR_BLOCO);
+        this.contratos = new ArquivoMapeado(diretorio.resolve(ARQUIVO_CONTRATOS), TAMANHO_ENTRADA * ENTRADAS_POR_BLOCO);
+        try {
+            abrir();
+        } catch (IOException | RuntimeException e) {
+            parcelas.close();
+            contratos.close();
+            throw e;
+        }
+    }
+
+    private void abrir() throws IOException {
+        if (contratos.tamanhoArquivo() == 0) {
+            contratos.garantir(TAMANHO_CABECALHO);
+            contratos.putInt(0, MAGIC);
+            contratos.putInt(4, VERSAO);
+            contratos.putLong(8, 0);
+            contratos.putLong(16, 0);
+        } else {
+            if (contratos.tamanhoArquivo() < TAMANHO_CABECALHO) {
+                throw new IOException("Arquivo de contratos truncado");
+            }
+            contratos.garantir(TAMANHO_CABECALHO);
+            if (contratos.getInt(0) != MAGIC) {
+                throw new IOException("Arquivo de contratos inválido");
+            }
+            if (contratos.getInt(4) != VERSAO) {
+                throw new IOException("Versão do armazém não suportada: " + contratos.getInt(4));
+            }
+        }
+        quantidadeContratos = contratos.getLong(8);
+        quantidadeParcelas = contratos.getLong(16);
+        if (contratos.tamanhoArquivo() < posicaoEntrada(quantidadeContratos)
+                || parcelas.tamanhoArquivo() < quantidadeParcelas * TAMANHO_REGISTRO) {
+            throw new IOException("Armazém truncado: esperados " + quantidadeContratos + " contratos e "
+                    + quantidadeParcelas + " parcelas");
+        }
+        contratos.garantir(posicaoEntrada(quantidadeContratos));
+        parcelas.garantir(quantidadeParcelas * TAMANHO_REGISTRO);
+        tabela = new int[capacidadeTabela(quantidadeContratos)];
+        for (int entrada = 0; entrada < quantidadeContratos; entrada++) {
+            indexar(contratos.getLong(posicaoEntrada(entrada)), entrada);
+        }
+    }
+
+    // Grava o cronograma do contrato a partir do iterador de uma calculadora.
+    // No motor CENTAVOS as linhas vão direto do gerador para o arquivo, sem
+    // criar Parcela. Cada coluna é gravada na escala da primeira parcela; lança
+    // IllegalArgumentException se o contrato já estiver no armazém ou algum
+    // valor não couber em long na escala da coluna.
+    public synchronized void adicionar(long contrato, Iterator<Parcela> cronograma) throws IOException {
+        verificarAberto();
+        if (cronograma == null) {
+            throw new IllegalArgumentException("Cronograma não pode ser nulo");
+        }
+        if (buscar(contrato) >= 0) {
+            throw new IllegalArgumentException("Contrato " + contrato + " já está no armazém");
+        }
+        escalas[0] = SEM_ESCALA;
+        proximoRegistro = quantidadeParcelas;
+        try {
+            if (cronograma instanceof IteradorCentavos centavos) {
+                centavos.percorrer(linhaGerador, linhaParcela);
+            } else {
+                cronograma.forEachRemaining(linhaParcela);
+            }
+        } catch (UncheckedIOException e) {
+            throw e.getCause();
+        }
+        long quantidade = proximoRegistro - quantidadeParcelas;
+        if (quantidade > Integer.MAX_VALUE) {
+            throw new IllegalArgumentException("Cronograma com parcelas demais: " + quantidade);
+        }
+
+        long entrada = quantidadeContratos;
+        long posicao = posicaoEntrada(entrada);
+        contratos.garantir(posicao + TAMANHO_ENTRADA);
+        contratos.putLong(posicao, contrato);
+        contratos.putLong(posicao + 8, quantidadeParcelas);
+        contratos.putInt(posicao + 16, (int) quantidade);
+        for (int c = 0; c < escalas.length; c++) {
+            contratos.put(posicao + 20 + c, (byte) (quantidade == 0 ? 0 : escalas[c]));
+        }
+        contratos.putLong(16, proximoRegistro);
+        contratos.putLong(8, entrada + 1);
+        quantidadeParcelas = proximoRegistro;
+        quantidadeContratos = entrada + 1;
+        if (quantidadeContratos * 2 > tabela.length) {
+            int[] antiga = tabela;
+            tabela = new int[antiga.length * 2];
+            for (int e : antiga) {
+                if (e != 0) {
+                    indexar(contratos.getLong(posicaoEntrada(e - 1)), e - 1);
+                }
+            }
+        }
+        indexar(contrato, (int) entrada);
+    }
+
+    // Calcula e grava o cronograma do contrato.
+    public void adicionar(long contrato, ICalculadoraParcelas calculadora, BigDecimal valorPrincipal,
+            BigDecimal taxaJuros, int numeroParcelas) throws IOException {
+        if (calculadora == null) {
+            throw new IllegalArgumentException("Calculadora não pode ser nula");
+        }
+        adicionar(contrato, calculadora.iterarParcelas(valorPrincipal, taxaJuros, numeroParcelas));
+    }
+
+    private void gravar(GeradorCentavos gerador) {
+        if (escalas[0] == SEM_ESCALA) {
+            escalas[0] = gerador.escala;
+            escalas[1] = gerador.escala;
+            escalas[2] = gerador.escalaJuros();
+            escalas[3] = gerador.escala;
+        }
+        gravar(gerador.serie, gerador.parcela, gerador.amortizacao, gerador.juros, gerador.saldo);
+    }
+
+    private void gravar(Parcela parcela) {
+        if (escalas[0] == SEM_ESCALA) {
+            escalas[0] = escalaColuna(parcela.getValorParcela());
+            escalas[1] = escalaColuna(parcela.getValorAmortizacao());
+            escalas[2] = escalaColuna(parcela.getValorJuros());
+            escalas[3] = escalaColuna(parcela.getSaldoDevedor());
+        }
+        gravar(parcela.getSerie(), naoEscalado(parcela.getValorParcela(), escalas[0]),
+                naoEscalado(parcela.getValorAmortizacao(), escalas[1]),
+                naoEscalado(parcela.getValorJuros(), escalas[2]), naoEscalado(parcela.getSaldoDevedor(), escalas[3]));
+    }
+
+    private void gravar(int serie, long parcela, long amortizacao, long juros, long saldo) {
+        long posicao = proximoRegistro * TAMANHO_REGISTRO;
+        try {
+            parcelas.garantir(posicao + TAMANHO_REGISTRO);
+        } catch (IOException e) {
+            throw new UncheckedIOException(e);
+        }
+        parcelas.putLong(posicao, parcela);
+        parcelas.putLong(posicao + 8, amortizacao);
+        parcelas.putLong(posicao + 16, juros);
+        parcelas.putLong(posicao + 24, saldo);
+        parcelas.putInt(posicao + 32, serie);
+        proximoRegistro++;
+    }
+
+    private static int escalaColuna(BigDecimal valor) {
+        int escala = valor.scale();
+        if (escala < Byte.MIN_VALUE || escala > Byte.MAX_VALUE) {
+            throw new IllegalArgumentException("Escala " + escala + " fora do intervalo suportado pelo armazém");
+        }
+        return escala;
+    }
+
+    private static long naoEscalado(BigDecimal valor, int escala) {
+        long v = GeradorCentavos.naoEscalado(valor, escala);
+        if (v == GeradorCentavos.FORA_DO_INTERVALO) {
+            throw new IllegalArgumentException("Valor " + valor + " não cabe na escala " + escala + " do armazém");
+        }
+        return v;
+    }
+
+    public synchronized boolean contem(long contrato) {
+        verificarAberto();
+        return buscar(contrato) >= 0;
+    }
+
+    public synchronized int numeroParcelas(long contrato) {
+        verificarAberto();
+        return contratos.getInt(posicaoEntrada(entrada(contrato)) + 16);
+    }
+
+    // Parcela de índice 'indice' (a partir de 0) do cronograma do contrato.
+    public synchronized Parcela parcela(long contrato, int indice) {
+        verificarAberto();
+        long posicao = posicaoEntrada(entrada(contrato));
+        int quantidade = contratos.getInt(posicao + 16);
+        if (indice < 0 || indice >= quantidade) {
+            throw new IndexOutOfBoundsException("Parcela " + indice + " fora do cronograma de " + quantidade
+                    + " parcelas do contrato " + contrato);
+        }
+        return ler(contratos.getLong(posicao + 8) + indice, posicao);
+    }
+
+    // Cronograma completo do contrato, lido do arquivo.
+    public synchronized List<Parcela> cronograma(long contrato) {
+        verificarAberto();
+        long posicao = posicaoEntrada(entrada(contrato));
+        long primeiro = contratos.getLong(posicao + 8);
+        int quantidade = contratos.getInt(posicao + 16);
+        List<Parcela> lista = new ArrayList<>(quantidade);
+        for (int i = 0; i < quantidade; i++) {
+            lista.add(ler(primeiro + i, posicao));
+        }
+        return lista;
+    }
+
+    private Parcela ler(long registro, long posicaoEntrada) {
+        long posicao = registro * TAMANHO_REGISTRO;
+        Parcela p = new Parcela();
+        p.setSerie(parcelas.getInt(posicao + 32));
+        p.setValorParcela(BigDecimal.valueOf(parcelas.getLong(posicao), contratos.get(posicaoEntrada + 20)));
+        p.setValorAmortizacao(BigDecimal.valueOf(parcelas.getLong(posicao + 8), contratos.get(posicaoEntrada + 21)));
+        p.setValorJuros(BigDecimal.valueOf(parcelas.getLong(posicao + 16), contratos.get(posicaoEntrada + 22)));
+        p.setSaldoDevedor(BigDecimal.valueOf(parcelas.getLong(posicao + 24), contratos.get(posicaoEntrada + 23)));
+        return p;
+    }
+
+    public synchronized long quantidadeContratos() {
+        return quantidadeContratos;
+    }
+
+    public synchronized long quantidadeParcelas() {
+        return quantidadeParcelas;
+    }
+
+    // Força a gravação em disco das páginas alteradas (parcelas antes do índice).
+    public synchronized void sincronizar() {
+        verificarAberto();
+        parcelas.forcar();
+        contratos.forcar();
+    }
+
+    @Override
+    public synchronized void close() throws IOException {
+        if (fechado) {
+            return;
+        }
+        fechado = true;
+        try {
+            parcelas.close();
+        } finally {
+            contratos.close();
+        }
+    }
+
+    private void verificarAberto() {
+        if (fechado) {
+            throw new IllegalStateException("Armazém fechado");
+        }
+    }
+
+    private static long posicaoEntrada(long entrada) {
+        return TAMANHO_CABECALHO + entrada * TAMANHO_ENTRADA;
+    }
+
+    private static int capacidadeTabela(long contratos) {
+        int capacidade = 1024;
+        while (capacidade < contratos * 2) {
+            capacidade <<= 1;
+        }
+        return capacidade;
+    }
+
+    private static int espalhar(long id) {
+        long h = id * 0x9E3779B97F4A7C15L;
+        return (int) (h ^ (h >>> 32));
+    }
+
+    private void indexar(long contrato, int entrada) {
+        int mascara = tabela.length - 1;
+        int i = espalhar(contrato) & mascara;
+        while (tabela[i] != 0) {
+            i = (i + 1) & mascara;
+        }
+        tabela[i] = entrada + 1;
+    }
+
+    // Entrada do contrato, ou -1 se ele não estiver no armazém.
+    private long buscar(long contrato) {
+        int mascara = tabela.length - 1;
+        for (int i = espalhar(contrato) & mascara; tabela[i] != 0; i = (i + 1) & mascara) {
+            if (contratos.getLong(posicaoEntrada(tabela[i] - 1)) == contrato) {
+                return tabela[i] - 1;
+            }
+        }
+        return -1;
+    }
+
+    private long entrada(long contrato) {
+        long entrada = buscar(contrato);
+        if (entrada < 0) {
+            throw new IllegalArgumentException("Contrato " + contrato + " não está no armazém");
+        }
+        return entrada;
+    }
+
+}
@@ -0,0 +1,79 @@
+package me.josecomparotto.financialcalc.core.parcelas;
+
+import java.io.IOException;
+import java.nio.ByteOrder;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.ArrayList;
+import java.util.List;
+
+// Arquivo mapeado em blocos de tamanho fixo (um MappedByteBuffer não passa de
+// 2 GB). Os blocos são mapeados sob demanda em READ_WRITE, o que estende o
+// arquivo até o fim do bloco; o conteúdo útil é controlado por quem usa. O
+// tamanho do bloco deve ser múltiplo do tamanho dos registros, para que
+// nenhum campo atravesse dois blocos.
+final class ArquivoMapeado implements AutoCloseable {
+
+    private final FileChannel canal;
+    private final int bytesPorBloco;
+    private final List<MappedByteBuffer> blocos = new ArrayList<>();
+
+    ArquivoMapeado(Path arquivo, int bytesPorBloco) throws IOException {
+        this.canal = FileChannel.open(arquivo, StandardOpenOption.CREATE, StandardOpenOption.READ,
+                StandardOpenOption.WRITE);
+        this.bytesPorBloco = bytesPorBloco;
+    }
+
+    long tamanhoArquivo() throws IOException {
+        return canal.size();
+    }
+
+    // Mapeia os blocos necessários para acessar [0, bytes).
+    void garantir(long bytes) throws IOException {
+        while ((long) blocos.size() * bytesPorBloco < bytes) {
+            MappedByteBuffer bloco = canal.map(FileChannel.MapMode.READ_WRITE,
+                    (long) blocos.size() * bytesPorBloco, bytesPorBloco);
+            bloco.order(ByteOrder.LITTLE_ENDIAN);
+            blocos.add(bloco);
+        }
+    }
+
+    long getLong(long posicao) {
+        return blocos.get((int) (posicao / bytesPorBloco)).getLong((int) (posicao % bytesPorBloco));
+    }
+
+    int getInt(long posicao) {
+        return blocos.get((int) (posicao / bytesPorBloco)).getInt((int) (posicao % bytesPorBloco));
+    }
+
+    byte get(long posicao) {
+        return blocos.get((int) (posicao / bytesPorBloco)).get((int) (posicao % bytesPorBloco));
+    }
+
+    void putLong(long posicao, long valor) {
+        blocos.get((int) (posicao / bytesPorBloco)).putLong((int) (posicao % bytesPorBloco), valor);
+    }
+
+    void putInt(long posicao, int valor) {
+        blocos.get((int) (posicao / bytesPorBloco)).putInt((int) (posicao % bytesPorBloco), valor);
+    }
+
+    void put(long posicao, byte valor) {
+        blocos.get((int) (posicao / bytesPorBloco)).put((int) (posicao % bytesPorBloco), valor);
+    }
+
+    // Grava em disco as páginas alteradas.
+    void forcar() {
+        for (MappedByteBuffer bloco : blocos) {
+            bloco.force();
+        }
+    }
+
+    @Override
+    public void close() throws IOException {
+        canal.close();
+    }
+
+}
@@ -0,0 +1,67 @@
+package me.josecomparotto.financialcalc.core.parcelas;
+
+import me.josecomparotto.financialcalc.core.cache.CacheLru;
+import me.josecomparotto.financialcalc.core.cache.EstatisticasCache;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.math.RoundingMode;
+import java.util.function.Supplier;
+
+// Cache compartilhável (entre calculadoras e threads) do cálculo inicial do
+// PRICE, em dois níveis:
+//  - fatores de anuidade (1 + i)^-n, por (taxa, n, mcCalculo);
+//  - prestação arredondada e taxa ajustada, por (taxa, n, mcCalculo,
+//    escala/arredondamento do resultado, principal), pois ambas dependem do
+//    principal que define o valor da prestação.
+// Cada nível é um CacheLru com capacidade própria e despejo LRU.
+public class CacheFatoresPrice {
+
+    public static final int CAPACIDADE_FATORES_PADRAO = 1024;
+    public static final int CAPACIDADE_AJUSTES_PADRAO = 16384;
+
+    private final CacheLru<ChaveFatores, FatoresAnuidade> fatores;
+    private final CacheLru<ChaveAjuste, CalculadoraParcelasPrice.AjustePrestacao> ajustes;
+
+    public CacheFatoresPrice() {
+        this(CAPACIDADE_FATORES_PADRAO, CAPACIDADE_AJUSTES_PADRAO);
+    }
+
+    public CacheFatoresPrice(int capacidadeFatores, int capacidadeAjustes) {
+        this.fatores = new CacheLru<>(capacidadeFatores);
+        this.ajustes = new CacheLru<>(capacidadeAjustes);
+    }
+
+    public EstatisticasCache estatisticasFatores() {
+        return fatores.estatisticas();
+    }
+
+    public EstatisticasCache estatisticasAjustes() {
+        return ajustes.estatisticas();
+    }
+
+    public void limpar() {
+        fatores.limpar();
+        ajustes.limpar();
+    }
+
+    FatoresAnuidade fatores(BigDecimal taxaJuros, int numeroParcelas, MathContext mcCalculo) {
+        return fatores.obter(new ChaveFatores(taxaJuros, numeroParcelas, mcCalculo),
+                c -> FatoresAnuidade.calcular(c.taxaJuros(), c.numeroParcelas(), c.mcCalculo()));
+    }
+
+    CalculadoraParcelasPrice.AjustePrestacao ajuste(BigDecimal valorPrincipal, BigDecimal taxaJuros,
+            int numeroParcelas, MathContext mcCalculo, int escala, RoundingMode rm,
+            Supplier<CalculadoraParcelasPrice.AjustePrestacao> calculo) {
+        return ajustes.obter(new ChaveAjuste(taxaJuros, numeroParcelas, mcCalculo, escala, rm, valorPrincipal),
+                c -> calculo.get());
+    }
+
+    private record ChaveFatores(BigDecimal taxaJuros, int numeroParcelas, MathContext mcCalculo) {
+    }
+
+    private record ChaveAjuste(BigDecimal taxaJuros, int numeroParcelas, MathContext mcCalculo,
+            int escala, RoundingMode rm, BigDecimal valorPrincipal) {
+    }
+
+}
@@ -0,0 +1,289 @@
+package me.josecomparotto.financialcalc.core.parcelas;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.LinkedHashSet;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.RecursiveAction;
+
+// Grade de simulação PRICE (taxas x prazos) de um único principal, sem montar
+// um cronograma por célula. Em cada linha o desconto (1 + i)^-n é levado de um
+// prazo ao seguinte multiplicando por v^(n_k - n_{k-1}), com v = 1 / (1 + i),
+// em mcCalculo com dígitos extras; v^passo é reaproveitado enquanto o passo
+// entre prazos não muda. As linhas são calculadas em paralelo em um
+// ForkJoinPool próprio.
+//
+// A prestação incremental difere da calculada por CalculadoraParcelasPrice
+// (v.pow(n, mc)) apenas por alguns ulps de mcCalculo. A célula só é aceita
+// quando todo o intervalo prestação ± cota de erro arredonda para o mesmo
+// valor na escala do resultado; senão é refeita pela CalculadoraParcelasPrice.
+// Assim cada célula é idêntica à do cálculo individual.
+public class CalculadoraGradePrice implements AutoCloseable {
+
+    // Dígitos além de mcCalculo no cálculo incremental.
+    private static final int DIGITOS_EXTRAS = 10;
+
+    // Abaixo deste tamanho a tarefa não é mais dividida.
+    private static final int LIMIAR_DIVISAO = 2;
+
+    private final MathContext mcCalculo;
+    private final MathContext mcResultado;
+    private final MathContext mcIncremental;
+    private final CalculadoraParcelasPrice calculadora;
+    private final ForkJoinPool pool;
+
+    public CalculadoraGradePrice() {
+        this(Runtime.getRuntime().availableProcessors());
+    }
+
+    public CalculadoraGradePrice(int paralelismo) {
+        this(paralelismo, MathContext.DECIMAL128, new MathContext(2, RoundingMode.HALF_UP));
+    }
+
+    public CalculadoraGradePrice(int paralelismo, MathContext mcCalculo, MathContext mcResultado) {
+        if (paralelismo <= 0) {
+            throw new IllegalArgumentException("Paralelismo deve ser positivo e diferente de zero");
+        }
+        this.mcCalculo = mcCalculo == null ? MathContext.DECIMAL128 : mcCalculo;
+        this.mcResultado = mcResultado == null ? new MathContext(2, RoundingMode.HALF_UP) : mcResultado;
+        this.mcIncremental = this.mcCalculo.getPrecision() == 0
+                ? null
+                : new MathContext(this.mcCalculo.getPrecision() + DIGITOS_EXTRAS, RoundingMode.HALF_EVEN);
+        this.calculadora = new CalculadoraParcelasPrice(this.mcCalculo, this.mcResultado);
+        this.pool = new ForkJoinPool(paralelismo);
+    }
+
+    public int getParalelismo() {
+        return pool.getParallelism();
+    }
+
+    public GradePrice calcular(BigDecimal valorPrincipal, List<BigDecimal> taxas, int[] prazos) {
+        return calcular(valorPrincipal, taxas, prazos, Collections.emptyList());
+    }
+
+    // Como calcular(valorPrincipal, taxas, prazos), guardando também o
+    // cronograma completo das células em 'detalhar'.
+    public GradePrice calcular(BigDecimal valorPrincipal, List<BigDecimal> taxas, int[] prazos,
+            Collection<GradePrice.Celula> detalhar) {
+        validar(valorPrincipal, taxas, prazos, detalhar);
+        List<BigDecimal> linhas = List.copyOf(taxas);
+        int[] colunas = prazos.clone();
+        BigDecimal[] prestacoes = new BigDecimal[linhas.size() * colunas.length];
+        int[] recalculadas = new int[linhas.size()];
+        Map<GradePrice.Celula, List<Parcela>> cronogramas = new ConcurrentHashMap<>();
+        pool.invoke(new Tarefa(valorPrincipal, linhas, colunas, prestacoes, recalculadas, 0, linhas.size()));
+        if (!detalhar.isEmpty()) {
+            pool.invoke(new TarefaCronogramas(
+                    valorPrincipal, linhas, colunas, List.copyOf(new LinkedHashSet<>(detalhar)), cronogramas));
+        }
+        int total = 0;
+        for (int r : recalculadas) {
+            total += r;
+        }
+        return new GradePrice(valorPrincipal, linhas, colunas, prestacoes, Map.copyOf(cronogramas), total);
+    }
+
+    // Taxas de 'inicial' a 'final' (inclusive) com incremento 'passo'.
+    public static List<BigDecimal> faixaTaxas(BigDecimal inicial, BigDecimal fim, BigDecimal passo) {
+        if (inicial == null || fim == null || passo == null || passo.signum() <= 0) {
+            throw new IllegalArgumentException("Faixa de taxas inválida: informe início, fim e passo positivo");
+        }
+        List<BigDecimal> taxas = new ArrayList<>();
+        for (BigDecimal taxa = inicial; taxa.compareTo(fim) <= 0; taxa = taxa.add(passo)) {
+            taxas.add(taxa);
+        }
+        return taxas;
+    }
+
+    // Prazos de 'inicial' a 'final' (inclusive) com incremento 'passo'.
+    public static int[] faixaPrazos(int inicial, int fim, int passo) {
+        if (passo <= 0 || inicial > fim) {
+            throw new IllegalArgumentException("Faixa de prazos inválida: informe início <= fim e passo positivo");
+        }
+        int[] prazos = new int[(fim - inicial) / passo + 1];
+        for (int k = 0; k < prazos.length; k++) {
+            prazos[k] = inicial + k * passo;
+        }
+        return prazos;
+    }
+
+    @Override
+    public void close() {
+        pool.shutdown();
+    }
+
+    // Preenche a linha da taxa i; devolve quantas células foram recalculadas.
+    private int calcularLinha(BigDecimal valorPrincipal, BigDecimal taxaJuros, int[] prazos,
+            BigDecimal[] prestacoes, int deslocamento) {
+        int recalculadas = 0;
+        if (mcIncremental == null) {
+            for (int k = 0; k < prazos.length; k++) {
+                prestacoes[deslocamento + k] = calculadora.calcularValorParcela(valorPrincipal, taxaJuros, prazos[k]);
+            }
+            return prazos.length;
+        }
+        int scale = mcResultado.getPrecision() > 0 ? mcResultado.getPrecision() : 2;
+        RoundingMode rm = mcResultado.getRoundingMode() == null ? RoundingMode.HALF_UP : mcResultado.getRoundingMode();
+        double ulp = Math.pow(10, 1 - mcCalculo.getPrecision());
+        double ulpIncremental = Math.pow(10, 1 - mcIncremental.getPrecision());
+
+        // Mesmo v do cálculo individual (FatoresAnuidade).
+        BigDecimal v = BigDecimal.ONE.divide(BigDecimal.ONE.add(taxaJuros), mcCalculo);
+        BigDecimal numerador = valorPrincipal.multiply(taxaJuros);
+        BigDecimal desconto = BigDecimal.ONE; // v^n
+        BigDecimal descontoPasso = null; // v^passo
+        int passo = 0;
+        int anterior = 0;
+        for (int k = 0; k < prazos.length; k++) {
+            int n = prazos[k];
+            if (n - anterior != passo) {
+                passo = n - anterior;
+                descontoPasso = v.pow(passo, mcIncremental);
+            }
+            desconto = desconto.multiply(descontoPasso, mcIncremental);
+            anterior = n;
+
+            BigDecimal prestacao = null;
+            BigDecimal umMenosDesconto = BigDecimal.ONE.subtract(desconto, mcIncremental);
+            if (umMenosDesconto.signum() > 0 && rm != RoundingMode.UNNECESSARY) {
+                // Erro relativo da prestação incremental (até 3 ulps por passo)
+                // somado ao da calculada com pow(n, mcCalculo), ambos
+                // ampliados por v^n / (1 - v^n) no cancelamento, com folga 2x.
+                double vn = desconto.doubleValue();
+                double d = umMenosDesconto.doubleValue();
+                double erro = 2 * ((3.0 * n * ulpIncremental + 3 * ulp) * vn / d + 2 * ulpIncremental + 3 * ulp);
+                prestacao = certificar(numerador.divide(umMenosDesconto, mcIncremental), erro, scale, rm);
+            }
+            if (prestacao == null) {
+                prestacao = calculadora.calcularValorParcela(valorPrincipal, taxaJuros, n);
+                recalculadas++;
+            }
+            prestacoes[deslocamento + k] = prestacao;
+        }
+        return recalculadas;
+    }
+
+    // Valor arredondado comum a todo o intervalo aproximado * (1 ± erro), ou
+    // null se as extremidades arredondam para valores diferentes.
+    private static BigDecimal certificar(BigDecimal aproximado, double erro, int scale, RoundingMode rm) {
+        if (!(erro < 1e-3)) {
+            return null;
+        }
+        BigDecimal margem = aproximado.abs().multiply(new BigDecimal(erro), new MathContext(4, RoundingMode.UP));
+        BigDecimal inferior = aproximado.subtract(margem).setScale(scale, rm);
+        BigDecimal superior = aproximado.add(margem).setScale(scale, rm);
+        return inferior.equals(superior) ? inferior : null;
+    }
+
+    private static void validar(BigDecimal valorPrincipal, List<BigDecimal> taxas, int[] prazos,
+            Collection<GradePrice.Celula> detalhar) {
+        if (valorPrincipal == null) {
+            throw new IllegalArgumentException("Valor principal deve ser fornecido");
+        }
+        if (taxas == null || taxas.isEmpty()) {
+            throw new IllegalArgumentException("Taxas da grade devem ser fornecidas");
+        }
+        for (BigDecimal taxa : taxas) {
+            if (taxa == null || taxa.signum() <= 0) {
+                throw new IllegalArgumentException("Taxa de juros deve ser positiva e diferente de zero");
+            }
+        }
+        if (prazos == null || prazos.length == 0) {
+            throw new IllegalArgumentException("Prazos da grade devem ser fornecidos");
+        }
+        int anterior = 0;
+        for (int prazo : prazos) {
+            if (prazo <= anterior) {
+                throw new IllegalArgumentException("Prazos da grade devem ser positivos e crescentes");
+            }
+            anterior = prazo;
+        }
+        if (detalhar == null) {
+            throw new IllegalArgumentException("Células a detalhar devem ser fornecidas (use uma coleção vazia)");
+        }
+        for (GradePrice.Celula celula : detalhar) {
+            if (celula.linha() < 0 || celula.linha() >= taxas.size()
+                    || celula.coluna() < 0 || celula.coluna() >= prazos.length) {
+                throw new IllegalArgumentException("Célula fora da grade: " + celula.linha() + ", " + celula.coluna());
+            }
+        }
+    }
+
+    @SuppressWarnings("serial")
+    private final class Tarefa extends RecursiveAction {
+
+        private final BigDecimal valorPrincipal;
+        private final List<BigDecimal> taxas;
+        private final int[] prazos;
+        private final BigDecimal[] prestacoes;
+        private final int[] recalculadas;
+        private final int inicio;
+        private final int fim;
+
+        Tarefa(BigDecimal valorPrincipal, List<BigDecimal> taxas, int[] prazos, BigDecimal[] prestacoes,
+                int[] recalculadas, int inicio, int fim) {
+            this.valorPrincipal = valorPrincipal;
+            this.taxas = taxas;
+            this.prazos = prazos;
+            this.prestacoes = prestacoes;
+            this.recalculadas = recalculadas;
+            this.inicio = inicio;
+            this.fim = fim;
+        }
+
+        @Override
+        protected void compute() {
+            if (fim - inicio <= LIMIAR_DIVISAO) {
+                for (int linha = inicio; linha < fim; linha++) {
+                    recalculadas[linha] = calcularLinha(
+                            valorPrincipal, taxas.get(linha), prazos, prestacoes, linha * prazos.length);
+                }
+                return;
+            }
+            int meio = (inicio + fim) >>> 1;
+            invokeAll(new Tarefa(valorPrincipal, taxas, prazos, prestacoes, recalculadas, inicio, meio),
+                    new Tarefa(valorPrincipal, taxas, prazos, prestacoes, recalculadas, meio, fim));
+        }
+    }
+
+    @SuppressWarnings("serial")
+    private final class TarefaCronogramas extends RecursiveAction {
+
+        private final BigDecimal valorPrincipal;
+        private final List<BigDecimal> taxas;
+        private final int[] prazos;
+        private final List<GradePrice.Celula> celulas;
+        private final Map<GradePrice.Celula, List<Parcela>> cronogramas;
+
+        TarefaCronogramas(BigDecimal valorPrincipal, List<BigDecimal> taxas, int[] prazos,
+                List<GradePrice.Celula> celulas, Map<GradePrice.Celula, List<Parcela>> cronogramas) {
+            this.valorPrincipal = valorPrincipal;
+            this.taxas = taxas;
+            this.prazos = prazos;
+            this.celulas = celulas;
+            this.cronogramas = cronogramas;
+        }
+
+        @Override
+        protected void compute() {
+            if (celulas.size() == 1) {
+                GradePrice.Celula celula = celulas.get(0);
+                cronogramas.put(celula, List.copyOf(calculadora.calcularParcelas(
+                        valorPrincipal, taxas.get(celula.linha()), prazos[celula.coluna()])));
+                return;
+            }
+            int meio = celulas.size() >>> 1;
+            invokeAll(new TarefaCronogramas(valorPrincipal, taxas, prazos, celulas.subList(0, meio), cronogramas),
+                    new TarefaCronogramas(valorPrincipal, taxas, prazos, celulas.subList(meio, celulas.size()),
+                            cronogramas));
+        }
+    }
+
+}
@@ -0,0 +1,193 @@
+package me.josecomparotto.financialcalc.core.parcelas;
+
+import java.math.MathContext;
+import java.math.RoundingMode;
+import java.util.ArrayDeque;
+import java.util.Arrays;
+import java.util.Collection;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Map;
+import java.util.concurrent.Callable;
+import java.util.concurrent.ConcurrentHashMap;
+import java.util.concurrent.ForkJoinPool;
+import java.util.concurrent.ForkJoinTask;
+import java.util.concurrent.RecursiveAction;
+import java.util.function.Consumer;
+import java.util.function.Function;
+import java.util.stream.Stream;
+
+// Calcula cronogramas de muitos contratos em paralelo, em um ForkJoinPool
+// próprio (work-stealing). Os resultados seguem a ordem de entrada.
+// As calculadoras só guardam MathContext imutáveis, então uma instância por
+// (sistema, precisão) é compartilhada entre as threads.
+public class CalculadoraParcelasLote implements AutoCloseable {
+
+    // Abaixo deste tamanho a tarefa não é mais dividida.
+    private static final int LIMIAR_DIVISAO = 8;
+
+    private final MathContext mcCalculo;
+    private final MotorCalculo motor;
+    private final ForkJoinPool pool;
+    private final Map<Chave, ICalculadoraParcelas> calculadoras = new ConcurrentHashMap<>();
+
+    public CalculadoraParcelasLote() {
+        this(Runtime.getRuntime().availableProcessors());
+    }
+
+    public CalculadoraParcelasLote(int paralelismo) {
+        this(paralelismo, MathContext.DECIMAL128);
+    }
+
+    public CalculadoraParcelasLote(int paralelismo, MathContext mcCalculo) {
+        this(paralelismo, mcCalculo, MotorCalculo.BIG_DECIMAL);
+    }
+
+    public CalculadoraParcelasLote(int paralelismo, MathContext mcCalculo, MotorCalculo motor) {
+        if (paralelismo <= 0) {
+            throw new IllegalArgumentException("Paralelismo deve ser positivo e diferente de zero");
+        }
+        this.mcCalculo = mcCalculo == null ? MathContext.DECIMAL128 : mcCalculo;
+        this.motor = motor == null ? MotorCalculo.BIG_DECIMAL : motor;
+        this.pool = new ForkJoinPool(paralelismo);
+    }
+
+    public int getParalelismo() {
+        return pool.getParallelism();
+    }
+
+    public List<List<Parcela>> calcular(Collection<ContratoParcelamento> contratos) {
+        return calcular(contratos, Function.identity());
+    }
+
+    public List<List<Parcela>> calcular(Stream<ContratoParcelamento> contratos) {
+        return calcular(contratos.toList(), Function.identity());
+    }
+
+    // Aplica 'reducao' a cada cronograma ainda na thread que o calculou, o que
+    // permite reter só um resumo por contrato em vez da lista completa.
+    public <R> List<R> calcular(Collection<ContratoParcelamento> contratos, Function<List<Parcela>, R> reducao) {
+        if (contratos == null) {
+            throw new IllegalArgumentException("Contratos devem ser fornecidos");
+        }
+        ContratoParcelamento[] entrada = contratos.toArray(new ContratoParcelamento[0]);
+        Object[] saida = new Object[entrada.length];
+        pool.invoke(new Tarefa<>(entrada, saida, 0, entrada.length, reducao));
+        @SuppressWarnings("unchecked")
+        List<R> resultados = (List<R>) Collections.unmodifiableList(Arrays.asList(saida));
+        return resultados;
+    }
+
+    // Versão em fluxo de calcular(contratos, reducao): os contratos são lidos sob
+    // demanda e cada resultado é entregue a 'consumidor', na ordem de entrada,
+    // assim que ele e todos os anteriores ficam prontos.
+    public <R> void calcular(Iterator<ContratoParcelamento> contratos, Function<List<Parcela>, R> reducao,
+            int janela, Consumer<? super R> consumidor) {
+        if (reducao == null) {
+            throw new IllegalArgumentException("Redução deve ser fornecida");
+        }
+        processarEmOrdem(contratos, c -> reducao.apply(calcular(c)), janela, consumidor);
+    }
+
+    // Aplica 'tarefa' a cada item no pool e entrega os resultados a 'consumidor'
+    // na thread chamadora, na ordem de entrada. No máximo 'janela' itens ficam
+    // em andamento ou aguardando entrega, então a memória não depende do tamanho
+    // da entrada. Uma exceção de 'tarefa' interrompe o processamento e é
+    // relançada aqui; quem quiser continuar deve tratá-la dentro da tarefa.
+    public <T, R> void processarEmOrdem(Iterator<? extends T> entrada, Function<? super T, ? extends R> tarefa,
+            int janela, Consumer<? super R> consumidor) {
+        if (entrada == null || tarefa == null || consumidor == null) {
+            throw new IllegalArgumentException("Entrada, tarefa e consumidor devem ser fornecidos");
+        }
+        if (janela <= 0) {
+            throw new IllegalArgumentException("Janela deve ser positiva e diferente de zero");
+        }
+        ArrayDeque<ForkJoinTask<R>> pendentes = new ArrayDeque<>(Math.min(janela, 1024));
+        try {
+            while (entrada.hasNext()) {
+                if (pendentes.size() == janela) {
+                    consumidor.accept(pendentes.removeFirst().join());
+                }
+                T item = entrada.next();
+                pendentes.addLast(pool.submit((Callable<R>) () -> tarefa.apply(item)));
+            }
+            while (!pendentes.isEmpty()) {
+                consumidor.accept(pendentes.removeFirst().join());
+            }
+        } finally {
+            for (ForkJoinTask<R> pendente : pendentes) {
+                pendente.cancel(false);
+            }
+        }
+    }
+
+    // Projeta o fluxo de caixa da carteira em 'horizonte' períodos sem guardar
+    // nenhum cronograma: o stream é percorrido em paralelo no pool e cada divisão
+    // soma as parcelas no seu AcumuladorCarteira (long[] por período), combinados
+    // no fim. A série k de um contrato cai no período getPeriodoInicial() + k - 1.
+    // Todos os contratos devem ter a mesma escala de resultado.
+    public FluxoCarteira projetar(Stream<ContratoParcelamento> contratos, int horizonte) {
+        if (contratos == null) {
+            throw new IllegalArgumentException("Contratos devem ser fornecidos");
+        }
+        if (horizonte <= 0) {
+            throw new IllegalArgumentException("Horizonte deve ser positivo e diferente de zero");
+        }
+        return pool.submit(() -> contratos.parallel().collect(
+                () -> new AcumuladorCarteira(horizonte),
+                (acumulador, contrato) -> acumulador.adicionar(contrato,
+                        calculadora(contrato.getSistema(), contrato.getPrecisao())),
+                AcumuladorCarteira::combinar)).join().resultado();
+    }
+
+    public List<Parcela> calcular(ContratoParcelamento contrato) {
+        return calculadora(contrato.getSistema(), contrato.getPrecisao())
+                .calcularParcelas(contrato.getValorPrincipal(), contrato.getTaxaJuros(), contrato.getNumeroParcelas());
+    }
+
+    public ICalculadoraParcelas calculadora(SistemaAmortizacao sistema, int precisao) {
+        return calculadoras.computeIfAbsent(new Chave(sistema, precisao),
+                c -> c.sistema().criarCalculadora(mcCalculo, new MathContext(c.precisao(), RoundingMode.HALF_UP), motor));
+    }
+
+    @Override
+    public void close() {
+        pool.shutdown();
+    }
+
+    private record Chave(SistemaAmortizacao sistema, int precisao) {
+    }
+
+    @SuppressWarnings("serial")
+    private final class Tarefa<R> extends RecursiveAction {
+
+        private final ContratoParcelamento[] entrada;
+        private final Object[] saida;
+        private final int inicio;
+        private final int fim;
+        private final Function<List<Parcela>, R> reducao;
+
+        Tarefa(ContratoParcelamento[] entrada, Object[] saida, int inicio, int fim, Function<List<Parcela>, R> reducao) {
+            this.entrada = entrada;
+            this.saida = saida;
+            this.inicio = inicio;
+            this.fim = fim;
+            this.reducao = reducao;
+        }
+
+        @Override
+        protected void compute() {
+            if (fim - inicio <= LIMIAR_DIVISAO) {
+                for (int k = inicio; k < fim; k++) {
+                    saida[k] = reducao.apply(calcular(entrada[k]));
+                }
+                return;
+            }
+            int meio = (inicio + fim) >>> 1;
+            invokeAll(new Tarefa<>(entrada, saida, inicio, meio, reducao),
+                    new Tarefa<>(entrada, saida, meio, fim, reducao));
+        }
+    }
+
+}
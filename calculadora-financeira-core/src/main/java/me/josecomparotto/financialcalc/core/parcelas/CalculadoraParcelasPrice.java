@@ -1,29 +1,281 @@
 package me.josecomparotto.financialcalc.core.parcelas;
 
+import me.josecomparotto.financialcalc.core.adaptativo.AvaliacaoAdaptativa;
+
 import java.math.BigDecimal;
 import java.math.MathContext;
 import java.math.RoundingMode;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.function.IntFunction;
 
 public class CalculadoraParcelasPrice implements ICalculadoraParcelas {
 
         private final MathContext mcCalculo;
         private final MathContext mcResultado;
+        private final MotorCalculo motor;
+        private final CacheFatoresPrice cache;
+        private final AvaliacaoAdaptativa avaliacao;
 
         public CalculadoraParcelasPrice(MathContext mcCalculo, MathContext mcResultado) {
+                this(mcCalculo, mcResultado, MotorCalculo.BIG_DECIMAL);
+        }
+
+        public CalculadoraParcelasPrice(MathContext mcCalculo, MathContext mcResultado, MotorCalculo motor) {
+                this(mcCalculo, mcResultado, motor, null);
+        }
+
+        // Com cache, os fatores de anuidade e a taxa ajustada são reaproveitados
+        // entre contratos com a mesma taxa, prazo e contextos.
+        public CalculadoraParcelasPrice(MathContext mcCalculo, MathContext mcResultado, MotorCalculo motor,
+                        CacheFatoresPrice cache) {
+                this(mcCalculo, mcResultado, motor, cache, null);
+        }
+
+        // Com avaliação adaptativa, calcularValorParcela tenta primeiro a
+        // prestação em double (ver AvaliacaoAdaptativa).
+        public CalculadoraParcelasPrice(MathContext mcCalculo, MathContext mcResultado, MotorCalculo motor,
+                        CacheFatoresPrice cache, AvaliacaoAdaptativa avaliacao) {
                 this.mcCalculo = mcCalculo == null ? MathContext.DECIMAL128 : mcCalculo;
                 this.mcResultado = mcResultado == null ? new MathContext(2, RoundingMode.HALF_UP) : mcResultado;
+                this.motor = motor == null ? MotorCalculo.BIG_DECIMAL : motor;
+                this.cache = cache;
+                this.avaliacao = avaliacao;
         }
 
         public CalculadoraParcelasPrice() {
                 this.mcCalculo = MathContext.DECIMAL128;
                 this.mcResultado = new MathContext(2, RoundingMode.HALF_UP);
+                this.motor = MotorCalculo.BIG_DECIMAL;
+                this.cache = null;
+                this.avaliacao = null;
         }
 
     @Override
-        public List<Parcela> calcularParcelas(BigDecimal valorPrincipal, BigDecimal taxaJuros, Integer numeroParcelas) {
-        
+    public List<Parcela> calcularParcelas(BigDecimal valorPrincipal, BigDecimal taxaJuros, Integer numeroParcelas) {
+        Iterator<Parcela> iterador = iterarParcelas(valorPrincipal, taxaJuros, numeroParcelas);
+        List<Parcela> parcelas = new ArrayList<>(numeroParcelas);
+        iterador.forEachRemaining(parcelas::add);
+        return parcelas;
+    }
+
+    @Override
+    public Iterator<Parcela> iterarParcelas(BigDecimal valorPrincipal, BigDecimal taxaJuros, Integer numeroParcelas) {
+
+        validar(valorPrincipal, taxaJuros, numeroParcelas);
+
+        int scale = mcResultado.getPrecision() > 0 ? mcResultado.getPrecision() : 2;
+        RoundingMode rm = mcResultado.getRoundingMode() == null ? RoundingMode.HALF_UP : mcResultado.getRoundingMode();
+
+        AjustePrestacao ajuste = calcularAjustePrestacao(valorPrincipal, taxaJuros, numeroParcelas, scale, rm);
+        BigDecimal valorParcelaArred = ajuste.valorParcelaArred();
+        BigDecimal taxaJurosAjustada = ajuste.taxaJurosAjustada();
+
+        if (motor == MotorCalculo.CENTAVOS) {
+            GeradorCentavosPrice gerador = GeradorCentavosPrice.criar(
+                    valorPrincipal, valorParcelaArred, taxaJurosAjustada, numeroParcelas, scale, rm);
+            if (gerador != null) {
+                return new IteradorCentavos(gerador, emitidas -> {
+                    // O saldo exato só existe em BigDecimal: refaz as séries já emitidas.
+                    Iterator<Parcela> iterador = new IteradorParcelas(
+                            valorPrincipal, valorParcelaArred, taxaJurosAjustada, numeroParcelas, scale, rm, 0);
+                    for (int k = 0; k < emitidas; k++) {
+                        iterador.next();
+                    }
+                    return iterador;
+                });
+            }
+        }
+        return new IteradorParcelas(valorPrincipal, valorParcelaArred, taxaJurosAjustada, numeroParcelas, scale, rm, 0);
+    }
+
+    // Prestação arredondada (a cotação), igual a getValorParcela() de todas as
+    // parcelas do cronograma.
+    public BigDecimal calcularValorParcela(BigDecimal valorPrincipal, BigDecimal taxaJuros, Integer numeroParcelas) {
+
+        validar(valorPrincipal, taxaJuros, numeroParcelas);
+
+        int scale = mcResultado.getPrecision() > 0 ? mcResultado.getPrecision() : 2;
+        RoundingMode rm = mcResultado.getRoundingMode() == null ? RoundingMode.HALF_UP : mcResultado.getRoundingMode();
+
+        if (avaliacao != null) {
+            long unidades = rm == RoundingMode.HALF_UP
+                    ? prestacaoDouble(valorPrincipal, taxaJuros, numeroParcelas, scale)
+                    : AvaliacaoAdaptativa.SEM_CERTIFICADO;
+            avaliacao.registrar(unidades != AvaliacaoAdaptativa.SEM_CERTIFICADO);
+            if (unidades != AvaliacaoAdaptativa.SEM_CERTIFICADO) {
+                return BigDecimal.valueOf(unidades, scale);
+            }
+        }
+        return calcularAjustePrestacao(valorPrincipal, taxaJuros, numeroParcelas, scale, rm).valorParcelaArred();
+    }
+
+    // Prestação em unidades de 10^-scale, calculada em double com
+    // D = 1 - (1 + i)^-n = -expm1(-n * log1p(i)). Erros relativos (u = 2^-53):
+    // D até 6u (log1p, produto por n e expm1, com e^-z * z <= D), mais V, i,
+    // produto, divisão e escala, u cada: 12u. No caminho em BigDecimal o
+    // desconto (1 + i)^-n acumula n + 3 arredondamentos em mc, ampliados por
+    // 1/D no cancelamento de 1 - desconto, mais o produto e a divisão.
+    private long prestacaoDouble(BigDecimal valorPrincipal, BigDecimal taxaJuros, int numeroParcelas, int scale) {
+        if (scale > 22) {
+            return AvaliacaoAdaptativa.SEM_CERTIFICADO;
+        }
+        double i = taxaJuros.doubleValue();
+        double d = -Math.expm1(-numeroParcelas * Math.log1p(i));
+        if (!(d > 0)) {
+            return AvaliacaoAdaptativa.SEM_CERTIFICADO;
+        }
+        double prestacao = valorPrincipal.doubleValue() * i / d * POTENCIAS_10[scale];
+        double ulp = AvaliacaoAdaptativa.erroRelativo(mcCalculo);
+        double erroRelativo = 12 * AvaliacaoAdaptativa.U * 1.01 + (numeroParcelas + 3) * ulp / d + 3 * ulp;
+        return AvaliacaoAdaptativa.arredondarMeioParaCima(prestacao, Math.abs(prestacao) * erroRelativo);
+    }
+
+    private static final double[] POTENCIAS_10 = {
+            1e0, 1e1, 1e2, 1e3, 1e4, 1e5, 1e6, 1e7, 1e8, 1e9, 1e10, 1e11,
+            1e12, 1e13, 1e14, 1e15, 1e16, 1e17, 1e18, 1e19, 1e20, 1e21, 1e22};
+
+    // Parte do saldo exato SD_{k-1} (saldoDevedorExato), o mesmo que a cascata de
+    // arredondamentos do cronograma alcançaria, e gera apenas a série k.
+    @Override
+    public Parcela calcularParcela(BigDecimal valorPrincipal, BigDecimal taxaJuros, Integer numeroParcelas, int serie) {
+
+        validar(valorPrincipal, taxaJuros, numeroParcelas);
+        validarSerie(serie, numeroParcelas);
+
+        int scale = mcResultado.getPrecision() > 0 ? mcResultado.getPrecision() : 2;
+        RoundingMode rm = mcResultado.getRoundingMode() == null ? RoundingMode.HALF_UP : mcResultado.getRoundingMode();
+
+        AjustePrestacao ajuste = calcularAjustePrestacao(valorPrincipal, taxaJuros, numeroParcelas, scale, rm);
+        BigDecimal valorParcelaArred = ajuste.valorParcelaArred();
+        BigDecimal taxaJurosAjustada = ajuste.taxaJurosAjustada();
+
+        BigDecimal saldoAnterior = saldoDevedorExato(valorPrincipal, valorParcelaArred, taxaJurosAjustada, serie - 1);
+        return new IteradorParcelas(
+                saldoAnterior, valorParcelaArred, taxaJurosAjustada, numeroParcelas, scale, rm, serie - 1).next();
+    }
+
+    // Totais sem gerar o cronograma:
+    //  - todas as parcelas valem P', logo sum P_k' = n * P';
+    //  - a amortização arredondada telescopa: sum A_k' = round(V) - round(SD_n);
+    //  - sum J_k' = sum (P' - A_k') = n * P' - sum A_k'.
+    // Só a última parcela exige o saldo SD_{n-1}, obtido por saldoDevedorExato.
+    @Override
+    public ResumoParcelas calcularResumo(BigDecimal valorPrincipal, BigDecimal taxaJuros, Integer numeroParcelas) {
+
+        validar(valorPrincipal, taxaJuros, numeroParcelas);
+
+        int scale = mcResultado.getPrecision() > 0 ? mcResultado.getPrecision() : 2;
+        RoundingMode rm = mcResultado.getRoundingMode() == null ? RoundingMode.HALF_UP : mcResultado.getRoundingMode();
+
+        AjustePrestacao ajuste = calcularAjustePrestacao(valorPrincipal, taxaJuros, numeroParcelas, scale, rm);
+        BigDecimal valorParcelaArred = ajuste.valorParcelaArred();
+        BigDecimal taxaJurosAjustada = ajuste.taxaJurosAjustada();
+
+        Parcela primeira = new IteradorParcelas(
+                valorPrincipal, valorParcelaArred, taxaJurosAjustada, numeroParcelas, scale, rm, 0).next();
+        BigDecimal saldoPenultima = saldoDevedorExato(
+                valorPrincipal, valorParcelaArred, taxaJurosAjustada, numeroParcelas - 1);
+        Parcela ultima = new IteradorParcelas(
+                saldoPenultima, valorParcelaArred, taxaJurosAjustada, numeroParcelas, scale, rm, numeroParcelas - 1)
+                .next();
+
+        BigDecimal totalParcelas = valorParcelaArred.multiply(BigDecimal.valueOf(numeroParcelas));
+        BigDecimal totalAmortizacao = valorPrincipal.setScale(scale, rm).subtract(ultima.getSaldoDevedor());
+        return new ResumoParcelas(numeroParcelas, totalParcelas, totalAmortizacao,
+                totalParcelas.subtract(totalAmortizacao), primeira, ultima);
+    }
+
+    public List<Parcela> aplicarAmortizacaoExtraordinaria(
+            List<Parcela> cronograma, BigDecimal taxaJuros, AmortizacaoExtraordinaria amortizacao) {
+        return aplicarAmortizacoesExtraordinarias(cronograma, taxaJuros, Collections.singletonList(amortizacao));
+    }
+
+    // Aplica as amortizações extraordinárias, em ordem de série, a um cronograma
+    // gerado por esta calculadora com a mesma taxa. Só o trecho após cada evento
+    // é recalculado, a partir do saldo arredondado da série do evento (ver
+    // RecalculoAmortizacaoExtraordinaria). Em REDUZIR_PRAZO o novo prazo é o
+    // menor cuja prestação não passa da vigente.
+    public List<Parcela> aplicarAmortizacoesExtraordinarias(
+            List<Parcela> cronograma, BigDecimal taxaJuros, List<AmortizacaoExtraordinaria> amortizacoes) {
+        if (taxaJuros == null || taxaJuros.signum() <= 0) {
+            throw new IllegalArgumentException("Taxa de juros deve ser positiva e diferente de zero");
+        }
+        return RecalculoAmortizacaoExtraordinaria.aplicar(cronograma, amortizacoes,
+                new RecalculoAmortizacaoExtraordinaria.Sistema() {
+                    @Override
+                    public Iterator<Parcela> gerar(BigDecimal saldo, int prazo) {
+                        return iterarParcelas(saldo, taxaJuros, prazo);
+                    }
+
+                    @Override
+                    public int prazoReduzido(BigDecimal saldo, Parcela proxima) {
+                        return prazoMantendoPrestacao(saldo, taxaJuros, proxima.getValorParcela());
+                    }
+                });
+    }
+
+    // Menor n com calcularValorParcela(saldo, i, n) <= prestacao. A estimativa
+    // n = -ln(1 - saldo * i / P) / ln(1 + i) vem em double e é corrigida com a
+    // prestação arredondada de fato, calculada como em FatoresAnuidade mas só
+    // com o fator da prestação.
+    private int prazoMantendoPrestacao(BigDecimal saldo, BigDecimal taxaJuros, BigDecimal prestacao) {
+        double i = taxaJuros.doubleValue();
+        double x = saldo.doubleValue() * i / prestacao.doubleValue();
+        if (!(x < 1)) {
+            throw new IllegalArgumentException("Prestação vigente não cobre os juros do novo saldo devedor");
+        }
+        int scale = mcResultado.getPrecision() > 0 ? mcResultado.getPrecision() : 2;
+        RoundingMode rm = mcResultado.getRoundingMode() == null ? RoundingMode.HALF_UP : mcResultado.getRoundingMode();
+        BigDecimal desconto = BigDecimal.ONE.divide(BigDecimal.ONE.add(taxaJuros), mcCalculo);
+        BigDecimal numerador = saldo.multiply(taxaJuros);
+        IntFunction<BigDecimal> prestacaoArred = n -> numerador
+                .divide(BigDecimal.ONE.subtract(desconto.pow(n, mcCalculo), mcCalculo), mcCalculo)
+                .setScale(scale, rm);
+
+        double estimativa = Math.ceil(-Math.log1p(-x) / Math.log1p(i));
+        int prazo = estimativa < 1 ? 1 : (int) Math.min(estimativa, Integer.MAX_VALUE - 1);
+        while (prazo > 1 && prestacaoArred.apply(prazo - 1).compareTo(prestacao) <= 0) {
+            prazo--;
+        }
+        while (prestacaoArred.apply(prazo).compareTo(prestacao) > 0) {
+            prazo++;
+        }
+        return prazo;
+    }
+
+    // Saldo devedor exato (sem arredondamento) após k séries, sem percorrer o
+    // cronograma. Da recorrência SD_k = SD_{k-1} * a - P, com a = 1 + i:
+    // SD_k = V * a^k - P * G_k, com G_k = 1 + a + ... + a^(k-1).
+    // a^k e G_k vêm juntos de uma exponenciação binária em aritmética exata,
+    // usando G_{m+r} = G_m + a^m * G_r; o valor é o mesmo que a recorrência alcança.
+    private static BigDecimal saldoDevedorExato(
+            BigDecimal valorPrincipal, BigDecimal valorParcelaArred, BigDecimal taxaJuros, int series) {
+        if (series == 0) {
+            return valorPrincipal;
+        }
+        BigDecimal a = BigDecimal.ONE.add(taxaJuros);
+        BigDecimal potencia = BigDecimal.ONE; // a^m
+        BigDecimal soma = BigDecimal.ZERO; // G_m
+        BigDecimal basePotencia = a; // a^(2^b)
+        BigDecimal baseSoma = BigDecimal.ONE; // G_(2^b)
+        for (int restante = series; restante > 0; restante >>>= 1) {
+            if ((restante & 1) != 0) {
+                soma = soma.add(potencia.multiply(baseSoma));
+                potencia = potencia.multiply(basePotencia);
+            }
+            if (restante > 1) {
+                baseSoma = baseSoma.add(basePotencia.multiply(baseSoma));
+                basePotencia = basePotencia.multiply(basePotencia);
+            }
+        }
+        return valorPrincipal.multiply(potencia).subtract(valorParcelaArred.multiply(soma));
+    }
+
+    private static void validar(BigDecimal valorPrincipal, BigDecimal taxaJuros, Integer numeroParcelas) {
         if (valorPrincipal == null) {
             throw new IllegalArgumentException("Valor principal deve ser fornecido");
         }
@@ -33,19 +285,52 @@ public class CalculadoraParcelasPrice implements ICalculadoraParcelas {
         if (numeroParcelas == null || numeroParcelas <= 0) {
             throw new IllegalArgumentException("Número de parcelas deve ser positivo e diferente de zero");
         }
+    }
 
-        List<Parcela> parcelas = new ArrayList<>();
-        BigDecimal saldoDevedor = valorPrincipal;
-                BigDecimal valorParcela = calcularValorPrestacao(valorPrincipal, taxaJuros, numeroParcelas, mcCalculo);
+    private static void validarSerie(int serie, int numeroParcelas) {
+        if (serie < 1 || serie > numeroParcelas) {
+            throw new IllegalArgumentException("Série deve estar entre 1 e o número de parcelas");
+        }
+    }
 
-                int scale = mcResultado.getPrecision() > 0 ? mcResultado.getPrecision() : 2;
-                RoundingMode rm = mcResultado.getRoundingMode() == null ? RoundingMode.HALF_UP : mcResultado.getRoundingMode();
+    // Gera uma parcela por chamada a next(), mantendo entre as chamadas apenas o
+    // saldo devedor (exato e arredondado) e a série corrente. Começa após
+    // serieInicial, com saldoDevedor = SD_serieInicial.
+    private static final class IteradorParcelas implements Iterator<Parcela> {
 
-                BigDecimal valorParcelaArred = valorParcela.setScale(scale, rm);
-        BigDecimal taxaJurosAjustada = calcularTaxaJurosAjustada(
-                                valorPrincipal, numeroParcelas, valorParcela, valorParcelaArred, taxaJuros, mcCalculo);
+        private final BigDecimal valorParcelaArred;
+        private final BigDecimal taxaJurosAjustada;
+        private final int numeroParcelas;
+        private final int scale;
+        private final RoundingMode rm;
+        private BigDecimal saldoDevedor;
+        private BigDecimal saldoDevedorArred;
+        private int serie;
+
+        IteradorParcelas(BigDecimal saldoDevedor, BigDecimal valorParcelaArred, BigDecimal taxaJurosAjustada,
+                int numeroParcelas, int scale, RoundingMode rm, int serieInicial) {
+            this.saldoDevedor = saldoDevedor;
+            this.saldoDevedorArred = saldoDevedor.setScale(scale, rm);
+            this.serie = serieInicial;
+            this.valorParcelaArred = valorParcelaArred;
+            this.taxaJurosAjustada = taxaJurosAjustada;
+            this.numeroParcelas = numeroParcelas;
+            this.scale = scale;
+            this.rm = rm;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return serie < numeroParcelas;
+        }
+
+        @Override
+        public Parcela next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            serie++;
 
-        for (int i = 1; i <= numeroParcelas; i++) {
             BigDecimal jurosReais, // J_k
                     jurosArred, // J_k'
                     amortizacaoReal, // A_k
@@ -70,10 +355,10 @@ public class CalculadoraParcelasPrice implements ICalculadoraParcelas {
             novoSaldoDevedorArred = novoSaldoDevedor.setScale(scale, rm);
 
             // Calcula a amortização arredondada para garantir que o saldo devedor zere no
-            // final.
+            // final. round(SD_{k-1}, 2) é o SD_{k-1}' da série anterior: o saldo
+            // exato ganha dígitos a cada série e arredondá-lo de novo custaria caro.
             // A_k' = round(SD_{k-1}, 2) - SD_k'
-            amortizacaoArred = saldoDevedor.setScale(scale, rm)
-                    .subtract(novoSaldoDevedorArred);
+            amortizacaoArred = saldoDevedorArred.subtract(novoSaldoDevedorArred);
 
             // Calcula os juros arredondados
             // J_k' = P - A_k'
@@ -81,70 +366,75 @@ public class CalculadoraParcelasPrice implements ICalculadoraParcelas {
 
             // Atualiza o saldo devedor para a próxima iteração
             saldoDevedor = novoSaldoDevedor;
+            saldoDevedorArred = novoSaldoDevedorArred;
 
             // Monta o objeto Parcela com os valores calculados.
             Parcela parcela = new Parcela();
-            parcela.setSerie(i);
+            parcela.setSerie(serie);
             parcela.setValorParcela(valorParcelaArred);
             parcela.setValorAmortizacao(amortizacaoArred);
             parcela.setValorJuros(jurosArred);
             parcela.setSaldoDevedor(novoSaldoDevedorArred);
-            parcelas.add(parcela);
+            return parcela;
+        }
+    }
+
+    // Prestação arredondada e taxa ajustada, obtidas do cache quando houver.
+    private AjustePrestacao calcularAjustePrestacao(
+            BigDecimal valorPrincipal, BigDecimal taxaJuros, int numeroParcelas, int scale, RoundingMode rm) {
+        if (cache == null) {
+            FatoresAnuidade fatores = FatoresAnuidade.calcular(taxaJuros, numeroParcelas, mcCalculo);
+            return calcularAjustePrestacao(valorPrincipal, taxaJuros, numeroParcelas, scale, rm, fatores);
         }
+        return cache.ajuste(valorPrincipal, taxaJuros, numeroParcelas, mcCalculo, scale, rm,
+                () -> calcularAjustePrestacao(valorPrincipal, taxaJuros, numeroParcelas, scale, rm,
+                        cache.fatores(taxaJuros, numeroParcelas, mcCalculo)));
+    }
 
-        return parcelas;
+    private AjustePrestacao calcularAjustePrestacao(BigDecimal valorPrincipal, BigDecimal taxaJuros,
+            int numeroParcelas, int scale, RoundingMode rm, FatoresAnuidade fatores) {
+        BigDecimal valorParcela = calcularValorPrestacao(valorPrincipal, taxaJuros, fatores, mcCalculo);
+        BigDecimal valorParcelaArred = valorParcela.setScale(scale, rm);
+        BigDecimal taxaJurosAjustada = calcularTaxaJurosAjustada(
+                valorPrincipal, numeroParcelas, valorParcela, valorParcelaArred, taxaJuros, fatores, mcCalculo);
+        return new AjustePrestacao(valorParcelaArred, taxaJurosAjustada);
     }
 
     // Calcula o valor fixo da prestação usando a fórmula do sistema PRICE.
     // P(V, i, n) = (V * i) / (1 - (1 + i)^-n)
-    private BigDecimal calcularValorPrestacao(
+    static BigDecimal calcularValorPrestacao(
             BigDecimal valorPrincipal,
             BigDecimal taxaJuros,
-            int quantidadeParcelas,
+            FatoresAnuidade fatores,
             MathContext mc) {
         // Fórmula do sistema PRICE:
         return valorPrincipal
                 .multiply(taxaJuros)
-                .divide(BigDecimal.ONE.subtract(
-                        BigDecimal.ONE.divide(
-                                BigDecimal.ONE.add(taxaJuros), mc)
-                                .pow(quantidadeParcelas, mc),
-                        mc), mc);
+                .divide(fatores.umMenosDescontoPrestacao, mc);
     }
 
     // Derivada parcial de P(V, i, n) em relação a i
     // dP/di = (V*(1-(1+i)^(-n)) - V*i*n*(1+i)^(-n-1)) / (1-(1+i)^(-n))^2
     // P'(V, i, n) = (V*(1-(1+i)^(-n)) - V*i*n*(1+i)^(-n-1)) / (1-(1+i)^(-n))^2
-    private BigDecimal derivadaValorPrestacaoPorTaxaJuros(
+    static BigDecimal derivadaValorPrestacaoPorTaxaJuros(
             BigDecimal valorPrincipal, // V
             BigDecimal taxaJuros, // i
             int quantidadeParcelas, // n
+            FatoresAnuidade fatores,
             MathContext mc) {
 
-        BigDecimal umMaisI = BigDecimal.ONE.add(taxaJuros, mc); // (1+i)
-        BigDecimal umMaisI_Pot_MenosN = BigDecimal.ONE
-                .divide(umMaisI, mc)
-                .pow(quantidadeParcelas, mc); // (1+i)^(-n)
-        BigDecimal umMaisI_Pot_MenosNMenos1 = BigDecimal.ONE
-                .divide(umMaisI, mc)
-                .pow(quantidadeParcelas + 1, mc); // (1+i)^(-n-1)
-        BigDecimal umMenos_umMaisI_Pot_MenosN = BigDecimal.ONE
-                .subtract(umMaisI_Pot_MenosN, mc);
-
         // Numerador: V*(1-(1+i)^(-n)) - V*i*n*(1+i)^(-n-1)
         BigDecimal numerador = valorPrincipal
-                .multiply(umMenos_umMaisI_Pot_MenosN, mc)
+                .multiply(fatores.umMenosDescontoDerivada, mc)
                 .subtract(
                         valorPrincipal
                                 .multiply(taxaJuros, mc)
                                 .multiply(BigDecimal.valueOf(quantidadeParcelas), mc)
-                                .multiply(umMaisI_Pot_MenosNMenos1, mc),
+                                .multiply(fatores.descontoNMais1, mc),
                         mc);
 
         // Denominador: (1-(1+i)^(-n))^2
-        BigDecimal denominador = umMenos_umMaisI_Pot_MenosN.pow(2, mc);
-
-        return numerador.divide(denominador, mc);
+        return numerador.divide(fatores.denominadorDerivada, mc);
     }
 
     // Calcula o ajuste na taxa de juros necessário para corrigir a diferença
@@ -156,10 +446,11 @@ public class CalculadoraParcelasPrice implements ICalculadoraParcelas {
             BigDecimal taxaJuros, // i
             int quantidadeParcelas, // n
             BigDecimal diferencaPrestacao, // dP
+            FatoresAnuidade fatores,
             MathContext mc) {
         // dP/di = P'(V, i, n)
         BigDecimal derivada = derivadaValorPrestacaoPorTaxaJuros(
-                valorPrincipal, taxaJuros, quantidadeParcelas, mc);
+                valorPrincipal, taxaJuros, quantidadeParcelas, fatores, mc);
 
         // di = dP / (dP/di)
         return diferencaPrestacao.divide(derivada, mc);
@@ -174,15 +465,19 @@ public class CalculadoraParcelasPrice implements ICalculadoraParcelas {
             BigDecimal prestacaoCalculada, // P0
             BigDecimal prestacaoDesejada, // P
             BigDecimal taxaJurosInicial, // i0
-                        MathContext mc) {
+            FatoresAnuidade fatores,
+            MathContext mc) {
         // dP = P - P0
         BigDecimal diferencaPrestacao = prestacaoDesejada.subtract(prestacaoCalculada);
 
         // di = di(V, i, n, dP)
         BigDecimal ajusteTaxaJuros = calcularAjusteTaxaJuros(
-                valorPrincipal, taxaJurosInicial, quantidadeParcelas, diferencaPrestacao, mc);
+                valorPrincipal, taxaJurosInicial, quantidadeParcelas, diferencaPrestacao, fatores, mc);
 
         // i = i0 + di
         return taxaJurosInicial.add(ajusteTaxaJuros);
     }
+
+    record AjustePrestacao(BigDecimal valorParcelaArred, BigDecimal taxaJurosAjustada) {
+    }
 }
@@ -4,26 +4,146 @@ import java.math.BigDecimal;
 import java.math.MathContext;
 import java.math.RoundingMode;
 import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
 import java.util.List;
+import java.util.NoSuchElementException;
 
 public class CalculadoraParcelasSac implements ICalculadoraParcelas {
 
     private final MathContext mcCalculo;
     private final MathContext mcResultado;
+    private final MotorCalculo motor;
 
     public CalculadoraParcelasSac() {
         this.mcCalculo = MathContext.DECIMAL128;
         this.mcResultado = new MathContext(2, RoundingMode.HALF_UP);
+        this.motor = MotorCalculo.BIG_DECIMAL;
     }
 
     public CalculadoraParcelasSac(MathContext mcCalculo, MathContext mcResultado) {
+        this(mcCalculo, mcResultado, MotorCalculo.BIG_DECIMAL);
+    }
+
+    public CalculadoraParcelasSac(MathContext mcCalculo, MathContext mcResultado, MotorCalculo motor) {
         this.mcCalculo = mcCalculo == null ? MathContext.DECIMAL128 : mcCalculo;
         this.mcResultado = mcResultado == null ? new MathContext(2, RoundingMode.HALF_UP) : mcResultado;
+        this.motor = motor == null ? MotorCalculo.BIG_DECIMAL : motor;
     }
 
     @Override
     public List<Parcela> calcularParcelas(BigDecimal valorPrincipal, BigDecimal taxaJuros, Integer numeroParcelas) {
+        Iterator<Parcela> iterador = iterarParcelas(valorPrincipal, taxaJuros, numeroParcelas);
+        List<Parcela> parcelas = new ArrayList<>(numeroParcelas);
+        iterador.forEachRemaining(parcelas::add);
+        return parcelas;
+    }
+
+    @Override
+    public Iterator<Parcela> iterarParcelas(BigDecimal valorPrincipal, BigDecimal taxaJuros, Integer numeroParcelas) {
 
+        validar(valorPrincipal, taxaJuros, numeroParcelas);
+
+        BigDecimal valorAmortizacao = valorPrincipal.divide(BigDecimal.valueOf(numeroParcelas), mcCalculo);
+        int scale = mcResultado.getPrecision() > 0 ? mcResultado.getPrecision() : 2;
+        RoundingMode rm = mcResultado.getRoundingMode() == null ? RoundingMode.HALF_UP : mcResultado.getRoundingMode();
+
+        if (motor == MotorCalculo.CENTAVOS) {
+            GeradorCentavosSac gerador = GeradorCentavosSac.criar(
+                    valorPrincipal, valorAmortizacao, taxaJuros, numeroParcelas, scale, rm, false);
+            if (gerador != null) {
+                return new IteradorCentavos(gerador, null);
+            }
+        }
+        return new IteradorParcelas(valorPrincipal, valorAmortizacao, taxaJuros, numeroParcelas, scale, rm, 0);
+    }
+
+    // O saldo da série k - 1 é V - (k - 1) * a; basta gerar uma parcela a partir dele.
+    @Override
+    public Parcela calcularParcela(BigDecimal valorPrincipal, BigDecimal taxaJuros, Integer numeroParcelas, int serie) {
+
+        validar(valorPrincipal, taxaJuros, numeroParcelas);
+        validarSerie(serie, numeroParcelas);
+
+        BigDecimal valorAmortizacao = valorPrincipal.divide(BigDecimal.valueOf(numeroParcelas), mcCalculo);
+        int scale = mcResultado.getPrecision() > 0 ? mcResultado.getPrecision() : 2;
+        RoundingMode rm = mcResultado.getRoundingMode() == null ? RoundingMode.HALF_UP : mcResultado.getRoundingMode();
+
+        return new IteradorParcelas(
+                valorPrincipal, valorAmortizacao, taxaJuros, numeroParcelas, scale, rm, serie - 1).next();
+    }
+
+    // Totais sem gerar o cronograma:
+    //  - a amortização arredondada telescopa: sum A_k' = round(V) - round(V - n * a);
+    //  - os juros são uma progressão aritmética arredondada termo a termo,
+    //    sum round((V - j * a) * i), somada em forma fechada (SomaArredondada).
+    // Só para HALF_EVEN/UNNECESSARY os juros são somados termo a termo.
+    @Override
+    public ResumoParcelas calcularResumo(BigDecimal valorPrincipal, BigDecimal taxaJuros, Integer numeroParcelas) {
+
+        validar(valorPrincipal, taxaJuros, numeroParcelas);
+
+        BigDecimal valorAmortizacao = valorPrincipal.divide(BigDecimal.valueOf(numeroParcelas), mcCalculo);
+        int scale = mcResultado.getPrecision() > 0 ? mcResultado.getPrecision() : 2;
+        RoundingMode rm = mcResultado.getRoundingMode() == null ? RoundingMode.HALF_UP : mcResultado.getRoundingMode();
+
+        BigDecimal saldoFinal = valorPrincipal.subtract(valorAmortizacao.multiply(BigDecimal.valueOf(numeroParcelas)));
+        BigDecimal totalAmortizacao = valorPrincipal.setScale(scale, rm).subtract(saldoFinal.setScale(scale, rm));
+
+        BigDecimal totalJuros = SomaArredondada.somar(
+                valorPrincipal.multiply(taxaJuros), valorAmortizacao.multiply(taxaJuros), numeroParcelas, scale, rm);
+        if (totalJuros == null) {
+            totalJuros = BigDecimal.ZERO;
+            BigDecimal saldoDevedor = valorPrincipal;
+            for (int serie = 1; serie <= numeroParcelas; serie++) {
+                totalJuros = totalJuros.add(saldoDevedor.multiply(taxaJuros).setScale(scale, rm));
+                saldoDevedor = valorPrincipal.subtract(valorAmortizacao.multiply(BigDecimal.valueOf(serie)));
+            }
+        }
+
+        Parcela primeira = new IteradorParcelas(
+                valorPrincipal, valorAmortizacao, taxaJuros, numeroParcelas, scale, rm, 0).next();
+        Parcela ultima = new IteradorParcelas(
+                valorPrincipal, valorAmortizacao, taxaJuros, numeroParcelas, scale, rm, numeroParcelas - 1).next();
+
+        return new ResumoParcelas(numeroParcelas, totalAmortizacao.add(totalJuros), totalAmortizacao, totalJuros,
+                primeira, ultima);
+    }
+
+    public List<Parcela> aplicarAmortizacaoExtraordinaria(
+            List<Parcela> cronograma, BigDecimal taxaJuros, AmortizacaoExtraordinaria amortizacao) {
+        return aplicarAmortizacoesExtraordinarias(cronograma, taxaJuros, Collections.singletonList(amortizacao));
+    }
+
+    // Aplica as amortizações extraordinárias, em ordem de série, a um cronograma
+    // gerado por esta calculadora com a mesma taxa. Só o trecho após cada evento
+    // é recalculado, a partir do saldo arredondado da série do evento (ver
+    // RecalculoAmortizacaoExtraordinaria). Em REDUZIR_PRAZO o novo prazo é o
+    // menor cuja amortização não passa da vigente: ceil(saldo / amortização).
+    public List<Parcela> aplicarAmortizacoesExtraordinarias(
+            List<Parcela> cronograma, BigDecimal taxaJuros, List<AmortizacaoExtraordinaria> amortizacoes) {
+        if (taxaJuros == null || taxaJuros.signum() < 0) {
+            throw new IllegalArgumentException("Taxa de juros deve ser fornecida e não pode ser negativa");
+        }
+        return RecalculoAmortizacaoExtraordinaria.aplicar(cronograma, amortizacoes,
+                new RecalculoAmortizacaoExtraordinaria.Sistema() {
+                    @Override
+                    public Iterator<Parcela> gerar(BigDecimal saldo, int prazo) {
+                        return iterarParcelas(saldo, taxaJuros, prazo);
+                    }
+
+                    @Override
+                    public int prazoReduzido(BigDecimal saldo, Parcela proxima) {
+                        BigDecimal amortizacao = proxima.getValorAmortizacao();
+                        if (amortizacao.signum() <= 0) {
+                            throw new IllegalArgumentException("Amortização vigente deve ser positiva para reduzir o prazo");
+                        }
+                        return saldo.divide(amortizacao, 0, RoundingMode.CEILING).intValueExact();
+                    }
+                });
+    }
+
+    private static void validar(BigDecimal valorPrincipal, BigDecimal taxaJuros, Integer numeroParcelas) {
         if (valorPrincipal == null) {
             throw new IllegalArgumentException("Valor principal deve ser fornecido");
         }
@@ -33,18 +153,58 @@ public class CalculadoraParcelasSac implements ICalculadoraParcelas {
         if (numeroParcelas == null || numeroParcelas <= 0) {
             throw new IllegalArgumentException("Número de parcelas deve ser positivo e diferente de zero");
         }
-        
-        BigDecimal valorAmortizacao = valorPrincipal.divide(BigDecimal.valueOf(numeroParcelas), mcCalculo);
-        List<Parcela> parcelas = new ArrayList<>();
-        BigDecimal saldoDevedor = valorPrincipal;
+    }
 
-        for (int i = 1; i <= numeroParcelas; i++) {
+    private static void validarSerie(int serie, int numeroParcelas) {
+        if (serie < 1 || serie > numeroParcelas) {
+            throw new IllegalArgumentException("Série deve estar entre 1 e o número de parcelas");
+        }
+    }
 
-            BigDecimal novoSaldo = valorPrincipal.subtract(valorAmortizacao.multiply(BigDecimal.valueOf(i)));
+    // Gera uma parcela por chamada a next(). O saldo da série inicial i é
+    // valorPrincipal - i * valorAmortizacao, o que permite começar após qualquer
+    // série; cada next() subtrai valorAmortizacao do saldo exato e reaproveita o
+    // saldo arredondado da série anterior.
+    private static final class IteradorParcelas implements Iterator<Parcela> {
+
+        private final BigDecimal valorAmortizacao;
+        private final BigDecimal taxaJuros;
+        private final int numeroParcelas;
+        private final int scale;
+        private final RoundingMode rm;
+        private BigDecimal saldoDevedor;
+        private BigDecimal saldoDevedorArred;
+        private int serie;
+
+        IteradorParcelas(BigDecimal valorPrincipal, BigDecimal valorAmortizacao, BigDecimal taxaJuros,
+                int numeroParcelas, int scale, RoundingMode rm, int serieInicial) {
+            this.valorAmortizacao = valorAmortizacao;
+            this.taxaJuros = taxaJuros;
+            this.numeroParcelas = numeroParcelas;
+            this.scale = scale;
+            this.rm = rm;
+            this.serie = serieInicial;
+            this.saldoDevedor = serieInicial == 0
+                    ? valorPrincipal
+                    : valorPrincipal.subtract(valorAmortizacao.multiply(BigDecimal.valueOf(serieInicial)));
+            this.saldoDevedorArred = saldoDevedor.setScale(scale, rm);
+        }
 
-            int scale = mcResultado.getPrecision() > 0 ? mcResultado.getPrecision() : 2;
-            RoundingMode rm = mcResultado.getRoundingMode() == null ? RoundingMode.HALF_UP : mcResultado.getRoundingMode();
-            BigDecimal saldoAnteriorArred = saldoDevedor.setScale(scale, rm);
+        @Override
+        public boolean hasNext() {
+            return serie < numeroParcelas;
+        }
+
+        @Override
+        public Parcela next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            serie++;
+
+            BigDecimal novoSaldo = saldoDevedor.subtract(valorAmortizacao);
+
+            BigDecimal saldoAnteriorArred = saldoDevedorArred;
             BigDecimal novoSaldoArred = novoSaldo.setScale(scale, rm);
 
             BigDecimal valorAmortizacaoArred = saldoAnteriorArred.subtract(novoSaldoArred);
@@ -53,17 +213,16 @@ public class CalculadoraParcelasSac implements ICalculadoraParcelas {
             BigDecimal valorParcelaArred = valorAmortizacaoArred.add(valorJurosArred);
 
             saldoDevedor = novoSaldo;
+            saldoDevedorArred = novoSaldoArred;
 
             Parcela parcela = new Parcela();
-            parcela.setSerie(i);
+            parcela.setSerie(serie);
             parcela.setValorParcela(valorParcelaArred);
             parcela.setValorAmortizacao(valorAmortizacaoArred);
             parcela.setValorJuros(valorJurosArred);
             parcela.setSaldoDevedor(novoSaldoArred);
-            parcelas.add(parcela);
+            return parcela;
         }
-
-        return parcelas;
     }
 
 }
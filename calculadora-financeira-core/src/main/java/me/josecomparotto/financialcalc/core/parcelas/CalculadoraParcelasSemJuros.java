@@ -4,21 +4,31 @@ import java.math.BigDecimal;
 import java.math.MathContext;
 import java.math.RoundingMode;
 import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
+import java.util.NoSuchElementException;
+import java.util.stream.Stream;
 
 public class CalculadoraParcelasSemJuros implements ICalculadoraParcelas {
 
     private final MathContext mcCalculo;
     private final MathContext mcResultado;
+    private final MotorCalculo motor;
 
     public CalculadoraParcelasSemJuros() {
         this.mcCalculo = MathContext.DECIMAL128;
         this.mcResultado = new MathContext(2, RoundingMode.HALF_UP);
+        this.motor = MotorCalculo.BIG_DECIMAL;
     }
 
     public CalculadoraParcelasSemJuros(MathContext mcCalculo, MathContext mcResultado) {
+        this(mcCalculo, mcResultado, MotorCalculo.BIG_DECIMAL);
+    }
+
+    public CalculadoraParcelasSemJuros(MathContext mcCalculo, MathContext mcResultado, MotorCalculo motor) {
         this.mcCalculo = mcCalculo == null ? MathContext.DECIMAL128 : mcCalculo;
         this.mcResultado = mcResultado == null ? new MathContext(2, RoundingMode.HALF_UP) : mcResultado;
+        this.motor = motor == null ? MotorCalculo.BIG_DECIMAL : motor;
     }
 
     @Override
@@ -32,40 +42,169 @@ public class CalculadoraParcelasSemJuros implements ICalculadoraParcelas {
     }
 
     public List<Parcela> calcularParcelas(BigDecimal valorPrincipal, Integer numeroParcelas) {
-        
+        Iterator<Parcela> iterador = iterarParcelas(valorPrincipal, numeroParcelas);
+        List<Parcela> parcelas = new ArrayList<>(numeroParcelas);
+        iterador.forEachRemaining(parcelas::add);
+        return parcelas;
+    }
+
+    @Override
+    public Iterator<Parcela> iterarParcelas(BigDecimal valorPrincipal, BigDecimal taxaJuros, Integer numeroParcelas) {
+
+        if (taxaJuros != null && taxaJuros.signum() != 0) {
+            throw new IllegalArgumentException("Esta calculadora é apenas para parcelas sem juros");
+        }
+
+        return iterarParcelas(valorPrincipal, numeroParcelas);
+    }
+
+    public Iterator<Parcela> iterarParcelas(BigDecimal valorPrincipal, Integer numeroParcelas) {
+
+        validar(valorPrincipal, numeroParcelas);
+        BigDecimal valorParcela = valorPrincipal.divide(BigDecimal.valueOf(numeroParcelas), mcCalculo);
+        int scale = mcResultado.getPrecision() > 0 ? mcResultado.getPrecision() : 2;
+        RoundingMode rm = mcResultado.getRoundingMode() == null ? RoundingMode.HALF_UP : mcResultado.getRoundingMode();
+
+        if (motor == MotorCalculo.CENTAVOS) {
+            GeradorCentavosSac gerador = GeradorCentavosSac.criar(
+                    valorPrincipal, valorParcela, BigDecimal.ZERO, numeroParcelas, scale, rm, true);
+            if (gerador != null) {
+                return new IteradorCentavos(gerador, null);
+            }
+        }
+        return new IteradorParcelas(valorPrincipal, valorParcela, numeroParcelas, scale, rm, 0);
+    }
+
+    @Override
+    public Parcela calcularParcela(BigDecimal valorPrincipal, BigDecimal taxaJuros, Integer numeroParcelas, int serie) {
+
+        if (taxaJuros != null && taxaJuros.signum() != 0) {
+            throw new IllegalArgumentException("Esta calculadora é apenas para parcelas sem juros");
+        }
+
+        return calcularParcela(valorPrincipal, numeroParcelas, serie);
+    }
+
+    // O saldo da série k - 1 é V - (k - 1) * P; basta gerar uma parcela a partir dele.
+    public Parcela calcularParcela(BigDecimal valorPrincipal, Integer numeroParcelas, int serie) {
+
+        validar(valorPrincipal, numeroParcelas);
+        validarSerie(serie, numeroParcelas);
+        BigDecimal valorParcela = valorPrincipal.divide(BigDecimal.valueOf(numeroParcelas), mcCalculo);
+        int scale = mcResultado.getPrecision() > 0 ? mcResultado.getPrecision() : 2;
+        RoundingMode rm = mcResultado.getRoundingMode() == null ? RoundingMode.HALF_UP : mcResultado.getRoundingMode();
+
+        return new IteradorParcelas(valorPrincipal, valorParcela, numeroParcelas, scale, rm, serie - 1).next();
+    }
+
+    @Override
+    public ResumoParcelas calcularResumo(BigDecimal valorPrincipal, BigDecimal taxaJuros, Integer numeroParcelas) {
+
+        if (taxaJuros != null && taxaJuros.signum() != 0) {
+            throw new IllegalArgumentException("Esta calculadora é apenas para parcelas sem juros");
+        }
+
+        return calcularResumo(valorPrincipal, numeroParcelas);
+    }
+
+    // As parcelas arredondadas telescopam: sum P_k' = round(V) - round(V - n * P).
+    public ResumoParcelas calcularResumo(BigDecimal valorPrincipal, Integer numeroParcelas) {
+
+        validar(valorPrincipal, numeroParcelas);
+        BigDecimal valorParcela = valorPrincipal.divide(BigDecimal.valueOf(numeroParcelas), mcCalculo);
+        int scale = mcResultado.getPrecision() > 0 ? mcResultado.getPrecision() : 2;
+        RoundingMode rm = mcResultado.getRoundingMode() == null ? RoundingMode.HALF_UP : mcResultado.getRoundingMode();
+
+        BigDecimal saldoFinal = valorPrincipal.subtract(valorParcela.multiply(BigDecimal.valueOf(numeroParcelas)));
+        BigDecimal total = valorPrincipal.setScale(scale, rm).subtract(saldoFinal.setScale(scale, rm));
+
+        Parcela primeira = new IteradorParcelas(valorPrincipal, valorParcela, numeroParcelas, scale, rm, 0).next();
+        Parcela ultima = new IteradorParcelas(
+                valorPrincipal, valorParcela, numeroParcelas, scale, rm, numeroParcelas - 1).next();
+
+        return new ResumoParcelas(numeroParcelas, total, total, BigDecimal.ZERO, primeira, ultima);
+    }
+
+    private static void validar(BigDecimal valorPrincipal, Integer numeroParcelas) {
         if (valorPrincipal == null) {
             throw new IllegalArgumentException("Valor principal deve ser fornecido");
         }
         if (numeroParcelas == null || numeroParcelas <= 0) {
             throw new IllegalArgumentException("Número de parcelas deve ser positivo e diferente de zero");
         }
-        BigDecimal valorParcela = valorPrincipal.divide(BigDecimal.valueOf(numeroParcelas), mcCalculo);
-        List<Parcela> parcelas = new ArrayList<>();
-        BigDecimal saldoDevedor = valorPrincipal;
+    }
+
+    private static void validarSerie(int serie, int numeroParcelas) {
+        if (serie < 1 || serie > numeroParcelas) {
+            throw new IllegalArgumentException("Série deve estar entre 1 e o número de parcelas");
+        }
+    }
 
-        for (int i = 1; i <= numeroParcelas; i++) {
+    public Stream<Parcela> streamParcelas(BigDecimal valorPrincipal, Integer numeroParcelas) {
+        return streamParcelas(valorPrincipal, BigDecimal.ZERO, numeroParcelas);
+    }
 
-            BigDecimal novoSaldo = valorPrincipal.subtract(valorParcela.multiply(BigDecimal.valueOf(i)));
+    public CronogramaColunar calcularCronograma(BigDecimal valorPrincipal, Integer numeroParcelas) {
+        return calcularCronograma(valorPrincipal, BigDecimal.ZERO, numeroParcelas);
+    }
 
-            int scale = mcResultado.getPrecision() > 0 ? mcResultado.getPrecision() : 2;
-            RoundingMode rm = mcResultado.getRoundingMode() == null ? RoundingMode.HALF_UP : mcResultado.getRoundingMode();
-            BigDecimal saldoAnteriorArred = saldoDevedor.setScale(scale, rm);
+    // Gera uma parcela por chamada a next(). O saldo da série inicial i é
+    // valorPrincipal - i * valorParcela, o que permite começar após qualquer
+    // série; cada next() subtrai valorParcela do saldo exato e reaproveita o
+    // saldo arredondado da série anterior.
+    private static final class IteradorParcelas implements Iterator<Parcela> {
+
+        private final BigDecimal valorParcela;
+        private final int numeroParcelas;
+        private final int scale;
+        private final RoundingMode rm;
+        private BigDecimal saldoDevedor;
+        private BigDecimal saldoDevedorArred;
+        private int serie;
+
+        IteradorParcelas(BigDecimal valorPrincipal, BigDecimal valorParcela, int numeroParcelas,
+                int scale, RoundingMode rm, int serieInicial) {
+            this.valorParcela = valorParcela;
+            this.numeroParcelas = numeroParcelas;
+            this.scale = scale;
+            this.rm = rm;
+            this.serie = serieInicial;
+            this.saldoDevedor = serieInicial == 0
+                    ? valorPrincipal
+                    : valorPrincipal.subtract(valorParcela.multiply(BigDecimal.valueOf(serieInicial)));
+            this.saldoDevedorArred = saldoDevedor.setScale(scale, rm);
+        }
+
+        @Override
+        public boolean hasNext() {
+            return serie < numeroParcelas;
+        }
+
+        @Override
+        public Parcela next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            serie++;
+
+            BigDecimal novoSaldo = saldoDevedor.subtract(valorParcela);
+
+            BigDecimal saldoAnteriorArred = saldoDevedorArred;
             BigDecimal novoSaldoArred = novoSaldo.setScale(scale, rm);
 
             BigDecimal valorParcelaArred = saldoAnteriorArred.subtract(novoSaldoArred);
 
             saldoDevedor = novoSaldo;
+            saldoDevedorArred = novoSaldoArred;
 
             Parcela parcela = new Parcela();
-            parcela.setSerie(i);
+            parcela.setSerie(serie);
             parcela.setValorParcela(valorParcelaArred);
             parcela.setValorAmortizacao(valorParcelaArred);
             parcela.setValorJuros(BigDecimal.ZERO);
             parcela.setSaldoDevedor(novoSaldoArred);
-            parcelas.add(parcela);
+            return parcela;
         }
-
-        return parcelas;
     }
 
 }
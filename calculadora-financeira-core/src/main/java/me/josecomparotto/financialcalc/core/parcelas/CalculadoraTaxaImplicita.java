@@ -0,0 +1,334 @@
+package me.josecomparotto.financialcalc.core.parcelas;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.util.List;
+
+// Resolve a taxa periódica a partir dos demais valores:
+// - calcularTaxa: taxa i tal que a prestação PRICE P(V, i, n) seja a informada;
+// - calcularTaxaInterna: taxa interna de retorno de um fluxo de caixa (por
+//   exemplo, o CET: valor liberado líquido de tarifas contra as prestações
+//   acrescidas dos encargos).
+// Um Newton com bracket em double dá o chute inicial; o refinamento é um
+// Newton em BigDecimal no MathContext de cálculo, limitado a maxIteracoes.
+// Com n|i| pequeno, a prestação e a derivada vêm de uma série em i, sem o
+// cancelamento de 1 - (1 + i)^-n perto de i = 0.
+public class CalculadoraTaxaImplicita {
+
+    public static final int MAX_ITERACOES_PADRAO = 50;
+
+    private static final int MAX_ITERACOES_DOUBLE = 200;
+    private static final BigDecimal LIMITE_SERIE = new BigDecimal("0.01");
+    // Taxas abaixo disto são tratadas em escala absoluta no critério de parada.
+    private static final BigDecimal ESCALA_MINIMA = new BigDecimal("1E-10");
+    private static final double[] GRADE_TAXA_INTERNA = {
+            -0.99, -0.9, -0.5, -0.1, 0, 1e-4, 1e-3, 0.01, 0.05, 0.1, 0.25, 0.5, 1, 2, 5, 10, 100, 1e4};
+
+    private final MathContext mcCalculo;
+    private final int maxIteracoes;
+    // Passo relativo que encerra o refinamento. A fórmula PRICE perde alguns
+    // dígitos em 1 - (1 + i)^-n, então o passo pode estagnar no ruído acima da
+    // precisão de mc; um passo que não diminui e já está abaixo de
+    // toleranciaEstagnacao (raiz de mc) também encerra.
+    private final BigDecimal tolerancia;
+    private final BigDecimal toleranciaEstagnacao;
+
+    public CalculadoraTaxaImplicita() {
+        this(MathContext.DECIMAL128);
+    }
+
+    public CalculadoraTaxaImplicita(MathContext mcCalculo) {
+        this(mcCalculo, MAX_ITERACOES_PADRAO);
+    }
+
+    public CalculadoraTaxaImplicita(MathContext mcCalculo, int maxIteracoes) {
+        if (mcCalculo != null && mcCalculo.getPrecision() == 0) {
+            throw new IllegalArgumentException("MathContext de cálculo deve ter precisão limitada");
+        }
+        if (maxIteracoes <= 0) {
+            throw new IllegalArgumentException("Número máximo de iterações deve ser positivo e diferente de zero");
+        }
+        this.mcCalculo = mcCalculo == null ? MathContext.DECIMAL128 : mcCalculo;
+        this.maxIteracoes = maxIteracoes;
+        this.tolerancia = BigDecimal.ONE.movePointLeft(Math.max(1, this.mcCalculo.getPrecision() - 2));
+        this.toleranciaEstagnacao = BigDecimal.ONE.movePointLeft(Math.max(1, this.mcCalculo.getPrecision() / 2));
+    }
+
+    public ResultadoTaxa calcularTaxa(BigDecimal valorPrincipal, BigDecimal valorPrestacao, int numeroParcelas) {
+        validar(valorPrincipal, valorPrestacao, numeroParcelas);
+
+        int comparacao = valorPrestacao.multiply(BigDecimal.valueOf(numeroParcelas)).compareTo(valorPrincipal);
+        if (comparacao == 0) {
+            return new ResultadoTaxa(BigDecimal.ZERO, 0, true, BigDecimal.ZERO);
+        }
+        double chute = taxaDouble(valorPrincipal.doubleValue(), valorPrestacao.doubleValue(), numeroParcelas);
+        if (!Double.isFinite(chute)) {
+            chute = chuteLinear(valorPrincipal.doubleValue(), valorPrestacao.doubleValue(), numeroParcelas);
+        }
+
+        BigDecimal n = BigDecimal.valueOf(numeroParcelas);
+        return refinar(chute, i -> {
+            if (i.abs().multiply(n).compareTo(LIMITE_SERIE) < 0) {
+                BigDecimal[] serie = prestacaoSerie(valorPrincipal, i, numeroParcelas);
+                return new BigDecimal[] {serie[0].subtract(valorPrestacao, mcCalculo), serie[1]};
+            }
+            FatoresAnuidade fatores = FatoresAnuidade.calcular(i, numeroParcelas, mcCalculo);
+            BigDecimal prestacao = CalculadoraParcelasPrice.calcularValorPrestacao(
+                    valorPrincipal, i, fatores, mcCalculo);
+            BigDecimal derivada = CalculadoraParcelasPrice.derivadaValorPrestacaoPorTaxaJuros(
+                    valorPrincipal, i, numeroParcelas, fatores, mcCalculo);
+            return new BigDecimal[] {prestacao.subtract(valorPrestacao, mcCalculo), derivada};
+        });
+    }
+
+    // Taxa r com sum(fluxos[t] / (1 + r)^t) = 0, t = 0..n. O fluxo precisa ter
+    // ao menos uma troca de sinal; com várias, devolve a primeira raiz acima
+    // de -99% encontrada pela grade de busca.
+    public ResultadoTaxa calcularTaxaInterna(List<BigDecimal> fluxos) {
+        if (fluxos == null || fluxos.size() < 2) {
+            throw new IllegalArgumentException("Fluxo de caixa deve ter ao menos dois valores");
+        }
+        BigDecimal[] valores = fluxos.toArray(new BigDecimal[0]);
+        double[] valoresDouble = new double[valores.length];
+        boolean positivo = false;
+        boolean negativo = false;
+        for (int t = 0; t < valores.length; t++) {
+            if (valores[t] == null) {
+                throw new IllegalArgumentException("Fluxo de caixa não pode conter valores nulos");
+            }
+            positivo |= valores[t].signum() > 0;
+            negativo |= valores[t].signum() < 0;
+            valoresDouble[t] = valores[t].doubleValue();
+        }
+        if (!positivo || !negativo) {
+            throw new IllegalArgumentException("Fluxo de caixa deve ter entradas e saídas (ao menos uma troca de sinal)");
+        }
+
+        double chute = taxaInternaDouble(valoresDouble);
+        if (!Double.isFinite(chute)) {
+            chute = 0.01;
+        }
+        return refinar(chute, r -> valorPresente(valores, r));
+    }
+
+    // Variante em lote, só em double (erro relativo da ordem de 1e-12), para
+    // triagem de muitas ofertas sem alocação por item. Onde os dados são
+    // inválidos ou não há convergência, a taxa é NaN.
+    public static void calcularTaxas(double[] principais, double[] prestacoes, int[] parcelas, double[] taxas) {
+        if (principais == null || prestacoes == null || parcelas == null || taxas == null) {
+            throw new IllegalArgumentException("Vetores devem ser fornecidos");
+        }
+        int quantidade = principais.length;
+        if (prestacoes.length != quantidade || parcelas.length != quantidade || taxas.length < quantidade) {
+            throw new IllegalArgumentException("Vetores devem ter o mesmo tamanho");
+        }
+        for (int k = 0; k < quantidade; k++) {
+            double v = principais[k];
+            double p = prestacoes[k];
+            int n = parcelas[k];
+            taxas[k] = v > 0 && p > 0 && n > 0 && Double.isFinite(v) && Double.isFinite(p)
+                    ? taxaDouble(v, p, n)
+                    : Double.NaN;
+        }
+    }
+
+    private interface FuncaoDecimal {
+        // {f(x), f'(x)}
+        BigDecimal[] avaliar(BigDecimal x);
+    }
+
+    private interface FuncaoDouble {
+        double valor(double x);
+
+        double derivada(double x);
+    }
+
+    private ResultadoTaxa refinar(double chute, FuncaoDecimal funcao) {
+        BigDecimal x = new BigDecimal(chute, mcCalculo);
+        BigDecimal passoAnterior = null;
+        for (int iteracao = 1; iteracao <= maxIteracoes; iteracao++) {
+            BigDecimal[] fx = funcao.avaliar(x);
+            if (fx[0].signum() == 0) {
+                return new ResultadoTaxa(x, iteracao, true, fx[0]);
+            }
+            if (fx[1].signum() == 0) {
+                return new ResultadoTaxa(x, iteracao, false, fx[0]);
+            }
+            BigDecimal passo = fx[0].divide(fx[1], mcCalculo);
+            x = x.subtract(passo, mcCalculo);
+            BigDecimal escala = x.abs().max(ESCALA_MINIMA);
+            BigDecimal tamanho = passo.abs();
+            boolean estagnou = passoAnterior != null && tamanho.compareTo(passoAnterior) >= 0
+                    && tamanho.compareTo(toleranciaEstagnacao.multiply(escala)) <= 0;
+            if (estagnou || tamanho.compareTo(tolerancia.multiply(escala)) <= 0) {
+                return new ResultadoTaxa(x, iteracao, true, funcao.avaliar(x)[0]);
+            }
+            passoAnterior = tamanho;
+        }
+        return new ResultadoTaxa(x, maxIteracoes, false, funcao.avaliar(x)[0]);
+    }
+
+    // P = V / a(i) e P' = -V a'(i) / a(i)^2, com a(i) = (1 - (1 + i)^-n) / i pela
+    // série binomial sum_{k>=1} (-1)^(k+1) C(n+k-1, k) i^(k-1). O termo k+1 é o
+    // termo k vezes -(n+k) i / (k+1), e o termo k+1 de a'(i) é o termo k de a(i)
+    // vezes -(n+k) k / (k+1). Com n|i| < LIMITE_SERIE cada termo cai ao menos
+    // duas ordens de grandeza.
+    private BigDecimal[] prestacaoSerie(BigDecimal valorPrincipal, BigDecimal taxa, int numeroParcelas) {
+        BigDecimal termo = BigDecimal.valueOf(numeroParcelas);
+        BigDecimal a = termo;
+        BigDecimal derivadaA = BigDecimal.ZERO;
+        int digitos = mcCalculo.getPrecision() + 2;
+        for (int k = 1; k <= 4 * digitos; k++) {
+            BigDecimal fator = BigDecimal.valueOf(-(long) (numeroParcelas + k));
+            BigDecimal k1 = BigDecimal.valueOf(k + 1);
+            BigDecimal termoDerivada = termo.multiply(fator, mcCalculo)
+                    .multiply(BigDecimal.valueOf(k), mcCalculo).divide(k1, mcCalculo);
+            termo = termo.multiply(fator, mcCalculo).multiply(taxa, mcCalculo).divide(k1, mcCalculo);
+            a = a.add(termo, mcCalculo);
+            derivadaA = derivadaA.add(termoDerivada, mcCalculo);
+            if (desprezivel(termo, a, digitos) && desprezivel(termoDerivada, derivadaA, digitos)) {
+                break;
+            }
+        }
+        BigDecimal prestacao = valorPrincipal.divide(a, mcCalculo);
+        BigDecimal derivada = prestacao.multiply(derivadaA, mcCalculo).divide(a, mcCalculo).negate();
+        return new BigDecimal[] {prestacao, derivada};
+    }
+
+    private static boolean desprezivel(BigDecimal termo, BigDecimal soma, int digitos) {
+        return termo.signum() == 0
+                || soma.signum() != 0 && termo.abs().compareTo(soma.abs().movePointLeft(digitos)) < 0;
+    }
+
+    // Valor presente e sua derivada em r, por Horner em v = 1 / (1 + r):
+    // VP = sum(F_t v^t), dVP/dr = -v^2 * sum(t F_t v^(t-1)).
+    private BigDecimal[] valorPresente(BigDecimal[] fluxos, BigDecimal taxa) {
+        BigDecimal v = BigDecimal.ONE.divide(BigDecimal.ONE.add(taxa), mcCalculo);
+        BigDecimal soma = fluxos[fluxos.length - 1];
+        BigDecimal derivada = BigDecimal.ZERO;
+        for (int t = fluxos.length - 2; t >= 0; t--) {
+            derivada = derivada.multiply(v, mcCalculo).add(soma, mcCalculo);
+            soma = soma.multiply(v, mcCalculo).add(fluxos[t], mcCalculo);
+        }
+        return new BigDecimal[] {soma, derivada.multiply(v.multiply(v, mcCalculo), mcCalculo).negate()};
+    }
+
+    // P(i) - P é crescente em i; a raiz está em (0, P/V] se nP > V, ou em (-1, 0)
+    // caso contrário.
+    private static double taxaDouble(double v, double p, int n) {
+        double diferenca = p * n - v;
+        if (diferenca == 0) {
+            return 0;
+        }
+        FuncaoDouble f = new FuncaoDouble() {
+            @Override
+            public double valor(double i) {
+                if (i == 0) {
+                    return v / n - p;
+                }
+                return v * i / -Math.expm1(-n * Math.log1p(i)) - p;
+            }
+
+            @Override
+            public double derivada(double i) {
+                if (i == 0) {
+                    return v * (n + 1) / (2.0 * n);
+                }
+                double umMenosDesconto = -Math.expm1(-n * Math.log1p(i));
+                double descontoNMais1 = Math.exp(-(n + 1) * Math.log1p(i));
+                return v * (umMenosDesconto - i * n * descontoNMais1) / (umMenosDesconto * umMenosDesconto);
+            }
+        };
+        double chute = chuteLinear(v, p, n);
+        return diferenca > 0
+                ? newtonDouble(f, 0, p / v, chute)
+                : newtonDouble(f, -1 + 1e-12, 0, chute);
+    }
+
+    // Aproximação de primeira ordem em i: P ~ (V/n)(1 + i(n+1)/2).
+    private static double chuteLinear(double v, double p, int n) {
+        return 2 * (p * n / v - 1) / (n + 1);
+    }
+
+    private static double taxaInternaDouble(double[] fluxos) {
+        FuncaoDouble f = new FuncaoDouble() {
+            @Override
+            public double valor(double r) {
+                double v = 1 / (1 + r);
+                double soma = fluxos[fluxos.length - 1];
+                for (int t = fluxos.length - 2; t >= 0; t--) {
+                    soma = soma * v + fluxos[t];
+                }
+                return soma;
+            }
+
+            @Override
+            public double derivada(double r) {
+                double v = 1 / (1 + r);
+                double soma = fluxos[fluxos.length - 1];
+                double derivada = 0;
+                for (int t = fluxos.length - 2; t >= 0; t--) {
+                    derivada = derivada * v + soma;
+                    soma = soma * v + fluxos[t];
+                }
+                return -derivada * v * v;
+            }
+        };
+        double anterior = f.valor(GRADE_TAXA_INTERNA[0]);
+        for (int k = 1; k < GRADE_TAXA_INTERNA.length; k++) {
+            double atual = f.valor(GRADE_TAXA_INTERNA[k]);
+            if (atual == 0) {
+                return GRADE_TAXA_INTERNA[k];
+            }
+            if (Double.isFinite(anterior) && Double.isFinite(atual) && Math.signum(anterior) != Math.signum(atual)) {
+                double lo = GRADE_TAXA_INTERNA[k - 1];
+                double hi = GRADE_TAXA_INTERNA[k];
+                return newtonDouble(f, lo, hi, (lo + hi) / 2);
+            }
+            anterior = atual;
+        }
+        return Double.NaN;
+    }
+
+    // Newton protegido por bisseção no intervalo [lo, hi], onde f troca de sinal.
+    private static double newtonDouble(FuncaoDouble f, double lo, double hi, double chute) {
+        double sinalLo = Math.signum(f.valor(lo));
+        double x = chute > lo && chute < hi ? chute : (lo + hi) / 2;
+        for (int k = 0; k < MAX_ITERACOES_DOUBLE; k++) {
+            double fx = f.valor(x);
+            if (fx == 0) {
+                return x;
+            }
+            if (!Double.isFinite(fx)) {
+                return Double.NaN;
+            }
+            if (Math.signum(fx) == sinalLo) {
+                lo = x;
+            } else {
+                hi = x;
+            }
+            double proximo = x - fx / f.derivada(x);
+            if (!(proximo > lo && proximo < hi)) {
+                proximo = (lo + hi) / 2;
+            }
+            if (Math.abs(proximo - x) <= 1e-15 * Math.max(Math.abs(x), 1e-10)) {
+                return proximo;
+            }
+            x = proximo;
+        }
+        return Double.NaN;
+    }
+
+    private static void validar(BigDecimal valorPrincipal, BigDecimal valorPrestacao, int numeroParcelas) {
+        if (valorPrincipal == null || valorPrincipal.signum() <= 0) {
+            throw new IllegalArgumentException("Valor principal deve ser positivo e diferente de zero");
+        }
+        if (valorPrestacao == null || valorPrestacao.signum() <= 0) {
+            throw new IllegalArgumentException("Valor da prestação deve ser positivo e diferente de zero");
+        }
+        if (numeroParcelas <= 0) {
+            throw new IllegalArgumentException("Número de parcelas deve ser positivo e diferente de zero");
+        }
+    }
+
+}
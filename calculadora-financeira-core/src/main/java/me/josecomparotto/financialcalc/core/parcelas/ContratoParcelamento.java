@@ -0,0 +1,59 @@
+package me.josecomparotto.financialcalc.core.parcelas;
+
+import java.math.BigDecimal;
+
+// Especificação imutável de um contrato a ser parcelado em lote. O período
+// inicial (da primeira parcela) só é usado na projeção da carteira; pode ser
+// negativo para contratos já em andamento.
+public final class ContratoParcelamento {
+
+    private final SistemaAmortizacao sistema;
+    private final BigDecimal valorPrincipal;
+    private final BigDecimal taxaJuros;
+    private final int numeroParcelas;
+    private final int precisao;
+    private final int periodoInicial;
+
+    public ContratoParcelamento(SistemaAmortizacao sistema, BigDecimal valorPrincipal, BigDecimal taxaJuros,
+            int numeroParcelas, int precisao) {
+        this(sistema, valorPrincipal, taxaJuros, numeroParcelas, precisao, 0);
+    }
+
+    public ContratoParcelamento(SistemaAmortizacao sistema, BigDecimal valorPrincipal, BigDecimal taxaJuros,
+            int numeroParcelas, int precisao, int periodoInicial) {
+        if (sistema == null) {
+            throw new IllegalArgumentException("Sistema de amortização deve ser fornecido");
+        }
+        this.sistema = sistema;
+        this.valorPrincipal = valorPrincipal;
+        this.taxaJuros = taxaJuros;
+        this.numeroParcelas = numeroParcelas;
+        this.precisao = precisao;
+        this.periodoInicial = periodoInicial;
+    }
+
+    public SistemaAmortizacao getSistema() {
+        return sistema;
+    }
+
+    public BigDecimal getValorPrincipal() {
+        return valorPrincipal;
+    }
+
+    public BigDecimal getTaxaJuros() {
+        return taxaJuros;
+    }
+
+    public int getNumeroParcelas() {
+        return numeroParcelas;
+    }
+
+    public int getPrecisao() {
+        return precisao;
+    }
+
+    public int getPeriodoInicial() {
+        return periodoInicial;
+    }
+
+}
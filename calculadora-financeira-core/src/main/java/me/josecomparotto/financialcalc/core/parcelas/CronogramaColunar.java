@@ -0,0 +1,310 @@
+package me.josecomparotto.financialcalc.core.parcelas;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.util.AbstractList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+// Cronograma imutável armazenado em colunas. Cada coluna guarda valores não
+// escalados (long[]) com uma escala única; se algum valor tiver outra escala
+// ou não couber em long, a coluna passa a BigDecimal[]. As linhas viram Parcela
+// apenas quando consultadas, com os mesmos valores (e escalas) de calcularParcelas.
+public final class CronogramaColunar implements Iterable<Parcela> {
+
+    private final int tamanho;
+    private final int[] series;
+    private final Coluna parcelas;
+    private final Coluna amortizacoes;
+    private final Coluna juros;
+    private final Coluna saldos;
+
+    private CronogramaColunar(int tamanho, int[] series, Coluna parcelas, Coluna amortizacoes, Coluna juros,
+            Coluna saldos) {
+        this.tamanho = tamanho;
+        this.series = series;
+        this.parcelas = parcelas;
+        this.amortizacoes = amortizacoes;
+        this.juros = juros;
+        this.saldos = saldos;
+    }
+
+    public static Builder builder(int capacidade) {
+        return new Builder(capacidade);
+    }
+
+    // Consome o iterador; quando ele vem do motor CENTAVOS as colunas são
+    // preenchidas direto dos valores em long, sem criar Parcela.
+    public static CronogramaColunar de(Iterator<Parcela> parcelas, int capacidade) {
+        Builder builder = new Builder(capacidade);
+        if (parcelas instanceof IteradorCentavos centavos) {
+            centavos.percorrer(builder::adicionar, builder::adicionar);
+        } else {
+            parcelas.forEachRemaining(builder::adicionar);
+        }
+        return builder.construir();
+    }
+
+    public int tamanho() {
+        return tamanho;
+    }
+
+    public int getSerie(int indice) {
+        return series[verificar(indice)];
+    }
+
+    public BigDecimal getValorParcela(int indice) {
+        return parcelas.valor(verificar(indice));
+    }
+
+    public BigDecimal getValorAmortizacao(int indice) {
+        return amortizacoes.valor(verificar(indice));
+    }
+
+    public BigDecimal getValorJuros(int indice) {
+        return juros.valor(verificar(indice));
+    }
+
+    public BigDecimal getSaldoDevedor(int indice) {
+        return saldos.valor(verificar(indice));
+    }
+
+    // Nova Parcela (mutável, desvinculada do cronograma) com os valores da linha.
+    public Parcela parcela(int indice) {
+        verificar(indice);
+        Parcela p = new Parcela();
+        p.setSerie(series[indice]);
+        p.setValorParcela(parcelas.valor(indice));
+        p.setValorAmortizacao(amortizacoes.valor(indice));
+        p.setValorJuros(juros.valor(indice));
+        p.setSaldoDevedor(saldos.valor(indice));
+        return p;
+    }
+
+    // Totais iguais à soma da coluna a partir de BigDecimal.ZERO.
+    public BigDecimal totalParcelas() {
+        return parcelas.total(tamanho);
+    }
+
+    public BigDecimal totalAmortizacao() {
+        return amortizacoes.total(tamanho);
+    }
+
+    public BigDecimal totalJuros() {
+        return juros.total(tamanho);
+    }
+
+    // Visão somente leitura; cada get cria a Parcela da linha.
+    public List<Parcela> comoLista() {
+        return new AbstractList<>() {
+            @Override
+            public Parcela get(int indice) {
+                return parcela(indice);
+            }
+
+            @Override
+            public int size() {
+                return tamanho;
+            }
+        };
+    }
+
+    @Override
+    public Iterator<Parcela> iterator() {
+        return new Iterator<>() {
+            private int indice;
+
+            @Override
+            public boolean hasNext() {
+                return indice < tamanho;
+            }
+
+            @Override
+            public Parcela next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return parcela(indice++);
+            }
+        };
+    }
+
+    private int verificar(int indice) {
+        if (indice < 0 || indice >= tamanho) {
+            throw new IndexOutOfBoundsException("Índice " + indice + " fora do cronograma de " + tamanho + " parcelas");
+        }
+        return indice;
+    }
+
+    public static final class Builder {
+
+        private int tamanho;
+        private int[] series;
+        private final Coluna parcelas;
+        private final Coluna amortizacoes;
+        private final Coluna juros;
+        private final Coluna saldos;
+
+        private Builder(int capacidade) {
+            int inicial = Math.max(capacidade, 1);
+            this.series = new int[inicial];
+            this.parcelas = new Coluna(inicial);
+            this.amortizacoes = new Coluna(inicial);
+            this.juros = new Coluna(inicial);
+            this.saldos = new Coluna(inicial);
+        }
+
+        public Builder adicionar(Parcela parcela) {
+            reservar();
+            series[tamanho] = parcela.getSerie();
+            parcelas.definir(tamanho, parcela.getValorParcela());
+            amortizacoes.definir(tamanho, parcela.getValorAmortizacao());
+            juros.definir(tamanho, parcela.getValorJuros());
+            saldos.definir(tamanho, parcela.getSaldoDevedor());
+            tamanho++;
+            return this;
+        }
+
+        void adicionar(GeradorCentavos gerador) {
+            reservar();
+            series[tamanho] = gerador.serie;
+            parcelas.definir(tamanho, gerador.parcela, gerador.escala);
+            amortizacoes.definir(tamanho, gerador.amortizacao, gerador.escala);
+            juros.definir(tamanho, gerador.juros, gerador.escalaJuros());
+            saldos.definir(tamanho, gerador.saldo, gerador.escala);
+            tamanho++;
+        }
+
+        // Linha em valores não escalados, com as escalas de parcela, amortização, juros e saldo.
+        void adicionar(int serie, long parcela, long amortizacao, long juros, long saldo, int[] escalas) {
+            reservar();
+            series[tamanho] = serie;
+            parcelas.definir(tamanho, parcela, escalas[0]);
+            amortizacoes.definir(tamanho, amortizacao, escalas[1]);
+            this.juros.definir(tamanho, juros, escalas[2]);
+            saldos.definir(tamanho, saldo, escalas[3]);
+            tamanho++;
+        }
+
+        // O builder não deve ser reutilizado após construir().
+        public CronogramaColunar construir() {
+            return new CronogramaColunar(tamanho, Arrays.copyOf(series, tamanho),
+                    parcelas.ajustar(tamanho), amortizacoes.ajustar(tamanho), juros.ajustar(tamanho),
+                    saldos.ajustar(tamanho));
+        }
+
+        private void reservar() {
+            if (tamanho == series.length) {
+                int capacidade = series.length + (series.length >> 1) + 1;
+                series = Arrays.copyOf(series, capacidade);
+                parcelas.crescer(capacidade);
+                amortizacoes.crescer(capacidade);
+                juros.crescer(capacidade);
+                saldos.crescer(capacidade);
+            }
+        }
+    }
+
+    // Coluna em long[] com escala única, ou em BigDecimal[] quando isso não é possível.
+    private static final class Coluna {
+
+        private static final int SEM_ESCALA = Integer.MIN_VALUE;
+
+        private long[] naoEscalados;
+        private BigDecimal[] valores;
+        private int escala = SEM_ESCALA;
+
+        Coluna(int capacidade) {
+            this.naoEscalados = new long[capacidade];
+        }
+
+        BigDecimal valor(int indice) {
+            return valores != null ? valores[indice] : BigDecimal.valueOf(naoEscalados[indice], escala);
+        }
+
+        void definir(int indice, BigDecimal valor) {
+            if (valores == null) {
+                if (escala == SEM_ESCALA) {
+                    escala = valor.scale();
+                }
+                if (valor.scale() == escala && valor.unscaledValue().bitLength() < Long.SIZE) {
+                    naoEscalados[indice] = valor.unscaledValue().longValue();
+                    return;
+                }
+                promover(indice, naoEscalados.length);
+            }
+            valores[indice] = valor;
+        }
+
+        void definir(int indice, long naoEscalado, int escalaValor) {
+            if (valores == null) {
+                if (escala == SEM_ESCALA) {
+                    escala = escalaValor;
+                }
+                if (escalaValor == escala) {
+                    naoEscalados[indice] = naoEscalado;
+                    return;
+                }
+                promover(indice, naoEscalados.length);
+            }
+            valores[indice] = BigDecimal.valueOf(naoEscalado, escalaValor);
+        }
+
+        void crescer(int capacidade) {
+            if (valores != null) {
+                valores = Arrays.copyOf(valores, capacidade);
+            } else {
+                naoEscalados = Arrays.copyOf(naoEscalados, capacidade);
+            }
+        }
+
+        Coluna ajustar(int tamanho) {
+            if (valores != null) {
+                valores = Arrays.copyOf(valores, tamanho);
+            } else {
+                naoEscalados = Arrays.copyOf(naoEscalados, tamanho);
+            }
+            return this;
+        }
+
+        BigDecimal total(int tamanho) {
+            if (valores != null) {
+                BigDecimal total = BigDecimal.ZERO;
+                for (int i = 0; i < tamanho; i++) {
+                    total = total.add(valores[i]);
+                }
+                return total;
+            }
+            if (tamanho == 0) {
+                return BigDecimal.ZERO;
+            }
+            long soma = 0;
+            BigInteger excedente = null;
+            for (int i = 0; i < tamanho; i++) {
+                long v = naoEscalados[i];
+                long r = soma + v;
+                if (((soma ^ r) & (v ^ r)) < 0) {
+                    excedente = (excedente == null ? BigInteger.ZERO : excedente).add(BigInteger.valueOf(soma));
+                    r = v;
+                }
+                soma = r;
+            }
+            BigInteger totalNaoEscalado = excedente == null ? BigInteger.valueOf(soma)
+                    : excedente.add(BigInteger.valueOf(soma));
+            // ZERO.add(x) fica com escala max(0, escala(x))
+            BigDecimal total = new BigDecimal(totalNaoEscalado, escala);
+            return escala < 0 ? total.setScale(0) : total;
+        }
+
+        private void promover(int ate, int capacidade) {
+            valores = new BigDecimal[capacidade];
+            for (int i = 0; i < ate; i++) {
+                valores[i] = BigDecimal.valueOf(naoEscalados[i], escala);
+            }
+            naoEscalados = null;
+        }
+    }
+
+}
@@ -0,0 +1,145 @@
+package me.josecomparotto.financialcalc.core.parcelas;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Iterator;
+
+import static me.josecomparotto.financialcalc.core.parcelas.FormatoCronogramaBinario.CAPACIDADE_MAXIMA;
+import static me.josecomparotto.financialcalc.core.parcelas.FormatoCronogramaBinario.COLUNAS_VALOR;
+
+// Grava um cronograma no formato binário (ver FormatoCronogramaBinario). As
+// linhas são acumuladas em um ByteBuffer direto por coluna e, a cada bloco,
+// gravadas na posição da coluna com FileChannel.write(buffer, posição), sem
+// cópia intermediária. O cabeçalho (com a quantidade de linhas) é gravado em
+// close().
+//
+// Cada coluna assume a escala da primeira linha; valores com outra escala ou
+// que não cabem em 64 bits são rejeitados.
+public final class EscritorCronogramaBinario implements AutoCloseable {
+
+    private static final int LINHAS_POR_BLOCO = 8192;
+    private static final int SEM_ESCALA = Integer.MIN_VALUE;
+
+    private final FileChannel canal;
+    private final SistemaAmortizacao sistema;
+    private final int capacidade;
+    private final ByteBuffer[] colunas = new ByteBuffer[COLUNAS_VALOR];
+    private final ByteBuffer series;
+    private final int[] escalas = {SEM_ESCALA, SEM_ESCALA, SEM_ESCALA, SEM_ESCALA};
+    private int quantidade;
+    private int gravadas;
+    private boolean fechado;
+
+    // 'capacidade' é o número máximo de linhas (o prazo do cronograma); 'sistema' pode ser nulo.
+    public EscritorCronogramaBinario(Path arquivo, SistemaAmortizacao sistema, int capacidade) throws IOException {
+        if (arquivo == null) {
+            throw new IllegalArgumentException("Arquivo deve ser fornecido");
+        }
+        if (capacidade < 0 || capacidade > CAPACIDADE_MAXIMA) {
+            throw new IllegalArgumentException("Capacidade deve estar entre 0 e " + CAPACIDADE_MAXIMA + " parcelas");
+        }
+        this.sistema = sistema;
+        this.capacidade = capacidade;
+        int linhas = Math.max(1, Math.min(capacidade, LINHAS_POR_BLOCO));
+        for (int c = 0; c < COLUNAS_VALOR; c++) {
+            colunas[c] = ByteBuffer.allocateDirect(linhas * Long.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        }
+        this.series = ByteBuffer.allocateDirect(linhas * Integer.BYTES).order(ByteOrder.LITTLE_ENDIAN);
+        this.canal = FileChannel.open(arquivo, StandardOpenOption.CREATE, StandardOpenOption.WRITE,
+                StandardOpenOption.TRUNCATE_EXISTING);
+    }
+
+    public void escrever(Parcela parcela) throws IOException {
+        if (fechado) {
+            throw new IllegalStateException("Escritor de cronograma já fechado");
+        }
+        if (quantidade == capacidade) {
+            throw new IllegalArgumentException("Cronograma excede a capacidade de " + capacidade + " parcelas");
+        }
+        long valorParcela = naoEscalado(0, parcela.getValorParcela());
+        long amortizacao = naoEscalado(1, parcela.getValorAmortizacao());
+        long juros = naoEscalado(2, parcela.getValorJuros());
+        long saldo = naoEscalado(3, parcela.getSaldoDevedor());
+        colunas[0].putLong(valorParcela);
+        colunas[1].putLong(amortizacao);
+        colunas[2].putLong(juros);
+        colunas[3].putLong(saldo);
+        series.putInt(parcela.getSerie());
+        quantidade++;
+        if (!series.hasRemaining()) {
+            descarregar();
+        }
+    }
+
+    public void escreverTodas(Iterator<Parcela> parcelas) throws IOException {
+        while (parcelas.hasNext()) {
+            escrever(parcelas.next());
+        }
+    }
+
+    public int getQuantidade() {
+        return quantidade;
+    }
+
+    @Override
+    public void close() throws IOException {
+        if (fechado) {
+            return;
+        }
+        fechado = true;
+        try (canal) {
+            descarregar();
+            int[] escalasGravadas = new int[COLUNAS_VALOR];
+            for (int c = 0; c < COLUNAS_VALOR; c++) {
+                escalasGravadas[c] = escalas[c] == SEM_ESCALA ? 0 : escalas[c];
+            }
+            gravar(FormatoCronogramaBinario.cabecalho(sistema, escalasGravadas, capacidade, quantidade), 0);
+            long tamanho = FormatoCronogramaBinario.tamanhoArquivo(capacidade);
+            if (canal.size() < tamanho) {
+                // Linhas não usadas da última coluna: completa o arquivo para o leitor mapear.
+                gravar(ByteBuffer.allocate(1), tamanho - 1);
+            }
+        }
+    }
+
+    private long naoEscalado(int coluna, BigDecimal valor) {
+        int escala = valor.scale();
+        if (escalas[coluna] != escala) {
+            if (escalas[coluna] != SEM_ESCALA) {
+                throw new IllegalArgumentException("Valor " + valor + " com escala diferente da coluna ("
+                        + escalas[coluna] + ") no cronograma binário");
+            }
+            if (escala < Byte.MIN_VALUE || escala > Byte.MAX_VALUE) {
+                throw new IllegalArgumentException("Escala " + escala + " fora do intervalo do cronograma binário");
+            }
+            escalas[coluna] = escala;
+        }
+        try {
+            return valor.scaleByPowerOfTen(escala).longValueExact();
+        } catch (ArithmeticException e) {
+            throw new IllegalArgumentException("Valor " + valor + " não cabe em 64 bits no cronograma binário");
+        }
+    }
+
+    private void descarregar() throws IOException {
+        for (int c = 0; c < COLUNAS_VALOR; c++) {
+            gravar(colunas[c].flip(), FormatoCronogramaBinario.posicaoColuna(c, capacidade) + (long) gravadas * Long.BYTES);
+            colunas[c].clear();
+        }
+        gravar(series.flip(), FormatoCronogramaBinario.posicaoSeries(capacidade) + (long) gravadas * Integer.BYTES);
+        series.clear();
+        gravadas = quantidade;
+    }
+
+    private void gravar(ByteBuffer buffer, long posicao) throws IOException {
+        while (buffer.hasRemaining()) {
+            posicao += canal.write(buffer, posicao);
+        }
+    }
+
+}
@@ -0,0 +1,84 @@
+package me.josecomparotto.financialcalc.core.parcelas;
+
+import java.io.Closeable;
+import java.io.Flushable;
+import java.io.IOException;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+
+// Grava cronogramas em CSV (serie,parcela,amortizacao,juros,saldo e a linha
+// TOTAL) com os mesmos bytes de printf("%d,%s,%s,%s,%s%n") sobre
+// BigDecimal.toString, mas formatando os valores direto em um buffer de bytes
+// reutilizado, descarregado no canal em blocos.
+public final class EscritorCsvCronograma implements Flushable, Closeable {
+
+    public static final String CABECALHO = "serie,parcela,amortizacao,juros,saldo";
+
+    private static final byte[] TOTAL = "TOTAL,".getBytes(StandardCharsets.US_ASCII);
+
+    private final SaidaBytes saida;
+    private final byte[] quebraLinha = System.lineSeparator().getBytes(StandardCharsets.US_ASCII);
+    private final TotalColuna totalParcelas = new TotalColuna();
+    private final TotalColuna totalAmortizacao = new TotalColuna();
+    private final TotalColuna totalJuros = new TotalColuna();
+
+    public EscritorCsvCronograma(WritableByteChannel canal) {
+        this(canal, SaidaBytes.BUFFER_PADRAO);
+    }
+
+    public EscritorCsvCronograma(WritableByteChannel canal, int tamanhoBuffer) {
+        this.saida = new SaidaBytes(canal, tamanhoBuffer);
+    }
+
+    public void escreverCabecalho() throws IOException {
+        saida.escreverAscii(CABECALHO);
+        saida.escreverBytes(quebraLinha);
+    }
+
+    // Linhas de dados e TOTAL, cada uma precedida por 'prefixo' (pode ser vazio).
+    public void escreverParcelas(Iterator<Parcela> parcelas, String prefixo) throws IOException {
+        byte[] bytesPrefixo = prefixo.getBytes(StandardCharsets.UTF_8);
+        totalParcelas.zerar();
+        totalAmortizacao.zerar();
+        totalJuros.zerar();
+        while (parcelas.hasNext()) {
+            Parcela p = parcelas.next();
+            saida.escreverBytes(bytesPrefixo);
+            saida.escreverLong(p.getSerie());
+            saida.escreverByte(',');
+            saida.escreverValor(p.getValorParcela());
+            saida.escreverByte(',');
+            saida.escreverValor(p.getValorAmortizacao());
+            saida.escreverByte(',');
+            saida.escreverValor(p.getValorJuros());
+            saida.escreverByte(',');
+            saida.escreverValor(p.getSaldoDevedor());
+            saida.escreverBytes(quebraLinha);
+            totalParcelas.somar(p.getValorParcela());
+            totalAmortizacao.somar(p.getValorAmortizacao());
+            totalJuros.somar(p.getValorJuros());
+        }
+        saida.escreverBytes(bytesPrefixo);
+        saida.escreverBytes(TOTAL);
+        saida.escreverValor(totalParcelas.valor());
+        saida.escreverByte(',');
+        saida.escreverValor(totalAmortizacao.valor());
+        saida.escreverByte(',');
+        saida.escreverValor(totalJuros.valor());
+        saida.escreverByte(',');
+        saida.escreverBytes(quebraLinha);
+    }
+
+    @Override
+    public void flush() throws IOException {
+        saida.flush();
+    }
+
+    // Descarrega o buffer e fecha o canal.
+    @Override
+    public void close() throws IOException {
+        saida.close();
+    }
+
+}
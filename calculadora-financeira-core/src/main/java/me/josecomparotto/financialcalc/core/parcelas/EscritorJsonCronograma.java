@@ -0,0 +1,107 @@
+package me.josecomparotto.financialcalc.core.parcelas;
+
+import java.io.Closeable;
+import java.io.Flushable;
+import java.io.IOException;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+import java.util.Iterator;
+
+// Grava cronogramas em JSON sem mapeador: cada parcela vira
+// {"serie":1,"parcela":...,"amortizacao":...,"juros":...,"saldo":...}, com os
+// valores como BigDecimal.toPlainString, formatados direto no buffer (ver
+// SaidaBytes). Só os totais ficam em memória, então cronogramas longos são
+// gravados à medida que o iterador avança.
+//
+// JSON:   {"parcelas":[{...},{...}],"totais":{"parcelas":...,"amortizacao":...,"juros":...}}
+// NDJSON: uma linha por parcela e, por último, {"totais":{...}}
+public final class EscritorJsonCronograma implements Flushable, Closeable {
+
+    public enum Modo { JSON, NDJSON }
+
+    private static final byte[] SERIE = bytes("{\"serie\":");
+    private static final byte[] PARCELA = bytes(",\"parcela\":");
+    private static final byte[] AMORTIZACAO = bytes(",\"amortizacao\":");
+    private static final byte[] JUROS = bytes(",\"juros\":");
+    private static final byte[] SALDO = bytes(",\"saldo\":");
+    private static final byte[] INICIO_LISTA = bytes("{\"parcelas\":[");
+    private static final byte[] TOTAIS_LISTA = bytes("],\"totais\":{\"parcelas\":");
+    private static final byte[] TOTAIS_LINHA = bytes("{\"totais\":{\"parcelas\":");
+    private static final byte[] FIM_TOTAIS = bytes("}}\n");
+
+    private final SaidaBytes saida;
+    private final Modo modo;
+    private final TotalColuna totalParcelas = new TotalColuna();
+    private final TotalColuna totalAmortizacao = new TotalColuna();
+    private final TotalColuna totalJuros = new TotalColuna();
+
+    public EscritorJsonCronograma(WritableByteChannel canal, Modo modo) {
+        this(canal, modo, SaidaBytes.BUFFER_PADRAO);
+    }
+
+    public EscritorJsonCronograma(WritableByteChannel canal, Modo modo, int tamanhoBuffer) {
+        if (modo == null) {
+            throw new IllegalArgumentException("Modo deve ser fornecido");
+        }
+        this.saida = new SaidaBytes(canal, tamanhoBuffer);
+        this.modo = modo;
+    }
+
+    private static byte[] bytes(String texto) {
+        return texto.getBytes(StandardCharsets.US_ASCII);
+    }
+
+    public void escreverCronograma(Iterator<Parcela> parcelas) throws IOException {
+        boolean lista = modo == Modo.JSON;
+        totalParcelas.zerar();
+        totalAmortizacao.zerar();
+        totalJuros.zerar();
+        if (lista) {
+            saida.escreverBytes(INICIO_LISTA);
+        }
+        boolean primeira = true;
+        while (parcelas.hasNext()) {
+            Parcela p = parcelas.next();
+            if (lista && !primeira) {
+                saida.escreverByte(',');
+            }
+            primeira = false;
+            saida.escreverBytes(SERIE);
+            saida.escreverLong(p.getSerie());
+            saida.escreverBytes(PARCELA);
+            saida.escreverValorSimples(p.getValorParcela());
+            saida.escreverBytes(AMORTIZACAO);
+            saida.escreverValorSimples(p.getValorAmortizacao());
+            saida.escreverBytes(JUROS);
+            saida.escreverValorSimples(p.getValorJuros());
+            saida.escreverBytes(SALDO);
+            saida.escreverValorSimples(p.getSaldoDevedor());
+            saida.escreverByte('}');
+            if (!lista) {
+                saida.escreverByte('\n');
+            }
+            totalParcelas.somar(p.getValorParcela());
+            totalAmortizacao.somar(p.getValorAmortizacao());
+            totalJuros.somar(p.getValorJuros());
+        }
+        saida.escreverBytes(lista ? TOTAIS_LISTA : TOTAIS_LINHA);
+        saida.escreverValorSimples(totalParcelas.valor());
+        saida.escreverBytes(AMORTIZACAO);
+        saida.escreverValorSimples(totalAmortizacao.valor());
+        saida.escreverBytes(JUROS);
+        saida.escreverValorSimples(totalJuros.valor());
+        saida.escreverBytes(FIM_TOTAIS);
+    }
+
+    @Override
+    public void flush() throws IOException {
+        saida.flush();
+    }
+
+    // Descarrega o buffer e fecha o canal.
+    @Override
+    public void close() throws IOException {
+        saida.close();
+    }
+
+}
@@ -0,0 +1,46 @@
+package me.josecomparotto.financialcalc.core.parcelas;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+
+// Fatores de desconto (1 + i)^-n usados pela prestação PRICE e pela sua
+// derivada em relação à taxa. Dependem apenas de (i, n, mc), por isso podem
+// ser compartilhados por todos os contratos com a mesma taxa e prazo.
+final class FatoresAnuidade {
+
+    // 1 - (1 + i)^-n, com 1 + i exato (fórmula da prestação)
+    final BigDecimal umMenosDescontoPrestacao;
+    // 1 - (1 + i)^-n, com 1 + i arredondado em mc (fórmula da derivada)
+    final BigDecimal umMenosDescontoDerivada;
+    // (1 + i)^(-n-1), com 1 + i arredondado em mc
+    final BigDecimal descontoNMais1;
+    // (1 - (1 + i)^-n)^2
+    final BigDecimal denominadorDerivada;
+
+    private FatoresAnuidade(BigDecimal umMenosDescontoPrestacao, BigDecimal umMenosDescontoDerivada,
+            BigDecimal descontoNMais1, BigDecimal denominadorDerivada) {
+        this.umMenosDescontoPrestacao = umMenosDescontoPrestacao;
+        this.umMenosDescontoDerivada = umMenosDescontoDerivada;
+        this.descontoNMais1 = descontoNMais1;
+        this.denominadorDerivada = denominadorDerivada;
+    }
+
+    static FatoresAnuidade calcular(BigDecimal taxaJuros, int quantidadeParcelas, MathContext mc) {
+        BigDecimal umMaisI = BigDecimal.ONE.add(taxaJuros);
+        BigDecimal umMaisIArred = BigDecimal.ONE.add(taxaJuros, mc);
+
+        BigDecimal umMenosDescontoPrestacao = BigDecimal.ONE.subtract(
+                BigDecimal.ONE.divide(umMaisI, mc).pow(quantidadeParcelas, mc), mc);
+
+        // Quando 1 + i cabe em mc os dois cálculos de (1 + i)^-n coincidem.
+        BigDecimal inversoArred = BigDecimal.ONE.divide(umMaisIArred, mc);
+        BigDecimal umMenosDescontoDerivada = umMaisIArred.equals(umMaisI)
+                ? umMenosDescontoPrestacao
+                : BigDecimal.ONE.subtract(inversoArred.pow(quantidadeParcelas, mc), mc);
+        BigDecimal descontoNMais1 = inversoArred.pow(quantidadeParcelas + 1, mc);
+
+        return new FatoresAnuidade(umMenosDescontoPrestacao, umMenosDescontoDerivada, descontoNMais1,
+                umMenosDescontoDerivada.pow(2, mc));
+    }
+
+}
@@ -0,0 +1,63 @@
+package me.josecomparotto.financialcalc.core.parcelas;
+
+import java.math.BigDecimal;
+
+// Fluxo de caixa projetado de uma carteira (ver CalculadoraParcelasLote.projetar):
+// por período 0..horizonte-1, a soma das parcelas, amortizações e juros que
+// vencem no período e dos saldos devedores após essas parcelas. Contratos que
+// ainda não começaram ou já terminaram não entram no período. Os totais são
+// guardados não escalados, na escala comum dos contratos.
+public final class FluxoCarteira {
+
+    private final int escala;
+    private final long contratos;
+    private final long[] parcelas;
+    private final long[] amortizacoes;
+    private final long[] juros;
+    private final long[] saldos;
+
+    FluxoCarteira(int escala, long contratos, long[] parcelas, long[] amortizacoes, long[] juros, long[] saldos) {
+        this.escala = escala;
+        this.contratos = contratos;
+        this.parcelas = parcelas;
+        this.amortizacoes = amortizacoes;
+        this.juros = juros;
+        this.saldos = saldos;
+    }
+
+    public int horizonte() {
+        return parcelas.length;
+    }
+
+    public int getEscala() {
+        return escala;
+    }
+
+    public long getContratos() {
+        return contratos;
+    }
+
+    public BigDecimal getTotalParcelas(int periodo) {
+        return BigDecimal.valueOf(parcelas[verificar(periodo)], escala);
+    }
+
+    public BigDecimal getTotalAmortizacao(int periodo) {
+        return BigDecimal.valueOf(amortizacoes[verificar(periodo)], escala);
+    }
+
+    public BigDecimal getTotalJuros(int periodo) {
+        return BigDecimal.valueOf(juros[verificar(periodo)], escala);
+    }
+
+    public BigDecimal getSaldoDevedor(int periodo) {
+        return BigDecimal.valueOf(saldos[verificar(periodo)], escala);
+    }
+
+    private int verificar(int periodo) {
+        if (periodo < 0 || periodo >= parcelas.length) {
+            throw new IndexOutOfBoundsException("Período " + periodo + " fora do horizonte de " + parcelas.length);
+        }
+        return periodo;
+    }
+
+}
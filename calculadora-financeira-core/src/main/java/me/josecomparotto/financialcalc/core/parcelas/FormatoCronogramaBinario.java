@@ -0,0 +1,67 @@
+package me.josecomparotto.financialcalc.core.parcelas;
+
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+
+// Formato binário de cronograma, versão 1 (little-endian):
+//
+//   0  4  "CFCB"
+//   4  2  versão (1)
+//   6  1  sistema: 0 = não informado, 1 = PRICE, 2 = SAC, 3 = SEM_JUROS
+//   7  1  reservado
+//   8  4  escalas (int8) das colunas parcela, amortização, juros e saldo
+//  12  4  capacidade (int32): linhas reservadas em cada coluna
+//  16  4  quantidade (int32): linhas válidas, <= capacidade
+//  20 12  reservado
+//  32     parcela, amortização, juros e saldo: int64[capacidade] cada, valores
+//         não escalados; depois série: int32[capacidade]
+//
+// As colunas têm largura fixa e posição conhecida a partir do cabeçalho, então
+// podem ser lidas sem cópia por um ByteBuffer mapeado.
+final class FormatoCronogramaBinario {
+
+    static final int MAGICO = 'C' | 'F' << 8 | 'C' << 16 | 'B' << 24;
+    static final short VERSAO = 1;
+    static final int CABECALHO = 32;
+    static final int COLUNAS_VALOR = 4;
+    static final int BYTES_POR_LINHA = COLUNAS_VALOR * Long.BYTES + Integer.BYTES;
+    static final int CAPACIDADE_MAXIMA = (Integer.MAX_VALUE - CABECALHO) / BYTES_POR_LINHA;
+
+    private FormatoCronogramaBinario() {
+    }
+
+    static long posicaoColuna(int coluna, int capacidade) {
+        return CABECALHO + (long) coluna * Long.BYTES * capacidade;
+    }
+
+    static long posicaoSeries(int capacidade) {
+        return posicaoColuna(COLUNAS_VALOR, capacidade);
+    }
+
+    static long tamanhoArquivo(int capacidade) {
+        return CABECALHO + (long) BYTES_POR_LINHA * capacidade;
+    }
+
+    static byte codigo(SistemaAmortizacao sistema) {
+        return (byte) (sistema == null ? 0 : sistema.ordinal() + 1);
+    }
+
+    static SistemaAmortizacao sistema(byte codigo) {
+        SistemaAmortizacao[] sistemas = SistemaAmortizacao.values();
+        if (codigo < 0 || codigo > sistemas.length) {
+            throw new IllegalArgumentException("Sistema de amortização desconhecido no cronograma binário: " + codigo);
+        }
+        return codigo == 0 ? null : sistemas[codigo - 1];
+    }
+
+    static ByteBuffer cabecalho(SistemaAmortizacao sistema, int[] escalas, int capacidade, int quantidade) {
+        ByteBuffer cabecalho = ByteBuffer.allocate(CABECALHO).order(ByteOrder.LITTLE_ENDIAN);
+        cabecalho.putInt(MAGICO).putShort(VERSAO).put(codigo(sistema)).put((byte) 0);
+        for (int escala : escalas) {
+            cabecalho.put((byte) escala);
+        }
+        cabecalho.putInt(capacidade).putInt(quantidade);
+        return cabecalho.clear();
+    }
+
+}
@@ -0,0 +1,110 @@
+package me.josecomparotto.financialcalc.core.parcelas;
+
+import java.math.BigDecimal;
+
+// Cursor sobre um cronograma em valores não escalados (long) na escala do
+// resultado. Cada chamada a proxima() avança uma série e atualiza os campos
+// sem criar objetos.
+abstract class GeradorCentavos {
+
+    // Maior valor não escalado aceito para principal e prestação.
+    static final long LIMITE = 1_000_000_000_000_000L;
+
+    static final long FORA_DO_INTERVALO = Long.MIN_VALUE;
+
+    private static final long[] POTENCIAS_DEZ = new long[19];
+
+    static {
+        POTENCIAS_DEZ[0] = 1;
+        for (int k = 1; k < POTENCIAS_DEZ.length; k++) {
+            POTENCIAS_DEZ[k] = POTENCIAS_DEZ[k - 1] * 10;
+        }
+    }
+
+    final int escala;
+    final int numeroParcelas;
+    int serie;
+    long parcela;
+    long amortizacao;
+    long juros;
+    long saldo;
+
+    // Última prestação e amortização convertidas: no PRICE a prestação se
+    // repete em todas as séries e no SAC a amortização quase sempre, então
+    // paraParcela reaproveita o BigDecimal (imutável) em vez de criar outro.
+    private long parcelaConvertida = FORA_DO_INTERVALO;
+    private BigDecimal parcelaDecimal;
+    private long amortizacaoConvertida = FORA_DO_INTERVALO;
+    private BigDecimal amortizacaoDecimal;
+
+    GeradorCentavos(int escala, int numeroParcelas) {
+        this.escala = escala;
+        this.numeroParcelas = numeroParcelas;
+    }
+
+    // Avança para a próxima série. Retorna false ao final do cronograma ou
+    // quando o gerador não consegue mais garantir o resultado (ver isIndeterminado).
+    abstract boolean proxima();
+
+    boolean isIndeterminado() {
+        return false;
+    }
+
+    // Escala da coluna de juros (a mesma do resultado, exceto no sem juros).
+    int escalaJuros() {
+        return escala;
+    }
+
+    Parcela paraParcela() {
+        Parcela p = new Parcela();
+        p.setSerie(serie);
+        if (parcela != parcelaConvertida) {
+            parcelaConvertida = parcela;
+            parcelaDecimal = BigDecimal.valueOf(parcela, escala);
+        }
+        if (amortizacao != amortizacaoConvertida) {
+            amortizacaoConvertida = amortizacao;
+            amortizacaoDecimal = amortizacao == parcela ? parcelaDecimal : BigDecimal.valueOf(amortizacao, escala);
+        }
+        p.setValorParcela(parcelaDecimal);
+        p.setValorAmortizacao(amortizacaoDecimal);
+        p.setValorJuros(BigDecimal.valueOf(juros, escala));
+        p.setSaldoDevedor(BigDecimal.valueOf(saldo, escala));
+        return p;
+    }
+
+    // Valor não escalado de 'valor' na escala informada, ou FORA_DO_INTERVALO
+    // quando exigiria arredondamento ou não cabe em long.
+    static long naoEscalado(BigDecimal valor, int escala) {
+        try {
+            return valor.setScale(escala).unscaledValue().longValueExact();
+        } catch (ArithmeticException e) {
+            return FORA_DO_INTERVALO;
+        }
+    }
+
+    static long potenciaDez(int expoente) {
+        return expoente >= 0 && expoente < POTENCIAS_DEZ.length ? POTENCIAS_DEZ[expoente] : FORA_DO_INTERVALO;
+    }
+
+    // Arredonda HALF_UP o valor exato (y - b/n) / pot, com 0 <= b < n e
+    // y - b/n >= 0. No empate exato, 'empateParaBaixo' indica que o valor
+    // calculado em BigDecimal fica ligeiramente abaixo do exato.
+    static long arredondar(long y, long b, long n, long pot, boolean empateParaBaixo) {
+        long quociente;
+        int comparacao;
+        if (b == 0) {
+            quociente = y / pot;
+            comparacao = Long.compare(2 * (y % pot), pot);
+        } else {
+            quociente = (y - 1) / pot;
+            long resto = (y - 1) % pot;
+            comparacao = Long.compare(2 * (resto * n + n - b), pot * n);
+        }
+        if (comparacao > 0 || (comparacao == 0 && !empateParaBaixo)) {
+            return quociente + 1;
+        }
+        return quociente;
+    }
+
+}
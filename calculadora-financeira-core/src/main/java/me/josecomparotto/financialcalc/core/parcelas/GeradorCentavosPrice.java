@@ -0,0 +1,139 @@
+package me.josecomparotto.financialcalc.core.parcelas;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.RoundingMode;
+
+// Gerador em centavos para o sistema PRICE.
+//
+// Em BigDecimal o saldo sem arredondamento é exato (SD_k = SD_{k-1} * (1 + i) - P)
+// e ganha dígitos a cada série. Aqui ele é mantido em ponto fixo de 128 bits
+// (saldoAlto = parte inteira em centavos, saldoBaixo = fração em 2^-64 centavo)
+// junto com um limite superior do erro acumulado. Enquanto a fração estiver
+// mais longe da metade do centavo do que esse limite, o arredondamento HALF_UP
+// é o mesmo do valor exato. Caso contrário o gerador para e fica
+// indeterminado, e o chamador retoma o cronograma em BigDecimal.
+final class GeradorCentavosPrice extends GeradorCentavos {
+
+    private static final BigDecimal DOIS_A_128 = new BigDecimal(BigInteger.ONE.shiftLeft(128));
+
+    // Erro de truncamento por série, em 2^-64 centavo (produto + representação da taxa).
+    private static final double ERRO_POR_SERIE = 2.0;
+
+    private static final double ERRO_MAXIMO = 0x1p60;
+
+    private static final long SALDO_MAXIMO = 1L << 61;
+
+    private final long valorParcela;
+    private final long taxaAlta;
+    private final long taxaBaixa;
+    private final double fatorErro;
+    private long saldoAlto;
+    private long saldoBaixo;
+    private double erro;
+    private boolean indeterminado;
+
+    private GeradorCentavosPrice(int escala, int numeroParcelas, long principal, long valorParcela,
+            long taxaAlta, long taxaBaixa, double fatorErro) {
+        super(escala, numeroParcelas);
+        this.valorParcela = valorParcela;
+        this.taxaAlta = taxaAlta;
+        this.taxaBaixa = taxaBaixa;
+        this.fatorErro = fatorErro;
+        this.saldoAlto = principal;
+        this.saldo = principal;
+    }
+
+    // Retorna null quando os valores estão fora do domínio do gerador; o
+    // chamador deve usar o caminho BigDecimal.
+    static GeradorCentavosPrice criar(BigDecimal valorPrincipal, BigDecimal valorParcelaArred,
+            BigDecimal taxaJurosAjustada, int numeroParcelas, int escala, RoundingMode rm) {
+        if (rm != RoundingMode.HALF_UP || valorPrincipal.signum() < 0) {
+            return null;
+        }
+        if (taxaJurosAjustada.signum() <= 0 || taxaJurosAjustada.compareTo(BigDecimal.ONE) >= 0) {
+            return null;
+        }
+        long vc = naoEscalado(valorPrincipal, escala);
+        long pc = naoEscalado(valorParcelaArred, escala);
+        if (vc == FORA_DO_INTERVALO || vc > LIMITE || pc == FORA_DO_INTERVALO || pc < 0 || pc > LIMITE) {
+            return null;
+        }
+        // taxa = floor(i * 2^128) / 2^128
+        BigInteger taxa = taxaJurosAjustada.multiply(DOIS_A_128).toBigInteger();
+        double fatorErro = Math.nextUp(1.0 + Math.nextUp(taxaJurosAjustada.doubleValue())) * (1.0 + 0x1p-40);
+        return new GeradorCentavosPrice(escala, numeroParcelas, vc, pc,
+                taxa.shiftRight(64).longValue(), taxa.longValue(), fatorErro);
+    }
+
+    @Override
+    boolean proxima() {
+        if (indeterminado || serie >= numeroParcelas) {
+            return false;
+        }
+
+        // J_k = SD_{k-1} * i
+        boolean negativo = saldoAlto < 0;
+        long mAlto = saldoAlto;
+        long mBaixo = saldoBaixo;
+        if (negativo) {
+            mBaixo = -saldoBaixo;
+            mAlto = ~saldoAlto + (saldoBaixo == 0 ? 1 : 0);
+        }
+        long p1 = Math.unsignedMultiplyHigh(mBaixo, taxaBaixa);
+        long m1 = mBaixo * taxaAlta;
+        long m1Alto = Math.unsignedMultiplyHigh(mBaixo, taxaAlta);
+        long m2 = mAlto * taxaBaixa;
+        long m2Alto = Math.unsignedMultiplyHigh(mAlto, taxaBaixa);
+        long m3 = mAlto * taxaAlta;
+        long m3Alto = Math.unsignedMultiplyHigh(mAlto, taxaAlta);
+
+        // coluna 2^64 (descartada, só o vai-um interessa)
+        long coluna = p1 + m1;
+        long vaiUm = Long.compareUnsigned(coluna, p1) < 0 ? 1 : 0;
+        long soma = coluna + m2;
+        vaiUm += Long.compareUnsigned(soma, coluna) < 0 ? 1 : 0;
+
+        // coluna 2^128 em diante: resultado em 2^-64 centavo
+        long jurosBaixo = m3 + m1Alto;
+        long jurosAlto = m3Alto + (Long.compareUnsigned(jurosBaixo, m3) < 0 ? 1 : 0);
+        soma = jurosBaixo + m2Alto;
+        jurosAlto += Long.compareUnsigned(soma, jurosBaixo) < 0 ? 1 : 0;
+        jurosBaixo = soma + vaiUm;
+        jurosAlto += Long.compareUnsigned(jurosBaixo, soma) < 0 ? 1 : 0;
+        if (negativo) {
+            long baixo = -jurosBaixo;
+            jurosAlto = ~jurosAlto + (jurosBaixo == 0 ? 1 : 0);
+            jurosBaixo = baixo;
+        }
+
+        // SD_k = SD_{k-1} + J_k - P
+        long baixo = saldoBaixo + jurosBaixo;
+        saldoAlto = saldoAlto + jurosAlto + (Long.compareUnsigned(baixo, saldoBaixo) < 0 ? 1 : 0) - valorParcela;
+        saldoBaixo = baixo;
+        erro = Math.nextUp(erro * fatorErro + ERRO_POR_SERIE);
+
+        // SD_k' = round(SD_k, escala): só é seguro longe da metade do centavo
+        long desvioMetade = saldoBaixo ^ Long.MIN_VALUE;
+        double distancia = desvioMetade == Long.MIN_VALUE ? 0x1p63 : Math.abs((double) desvioMetade);
+        if (erro > ERRO_MAXIMO || distancia <= erro * (1.0 + 0x1p-40) + 1.0
+                || saldoAlto > SALDO_MAXIMO || saldoAlto < -SALDO_MAXIMO) {
+            indeterminado = true;
+            return false;
+        }
+        long novoSaldo = desvioMetade > 0 ? saldoAlto + 1 : saldoAlto;
+
+        serie++;
+        amortizacao = saldo - novoSaldo;
+        juros = valorParcela - amortizacao;
+        parcela = valorParcela;
+        saldo = novoSaldo;
+        return true;
+    }
+
+    @Override
+    boolean isIndeterminado() {
+        return indeterminado;
+    }
+
+}
@@ -0,0 +1,145 @@
+package me.josecomparotto.financialcalc.core.parcelas;
+
+import java.math.BigDecimal;
+import java.math.RoundingMode;
+
+// Gerador em centavos para SAC e parcelas sem juros.
+//
+// Em BigDecimal, o saldo da série i é V - q*i, com q = V/n arredondado em
+// mcCalculo. Com V em centavos (Vc), o saldo exato é Vc - Vc*i/n; Vc*i/n é
+// mantido incrementalmente como a + b/n (0 <= b < n). O mesmo vale para os
+// juros: saldo * taxa = (Vc*R - Vc*R*(i-1)/n) / 10^t, com taxa = R / 10^t.
+//
+// A diferença entre q e V/n só altera o arredondamento quando o valor exato
+// cai exatamente na metade de um centavo; nesse caso o sinal de q*n - V
+// decide o lado. Para distâncias maiores a fábrica exige que o erro
+// acumulado seja menor que a menor distância possível (1/2n), e recusa o
+// caso contrário.
+final class GeradorCentavosSac extends GeradorCentavos {
+
+    private final boolean semJuros;
+    private final boolean erroPositivo;
+    private final long principal;
+    private final long quocienteSaldo;
+    private final long restoSaldo;
+    private final long quocienteJuros;
+    private final long restoJuros;
+    private final long jurosIniciais;
+    private final long potenciaTaxa;
+    private long a;
+    private long b;
+    private long aJuros;
+    private long bJuros;
+
+    private GeradorCentavosSac(int escala, int numeroParcelas, boolean semJuros, boolean erroPositivo,
+            long principal, long jurosIniciais, long potenciaTaxa) {
+        super(escala, numeroParcelas);
+        this.semJuros = semJuros;
+        this.erroPositivo = erroPositivo;
+        this.principal = principal;
+        this.quocienteSaldo = principal / numeroParcelas;
+        this.restoSaldo = principal % numeroParcelas;
+        this.jurosIniciais = jurosIniciais;
+        this.quocienteJuros = jurosIniciais / numeroParcelas;
+        this.restoJuros = jurosIniciais % numeroParcelas;
+        this.potenciaTaxa = potenciaTaxa;
+        this.saldo = principal;
+    }
+
+    // Retorna null quando os valores não permitem garantir o mesmo resultado
+    // do cálculo em BigDecimal; o chamador deve usar o caminho BigDecimal.
+    static GeradorCentavosSac criar(BigDecimal valorPrincipal, BigDecimal valorAmortizacao, BigDecimal taxaJuros,
+            int numeroParcelas, int escala, RoundingMode rm, boolean semJuros) {
+        if (rm != RoundingMode.HALF_UP || valorPrincipal.signum() < 0) {
+            return null;
+        }
+        long vc = naoEscalado(valorPrincipal, escala);
+        if (vc == FORA_DO_INTERVALO || vc > LIMITE) {
+            return null;
+        }
+
+        long r = 0;
+        long pot = 1;
+        if (!semJuros) {
+            BigDecimal taxa = taxaJuros.scale() < 0 ? taxaJuros.setScale(0) : taxaJuros;
+            if (taxa.scale() >= 19) {
+                taxa = taxa.stripTrailingZeros();
+            }
+            pot = potenciaDez(taxa.scale());
+            r = naoEscalado(taxa, taxa.scale());
+            if (pot == FORA_DO_INTERVALO || r == FORA_DO_INTERVALO) {
+                return null;
+            }
+        }
+
+        long vr;
+        try {
+            vr = Math.multiplyExact(vc, r);
+            // 2 * n * 10^t (+ 2n) precisa caber em long nas comparações de arredondar()
+            Math.addExact(Math.multiplyExact(Math.multiplyExact(2L, numeroParcelas), pot), 2L * numeroParcelas);
+        } catch (ArithmeticException e) {
+            return null;
+        }
+
+        // e = q*n - V: erro de q = V/n arredondado em mcCalculo, multiplicado por n.
+        BigDecimal erro = valorAmortizacao.multiply(BigDecimal.valueOf(numeroParcelas)).subtract(valorPrincipal);
+        if (erro.signum() != 0) {
+            BigDecimal limite = erro.abs().scaleByPowerOfTen(escala)
+                    .multiply(BigDecimal.valueOf(2L * numeroParcelas))
+                    .multiply(BigDecimal.valueOf(Math.max(r, 1)));
+            if (limite.compareTo(BigDecimal.ONE) >= 0) {
+                return null;
+            }
+        }
+        return new GeradorCentavosSac(escala, numeroParcelas, semJuros, erro.signum() > 0, vc, vr, pot);
+    }
+
+    @Override
+    boolean proxima() {
+        if (serie >= numeroParcelas) {
+            return false;
+        }
+        long n = numeroParcelas;
+        long saldoAnterior = saldo;
+
+        // Juros sobre o saldo anterior: (Vc*R - (aJuros + bJuros/n)) / 10^t
+        long novosJuros = semJuros ? 0
+                : arredondar(jurosIniciais - aJuros, bJuros, n, potenciaTaxa, erroPositivo && serie > 0);
+
+        serie++;
+        aJuros += quocienteJuros;
+        bJuros += restoJuros;
+        if (bJuros >= n) {
+            bJuros -= n;
+            aJuros++;
+        }
+        a += quocienteSaldo;
+        b += restoSaldo;
+        if (b >= n) {
+            b -= n;
+            a++;
+        }
+
+        // Novo saldo: Vc - (a + b/n)
+        saldo = arredondar(principal - a, b, n, 1, erroPositivo);
+        amortizacao = saldoAnterior - saldo;
+        juros = novosJuros;
+        parcela = amortizacao + juros;
+        return true;
+    }
+
+    @Override
+    int escalaJuros() {
+        return semJuros ? 0 : escala;
+    }
+
+    @Override
+    Parcela paraParcela() {
+        Parcela p = super.paraParcela();
+        if (semJuros) {
+            p.setValorJuros(BigDecimal.ZERO);
+        }
+        return p;
+    }
+
+}
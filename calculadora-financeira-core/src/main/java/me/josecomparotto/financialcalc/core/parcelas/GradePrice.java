@@ -0,0 +1,100 @@
+package me.josecomparotto.financialcalc.core.parcelas;
+
+import java.math.BigDecimal;
+import java.util.Arrays;
+import java.util.List;
+import java.util.Map;
+
+// Matriz de simulação PRICE de um principal: uma linha por taxa e uma coluna
+// por prazo. Cada célula tem a prestação (igual a calcularValorParcela da
+// CalculadoraParcelasPrice) e o total pago, prestação * prazo (igual a
+// getTotalParcelas de calcularResumo). Só as células pedidas guardam o
+// cronograma completo.
+public final class GradePrice {
+
+    private final BigDecimal valorPrincipal;
+    private final List<BigDecimal> taxas;
+    private final int[] prazos;
+    private final BigDecimal[] prestacoes;
+    private final Map<Celula, List<Parcela>> cronogramas;
+    private final int recalculadas;
+
+    GradePrice(BigDecimal valorPrincipal, List<BigDecimal> taxas, int[] prazos, BigDecimal[] prestacoes,
+            Map<Celula, List<Parcela>> cronogramas, int recalculadas) {
+        this.valorPrincipal = valorPrincipal;
+        this.taxas = taxas;
+        this.prazos = prazos;
+        this.prestacoes = prestacoes;
+        this.cronogramas = cronogramas;
+        this.recalculadas = recalculadas;
+    }
+
+    public BigDecimal getValorPrincipal() {
+        return valorPrincipal;
+    }
+
+    public List<BigDecimal> getTaxas() {
+        return taxas;
+    }
+
+    public int[] getPrazos() {
+        return prazos.clone();
+    }
+
+    public int getLinhas() {
+        return taxas.size();
+    }
+
+    public int getColunas() {
+        return prazos.length;
+    }
+
+    public BigDecimal getTaxa(int linha) {
+        return taxas.get(linha);
+    }
+
+    public int getPrazo(int coluna) {
+        return prazos[coluna];
+    }
+
+    public BigDecimal getPrestacao(int linha, int coluna) {
+        return prestacoes[indice(linha, coluna)];
+    }
+
+    public BigDecimal getTotal(int linha, int coluna) {
+        return getPrestacao(linha, coluna).multiply(BigDecimal.valueOf(prazos[coluna]));
+    }
+
+    // Cronograma da célula, ou null se ela não foi pedida no cálculo.
+    public List<Parcela> getCronograma(int linha, int coluna) {
+        indice(linha, coluna);
+        return cronogramas.get(new Celula(linha, coluna));
+    }
+
+    public Map<Celula, List<Parcela>> getCronogramas() {
+        return cronogramas;
+    }
+
+    // Células em que a prestação incremental não tinha arredondamento garantido
+    // e foi refeita pela CalculadoraParcelasPrice.
+    public int getRecalculadas() {
+        return recalculadas;
+    }
+
+    private int indice(int linha, int coluna) {
+        if (linha < 0 || linha >= taxas.size() || coluna < 0 || coluna >= prazos.length) {
+            throw new IndexOutOfBoundsException("Célula fora da grade: " + linha + ", " + coluna);
+        }
+        return linha * prazos.length + coluna;
+    }
+
+    @Override
+    public String toString() {
+        return "GradePrice{principal=" + valorPrincipal + ", taxas=" + taxas
+                + ", prazos=" + Arrays.toString(prazos) + "}";
+    }
+
+    // Posição na grade: linha = índice da taxa, coluna = índice do prazo.
+    public record Celula(int linha, int coluna) {
+    }
+}
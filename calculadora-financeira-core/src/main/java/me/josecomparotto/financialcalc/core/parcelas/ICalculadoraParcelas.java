@@ -1,7 +1,12 @@
 package me.josecomparotto.financialcalc.core.parcelas;
 
 import java.math.BigDecimal;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Spliterator;
+import java.util.Spliterators;
+import java.util.stream.Stream;
+import java.util.stream.StreamSupport;
 
 public interface ICalculadoraParcelas {
 
@@ -10,4 +15,63 @@ public interface ICalculadoraParcelas {
             BigDecimal taxaJuros,
             Integer numeroParcelas);
 
+    // Gera as parcelas sob demanda, na mesma ordem e com os mesmos valores de
+    // calcularParcelas. Os argumentos são validados na chamada, não no consumo.
+    default Iterator<Parcela> iterarParcelas(
+            BigDecimal valorPrincipal,
+            BigDecimal taxaJuros,
+            Integer numeroParcelas) {
+        return calcularParcelas(valorPrincipal, taxaJuros, numeroParcelas).iterator();
+    }
+
+    default Stream<Parcela> streamParcelas(
+            BigDecimal valorPrincipal,
+            BigDecimal taxaJuros,
+            Integer numeroParcelas) {
+        Iterator<Parcela> parcelas = iterarParcelas(valorPrincipal, taxaJuros, numeroParcelas);
+        return StreamSupport.stream(
+                Spliterators.spliterator(parcelas, numeroParcelas,
+                        Spliterator.ORDERED | Spliterator.NONNULL),
+                false);
+    }
+
+    // Mesmo cronograma de calcularParcelas em colunas de long (ver CronogramaColunar).
+    // No motor CENTAVOS as colunas são preenchidas sem criar Parcela.
+    default CronogramaColunar calcularCronograma(
+            BigDecimal valorPrincipal,
+            BigDecimal taxaJuros,
+            Integer numeroParcelas) {
+        return CronogramaColunar.de(iterarParcelas(valorPrincipal, taxaJuros, numeroParcelas), numeroParcelas);
+    }
+
+    // Parcela da série k (1 <= k <= numeroParcelas), igual ao k-ésimo elemento de
+    // calcularParcelas. As implementações saltam direto para o saldo da série k - 1.
+    default Parcela calcularParcela(
+            BigDecimal valorPrincipal,
+            BigDecimal taxaJuros,
+            Integer numeroParcelas,
+            int serie) {
+        Iterator<Parcela> parcelas = iterarParcelas(valorPrincipal, taxaJuros, numeroParcelas);
+        validarSerie(serie, numeroParcelas);
+        for (int k = 1; k < serie; k++) {
+            parcelas.next();
+        }
+        return parcelas.next();
+    }
+
+    private static void validarSerie(int serie, int numeroParcelas) {
+        if (serie < 1 || serie > numeroParcelas) {
+            throw new IllegalArgumentException("Série deve estar entre 1 e o número de parcelas");
+        }
+    }
+
+    // Totais e parcelas extremas, iguais aos obtidos somando calcularParcelas.
+    // As implementações evitam gerar o cronograma quando a matemática permite.
+    default ResumoParcelas calcularResumo(
+            BigDecimal valorPrincipal,
+            BigDecimal taxaJuros,
+            Integer numeroParcelas) {
+        return ResumoParcelas.acumular(iterarParcelas(valorPrincipal, taxaJuros, numeroParcelas));
+    }
+
 }
@@ -0,0 +1,74 @@
+package me.josecomparotto.financialcalc.core.parcelas;
+
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+import java.util.function.Consumer;
+import java.util.function.IntFunction;
+
+// Adapta um GeradorCentavos para Iterator<Parcela>. Se o gerador ficar
+// indeterminado, 'retomada' recebe o número de parcelas já emitidas e deve
+// devolver o iterador BigDecimal posicionado logo após elas.
+final class IteradorCentavos implements Iterator<Parcela> {
+
+    private final GeradorCentavos gerador;
+    private final IntFunction<Iterator<Parcela>> retomada;
+    private Iterator<Parcela> alternativo;
+    private boolean pendente;
+
+    IteradorCentavos(GeradorCentavos gerador, IntFunction<Iterator<Parcela>> retomada) {
+        this.gerador = gerador;
+        this.retomada = retomada;
+    }
+
+    @Override
+    public boolean hasNext() {
+        if (pendente) {
+            return true;
+        }
+        if (alternativo != null) {
+            return alternativo.hasNext();
+        }
+        if (gerador.proxima()) {
+            pendente = true;
+            return true;
+        }
+        if (gerador.isIndeterminado()) {
+            alternativo = retomada.apply(gerador.serie);
+            return alternativo.hasNext();
+        }
+        return false;
+    }
+
+    // Consome o restante do cronograma: 'linhas' recebe o gerador posicionado
+    // em cada série, sem criar Parcela, enquanto ele estiver determinado; depois
+    // da retomada em BigDecimal, 'parcelas' recebe as Parcela restantes.
+    void percorrer(Consumer<GeradorCentavos> linhas, Consumer<Parcela> parcelas) {
+        if (pendente) {
+            linhas.accept(gerador);
+            pendente = false;
+        }
+        if (alternativo == null) {
+            while (gerador.proxima()) {
+                linhas.accept(gerador);
+            }
+            if (!gerador.isIndeterminado()) {
+                return;
+            }
+            alternativo = retomada.apply(gerador.serie);
+        }
+        alternativo.forEachRemaining(parcelas);
+    }
+
+    @Override
+    public Parcela next() {
+        if (!hasNext()) {
+            throw new NoSuchElementException();
+        }
+        if (alternativo != null) {
+            return alternativo.next();
+        }
+        pendente = false;
+        return gerador.paraParcela();
+    }
+
+}
@@ -0,0 +1,165 @@
+package me.josecomparotto.financialcalc.core.parcelas;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.nio.ByteBuffer;
+import java.nio.ByteOrder;
+import java.nio.IntBuffer;
+import java.nio.LongBuffer;
+import java.nio.MappedByteBuffer;
+import java.nio.channels.FileChannel;
+import java.nio.file.Path;
+import java.nio.file.StandardOpenOption;
+import java.util.Iterator;
+import java.util.NoSuchElementException;
+
+import static me.josecomparotto.financialcalc.core.parcelas.FormatoCronogramaBinario.CABECALHO;
+import static me.josecomparotto.financialcalc.core.parcelas.FormatoCronogramaBinario.CAPACIDADE_MAXIMA;
+import static me.josecomparotto.financialcalc.core.parcelas.FormatoCronogramaBinario.COLUNAS_VALOR;
+
+// Lê um cronograma gravado por EscritorCronogramaBinario mapeando o arquivo em
+// memória: as colunas são visões (LongBuffer/IntBuffer) sobre o mapeamento, sem
+// cópia, e os BigDecimal só são criados quando pedidos. O mapeamento continua
+// válido depois de close() até ser coletado.
+public final class LeitorCronogramaBinario implements AutoCloseable, Iterable<Parcela> {
+
+    public enum Coluna { PARCELA, AMORTIZACAO, JUROS, SALDO }
+
+    private final FileChannel canal;
+    private final SistemaAmortizacao sistema;
+    private final int[] escalas = new int[COLUNAS_VALOR];
+    private final int tamanho;
+    private final LongBuffer[] colunas = new LongBuffer[COLUNAS_VALOR];
+    private final IntBuffer series;
+
+    public LeitorCronogramaBinario(Path arquivo) throws IOException {
+        if (arquivo == null) {
+            throw new IllegalArgumentException("Arquivo deve ser fornecido");
+        }
+        this.canal = FileChannel.open(arquivo, StandardOpenOption.READ);
+        try {
+            long tamanhoArquivo = canal.size();
+            if (tamanhoArquivo < CABECALHO) {
+                throw new IOException("Arquivo não é um cronograma binário: " + arquivo);
+            }
+            MappedByteBuffer mapa = canal.map(FileChannel.MapMode.READ_ONLY, 0,
+                    Math.min(tamanhoArquivo, Integer.MAX_VALUE));
+            mapa.order(ByteOrder.LITTLE_ENDIAN);
+            if (mapa.getInt(0) != FormatoCronogramaBinario.MAGICO) {
+                throw new IOException("Arquivo não é um cronograma binário: " + arquivo);
+            }
+            short versao = mapa.getShort(4);
+            if (versao != FormatoCronogramaBinario.VERSAO) {
+                throw new IOException("Versão " + versao + " do cronograma binário não suportada");
+            }
+            this.sistema = FormatoCronogramaBinario.sistema(mapa.get(6));
+            for (int c = 0; c < COLUNAS_VALOR; c++) {
+                escalas[c] = mapa.get(8 + c);
+            }
+            int capacidade = mapa.getInt(12);
+            if (capacidade < 0 || capacidade > CAPACIDADE_MAXIMA) {
+                // Acima do máximo as posições das colunas não cabem no int do mapeamento.
+                throw new IOException("Capacidade " + capacidade + " do cronograma binário inválida: " + arquivo);
+            }
+            this.tamanho = mapa.getInt(16);
+            if (tamanho < 0 || tamanho > capacidade
+                    || FormatoCronogramaBinario.tamanhoArquivo(capacidade) > tamanhoArquivo) {
+                throw new IOException("Cronograma binário truncado ou corrompido: " + arquivo);
+            }
+            for (int c = 0; c < COLUNAS_VALOR; c++) {
+                colunas[c] = visao(mapa, FormatoCronogramaBinario.posicaoColuna(c, capacidade), tamanho * Long.BYTES)
+                        .asLongBuffer();
+            }
+            this.series = visao(mapa, FormatoCronogramaBinario.posicaoSeries(capacidade), tamanho * Integer.BYTES)
+                    .asIntBuffer();
+        } catch (IOException | RuntimeException e) {
+            canal.close();
+            throw e;
+        }
+    }
+
+    private static ByteBuffer visao(MappedByteBuffer mapa, long posicao, int bytes) {
+        return mapa.slice((int) posicao, bytes).order(ByteOrder.LITTLE_ENDIAN);
+    }
+
+    // Nulo quando o cronograma foi gravado sem sistema.
+    public SistemaAmortizacao getSistema() {
+        return sistema;
+    }
+
+    public int tamanho() {
+        return tamanho;
+    }
+
+    public int getEscala(Coluna coluna) {
+        return escalas[coluna.ordinal()];
+    }
+
+    // Valores não escalados da coluna, somente leitura e sem cópia.
+    public LongBuffer naoEscalados(Coluna coluna) {
+        return colunas[coluna.ordinal()].asReadOnlyBuffer();
+    }
+
+    public int getSerie(int indice) {
+        return series.get(verificar(indice));
+    }
+
+    public BigDecimal getValor(Coluna coluna, int indice) {
+        int c = coluna.ordinal();
+        return BigDecimal.valueOf(colunas[c].get(verificar(indice)), escalas[c]);
+    }
+
+    public Parcela parcela(int indice) {
+        verificar(indice);
+        Parcela p = new Parcela();
+        p.setSerie(series.get(indice));
+        p.setValorParcela(BigDecimal.valueOf(colunas[0].get(indice), escalas[0]));
+        p.setValorAmortizacao(BigDecimal.valueOf(colunas[1].get(indice), escalas[1]));
+        p.setValorJuros(BigDecimal.valueOf(colunas[2].get(indice), escalas[2]));
+        p.setSaldoDevedor(BigDecimal.valueOf(colunas[3].get(indice), escalas[3]));
+        return p;
+    }
+
+    // Copia o cronograma para a memória, sem passar por Parcela.
+    public CronogramaColunar lerCronograma() {
+        CronogramaColunar.Builder builder = CronogramaColunar.builder(tamanho);
+        for (int i = 0; i < tamanho; i++) {
+            builder.adicionar(series.get(i), colunas[0].get(i), colunas[1].get(i), colunas[2].get(i),
+                    colunas[3].get(i), escalas);
+        }
+        return builder.construir();
+    }
+
+    @Override
+    public Iterator<Parcela> iterator() {
+        return new Iterator<>() {
+            private int indice;
+
+            @Override
+            public boolean hasNext() {
+                return indice < tamanho;
+            }
+
+            @Override
+            public Parcela next() {
+                if (!hasNext()) {
+                    throw new NoSuchElementException();
+                }
+                return parcela(indice++);
+            }
+        };
+    }
+
+    @Override
+    public void close() throws IOException {
+        canal.close();
+    }
+
+    private int verificar(int indice) {
+        if (indice < 0 || indice >= tamanho) {
+            throw new IndexOutOfBoundsException("Índice " + indice + " fora do cronograma de " + tamanho + " parcelas");
+        }
+        return indice;
+    }
+
+}
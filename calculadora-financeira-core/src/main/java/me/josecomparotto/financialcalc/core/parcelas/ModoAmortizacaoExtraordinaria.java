@@ -0,0 +1,14 @@
+package me.josecomparotto.financialcalc.core.parcelas;
+
+public enum ModoAmortizacaoExtraordinaria {
+
+    // Mantém a prestação (PRICE) ou a amortização (SAC) vigente e encurta o
+    // prazo: o restante vira um novo cronograma no menor prazo cujo valor não
+    // passa do vigente.
+    REDUZIR_PRAZO,
+
+    // Mantém a última série do cronograma e recalcula a prestação (PRICE) ou a
+    // amortização (SAC) sobre o novo saldo.
+    REDUZIR_PARCELA
+
+}
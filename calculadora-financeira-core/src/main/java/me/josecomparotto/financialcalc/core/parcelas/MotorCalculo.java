@@ -0,0 +1,15 @@
+package me.josecomparotto.financialcalc.core.parcelas;
+
+public enum MotorCalculo {
+
+    // Cálculo integral em BigDecimal (comportamento original).
+    BIG_DECIMAL,
+
+    // Cálculo em centavos não escalados (long) quando o arredondamento é HALF_UP,
+    // o principal é exato na escala do resultado e cabe em ~10^15 unidades.
+    // Fora dessas condições, ou quando não é possível garantir o mesmo
+    // arredondamento, recai no cálculo em BigDecimal. Os valores das parcelas são
+    // idênticos aos de BIG_DECIMAL em qualquer caso.
+    CENTAVOS
+
+}
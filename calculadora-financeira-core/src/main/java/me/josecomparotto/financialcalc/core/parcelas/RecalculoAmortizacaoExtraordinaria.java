@@ -0,0 +1,117 @@
+package me.josecomparotto.financialcalc.core.parcelas;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.Iterator;
+import java.util.List;
+import java.util.NoSuchElementException;
+
+// Aplica amortizações extraordinárias a um cronograma já calculado. As parcelas
+// até a série do evento são mantidas (as mesmas instâncias) e o restante é um
+// novo cronograma do mesmo sistema sobre o saldo arredondado daquela série
+// menos o valor pago, com as séries renumeradas a partir de k + 1.
+//
+// Com vários eventos, cada novo trecho é gerado sob demanda e só até a série
+// do evento seguinte, então o custo é o de um cronograma mais a preparação de
+// cada evento, e não um cronograma por evento.
+final class RecalculoAmortizacaoExtraordinaria {
+
+    // Parte específica do sistema de amortização.
+    interface Sistema {
+
+        // Cronograma de 'prazo' parcelas sobre 'saldo', séries a partir de 1.
+        Iterator<Parcela> gerar(BigDecimal saldo, int prazo);
+
+        // Prazo do novo trecho em REDUZIR_PRAZO, dado o saldo e a parcela que
+        // seria paga a seguir no cronograma vigente.
+        int prazoReduzido(BigDecimal saldo, Parcela proxima);
+    }
+
+    private RecalculoAmortizacaoExtraordinaria() {
+    }
+
+    // 'cronograma' deve ser completo (séries 1..n) e calculado pelo mesmo sistema.
+    static List<Parcela> aplicar(List<Parcela> cronograma, List<AmortizacaoExtraordinaria> eventos, Sistema sistema) {
+        if (cronograma == null || cronograma.isEmpty()) {
+            throw new IllegalArgumentException("Cronograma deve ser fornecido e não pode ser vazio");
+        }
+        if (eventos == null) {
+            throw new IllegalArgumentException("Amortizações extraordinárias devem ser fornecidas");
+        }
+        int anterior = -1;
+        for (AmortizacaoExtraordinaria evento : eventos) {
+            if (evento == null || evento.getSerie() <= anterior) {
+                throw new IllegalArgumentException(
+                        "Amortizações extraordinárias devem estar em ordem estritamente crescente de série");
+            }
+            anterior = evento.getSerie();
+        }
+
+        Parcela primeira = cronograma.get(0);
+        BigDecimal saldo = primeira.getSaldoDevedor().add(primeira.getValorAmortizacao());
+        int ultimaSerie = cronograma.get(cronograma.size() - 1).getSerie();
+        Iterator<Parcela> vigente = cronograma.iterator();
+        List<Parcela> resultado = new ArrayList<>(cronograma.size());
+
+        for (AmortizacaoExtraordinaria evento : eventos) {
+            int serie = evento.getSerie();
+            if (serie >= ultimaSerie) {
+                throw new IllegalArgumentException("Amortização extraordinária deve ocorrer antes da última parcela");
+            }
+            while (resultado.size() < serie) {
+                Parcela parcela = vigente.next();
+                resultado.add(parcela);
+                saldo = parcela.getSaldoDevedor();
+            }
+            Parcela proxima = vigente.next();
+
+            int comparacao = evento.getValor().compareTo(saldo);
+            if (comparacao > 0) {
+                throw new IllegalArgumentException("Amortização extraordinária excede o saldo devedor da série " + serie);
+            }
+            if (comparacao == 0) {
+                // Quitação: nenhuma parcela depois da série do evento.
+                vigente = Collections.emptyIterator();
+                ultimaSerie = serie;
+                continue;
+            }
+            BigDecimal novoSaldo = saldo.subtract(evento.getValor());
+            int prazo = evento.getModo() == ModoAmortizacaoExtraordinaria.REDUZIR_PARCELA
+                    ? ultimaSerie - serie
+                    : Math.min(sistema.prazoReduzido(novoSaldo, proxima), ultimaSerie - serie);
+            vigente = new Renumeracao(sistema.gerar(novoSaldo, prazo), serie);
+            ultimaSerie = serie + prazo;
+        }
+        vigente.forEachRemaining(resultado::add);
+        return resultado;
+    }
+
+    // Desloca as séries de um cronograma novo para depois da série do evento.
+    private static final class Renumeracao implements Iterator<Parcela> {
+
+        private final Iterator<Parcela> parcelas;
+        private final int deslocamento;
+
+        Renumeracao(Iterator<Parcela> parcelas, int deslocamento) {
+            this.parcelas = parcelas;
+            this.deslocamento = deslocamento;
+        }
+
+        @Override
+        public boolean hasNext() {
+            return parcelas.hasNext();
+        }
+
+        @Override
+        public Parcela next() {
+            if (!hasNext()) {
+                throw new NoSuchElementException();
+            }
+            Parcela parcela = parcelas.next();
+            parcela.setSerie(parcela.getSerie() + deslocamento);
+            return parcela;
+        }
+    }
+
+}
@@ -0,0 +1,38 @@
+package me.josecomparotto.financialcalc.core.parcelas;
+
+import java.math.BigDecimal;
+
+// Taxa periódica obtida por CalculadoraTaxaImplicita. 'residuo' é o valor da
+// função (prestação calculada menos a desejada, ou valor presente do fluxo) na
+// taxa devolvida; 'iteracoes' conta apenas o refinamento em BigDecimal.
+public final class ResultadoTaxa {
+
+    private final BigDecimal taxa;
+    private final int iteracoes;
+    private final boolean convergiu;
+    private final BigDecimal residuo;
+
+    public ResultadoTaxa(BigDecimal taxa, int iteracoes, boolean convergiu, BigDecimal residuo) {
+        this.taxa = taxa;
+        this.iteracoes = iteracoes;
+        this.convergiu = convergiu;
+        this.residuo = residuo;
+    }
+
+    public BigDecimal getTaxa() {
+        return taxa;
+    }
+
+    public int getIteracoes() {
+        return iteracoes;
+    }
+
+    public boolean isConvergiu() {
+        return convergiu;
+    }
+
+    public BigDecimal getResiduo() {
+        return residuo;
+    }
+
+}
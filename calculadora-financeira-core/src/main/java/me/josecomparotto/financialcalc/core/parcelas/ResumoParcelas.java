@@ -0,0 +1,73 @@
+package me.josecomparotto.financialcalc.core.parcelas;
+
+import java.math.BigDecimal;
+import java.util.Iterator;
+
+// Totais de um cronograma e suas parcelas extremas. Os totais são iguais à
+// soma (a partir de BigDecimal.ZERO) das colunas de calcularParcelas.
+public final class ResumoParcelas {
+
+    private final int numeroParcelas;
+    private final BigDecimal totalParcelas;
+    private final BigDecimal totalAmortizacao;
+    private final BigDecimal totalJuros;
+    private final Parcela primeiraParcela;
+    private final Parcela ultimaParcela;
+
+    public ResumoParcelas(int numeroParcelas, BigDecimal totalParcelas, BigDecimal totalAmortizacao,
+            BigDecimal totalJuros, Parcela primeiraParcela, Parcela ultimaParcela) {
+        this.numeroParcelas = numeroParcelas;
+        this.totalParcelas = totalParcelas;
+        this.totalAmortizacao = totalAmortizacao;
+        this.totalJuros = totalJuros;
+        this.primeiraParcela = primeiraParcela;
+        this.ultimaParcela = ultimaParcela;
+    }
+
+    // Resume percorrendo as parcelas, sem guardá-las.
+    static ResumoParcelas acumular(Iterator<Parcela> parcelas) {
+        int numeroParcelas = 0;
+        BigDecimal totalParcelas = BigDecimal.ZERO;
+        BigDecimal totalAmortizacao = BigDecimal.ZERO;
+        BigDecimal totalJuros = BigDecimal.ZERO;
+        Parcela primeira = null;
+        Parcela ultima = null;
+        while (parcelas.hasNext()) {
+            Parcela p = parcelas.next();
+            if (primeira == null) {
+                primeira = p;
+            }
+            ultima = p;
+            numeroParcelas++;
+            totalParcelas = totalParcelas.add(p.getValorParcela());
+            totalAmortizacao = totalAmortizacao.add(p.getValorAmortizacao());
+            totalJuros = totalJuros.add(p.getValorJuros());
+        }
+        return new ResumoParcelas(numeroParcelas, totalParcelas, totalAmortizacao, totalJuros, primeira, ultima);
+    }
+
+    public int getNumeroParcelas() {
+        return numeroParcelas;
+    }
+
+    public BigDecimal getTotalParcelas() {
+        return totalParcelas;
+    }
+
+    public BigDecimal getTotalAmortizacao() {
+        return totalAmortizacao;
+    }
+
+    public BigDecimal getTotalJuros() {
+        return totalJuros;
+    }
+
+    public Parcela getPrimeiraParcela() {
+        return primeiraParcela;
+    }
+
+    public Parcela getUltimaParcela() {
+        return ultimaParcela;
+    }
+
+}
@@ -0,0 +1,183 @@
+package me.josecomparotto.financialcalc.core.parcelas;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.nio.ByteBuffer;
+import java.nio.channels.WritableByteChannel;
+import java.nio.charset.StandardCharsets;
+
+// Buffer de bytes reutilizado dos escritores de texto (CSV e JSON): inteiros e
+// BigDecimal são formatados direto no buffer, que é descarregado no canal em
+// blocos. Valores que não cabem na formatação rápida (escala negativa ou mais
+// de 62 bits) passam por toString/toPlainString.
+final class SaidaBytes {
+
+    static final int BUFFER_PADRAO = 64 * 1024;
+    static final int BUFFER_MINIMO = 256;
+
+    // Sinal, 19 dígitos e o ponto, mais os zeros à esquerda (até a escala).
+    private static final int DIGITOS_MAXIMOS = 21;
+
+    private final WritableByteChannel canal;
+    private final byte[] buffer;
+    private final ByteBuffer envelope;
+    private int posicao;
+
+    SaidaBytes(WritableByteChannel canal, int tamanhoBuffer) {
+        if (canal == null) {
+            throw new IllegalArgumentException("Canal deve ser fornecido");
+        }
+        if (tamanhoBuffer < BUFFER_MINIMO) {
+            throw new IllegalArgumentException("Buffer deve ter ao menos " + BUFFER_MINIMO + " bytes");
+        }
+        this.canal = canal;
+        this.buffer = new byte[tamanhoBuffer];
+        this.envelope = ByteBuffer.wrap(buffer);
+    }
+
+    // Como BigDecimal.toString.
+    void escreverValor(BigDecimal valor) throws IOException {
+        int escala = valor.scale();
+        if (escala >= 0 && valor.precision() - 1 - escala >= -6 && escreverRapido(valor, escala)) {
+            return;
+        }
+        escreverAscii(valor.toString());
+    }
+
+    // Como BigDecimal.toPlainString.
+    void escreverValorSimples(BigDecimal valor) throws IOException {
+        int escala = valor.scale();
+        if (escala >= 0 && escreverRapido(valor, escala)) {
+            return;
+        }
+        escreverAscii(valor.toPlainString());
+    }
+
+    private boolean escreverRapido(BigDecimal valor, int escala) throws IOException {
+        int bytes = DIGITOS_MAXIMOS + escala;
+        if (bytes > buffer.length) {
+            return false;
+        }
+        BigInteger naoEscalado = valor.unscaledValue();
+        if (naoEscalado.bitLength() >= Long.SIZE - 1) {
+            return false;
+        }
+        reservar(bytes);
+        escreverDecimal(naoEscalado.longValue(), escala);
+        return true;
+    }
+
+    // Notação simples de 'naoEscalado' x 10^-escala.
+    private void escreverDecimal(long naoEscalado, int escala) {
+        if (escala == 0) {
+            escreverDigitos(naoEscalado);
+            return;
+        }
+        if (naoEscalado < 0) {
+            buffer[posicao++] = '-';
+            naoEscalado = -naoEscalado;
+        }
+        int inteiros = Math.max(digitos(naoEscalado) - escala, 1);
+        int fim = posicao + inteiros + 1 + escala;
+        int i = fim;
+        for (int k = 0; k < escala; k++) {
+            buffer[--i] = (byte) ('0' + naoEscalado % 10);
+            naoEscalado /= 10;
+        }
+        buffer[--i] = '.';
+        do {
+            buffer[--i] = (byte) ('0' + naoEscalado % 10);
+            naoEscalado /= 10;
+        } while (i > posicao);
+        posicao = fim;
+    }
+
+    void escreverLong(long valor) throws IOException {
+        reservar(DIGITOS_MAXIMOS);
+        escreverDigitos(valor);
+    }
+
+    private void escreverDigitos(long valor) {
+        if (valor < 0) {
+            if (valor == Long.MIN_VALUE) {
+                String texto = Long.toString(valor);
+                for (int k = 0; k < texto.length(); k++) {
+                    buffer[posicao++] = (byte) texto.charAt(k);
+                }
+                return;
+            }
+            buffer[posicao++] = '-';
+            valor = -valor;
+        }
+        int fim = posicao + digitos(valor);
+        int i = fim;
+        do {
+            buffer[--i] = (byte) ('0' + valor % 10);
+            valor /= 10;
+        } while (valor != 0);
+        posicao = fim;
+    }
+
+    private static int digitos(long valor) {
+        int d = 1;
+        for (long limite = 10; d < 19 && valor >= limite; limite *= 10) {
+            d++;
+        }
+        return d;
+    }
+
+    void escreverByte(char c) throws IOException {
+        reservar(1);
+        buffer[posicao++] = (byte) c;
+    }
+
+    void escreverBytes(byte[] bytes) throws IOException {
+        if (bytes.length > buffer.length - posicao) {
+            flush();
+            if (bytes.length > buffer.length) {
+                ByteBuffer direto = ByteBuffer.wrap(bytes);
+                while (direto.hasRemaining()) {
+                    canal.write(direto);
+                }
+                return;
+            }
+        }
+        System.arraycopy(bytes, 0, buffer, posicao, bytes.length);
+        posicao += bytes.length;
+    }
+
+    // Texto ASCII (números e nomes fixos).
+    void escreverAscii(String texto) throws IOException {
+        int n = texto.length();
+        if (n > buffer.length - posicao) {
+            escreverBytes(texto.getBytes(StandardCharsets.US_ASCII));
+            return;
+        }
+        for (int k = 0; k < n; k++) {
+            buffer[posicao++] = (byte) texto.charAt(k);
+        }
+    }
+
+    void flush() throws IOException {
+        envelope.limit(posicao).position(0);
+        while (envelope.hasRemaining()) {
+            canal.write(envelope);
+        }
+        envelope.clear();
+        posicao = 0;
+    }
+
+    void close() throws IOException {
+        try (canal) {
+            flush();
+        }
+    }
+
+    private void reservar(int bytes) throws IOException {
+        if (buffer.length - posicao < bytes) {
+            flush();
+        }
+    }
+
+}
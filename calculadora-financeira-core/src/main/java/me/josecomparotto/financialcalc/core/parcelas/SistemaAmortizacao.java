@@ -0,0 +1,23 @@
+package me.josecomparotto.financialcalc.core.parcelas;
+
+import java.math.MathContext;
+
+public enum SistemaAmortizacao {
+
+    PRICE,
+    SAC,
+    SEM_JUROS;
+
+    public ICalculadoraParcelas criarCalculadora(MathContext mcCalculo, MathContext mcResultado) {
+        return criarCalculadora(mcCalculo, mcResultado, MotorCalculo.BIG_DECIMAL);
+    }
+
+    public ICalculadoraParcelas criarCalculadora(MathContext mcCalculo, MathContext mcResultado, MotorCalculo motor) {
+        return switch (this) {
+            case PRICE -> new CalculadoraParcelasPrice(mcCalculo, mcResultado, motor);
+            case SAC -> new CalculadoraParcelasSac(mcCalculo, mcResultado, motor);
+            case SEM_JUROS -> new CalculadoraParcelasSemJuros(mcCalculo, mcResultado, motor);
+        };
+    }
+
+}
@@ -0,0 +1,111 @@
+package me.josecomparotto.financialcalc.core.parcelas;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.RoundingMode;
+
+// Soma em forma fechada de uma progressão aritmética arredondada termo a termo:
+//   S = sum_{j=0}^{n-1} round(alfa - beta * j, escala)
+// Com N_j = A - B*j o termo em unidades de 10^-t (t >= escala) e D = 10^(t-escala),
+// cada modo de arredondamento vira floor((c - a*j) / m) para inteiros a, c, m,
+// e a soma de floors é resolvida em O(log) passos (algoritmo do tipo Euclides).
+final class SomaArredondada {
+
+    private static final BigInteger DOIS = BigInteger.TWO;
+
+    private SomaArredondada() {
+    }
+
+    // Retorna null quando não há forma fechada (HALF_EVEN, UNNECESSARY ou termos
+    // com sinais diferentes); nesse caso a soma deve ser feita termo a termo.
+    static BigDecimal somar(BigDecimal alfa, BigDecimal beta, int n, int escala, RoundingMode rm) {
+        int t = Math.max(escala, Math.max(alfa.scale(), beta.scale()));
+        BigInteger a = alfa.setScale(t).unscaledValue();
+        BigInteger b = beta.setScale(t).unscaledValue();
+        BigInteger d = BigInteger.TEN.pow(t - escala);
+
+        BigInteger primeiro = a;
+        BigInteger ultimo = a.subtract(b.multiply(BigInteger.valueOf(n - 1L)));
+        BigInteger soma;
+        if (primeiro.signum() >= 0 && ultimo.signum() >= 0) {
+            soma = somarNaoNegativos(a, b, d, n, rm);
+        } else if (primeiro.signum() <= 0 && ultimo.signum() <= 0) {
+            // round(-x) = -round'(x), com FLOOR e CEILING trocados
+            RoundingMode espelhado = switch (rm) {
+                case FLOOR -> RoundingMode.CEILING;
+                case CEILING -> RoundingMode.FLOOR;
+                default -> rm;
+            };
+            soma = somarNaoNegativos(a.negate(), b.negate(), d, n, espelhado);
+            soma = soma == null ? null : soma.negate();
+        } else {
+            soma = null;
+        }
+        return soma == null ? null : new BigDecimal(soma, escala);
+    }
+
+    // sum round((a - b*j) / d) para termos não negativos.
+    private static BigInteger somarNaoNegativos(BigInteger a, BigInteger b, BigInteger d, int n, RoundingMode rm) {
+        BigInteger dobroD = d.shiftLeft(1);
+        return switch (rm) {
+            // floor(N / D)
+            case DOWN, FLOOR -> somaFloor(n, d, b.negate(), a);
+            // ceil(N / D) = floor((N + D - 1) / D)
+            case UP, CEILING -> somaFloor(n, d, b.negate(), a.add(d).subtract(BigInteger.ONE));
+            // floor((2N + D) / 2D)
+            case HALF_UP -> somaFloor(n, dobroD, b.multiply(DOIS).negate(), a.multiply(DOIS).add(d));
+            // ceil((2N - D) / 2D) = floor((2N + D - 1) / 2D)
+            case HALF_DOWN -> somaFloor(n, dobroD, b.multiply(DOIS).negate(),
+                    a.multiply(DOIS).add(d).subtract(BigInteger.ONE));
+            default -> null;
+        };
+    }
+
+    // sum_{j=0}^{n-1} floor((a*j + b) / m), com m > 0 e a, b de qualquer sinal.
+    static BigInteger somaFloor(long n, BigInteger m, BigInteger a, BigInteger b) {
+        BigInteger total = BigInteger.ZERO;
+        BigInteger nn = BigInteger.valueOf(n);
+        BigInteger pares = nn.multiply(nn.subtract(BigInteger.ONE)).shiftRight(1);
+
+        // Normaliza a e b para [0, m).
+        BigInteger[] qa = divFloor(a, m);
+        total = total.add(pares.multiply(qa[0]));
+        BigInteger[] qb = divFloor(b, m);
+        total = total.add(nn.multiply(qb[0]));
+        a = qa[1];
+        b = qb[1];
+
+        while (true) {
+            if (a.compareTo(m) >= 0) {
+                BigInteger[] q = a.divideAndRemainder(m);
+                total = total.add(nn.multiply(nn.subtract(BigInteger.ONE)).shiftRight(1).multiply(q[0]));
+                a = q[1];
+            }
+            if (b.compareTo(m) >= 0) {
+                BigInteger[] q = b.divideAndRemainder(m);
+                total = total.add(nn.multiply(q[0]));
+                b = q[1];
+            }
+            BigInteger yMax = a.multiply(nn).add(b);
+            if (yMax.compareTo(m) < 0) {
+                return total;
+            }
+            BigInteger[] q = yMax.divideAndRemainder(m);
+            nn = q[0];
+            b = q[1];
+            BigInteger troca = m;
+            m = a;
+            a = troca;
+        }
+    }
+
+    private static BigInteger[] divFloor(BigInteger x, BigInteger m) {
+        BigInteger[] q = x.divideAndRemainder(m);
+        if (q[1].signum() < 0) {
+            q[0] = q[0].subtract(BigInteger.ONE);
+            q[1] = q[1].add(m);
+        }
+        return q;
+    }
+
+}
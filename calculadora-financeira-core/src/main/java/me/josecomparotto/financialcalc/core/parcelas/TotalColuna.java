@@ -0,0 +1,50 @@
+package me.josecomparotto.financialcalc.core.parcelas;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+
+// Soma de uma coluna a partir de BigDecimal.ZERO, igual à feita com add: em
+// long enquanto todos os valores têm a mesma escala (>= 0) e não há estouro;
+// depois, em BigDecimal.
+final class TotalColuna {
+
+    private static final int VAZIO = -1;
+
+    private long soma;
+    private int escala = VAZIO;
+    private BigDecimal decimal;
+
+    void zerar() {
+        soma = 0;
+        escala = VAZIO;
+        decimal = null;
+    }
+
+    void somar(BigDecimal valor) {
+        if (decimal == null) {
+            int e = valor.scale();
+            if (e >= 0 && (escala == VAZIO || escala == e)) {
+                BigInteger naoEscalado = valor.unscaledValue();
+                if (naoEscalado.bitLength() < Long.SIZE) {
+                    long v = naoEscalado.longValue();
+                    long r = soma + v;
+                    if (((soma ^ r) & (v ^ r)) >= 0) {
+                        soma = r;
+                        escala = e;
+                        return;
+                    }
+                }
+            }
+            decimal = valor();
+        }
+        decimal = decimal.add(valor);
+    }
+
+    BigDecimal valor() {
+        if (decimal != null) {
+            return decimal;
+        }
+        return escala == VAZIO ? BigDecimal.ZERO : BigDecimal.valueOf(soma, escala);
+    }
+
+}
@@ -0,0 +1,145 @@
+package me.josecomparotto.financialcalc.core.adaptativo;
+
+import me.josecomparotto.financialcalc.core.juros.CalculadoraJurosCompostos;
+import me.josecomparotto.financialcalc.core.juros.CalculadoraJurosSimples;
+import me.josecomparotto.financialcalc.core.juros.ResultadoJuros;
+import me.josecomparotto.financialcalc.core.parcelas.CalculadoraParcelasPrice;
+import me.josecomparotto.financialcalc.core.parcelas.MotorCalculo;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.math.RoundingMode;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class AvaliacaoAdaptativaTest {
+
+    private final MathContext mc = MathContext.DECIMAL128;
+
+    @Test
+    void arredondar_longeDoDesempate_meioParaCimaSimetrico() {
+        assertEquals(3, AvaliacaoAdaptativa.arredondarMeioParaCima(2.6, 1e-9));
+        assertEquals(2, AvaliacaoAdaptativa.arredondarMeioParaCima(2.4, 1e-9));
+        assertEquals(-3, AvaliacaoAdaptativa.arredondarMeioParaCima(-2.6, 1e-9));
+        assertEquals(0, AvaliacaoAdaptativa.arredondarMeioParaCima(0.0, 0));
+        assertEquals(3, AvaliacaoAdaptativa.arredondarMeioParaCima(3.0000001, 1e-3));
+    }
+
+    @Test
+    void arredondar_intervaloComDesempateOuForaDaFaixa_semCertificado() {
+        assertEquals(AvaliacaoAdaptativa.SEM_CERTIFICADO, AvaliacaoAdaptativa.arredondarMeioParaCima(2.5, 0));
+        assertEquals(AvaliacaoAdaptativa.SEM_CERTIFICADO, AvaliacaoAdaptativa.arredondarMeioParaCima(2.49999, 1e-4));
+        assertEquals(AvaliacaoAdaptativa.SEM_CERTIFICADO, AvaliacaoAdaptativa.arredondarMeioParaCima(2.0, 0.5));
+        assertEquals(AvaliacaoAdaptativa.SEM_CERTIFICADO, AvaliacaoAdaptativa.arredondarMeioParaCima(Double.NaN, 0));
+        assertEquals(AvaliacaoAdaptativa.SEM_CERTIFICADO, AvaliacaoAdaptativa.arredondarMeioParaCima(0x1p53, 0));
+    }
+
+    // Diferencial: o modo adaptativo deve devolver exatamente o mesmo BigDecimal
+    // (valor e escala) que o caminho original, aceitando ou não o double.
+    @Test
+    void compostos_diferencialContraBigDecimal() {
+        AvaliacaoAdaptativa avaliacao = new AvaliacaoAdaptativa();
+        CalculadoraJurosCompostos referencia = new CalculadoraJurosCompostos(mc);
+        CalculadoraJurosCompostos adaptativa = new CalculadoraJurosCompostos(mc, null, avaliacao);
+        SplittableRandom random = new SplittableRandom(7);
+        for (int k = 0; k < 20_000; k++) {
+            // Faixa usual (até 10 milhões, 5% por período, 30 anos), mais 1% de
+            // casos fora dela que estouram o double e devem cair no BigDecimal.
+            BigDecimal principal = BigDecimal.valueOf(random.nextLong(1, 1_000_000_000L), 2);
+            BigDecimal taxa = k % 100 == 0
+                    ? BigDecimal.valueOf(random.nextInt(1, 500), 0)
+                    : BigDecimal.valueOf(random.nextInt(0, 50_000), 6);
+            int tempo = random.nextInt(0, 361);
+            int precisao = random.nextInt(0, 3);
+            ResultadoJuros esperado = referencia.calcularMontanteEJuros(principal, taxa, tempo, precisao);
+            ResultadoJuros obtido = adaptativa.calcularMontanteEJuros(principal, taxa, tempo, precisao);
+            assertEquals(esperado.getMontante(), obtido.getMontante(), () -> principal + " " + taxa + " " + tempo);
+            assertEquals(esperado.getJuros(), obtido.getJuros());
+        }
+        EstatisticasAvaliacao e = avaliacao.estatisticas();
+        assertEquals(20_000, e.getTentativas());
+        assertTrue(e.getRecalculadas() >= 200, e.toString());
+        assertTrue(e.getTaxaAcerto() > 0.95, e.toString());
+    }
+
+    @Test
+    void simples_diferencialContraBigDecimal_incluindoDesempates() {
+        AvaliacaoAdaptativa avaliacao = new AvaliacaoAdaptativa();
+        CalculadoraJurosSimples referencia = new CalculadoraJurosSimples(mc);
+        CalculadoraJurosSimples adaptativa = new CalculadoraJurosSimples(mc, avaliacao);
+        SplittableRandom random = new SplittableRandom(11);
+        for (int k = 0; k < 20_000; k++) {
+            BigDecimal principal = BigDecimal.valueOf(random.nextLong(1, 10_000_000_000L), 2);
+            // Taxas com poucas casas geram muitos juros exatamente em k + 0,5 centavo.
+            BigDecimal taxa = BigDecimal.valueOf(random.nextInt(0, 1000), random.nextInt(2, 5));
+            int tempo = random.nextInt(0, 400);
+            assertEquals(referencia.calcularJuros(principal, taxa, tempo, 2),
+                    adaptativa.calcularJuros(principal, taxa, tempo, 2));
+            assertEquals(referencia.calcularMontante(principal, taxa, tempo, 2),
+                    adaptativa.calcularMontante(principal, taxa, tempo, 2));
+        }
+        EstatisticasAvaliacao e = avaliacao.estatisticas();
+        assertTrue(e.getRecalculadas() > 0, e.toString());
+        assertTrue(e.getAceitas() > 0, e.toString());
+    }
+
+    @Test
+    void simples_desempateExato_recaiEmBigDecimal() {
+        AvaliacaoAdaptativa avaliacao = new AvaliacaoAdaptativa();
+        CalculadoraJurosSimples adaptativa = new CalculadoraJurosSimples(mc, avaliacao);
+        // 1,00 * 0,005 * 1 = 0,005 -> 0,01 (HALF_UP)
+        assertEquals(new BigDecimal("0.01"), adaptativa.calcularJuros(BigDecimal.ONE, new BigDecimal("0.005"), 1, 2));
+        assertEquals(1, avaliacao.estatisticas().getRecalculadas());
+    }
+
+    @Test
+    void price_valorParcela_diferencialContraCronograma() {
+        AvaliacaoAdaptativa avaliacao = new AvaliacaoAdaptativa();
+        MathContext mcResultado = new MathContext(2, RoundingMode.HALF_UP);
+        CalculadoraParcelasPrice referencia = new CalculadoraParcelasPrice(mc, mcResultado);
+        CalculadoraParcelasPrice adaptativa = new CalculadoraParcelasPrice(
+                mc, mcResultado, MotorCalculo.BIG_DECIMAL, null, avaliacao);
+        SplittableRandom random = new SplittableRandom(3);
+        for (int k = 0; k < 10_000; k++) {
+            BigDecimal principal = BigDecimal.valueOf(random.nextLong(100, 1_000_000_000L), 2);
+            BigDecimal taxa = BigDecimal.valueOf(random.nextInt(1, 100_000), random.nextInt(4, 8));
+            int n = random.nextInt(1, 480);
+            BigDecimal esperado = referencia.iterarParcelas(principal, taxa, n).next().getValorParcela();
+            assertEquals(esperado, adaptativa.calcularValorParcela(principal, taxa, n),
+                    () -> principal + " " + taxa + " " + n);
+            assertEquals(esperado, referencia.calcularValorParcela(principal, taxa, n));
+        }
+        assertTrue(avaliacao.estatisticas().getTaxaAcerto() > 0.99, avaliacao.estatisticas().toString());
+    }
+
+    @Test
+    void price_arredondamentoDiferenteDeHalfUp_semprePorBigDecimal() {
+        AvaliacaoAdaptativa avaliacao = new AvaliacaoAdaptativa();
+        CalculadoraParcelasPrice adaptativa = new CalculadoraParcelasPrice(
+                mc, new MathContext(2, RoundingMode.HALF_EVEN), MotorCalculo.BIG_DECIMAL, null, avaliacao);
+        CalculadoraParcelasPrice referencia = new CalculadoraParcelasPrice(mc, new MathContext(2, RoundingMode.HALF_EVEN));
+        BigDecimal V = new BigDecimal("5000");
+        BigDecimal i = new BigDecimal("0.02");
+        assertEquals(referencia.calcularValorParcela(V, i, 24), adaptativa.calcularValorParcela(V, i, 24));
+        assertEquals(0, avaliacao.estatisticas().getAceitas());
+        assertEquals(1, avaliacao.estatisticas().getTentativas());
+    }
+
+    @Test
+    void contextoDePoucosDigitos_limiteIncluiErroDaReferencia() {
+        MathContext mc32 = MathContext.DECIMAL32;
+        AvaliacaoAdaptativa avaliacao = new AvaliacaoAdaptativa();
+        CalculadoraJurosCompostos referencia = new CalculadoraJurosCompostos(mc32);
+        CalculadoraJurosCompostos adaptativa = new CalculadoraJurosCompostos(mc32, null, avaliacao);
+        SplittableRandom random = new SplittableRandom(5);
+        for (int k = 0; k < 5_000; k++) {
+            BigDecimal principal = BigDecimal.valueOf(random.nextLong(1, 100_000_000L), 2);
+            BigDecimal taxa = BigDecimal.valueOf(random.nextInt(0, 5_000), 4);
+            int tempo = random.nextInt(0, 120);
+            assertEquals(referencia.calcularMontante(principal, taxa, tempo, 2),
+                    adaptativa.calcularMontante(principal, taxa, tempo, 2));
+        }
+    }
+}
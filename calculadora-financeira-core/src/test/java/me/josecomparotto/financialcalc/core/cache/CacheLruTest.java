@@ -0,0 +1,77 @@
+package me.josecomparotto.financialcalc.core.cache;
+
+import org.junit.jupiter.api.Test;
+
+import java.util.concurrent.ExecutorService;
+import java.util.concurrent.Executors;
+import java.util.concurrent.Future;
+import java.util.concurrent.TimeUnit;
+import java.util.concurrent.atomic.AtomicInteger;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CacheLruTest {
+
+    @Test
+    void despejaOMenosRecentementeUsado() {
+        CacheLru<Integer, String> cache = new CacheLru<>(2, 1);
+        cache.obter(1, String::valueOf);
+        cache.obter(2, String::valueOf);
+        cache.obter(1, String::valueOf); // 1 passa a ser o mais recente
+        cache.obter(3, String::valueOf); // despeja 2
+
+        AtomicInteger calculos = new AtomicInteger();
+        cache.obter(1, k -> { calculos.incrementAndGet(); return "x"; });
+        assertEquals(0, calculos.get());
+        assertEquals("x", cache.obter(2, k -> "x"));
+
+        EstatisticasCache estatisticas = cache.estatisticas();
+        assertEquals(2, estatisticas.getAcertos());
+        assertEquals(4, estatisticas.getFalhas());
+        assertEquals(2, estatisticas.getDespejos());
+        assertEquals(2, estatisticas.getTamanho());
+    }
+
+    @Test
+    void acessoConcorrente_respeitaCapacidade() throws Exception {
+        CacheLru<Integer, Integer> cache = new CacheLru<>(64, 8);
+        ExecutorService executor = Executors.newFixedThreadPool(4);
+        try {
+            Future<?>[] tarefas = new Future<?>[4];
+            for (int t = 0; t < tarefas.length; t++) {
+                int semente = t;
+                tarefas[t] = executor.submit(() -> {
+                    for (int k = 0; k < 10_000; k++) {
+                        int chave = (k * 31 + semente) % 100;
+                        assertEquals(chave * 2, cache.obter(chave, c -> c * 2));
+                    }
+                });
+            }
+            for (Future<?> tarefa : tarefas) {
+                tarefa.get(30, TimeUnit.SECONDS);
+            }
+        } finally {
+            executor.shutdownNow();
+        }
+        EstatisticasCache estatisticas = cache.estatisticas();
+        assertEquals(40_000, estatisticas.getAcertos() + estatisticas.getFalhas());
+        assertTrue(estatisticas.getTamanho() <= 64);
+    }
+
+    @Test
+    void capacidadeNaoMultiplaDosSegmentos_totalIgualACapacidade() {
+        for (int[] caso : new int[][] {{10, 3}, {17, 16}, {100, 7}}) {
+            CacheLru<Integer, Integer> cache = new CacheLru<>(caso[0], caso[1]);
+            for (int chave = 0; chave < 50 * caso[0]; chave++) {
+                cache.obter(chave, c -> c);
+            }
+            assertEquals(caso[0], cache.tamanho(), "capacidade " + caso[0] + " em " + caso[1] + " segmentos");
+        }
+    }
+
+    @Test
+    void capacidadeInvalida_deveLancar() {
+        assertThrows(IllegalArgumentException.class, () -> new CacheLru<>(0));
+        assertThrows(IllegalArgumentException.class, () -> new CacheLru<>(4, 5));
+    }
+}
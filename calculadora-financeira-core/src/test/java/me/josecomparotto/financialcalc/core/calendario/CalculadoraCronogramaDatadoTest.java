@@ -0,0 +1,141 @@
+package me.josecomparotto.financialcalc.core.calendario;
+
+import me.josecomparotto.financialcalc.core.parcelas.ICalculadoraParcelas;
+import me.josecomparotto.financialcalc.core.parcelas.MotorCalculo;
+import me.josecomparotto.financialcalc.core.parcelas.Parcela;
+import me.josecomparotto.financialcalc.core.parcelas.SistemaAmortizacao;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.math.RoundingMode;
+import java.time.LocalDate;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CalculadoraCronogramaDatadoTest {
+
+    private static final CalendarioDiasUteis CALENDARIO = CalendarioDiasUteis.brasil(2024, 2060);
+    private static final MathContext RESULTADO = new MathContext(2, RoundingMode.HALF_UP);
+    private static final BigDecimal PRINCIPAL = new BigDecimal("300000.00");
+    private static final BigDecimal TAXA = new BigDecimal("0.0099");
+    private static final LocalDate LIBERACAO = LocalDate.of(2025, 1, 17);
+    private static final LocalDate PRIMEIRO = LocalDate.of(2025, 2, 15);
+
+    private static CalculadoraCronogramaDatado calculadora(SistemaAmortizacao sistema, MotorCalculo motor) {
+        return new CalculadoraCronogramaDatado(sistema, MathContext.DECIMAL128, RESULTADO, motor, CALENDARIO);
+    }
+
+    @Test
+    void calcular_mesmoCronogramaComDatas() {
+        for (SistemaAmortizacao sistema : SistemaAmortizacao.values()) {
+            ICalculadoraParcelas base = sistema.criarCalculadora(MathContext.DECIMAL128, RESULTADO, MotorCalculo.CENTAVOS);
+            BigDecimal taxa = sistema == SistemaAmortizacao.SEM_JUROS ? BigDecimal.ZERO : TAXA;
+            List<Parcela> esperado = base.calcularParcelas(PRINCIPAL, taxa, 120);
+            CronogramaDatado datado = calculadora(sistema, MotorCalculo.CENTAVOS).calcular(PRINCIPAL, taxa, 120, PRIMEIRO);
+            assertEquals(120, datado.tamanho());
+            long[] vencimentos = CALENDARIO.vencimentos(PRIMEIRO, 120);
+            for (int k = 0; k < 120; k++) {
+                assertEquals(esperado.get(k).getValorParcela(), datado.getParcela(k).getValorParcela());
+                assertEquals(esperado.get(k).getSaldoDevedor(), datado.getParcela(k).getSaldoDevedor());
+                assertEquals(vencimentos[k], datado.getDiaVencimento(k));
+            }
+            // 15/02/2025 é sábado
+            assertEquals(LocalDate.of(2025, 2, 17), datado.getVencimento(0));
+        }
+    }
+
+    private static void verificarProRata(CronogramaDatado datado, int numeroParcelas) {
+        assertEquals(numeroParcelas, datado.tamanho());
+        BigDecimal saldo = PRINCIPAL;
+        BigDecimal amortizado = BigDecimal.ZERO;
+        long anterior = LIBERACAO.toEpochDay();
+        for (int k = 0; k < numeroParcelas; k++) {
+            Parcela p = datado.getParcela(k);
+            assertEquals(k + 1, p.getSerie());
+            assertEquals(p.getValorParcela(), p.getValorAmortizacao().add(p.getValorJuros()));
+            assertEquals(saldo.subtract(p.getValorAmortizacao()), p.getSaldoDevedor());
+            long dias = datado.getDiaVencimento(k) - anterior;
+            double juros = saldo.doubleValue() * (Math.pow(1 + TAXA.doubleValue(), dias / 30.0) - 1);
+            assertEquals(juros, p.getValorJuros().doubleValue(), 0.02 + saldo.doubleValue() * 1e-9, "série " + (k + 1));
+            amortizado = amortizado.add(p.getValorAmortizacao());
+            saldo = p.getSaldoDevedor();
+            anterior = datado.getDiaVencimento(k);
+        }
+        assertEquals(0, saldo.signum());
+        assertEquals(PRINCIPAL, amortizado);
+    }
+
+    @Test
+    void proRata_sac() {
+        for (MotorCalculo motor : MotorCalculo.values()) {
+            CronogramaDatado datado = calculadora(SistemaAmortizacao.SAC, motor)
+                    .calcularProRata(PRINCIPAL, TAXA, 360, LIBERACAO, PRIMEIRO);
+            verificarProRata(datado, 360);
+            List<Parcela> base = SistemaAmortizacao.SAC.criarCalculadora(MathContext.DECIMAL128, RESULTADO, motor)
+                    .calcularParcelas(PRINCIPAL, TAXA, 360);
+            for (int k = 0; k < 360; k++) {
+                assertEquals(base.get(k).getValorAmortizacao(), datado.getParcela(k).getValorAmortizacao());
+            }
+        }
+    }
+
+    @Test
+    void proRata_price_prestacaoConstanteEValorPresente() {
+        CronogramaDatado datado = calculadora(SistemaAmortizacao.PRICE, MotorCalculo.BIG_DECIMAL)
+                .calcularProRata(PRINCIPAL, TAXA, 360, LIBERACAO, PRIMEIRO);
+        verificarProRata(datado, 360);
+        BigDecimal prestacao = datado.getParcela(0).getValorParcela();
+        for (int k = 0; k < 359; k++) {
+            assertEquals(prestacao, datado.getParcela(k).getValorParcela());
+        }
+        assertEquals(prestacao.doubleValue(), datado.getParcela(359).getValorParcela().doubleValue(), 20.0);
+
+        double valorPresente = 0;
+        for (int k = 0; k < 360; k++) {
+            long dias = datado.getDiaVencimento(k) - LIBERACAO.toEpochDay();
+            valorPresente += datado.getParcela(k).getValorParcela().doubleValue()
+                    / Math.pow(1 + TAXA.doubleValue(), dias / 30.0);
+        }
+        assertEquals(PRINCIPAL.doubleValue(), valorPresente, 1.0);
+
+        ICalculadoraParcelas mensal = SistemaAmortizacao.PRICE.criarCalculadora(MathContext.DECIMAL128, RESULTADO);
+        BigDecimal prestacaoMensal = mensal.calcularParcelas(PRINCIPAL, TAXA, 360).get(0).getValorParcela();
+        assertEquals(prestacaoMensal.doubleValue(), prestacao.doubleValue(), prestacaoMensal.doubleValue() * 0.02);
+    }
+
+    @Test
+    void proRata_semJuros() {
+        CronogramaDatado datado = calculadora(SistemaAmortizacao.SEM_JUROS, MotorCalculo.CENTAVOS)
+                .calcularProRata(PRINCIPAL, BigDecimal.ZERO, 12, LIBERACAO, PRIMEIRO);
+        assertEquals(12, datado.tamanho());
+        assertEquals(new BigDecimal("25000.00"), datado.getParcela(0).getValorParcela());
+        for (Parcela p : datado.getParcelas()) {
+            assertEquals(0, p.getValorJuros().signum());
+        }
+        assertEquals(0, datado.getParcela(11).getSaldoDevedor().signum());
+    }
+
+    @Test
+    void argumentosInvalidos() {
+        CalculadoraCronogramaDatado sac = calculadora(SistemaAmortizacao.SAC, MotorCalculo.CENTAVOS);
+        assertThrows(IllegalArgumentException.class,
+                () -> sac.calcularProRata(PRINCIPAL, TAXA, 12, LocalDate.of(2025, 2, 17), PRIMEIRO));
+        assertThrows(IllegalArgumentException.class, () -> sac.calcularProRata(PRINCIPAL, TAXA, 12, null, PRIMEIRO));
+        assertThrows(IllegalArgumentException.class, () -> sac.calcular(PRINCIPAL, TAXA, 12, null));
+        assertThrows(IllegalArgumentException.class, () -> sac.calcular(null, TAXA, 12, PRIMEIRO));
+        assertThrows(IllegalArgumentException.class, () -> sac.calcular(PRINCIPAL, TAXA, 600, PRIMEIRO));
+
+        CalculadoraCronogramaDatado price = calculadora(SistemaAmortizacao.PRICE, MotorCalculo.BIG_DECIMAL);
+        assertThrows(IllegalArgumentException.class,
+                () -> price.calcularProRata(PRINCIPAL, BigDecimal.ZERO, 12, LIBERACAO, PRIMEIRO));
+        assertThrows(IllegalArgumentException.class, () -> price.calcularProRata(null, TAXA, 12, LIBERACAO, PRIMEIRO));
+        assertThrows(IllegalArgumentException.class, () -> price.calcularProRata(PRINCIPAL, TAXA, 0, LIBERACAO, PRIMEIRO));
+        assertThrows(IllegalArgumentException.class, () -> price.calcularProRata(PRINCIPAL, TAXA, null, LIBERACAO, PRIMEIRO));
+        assertThrows(IllegalArgumentException.class,
+                () -> new CalculadoraCronogramaDatado(null, null, null, null, CALENDARIO));
+        assertThrows(IllegalArgumentException.class,
+                () -> new CalculadoraCronogramaDatado(SistemaAmortizacao.SAC, null, null, null, null));
+    }
+}
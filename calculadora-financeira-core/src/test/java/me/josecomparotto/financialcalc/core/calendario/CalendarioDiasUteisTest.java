@@ -0,0 +1,90 @@
+package me.josecomparotto.financialcalc.core.calendario;
+
+import org.junit.jupiter.api.Test;
+
+import java.time.DayOfWeek;
+import java.time.LocalDate;
+import java.util.HashSet;
+import java.util.List;
+import java.util.Set;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CalendarioDiasUteisTest {
+
+    private static final CalendarioDiasUteis CALENDARIO = CalendarioDiasUteis.brasil(2024, 2055);
+
+    @Test
+    void pascoaEFeriadosMoveis() {
+        assertEquals(LocalDate.of(2024, 3, 31), FeriadosBrasil.pascoa(2024));
+        assertEquals(LocalDate.of(2025, 4, 20), FeriadosBrasil.pascoa(2025));
+        assertEquals(LocalDate.of(2038, 4, 25), FeriadosBrasil.pascoa(2038));
+        assertEquals(LocalDate.of(2008, 3, 23), FeriadosBrasil.pascoa(2008));
+
+        List<LocalDate> feriados2024 = FeriadosBrasil.feriados(2024);
+        assertTrue(feriados2024.contains(LocalDate.of(2024, 2, 12)));
+        assertTrue(feriados2024.contains(LocalDate.of(2024, 2, 13)));
+        assertTrue(feriados2024.contains(LocalDate.of(2024, 3, 29)));
+        assertTrue(feriados2024.contains(LocalDate.of(2024, 5, 30)));
+        assertTrue(feriados2024.contains(LocalDate.of(2024, 11, 20)));
+        assertFalse(FeriadosBrasil.feriados(2023).contains(LocalDate.of(2023, 11, 20)));
+    }
+
+    @Test
+    void indiceIgualAoCalculoDiaADia() {
+        Set<LocalDate> feriados = new HashSet<>();
+        for (int ano = 2024; ano <= 2055; ano++) {
+            feriados.addAll(FeriadosBrasil.feriados(ano));
+        }
+        for (LocalDate d = LocalDate.of(2024, 1, 1); d.isBefore(LocalDate.of(2055, 12, 20)); d = d.plusDays(1)) {
+            boolean util = d.getDayOfWeek() != DayOfWeek.SATURDAY && d.getDayOfWeek() != DayOfWeek.SUNDAY
+                    && !feriados.contains(d);
+            assertEquals(util, CALENDARIO.isDiaUtil(d), d.toString());
+            LocalDate proximo = d;
+            while (proximo.getDayOfWeek() == DayOfWeek.SATURDAY || proximo.getDayOfWeek() == DayOfWeek.SUNDAY
+                    || feriados.contains(proximo)) {
+                proximo = proximo.plusDays(1);
+            }
+            assertEquals(proximo, CALENDARIO.proximoDiaUtil(d), d.toString());
+        }
+    }
+
+    @Test
+    void vencimentosMensais_prorrogadosEAjustadosAoFimDoMes() {
+        long[] vencimentos = CALENDARIO.vencimentos(LocalDate.of(2024, 1, 31), 360);
+        assertEquals(360, vencimentos.length);
+        assertEquals(LocalDate.of(2024, 1, 31), LocalDate.ofEpochDay(vencimentos[0]));
+        assertEquals(LocalDate.of(2024, 2, 29), LocalDate.ofEpochDay(vencimentos[1]));
+        assertEquals(LocalDate.of(2024, 4, 1), LocalDate.ofEpochDay(vencimentos[2])); // 31/03 é domingo
+        assertEquals(LocalDate.of(2024, 4, 30), LocalDate.ofEpochDay(vencimentos[3]));
+
+        for (int k = 0; k < 360; k++) {
+            LocalDate nominal = LocalDate.of(2024, 1, 31).plusMonths(k);
+            assertEquals(CALENDARIO.proximoDiaUtil(nominal), LocalDate.ofEpochDay(vencimentos[k]));
+        }
+
+        // 07/09/2026 é segunda-feira (Independência)
+        assertEquals(LocalDate.of(2026, 9, 8), LocalDate.ofEpochDay(CALENDARIO.vencimentos(LocalDate.of(2026, 8, 7), 2)[1]));
+        assertEquals(0, CALENDARIO.vencimentos(LocalDate.of(2030, 5, 5), 0).length);
+    }
+
+    @Test
+    void calendarioPersonalizadoELimites() {
+        CalendarioDiasUteis calendario = new CalendarioDiasUteis(LocalDate.of(2030, 3, 15), LocalDate.of(2030, 6, 3),
+                List.of(LocalDate.of(2030, 5, 31), LocalDate.of(2031, 1, 1)));
+        assertFalse(calendario.isDiaUtil(LocalDate.of(2030, 5, 31)));
+        assertEquals(LocalDate.of(2030, 6, 3), calendario.proximoDiaUtil(LocalDate.of(2030, 5, 31)));
+        assertEquals(3, calendario.vencimentos(LocalDate.of(2030, 3, 31), 3).length);
+
+        assertThrows(IllegalArgumentException.class, () -> calendario.isDiaUtil(LocalDate.of(2030, 3, 14)));
+        assertThrows(IllegalArgumentException.class, () -> calendario.proximoDiaUtil(LocalDate.of(2030, 6, 4)));
+        assertThrows(IllegalArgumentException.class, () -> calendario.vencimentos(LocalDate.of(2030, 3, 31), 4));
+        assertThrows(IllegalArgumentException.class, () -> calendario.vencimentos(LocalDate.of(2030, 3, 5), 4));
+        CalendarioDiasUteis fimDeSemana = new CalendarioDiasUteis(LocalDate.of(2030, 6, 1), LocalDate.of(2030, 6, 2),
+                List.of());
+        assertThrows(IllegalArgumentException.class, () -> fimDeSemana.proximoDiaUtil(LocalDate.of(2030, 6, 1)));
+        assertThrows(IllegalArgumentException.class,
+                () -> new CalendarioDiasUteis(LocalDate.of(2030, 1, 2), LocalDate.of(2030, 1, 1), List.of()));
+        assertThrows(IllegalArgumentException.class, () -> CalendarioDiasUteis.brasil(2030, 2029));
+    }
+}
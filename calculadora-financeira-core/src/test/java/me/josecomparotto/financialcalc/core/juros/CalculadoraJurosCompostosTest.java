@@ -58,4 +58,28 @@ public class CalculadoraJurosCompostosTest {
         assertThrows(IllegalArgumentException.class, () -> calc.calcularJuros(principal, taxa, -1, scale));
     }
 
+    @Test
+    void comCache_mesmoResultado_eFatorCalculadoUmaVez() {
+        CacheFatoresCompostos cache = new CacheFatoresCompostos(16);
+        CalculadoraJurosCompostos comCache = new CalculadoraJurosCompostos(mc, cache);
+        BigDecimal taxa = new BigDecimal("0.0149");
+        for (String principal : new String[]{"1000", "2500.50", "999999.99"}) {
+            BigDecimal p = new BigDecimal(principal);
+            assertEquals(calc.calcularMontante(p, taxa, 360, scale), comCache.calcularMontante(p, taxa, 360, scale));
+            assertEquals(calc.calcularJuros(p, taxa, 360, scale), comCache.calcularJuros(p, taxa, 360, scale));
+        }
+        assertEquals(1, cache.estatisticas().getFalhas());
+        assertEquals(5, cache.estatisticas().getAcertos());
+    }
+
+    @Test
+    void calcularMontanteEJuros_igualAsChamadasSeparadas() {
+        BigDecimal principal = new BigDecimal("2000.555");
+        BigDecimal taxa = new BigDecimal("0.015");
+        ResultadoJuros resultado = calc.calcularMontanteEJuros(principal, taxa, 360, scale);
+        assertEquals(calc.calcularMontante(principal, taxa, 360, scale), resultado.getMontante());
+        assertEquals(calc.calcularJuros(principal, taxa, 360, scale), resultado.getJuros());
+        assertThrows(IllegalArgumentException.class, () -> calc.calcularMontanteEJuros(principal, taxa, -1, scale));
+    }
+
 }
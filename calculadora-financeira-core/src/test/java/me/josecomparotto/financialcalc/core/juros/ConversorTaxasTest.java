@@ -0,0 +1,114 @@
+package me.josecomparotto.financialcalc.core.juros;
+
+import me.josecomparotto.financialcalc.core.juros.ConversorTaxas.Periodo;
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.math.RoundingMode;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class ConversorTaxasTest {
+
+    private static final MathContext MC = MathContext.DECIMAL128;
+
+    // |x - y| <= 'ulps' unidades na última casa de y em 'mc'.
+    private static void assertProximo(BigDecimal esperado, BigDecimal obtido, MathContext mc, int ulps) {
+        BigDecimal ulp = esperado.round(mc).ulp();
+        assertTrue(esperado.subtract(obtido).abs().compareTo(ulp.multiply(BigDecimal.valueOf(ulps))) <= 0,
+                "esperado " + esperado + ", obtido " + obtido);
+    }
+
+    @Test
+    void raiz_exataNoMathContext() {
+        assertEquals(0, ConversorTaxas.raiz(new BigDecimal("1024"), 10, MC).compareTo(BigDecimal.valueOf(2)));
+        assertEquals(0, ConversorTaxas.raiz(BigDecimal.ONE, 30, MC).compareTo(BigDecimal.ONE));
+        assertEquals(new BigDecimal("1.414213562373095048801688724209698"), ConversorTaxas.raiz(BigDecimal.valueOf(2), 2, MC));
+        assertEquals(new BigDecimal("1.41421356237309504880168872420969807856967187537695"),
+                ConversorTaxas.raiz(BigDecimal.valueOf(2), 2, new MathContext(51)));
+
+        // Fora da faixa do double
+        BigDecimal enorme = new BigDecimal("1E+400");
+        assertEquals(0, ConversorTaxas.raiz(enorme, 4, MC).compareTo(new BigDecimal("1E+100")));
+        assertEquals(0, ConversorTaxas.raiz(new BigDecimal("1E-400"), 2, MC).compareTo(new BigDecimal("1E-200")));
+
+        BigDecimal a = new BigDecimal("1.0099");
+        BigDecimal r = ConversorTaxas.raiz(a, 30, new MathContext(60));
+        assertProximo(a, r.pow(30, new MathContext(60)), MC, 1);
+    }
+
+    @Test
+    void potencia_fracionaria() {
+        BigDecimal base = new BigDecimal("1.1268250301319698");
+        assertEquals(0, ConversorTaxas.potencia(new BigDecimal("8"), 2, 3, MC).compareTo(BigDecimal.valueOf(4)));
+        assertEquals(0, ConversorTaxas.potencia(new BigDecimal("8"), -2, 6, MC).compareTo(new BigDecimal("0.5")));
+        BigDecimal mensal = ConversorTaxas.potencia(base, 1, 12, MC);
+        assertProximo(base, mensal.pow(12, new MathContext(50)), MC, 2);
+        assertThrows(IllegalArgumentException.class, () -> ConversorTaxas.potencia(base, 1, 0, MC));
+        assertThrows(IllegalArgumentException.class, () -> ConversorTaxas.raiz(BigDecimal.ZERO, 2, MC));
+        assertThrows(IllegalArgumentException.class, () -> ConversorTaxas.raiz(BigDecimal.TEN, 2, MathContext.UNLIMITED));
+    }
+
+    @Test
+    void equivalente_entrePeriodos() {
+        ConversorTaxas conversor = new ConversorTaxas(MC);
+        BigDecimal anual = new BigDecimal("0.12");
+        BigDecimal mensal = conversor.equivalente(anual, Periodo.ANO, Periodo.MES);
+        assertEquals(new BigDecimal("0.009488792934582974126355069193494"), mensal.round(new MathContext(31)));
+        assertProximo(anual, BigDecimal.ONE.add(mensal).pow(12, new MathContext(50)).subtract(BigDecimal.ONE), MC, 20);
+
+        BigDecimal volta = conversor.equivalente(mensal, Periodo.MES, Periodo.ANO);
+        assertProximo(anual, volta, MC, 20);
+
+        BigDecimal diariaUtil = conversor.equivalente(new BigDecimal("0.1375"), Periodo.ANO, Periodo.DIA_UTIL);
+        assertEquals(0.1375, Math.pow(1 + diariaUtil.doubleValue(), 252) - 1, 1e-12);
+
+        BigDecimal diaria = conversor.equivalente(new BigDecimal("0.0099"), Periodo.MES, Periodo.DIA);
+        assertEquals(Math.expm1(Math.log1p(0.0099) / 30), diaria.doubleValue(), 1e-18);
+
+        assertEquals(anual, conversor.equivalente(anual, Periodo.ANO, Periodo.ANO));
+        assertEquals(0, conversor.equivalente(BigDecimal.ZERO, Periodo.ANO, Periodo.MES).signum());
+        assertTrue(conversor.equivalente(new BigDecimal("-0.05"), Periodo.ANO, Periodo.MES).signum() < 0);
+    }
+
+    @Test
+    void proporcional() {
+        ConversorTaxas conversor = new ConversorTaxas(MC);
+        assertEquals(0, conversor.proporcional(new BigDecimal("0.12"), Periodo.ANO, Periodo.MES)
+                .compareTo(new BigDecimal("0.01")));
+        assertEquals(0, conversor.proporcional(new BigDecimal("0.01"), Periodo.MES, Periodo.SEMESTRE)
+                .compareTo(new BigDecimal("0.06")));
+    }
+
+    @Test
+    void cache_reaproveitaTaxasPublicadas() {
+        ConversorTaxas conversor = new ConversorTaxas(MC, 16);
+        BigDecimal primeira = conversor.equivalente(new BigDecimal("0.1375"), Periodo.ANO, Periodo.MES);
+        for (int i = 0; i < 10; i++) {
+            assertSame(primeira, conversor.equivalente(new BigDecimal("0.1375"), Periodo.ANO, Periodo.MES));
+        }
+        assertEquals(10, conversor.estatisticas().getAcertos());
+        assertEquals(1, conversor.estatisticas().getFalhas());
+        conversor.limpar();
+        assertNotSame(primeira, conversor.equivalente(new BigDecimal("0.1375"), Periodo.ANO, Periodo.MES));
+    }
+
+    @Test
+    void sufixosEErros() {
+        assertEquals(Periodo.ANO, Periodo.doSufixo("a.a."));
+        assertEquals(Periodo.ANO, Periodo.doSufixo("A.A"));
+        assertEquals(Periodo.MES, Periodo.doSufixo(" a.m. "));
+        assertEquals(Periodo.DIA_UTIL, Periodo.doSufixo("a.d.u."));
+        assertEquals(Periodo.DIA, Periodo.doSufixo("a.d"));
+        assertThrows(IllegalArgumentException.class, () -> Periodo.doSufixo("a.x."));
+        assertThrows(IllegalArgumentException.class, () -> Periodo.doSufixo(null));
+
+        ConversorTaxas conversor = new ConversorTaxas(new MathContext(10, RoundingMode.HALF_EVEN));
+        assertThrows(IllegalArgumentException.class, () -> conversor.equivalente(null, Periodo.ANO, Periodo.MES));
+        assertThrows(IllegalArgumentException.class, () -> conversor.equivalente(new BigDecimal("-1"), Periodo.ANO, Periodo.MES));
+        assertThrows(IllegalArgumentException.class, () -> conversor.equivalente(BigDecimal.ONE, null, Periodo.MES));
+        assertThrows(IllegalArgumentException.class, () -> new ConversorTaxas(MathContext.UNLIMITED));
+        assertEquals(10, conversor.equivalente(new BigDecimal("0.12"), Periodo.ANO, Periodo.MES).precision());
+    }
+}
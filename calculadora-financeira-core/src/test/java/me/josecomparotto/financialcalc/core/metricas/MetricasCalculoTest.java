@@ -0,0 +1,217 @@
+package me.josecomparotto.financialcalc.core.metricas;
+
+import jdk.jfr.Recording;
+import jdk.jfr.consumer.RecordedEvent;
+import jdk.jfr.consumer.RecordingFile;
+import me.josecomparotto.financialcalc.core.juros.CalculadoraJurosCompostos;
+import me.josecomparotto.financialcalc.core.parcelas.CalculadoraParcelasPrice;
+import me.josecomparotto.financialcalc.core.parcelas.CalculadoraParcelasSac;
+import me.josecomparotto.financialcalc.core.parcelas.ICalculadoraParcelas;
+import me.josecomparotto.financialcalc.core.parcelas.Parcela;
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.math.RoundingMode;
+import java.nio.file.Path;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class MetricasCalculoTest {
+
+    private static final MathContext MC_RESULTADO = new MathContext(2, RoundingMode.HALF_UP);
+    private final BigDecimal V = new BigDecimal("10000.00");
+    private final BigDecimal i = new BigDecimal("0.01");
+
+    private static ICalculadoraParcelas price(MetricasCalculo metricas) {
+        return new CalculadoraParcelasInstrumentada(new CalculadoraParcelasPrice(), "PRICE",
+                MathContext.DECIMAL128, MC_RESULTADO, metricas);
+    }
+
+    private static EstatisticasOperacao unica(MetricasCalculo metricas, String operacao) {
+        List<EstatisticasOperacao> encontradas = metricas.estatisticas().stream()
+                .filter(e -> e.getOperacao().equals(operacao)).toList();
+        assertEquals(1, encontradas.size(), operacao);
+        return encontradas.get(0);
+    }
+
+    @Test
+    void histograma_baldesEPercentis() {
+        for (long valor : new long[]{0, 1, 15, 16, 17, 31, 32, 1000, 123_456_789, Long.MAX_VALUE}) {
+            int indice = HistogramaLatencia.indice(valor);
+            assertTrue(indice < HistogramaLatencia.BALDES);
+            long limite = HistogramaLatencia.limiteSuperior(indice);
+            assertTrue(limite >= valor, "valor " + valor);
+            assertTrue(limite - valor <= valor / 16, "valor " + valor);
+            assertTrue(indice == 0 || HistogramaLatencia.limiteSuperior(indice - 1) < valor, "valor " + valor);
+        }
+
+        HistogramaLatencia histograma = new HistogramaLatencia();
+        Random random = new Random(7);
+        long[] valores = new long[10_000];
+        for (int k = 0; k < valores.length; k++) {
+            valores[k] = 1000 + random.nextInt(1_000_000);
+            histograma.registrar(valores[k]);
+        }
+        java.util.Arrays.sort(valores);
+        ResumoLatencia resumo = histograma.resumo();
+        assertEquals(10_000, resumo.getTotal());
+        assertEquals(valores[valores.length - 1], resumo.getMaximo());
+        for (double p : new double[]{50, 90, 99, 99.9}) {
+            long exato = valores[(int) Math.ceil(p / 100 * valores.length) - 1];
+            long aproximado = resumo.percentil(p);
+            assertTrue(aproximado >= exato && aproximado - exato <= exato / 16, "p" + p);
+        }
+        assertEquals(resumo.getMaximo(), resumo.percentil(100));
+        assertThrows(IllegalArgumentException.class, () -> resumo.percentil(0));
+
+        histograma.zerar();
+        assertEquals(0, histograma.resumo().getTotal());
+        assertEquals(0, histograma.resumo().percentil(50));
+    }
+
+    @Test
+    void parcelas_contaChamadasParcelasEFaixas() {
+        MetricasCalculo metricas = new MetricasCalculo();
+        ICalculadoraParcelas calc = price(metricas);
+        List<Parcela> esperado = new CalculadoraParcelasPrice().calcularParcelas(V, i, 24);
+
+        for (int k = 0; k < 3; k++) {
+            List<Parcela> parcelas = calc.calcularParcelas(V, i, 24);
+            assertEquals(esperado.get(23).getSaldoDevedor(), parcelas.get(23).getSaldoDevedor());
+        }
+        calc.calcularParcelas(V, i, 360);
+        calc.calcularResumo(V, i, 24);
+        assertEquals(esperado.get(4).getValorJuros(), calc.calcularParcela(V, i, 24, 5).getValorJuros());
+        assertEquals(24, calc.calcularCronograma(V, i, 24).tamanho());
+
+        List<EstatisticasOperacao> estatisticas = metricas.estatisticas();
+        assertEquals(5, estatisticas.size());
+        List<EstatisticasOperacao> calcularParcelas = estatisticas.stream()
+                .filter(e -> e.getOperacao().equals("calcularParcelas")).toList();
+        assertEquals(2, calcularParcelas.size());
+        EstatisticasOperacao curtas = calcularParcelas.get(0);
+        assertEquals("PRICE", curtas.getCalculadora());
+        assertEquals("calcularParcelas", curtas.getOperacao());
+        assertEquals(34, curtas.getPrecisaoCalculo());
+        assertEquals(2, curtas.getPrecisaoResultado());
+        assertEquals(60, curtas.getFaixaPrazo());
+        assertEquals(3, curtas.getChamadas());
+        assertEquals(72, curtas.getParcelas());
+        assertEquals(3, curtas.getLatencia().getTotal());
+        assertTrue(curtas.getLatencia().getMaximo() > 0);
+        assertEquals(360, calcularParcelas.get(1).getFaixaPrazo());
+        assertEquals(360, calcularParcelas.get(1).getParcelas());
+        assertEquals(1, unica(metricas, "calcularParcela").getParcelas());
+        assertEquals(0, unica(metricas, "calcularResumo").getParcelas());
+        assertEquals(24, unica(metricas, "calcularCronograma").getParcelas());
+
+        metricas.zerar();
+        assertTrue(metricas.estatisticas().isEmpty());
+    }
+
+    @Test
+    void alocacao_medidaQuandoSuportada() {
+        MetricasCalculo metricas = new MetricasCalculo();
+        price(metricas).calcularParcelas(V, i, 120);
+        EstatisticasOperacao estatisticas = unica(metricas, "calcularParcelas");
+        if (metricas.bytesAlocados() >= 0) {
+            // 120 parcelas com quatro BigDecimal cada
+            assertTrue(estatisticas.getBytesPorChamada() > 120 * 4 * 16, "bytes " + estatisticas.getBytesAlocados());
+        } else {
+            assertEquals(-1, estatisticas.getBytesPorChamada());
+        }
+        MetricasCalculo semAlocacao = new MetricasCalculo(false);
+        price(semAlocacao).calcularParcelas(V, i, 12);
+        assertEquals(-1, unica(semAlocacao, "calcularParcelas").getBytesPorChamada());
+    }
+
+    @Test
+    void iterador_registraAoEsgotar_eStreamPassaPeloIterador() {
+        MetricasCalculo metricas = new MetricasCalculo();
+        ICalculadoraParcelas calc = new CalculadoraParcelasInstrumentada(new CalculadoraParcelasSac(), "SAC",
+                MathContext.DECIMAL64, MC_RESULTADO, metricas);
+        Iterator<Parcela> parcelas = calc.iterarParcelas(V, i, 10);
+        int contadas = 0;
+        while (contadas < 10) {
+            parcelas.next();
+            contadas++;
+        }
+        assertTrue(metricas.estatisticas().isEmpty());
+        assertFalse(parcelas.hasNext());
+        assertFalse(parcelas.hasNext());
+        assertEquals(10, calc.streamParcelas(V, i, 10).toList().size());
+
+        EstatisticasOperacao estatisticas = unica(metricas, "iterarParcelas");
+        assertEquals(2, estatisticas.getChamadas());
+        assertEquals(20, estatisticas.getParcelas());
+        assertEquals(16, estatisticas.getPrecisaoCalculo());
+        assertEquals(12, estatisticas.getFaixaPrazo());
+    }
+
+    @Test
+    void desativada_naoRegistra_eExcecoesNaoEntram() {
+        MetricasCalculo metricas = new MetricasCalculo();
+        ICalculadoraParcelas calc = price(metricas);
+        metricas.setAtiva(false);
+        assertFalse(metricas.isAtiva());
+        assertEquals(12, calc.calcularParcelas(V, i, 12).size());
+        assertTrue(calc.iterarParcelas(V, i, 12).hasNext());
+        assertTrue(metricas.estatisticas().isEmpty());
+
+        metricas.setAtiva(true);
+        assertThrows(IllegalArgumentException.class, () -> calc.calcularParcelas(V, i, 0));
+        assertTrue(metricas.estatisticas().isEmpty());
+        assertThrows(IllegalArgumentException.class,
+                () -> new CalculadoraParcelasInstrumentada(null, "PRICE", MathContext.DECIMAL128, MC_RESULTADO, metricas));
+    }
+
+    @Test
+    void juros_registraTempoEPrecisaoDaChamada() {
+        MetricasCalculo metricas = new MetricasCalculo();
+        CalculadoraJurosCompostos compostos = new CalculadoraJurosCompostos();
+        var calc = new CalculadoraJurosInstrumentada<>(compostos, "COMPOSTOS", MathContext.DECIMAL128, metricas);
+        assertEquals(compostos.calcularMontante(V, i, 36, 2), calc.calcularMontante(V, i, 36, 2));
+        assertEquals(compostos.calcularJuros(V, i, 36, 4), calc.calcularJuros(V, i, 36, 4));
+
+        EstatisticasOperacao montante = unica(metricas, "calcularMontante");
+        assertEquals("COMPOSTOS", montante.getCalculadora());
+        assertEquals(2, montante.getPrecisaoResultado());
+        assertEquals(60, montante.getFaixaPrazo());
+        assertEquals(0, montante.getParcelas());
+        assertEquals(4, unica(metricas, "calcularJuros").getPrecisaoResultado());
+    }
+
+    @Test
+    void eventoJfr_levaSistemaPrazoEContexto(@TempDir Path dir) throws Exception {
+        MetricasCalculo metricas = new MetricasCalculo();
+        metricas.setAtiva(false);
+        ICalculadoraParcelas calc = new CalculadoraParcelasInstrumentada(new CalculadoraParcelasPrice(), "PRICE",
+                MathContext.DECIMAL64, new MathContext(4, RoundingMode.HALF_EVEN), metricas);
+        Path arquivo = dir.resolve("calculo.jfr");
+        try (Recording gravacao = new Recording()) {
+            gravacao.enable("calculadorafinanceira.Calculo");
+            gravacao.start();
+            calc.calcularParcelas(V, i, 48);
+            gravacao.stop();
+            gravacao.dump(arquivo);
+        }
+        assertTrue(metricas.estatisticas().isEmpty());
+
+        List<RecordedEvent> eventos = RecordingFile.readAllEvents(arquivo).stream()
+                .filter(e -> e.getEventType().getName().equals("calculadorafinanceira.Calculo")).toList();
+        assertEquals(1, eventos.size());
+        RecordedEvent evento = eventos.get(0);
+        assertEquals("PRICE", evento.getString("calculadora"));
+        assertEquals("calcularParcelas", evento.getString("operacao"));
+        assertEquals(48, evento.getInt("prazo"));
+        assertEquals(16, evento.getInt("precisaoCalculo"));
+        assertEquals("HALF_EVEN", evento.getString("arredondamento"));
+        assertEquals(4, evento.getInt("precisaoResultado"));
+        assertEquals(48, evento.getLong("parcelas"));
+    }
+}
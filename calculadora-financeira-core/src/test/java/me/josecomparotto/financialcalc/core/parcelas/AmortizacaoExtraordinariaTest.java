@@ -0,0 +1,161 @@
+package me.josecomparotto.financialcalc.core.parcelas;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static me.josecomparotto.financialcalc.core.parcelas.ModoAmortizacaoExtraordinaria.REDUZIR_PARCELA;
+import static me.josecomparotto.financialcalc.core.parcelas.ModoAmortizacaoExtraordinaria.REDUZIR_PRAZO;
+import static org.junit.jupiter.api.Assertions.*;
+import static me.josecomparotto.financialcalc.core.parcelas.ParcelaAsserts.assertParcelaIgual;
+
+public class AmortizacaoExtraordinariaTest {
+
+    private final CalculadoraParcelasPrice price = new CalculadoraParcelasPrice();
+    private final CalculadoraParcelasSac sac = new CalculadoraParcelasSac();
+    private final BigDecimal V = new BigDecimal("100000.00");
+    private final BigDecimal i = new BigDecimal("0.01");
+
+    // O trecho após a série k deve ser o cronograma do sistema sobre o novo saldo.
+    private static void assertTrecho(List<Parcela> esperadoSemRenumerar, List<Parcela> obtido, int k) {
+        assertEquals(k + esperadoSemRenumerar.size(), obtido.size());
+        for (int j = 0; j < esperadoSemRenumerar.size(); j++) {
+            Parcela esperada = esperadoSemRenumerar.get(j);
+            esperada.setSerie(esperada.getSerie() + k);
+            assertParcelaIgual(esperada, obtido.get(k + j));
+        }
+    }
+
+    @Test
+    void price_reduzirParcela_mantemPrefixoERecalculaSoOTrecho() {
+        List<Parcela> original = price.calcularParcelas(V, i, 120);
+        List<Parcela> novo = price.aplicarAmortizacaoExtraordinaria(original, i,
+                new AmortizacaoExtraordinaria(24, new BigDecimal("20000"), REDUZIR_PARCELA));
+        for (int k = 0; k < 24; k++) {
+            assertSame(original.get(k), novo.get(k));
+        }
+        BigDecimal saldo = original.get(23).getSaldoDevedor().subtract(new BigDecimal("20000"));
+        assertTrecho(price.calcularParcelas(saldo, i, 96), novo, 24);
+        assertEquals(0, novo.get(novo.size() - 1).getSaldoDevedor().signum());
+        assertTrue(novo.get(24).getValorParcela().compareTo(original.get(24).getValorParcela()) < 0);
+    }
+
+    @Test
+    void price_reduzirPrazo_menorPrazoComPrestacaoAteAVigente() {
+        List<Parcela> original = price.calcularParcelas(V, i, 120);
+        BigDecimal prestacao = original.get(0).getValorParcela();
+        List<Parcela> novo = price.aplicarAmortizacaoExtraordinaria(original, i,
+                new AmortizacaoExtraordinaria(12, new BigDecimal("30000"), REDUZIR_PRAZO));
+        BigDecimal saldo = original.get(11).getSaldoDevedor().subtract(new BigDecimal("30000"));
+        int prazo = novo.size() - 12;
+        assertTrue(prazo < 108, "prazo " + prazo);
+        assertTrue(price.calcularValorParcela(saldo, i, prazo).compareTo(prestacao) <= 0);
+        assertTrue(price.calcularValorParcela(saldo, i, prazo - 1).compareTo(prestacao) > 0);
+        assertTrecho(price.calcularParcelas(saldo, i, prazo), novo, 12);
+    }
+
+    @Test
+    void sac_ambosOsModos() {
+        List<Parcela> original = sac.calcularParcelas(V, i, 100);
+        List<Parcela> parcela = sac.aplicarAmortizacaoExtraordinaria(original, i,
+                new AmortizacaoExtraordinaria(10, new BigDecimal("9000"), REDUZIR_PARCELA));
+        BigDecimal saldo = original.get(9).getSaldoDevedor().subtract(new BigDecimal("9000"));
+        assertTrecho(sac.calcularParcelas(saldo, i, 90), parcela, 10);
+
+        List<Parcela> prazo = sac.aplicarAmortizacaoExtraordinaria(original, i,
+                new AmortizacaoExtraordinaria(10, new BigDecimal("9000"), REDUZIR_PRAZO));
+        // amortização vigente 1000,00: ceil(81000 / 1000) = 81 parcelas
+        assertTrecho(sac.calcularParcelas(saldo, i, 81), prazo, 10);
+        assertEquals(new BigDecimal("1000.00"), prazo.get(10).getValorAmortizacao());
+    }
+
+    @Test
+    void antesDaPrimeiraParcela_eQuitacao() {
+        List<Parcela> original = price.calcularParcelas(V, i, 24);
+        List<Parcela> inicio = price.aplicarAmortizacaoExtraordinaria(original, i,
+                new AmortizacaoExtraordinaria(0, new BigDecimal("40000"), REDUZIR_PARCELA));
+        assertTrecho(price.calcularParcelas(new BigDecimal("60000.00"), i, 24), inicio, 0);
+
+        BigDecimal saldo = original.get(5).getSaldoDevedor();
+        List<Parcela> quitado = price.aplicarAmortizacaoExtraordinaria(original, i,
+                new AmortizacaoExtraordinaria(6, saldo, REDUZIR_PRAZO));
+        assertEquals(6, quitado.size());
+    }
+
+    // Eventos encadeados, gerados sob demanda, devem dar o mesmo cronograma que
+    // aplicar um evento de cada vez sobre o resultado do anterior.
+    @Test
+    void encadeados_igualAAplicarUmPorVez() {
+        Random random = new Random(3);
+        for (ICalculadoraParcelas calc : List.of(price, sac)) {
+            List<Parcela> original = calc.calcularParcelas(new BigDecimal("500000.00"), new BigDecimal("0.008"), 420);
+            List<AmortizacaoExtraordinaria> eventos = new ArrayList<>();
+            for (int serie = 3; serie < 200; serie += 1 + random.nextInt(3)) {
+                eventos.add(new AmortizacaoExtraordinaria(serie, BigDecimal.valueOf(100 + random.nextInt(1000)),
+                        random.nextBoolean() ? REDUZIR_PRAZO : REDUZIR_PARCELA));
+            }
+            List<Parcela> umPorVez = original;
+            for (AmortizacaoExtraordinaria evento : eventos) {
+                umPorVez = aplicar(calc, copia(umPorVez), evento);
+            }
+            List<Parcela> encadeado = aplicar(calc, original, eventos);
+            assertEquals(umPorVez.size(), encadeado.size());
+            for (int k = 0; k < encadeado.size(); k++) {
+                assertParcelaIgual(umPorVez.get(k), encadeado.get(k));
+            }
+            assertTrue(encadeado.size() < 420);
+            assertEquals(0, encadeado.get(encadeado.size() - 1).getSaldoDevedor().signum());
+        }
+    }
+
+    private static List<Parcela> aplicar(ICalculadoraParcelas calc, List<Parcela> cronograma, Object eventos) {
+        BigDecimal taxa = new BigDecimal("0.008");
+        if (eventos instanceof AmortizacaoExtraordinaria evento) {
+            return calc instanceof CalculadoraParcelasPrice p
+                    ? p.aplicarAmortizacaoExtraordinaria(cronograma, taxa, evento)
+                    : ((CalculadoraParcelasSac) calc).aplicarAmortizacaoExtraordinaria(cronograma, taxa, evento);
+        }
+        @SuppressWarnings("unchecked")
+        List<AmortizacaoExtraordinaria> lista = (List<AmortizacaoExtraordinaria>) eventos;
+        return calc instanceof CalculadoraParcelasPrice p
+                ? p.aplicarAmortizacoesExtraordinarias(cronograma, taxa, lista)
+                : ((CalculadoraParcelasSac) calc).aplicarAmortizacoesExtraordinarias(cronograma, taxa, lista);
+    }
+
+    private static List<Parcela> copia(List<Parcela> parcelas) {
+        List<Parcela> copia = new ArrayList<>(parcelas.size());
+        for (Parcela p : parcelas) {
+            Parcela c = new Parcela();
+            c.setSerie(p.getSerie());
+            c.setValorParcela(p.getValorParcela());
+            c.setValorAmortizacao(p.getValorAmortizacao());
+            c.setValorJuros(p.getValorJuros());
+            c.setSaldoDevedor(p.getSaldoDevedor());
+            copia.add(c);
+        }
+        return copia;
+    }
+
+    @Test
+    void entradasInvalidas_deveLancar() {
+        List<Parcela> original = price.calcularParcelas(V, i, 12);
+        assertThrows(IllegalArgumentException.class,
+                () -> new AmortizacaoExtraordinaria(-1, BigDecimal.TEN, REDUZIR_PRAZO));
+        assertThrows(IllegalArgumentException.class,
+                () -> new AmortizacaoExtraordinaria(1, BigDecimal.ZERO, REDUZIR_PRAZO));
+        assertThrows(IllegalArgumentException.class, () -> new AmortizacaoExtraordinaria(1, BigDecimal.TEN, null));
+        assertThrows(IllegalArgumentException.class, () -> price.aplicarAmortizacaoExtraordinaria(original, i,
+                new AmortizacaoExtraordinaria(12, BigDecimal.TEN, REDUZIR_PRAZO)));
+        assertThrows(IllegalArgumentException.class, () -> price.aplicarAmortizacaoExtraordinaria(original, i,
+                new AmortizacaoExtraordinaria(2, new BigDecimal("1000000"), REDUZIR_PRAZO)));
+        assertThrows(IllegalArgumentException.class, () -> price.aplicarAmortizacoesExtraordinarias(original, i, List.of(
+                new AmortizacaoExtraordinaria(5, BigDecimal.TEN, REDUZIR_PRAZO),
+                new AmortizacaoExtraordinaria(5, BigDecimal.TEN, REDUZIR_PRAZO))));
+        assertThrows(IllegalArgumentException.class, () -> price.aplicarAmortizacaoExtraordinaria(List.of(), i,
+                new AmortizacaoExtraordinaria(0, BigDecimal.TEN, REDUZIR_PRAZO)));
+        assertThrows(IllegalArgumentException.class, () -> price.aplicarAmortizacaoExtraordinaria(original, i, null));
+    }
+}
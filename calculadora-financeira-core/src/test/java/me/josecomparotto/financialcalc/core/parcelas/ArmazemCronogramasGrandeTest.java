@@ -0,0 +1,68 @@
+package me.josecomparotto.financialcalc.core.parcelas;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.math.RoundingMode;
+import java.nio.file.Path;
+import java.util.List;
+import java.util.SplittableRandom;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+// Roda em uma execução própria do surefire com heap pequeno (ver pom.xml),
+// para que o armazém fique maior que o heap.
+public class ArmazemCronogramasGrandeTest {
+
+    private static final int CONTRATOS = 20_000;
+    private static final int PRAZO = 300;
+
+    @TempDir
+    Path diretorio;
+
+    private static ICalculadoraParcelas calculadora(long contrato) {
+        SistemaAmortizacao sistema = contrato % 2 == 0 ? SistemaAmortizacao.PRICE : SistemaAmortizacao.SAC;
+        return sistema.criarCalculadora(MathContext.DECIMAL128, new MathContext(2, RoundingMode.HALF_UP),
+                MotorCalculo.CENTAVOS);
+    }
+
+    private static BigDecimal principal(long contrato) {
+        return BigDecimal.valueOf(10_000_000 + contrato * 137, 2);
+    }
+
+    private static final BigDecimal TAXA = new BigDecimal("0.0099");
+
+    @Test
+    void armazemMaiorQueOHeap() throws IOException {
+        try (ArmazemCronogramas armazem = new ArmazemCronogramas(diretorio)) {
+            for (long contrato = 0; contrato < CONTRATOS; contrato++) {
+                armazem.adicionar(contrato, calculadora(contrato), principal(contrato), TAXA, PRAZO);
+            }
+        }
+
+        try (ArmazemCronogramas armazem = new ArmazemCronogramas(diretorio)) {
+            assertEquals(CONTRATOS, armazem.quantidadeContratos());
+            assertEquals((long) CONTRATOS * PRAZO, armazem.quantidadeParcelas());
+            assertTrue(armazem.quantidadeParcelas() * ArmazemCronogramas.TAMANHO_REGISTRO
+                    > Runtime.getRuntime().maxMemory(), "armazém deveria ser maior que o heap");
+
+            SplittableRandom random = new SplittableRandom(23);
+            for (int k = 0; k < 50; k++) {
+                long contrato = random.nextInt(CONTRATOS);
+                List<Parcela> esperado = calculadora(contrato).calcularParcelas(principal(contrato), TAXA, PRAZO);
+                int indice = random.nextInt(PRAZO);
+                Parcela obtida = armazem.parcela(contrato, indice);
+                assertEquals(esperado.get(indice).getSerie(), obtida.getSerie());
+                assertEquals(esperado.get(indice).getValorParcela(), obtida.getValorParcela());
+                assertEquals(esperado.get(indice).getValorJuros(), obtida.getValorJuros());
+                assertEquals(esperado.get(indice).getSaldoDevedor(), obtida.getSaldoDevedor());
+            }
+            List<Parcela> ultimo = armazem.cronograma(CONTRATOS - 1);
+            assertEquals(PRAZO, ultimo.size());
+            assertEquals(0, ultimo.get(PRAZO - 1).getSaldoDevedor().signum());
+        }
+    }
+}
@@ -0,0 +1,135 @@
+package me.josecomparotto.financialcalc.core.parcelas;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.math.RoundingMode;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static me.josecomparotto.financialcalc.core.parcelas.ParcelaAsserts.assertParcelaIgual;
+import static me.josecomparotto.financialcalc.core.parcelas.ParcelaAsserts.assertParcelasIguais;
+
+public class ArmazemCronogramasTest {
+
+    @TempDir
+    Path diretorio;
+
+    private static ICalculadoraParcelas calculadora(SistemaAmortizacao sistema, MotorCalculo motor) {
+        return sistema.criarCalculadora(MathContext.DECIMAL128, new MathContext(2, RoundingMode.HALF_UP), motor);
+    }
+
+    private static BigDecimal taxa(SistemaAmortizacao sistema) {
+        return sistema == SistemaAmortizacao.SEM_JUROS ? BigDecimal.ZERO : new BigDecimal("0.0149");
+    }
+
+    @Test
+    void gravaELeCronogramas_sobreviveAReabertura() throws IOException {
+        List<List<Parcela>> esperados = new ArrayList<>();
+        try (ArmazemCronogramas armazem = new ArmazemCronogramas(diretorio)) {
+            long id = 1000;
+            for (SistemaAmortizacao sistema : SistemaAmortizacao.values()) {
+                for (MotorCalculo motor : MotorCalculo.values()) {
+                    ICalculadoraParcelas calc = calculadora(sistema, motor);
+                    armazem.adicionar(id, calc, new BigDecimal("250000.01"), taxa(sistema), 120);
+                    esperados.add(calc.calcularParcelas(new BigDecimal("250000.01"), taxa(sistema), 120));
+                    id += 7;
+                }
+            }
+            assertEquals(esperados.size(), armazem.quantidadeContratos());
+            assertEquals(esperados.size() * 120L, armazem.quantidadeParcelas());
+        }
+
+        try (ArmazemCronogramas armazem = new ArmazemCronogramas(diretorio)) {
+            assertEquals(esperados.size(), armazem.quantidadeContratos());
+            for (int k = 0; k < esperados.size(); k++) {
+                long id = 1000 + 7L * k;
+                assertTrue(armazem.contem(id));
+                assertEquals(120, armazem.numeroParcelas(id));
+                assertParcelasIguais(esperados.get(k), armazem.cronograma(id));
+                assertParcelaIgual(esperados.get(k).get(57), armazem.parcela(id, 57));
+            }
+            assertFalse(armazem.contem(1001));
+
+            ICalculadoraParcelas sac = calculadora(SistemaAmortizacao.SAC, MotorCalculo.CENTAVOS);
+            armazem.adicionar(-5, sac, new BigDecimal("1000"), new BigDecimal("0.01"), 12);
+            assertParcelasIguais(sac.calcularParcelas(new BigDecimal("1000"), new BigDecimal("0.01"), 12),
+                    armazem.cronograma(-5));
+        }
+        try (ArmazemCronogramas armazem = new ArmazemCronogramas(diretorio)) {
+            assertEquals(esperados.size() + 1, armazem.quantidadeContratos());
+            assertEquals(12, armazem.numeroParcelas(-5));
+        }
+    }
+
+    @Test
+    void muitosContratos_indiceCresce() throws IOException {
+        ICalculadoraParcelas calc = calculadora(SistemaAmortizacao.SAC, MotorCalculo.CENTAVOS);
+        try (ArmazemCronogramas armazem = new ArmazemCronogramas(diretorio)) {
+            for (long id = 0; id < 5000; id++) {
+                armazem.adicionar(id * 1_000_003L, calc, BigDecimal.valueOf(1000 + id), new BigDecimal("0.01"), 6);
+            }
+        }
+        try (ArmazemCronogramas armazem = new ArmazemCronogramas(diretorio)) {
+            assertEquals(5000, armazem.quantidadeContratos());
+            for (long id = 0; id < 5000; id += 37) {
+                assertEquals(BigDecimal.valueOf(1000 + id).setScale(2),
+                        armazem.parcela(id * 1_000_003L, 0).getSaldoDevedor()
+                                .add(armazem.parcela(id * 1_000_003L, 0).getValorAmortizacao()));
+            }
+        }
+    }
+
+    @Test
+    void escalasPorColuna_preservadas() throws IOException {
+        Parcela p = new Parcela();
+        p.setSerie(3);
+        p.setValorParcela(new BigDecimal("10.5"));
+        p.setValorAmortizacao(new BigDecimal("10.500"));
+        p.setValorJuros(new BigDecimal("0"));
+        p.setSaldoDevedor(new BigDecimal("-1.25"));
+        try (ArmazemCronogramas armazem = new ArmazemCronogramas(diretorio)) {
+            armazem.adicionar(1, List.of(p).iterator());
+            armazem.adicionar(2, List.<Parcela>of().iterator());
+            assertParcelaIgual(p, armazem.parcela(1, 0));
+            assertEquals(0, armazem.numeroParcelas(2));
+            assertTrue(armazem.cronograma(2).isEmpty());
+        }
+    }
+
+    @Test
+    void erros() throws IOException {
+        ICalculadoraParcelas calc = calculadora(SistemaAmortizacao.SAC, MotorCalculo.CENTAVOS);
+        ArmazemCronogramas armazem = new ArmazemCronogramas(diretorio);
+        armazem.adicionar(1, calc, new BigDecimal("1000"), new BigDecimal("0.01"), 12);
+        assertThrows(IllegalArgumentException.class,
+                () -> armazem.adicionar(1, calc, new BigDecimal("1000"), new BigDecimal("0.01"), 12));
+        assertThrows(IllegalArgumentException.class, () -> armazem.parcela(2, 0));
+        assertThrows(IndexOutOfBoundsException.class, () -> armazem.parcela(1, 12));
+        assertThrows(IndexOutOfBoundsException.class, () -> armazem.parcela(1, -1));
+
+        Parcela grande = new Parcela();
+        grande.setSerie(1);
+        grande.setValorParcela(new BigDecimal("123456789012345678901234.5"));
+        grande.setValorAmortizacao(BigDecimal.ONE);
+        grande.setValorJuros(BigDecimal.ONE);
+        grande.setSaldoDevedor(BigDecimal.ONE);
+        assertThrows(IllegalArgumentException.class, () -> armazem.adicionar(3, List.of(grande).iterator()));
+        assertFalse(armazem.contem(3));
+        assertEquals(1, armazem.quantidadeContratos());
+        assertEquals(12, armazem.quantidadeParcelas());
+
+        armazem.close();
+        assertThrows(IllegalStateException.class, () -> armazem.contem(1));
+        armazem.close();
+
+        Files.write(diretorio.resolve(ArmazemCronogramas.ARQUIVO_CONTRATOS), new byte[64]);
+        assertThrows(IOException.class, () -> new ArmazemCronogramas(diretorio));
+    }
+}
@@ -0,0 +1,103 @@
+package me.josecomparotto.financialcalc.core.parcelas;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.math.RoundingMode;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CalculadoraGradePriceTest {
+
+    private static void assertIgualIndividual(GradePrice grade, MathContext mc, MathContext mcResultado) {
+        CalculadoraParcelasPrice individual = new CalculadoraParcelasPrice(mc, mcResultado);
+        for (int linha = 0; linha < grade.getLinhas(); linha++) {
+            for (int coluna = 0; coluna < grade.getColunas(); coluna++) {
+                BigDecimal taxa = grade.getTaxa(linha);
+                int prazo = grade.getPrazo(coluna);
+                ResumoParcelas resumo = individual.calcularResumo(grade.getValorPrincipal(), taxa, prazo);
+                String celula = "taxa " + taxa + ", prazo " + prazo;
+                assertEquals(resumo.getPrimeiraParcela().getValorParcela(), grade.getPrestacao(linha, coluna), celula);
+                assertEquals(resumo.getTotalParcelas(), grade.getTotal(linha, coluna), celula);
+            }
+        }
+    }
+
+    @Test
+    void grade20x40_igualAoCalculoIndividual() {
+        List<BigDecimal> taxas = CalculadoraGradePrice.faixaTaxas(
+                new BigDecimal("0.005"), new BigDecimal("0.0245"), new BigDecimal("0.001"));
+        int[] prazos = CalculadoraGradePrice.faixaPrazos(12, 480, 12);
+        assertEquals(20, taxas.size());
+        assertEquals(40, prazos.length);
+        try (CalculadoraGradePrice calc = new CalculadoraGradePrice(4)) {
+            GradePrice grade = calc.calcular(new BigDecimal("250000"), taxas, prazos);
+            assertEquals(20, grade.getLinhas());
+            assertEquals(40, grade.getColunas());
+            assertIgualIndividual(grade, MathContext.DECIMAL128, new MathContext(2, RoundingMode.HALF_UP));
+            assertTrue(grade.getRecalculadas() < 8, "recalculadas " + grade.getRecalculadas());
+            assertNull(grade.getCronograma(0, 0));
+        }
+    }
+
+    @Test
+    void prazosIrregulares_poucosDigitos_eOutroArredondamento_igualAoCalculoIndividual() {
+        MathContext mc = MathContext.DECIMAL32;
+        MathContext mcResultado = new MathContext(4, RoundingMode.HALF_EVEN);
+        List<BigDecimal> taxas = List.of(new BigDecimal("0.0001"), new BigDecimal("0.0137"), new BigDecimal("0.3"));
+        int[] prazos = {1, 2, 3, 7, 30, 31, 100, 360, 361, 1000};
+        try (CalculadoraGradePrice calc = new CalculadoraGradePrice(2, mc, mcResultado)) {
+            GradePrice grade = calc.calcular(new BigDecimal("12345.67"), taxas, prazos);
+            assertIgualIndividual(grade, mc, mcResultado);
+        }
+    }
+
+    @Test
+    void celulasDetalhadas_trazemCronogramaCompleto() {
+        List<BigDecimal> taxas = List.of(new BigDecimal("0.01"), new BigDecimal("0.02"));
+        int[] prazos = {12, 24, 36};
+        List<GradePrice.Celula> detalhar = List.of(new GradePrice.Celula(1, 1), new GradePrice.Celula(0, 2));
+        try (CalculadoraGradePrice calc = new CalculadoraGradePrice(2)) {
+            GradePrice grade = calc.calcular(new BigDecimal("5000"), taxas, prazos, detalhar);
+            CalculadoraParcelasPrice individual = new CalculadoraParcelasPrice();
+            List<Parcela> esperado = individual.calcularParcelas(new BigDecimal("5000"), new BigDecimal("0.02"), 24);
+            List<Parcela> obtido = grade.getCronograma(1, 1);
+            assertEquals(24, obtido.size());
+            for (int k = 0; k < esperado.size(); k++) {
+                assertEquals(esperado.get(k).getValorParcela(), obtido.get(k).getValorParcela());
+                assertEquals(esperado.get(k).getSaldoDevedor(), obtido.get(k).getSaldoDevedor());
+            }
+            assertEquals(36, grade.getCronograma(0, 2).size());
+            assertEquals(2, grade.getCronogramas().size());
+            assertNull(grade.getCronograma(0, 0));
+        }
+    }
+
+    @Test
+    void faixas() {
+        assertEquals(List.of(new BigDecimal("0.01"), new BigDecimal("0.015"), new BigDecimal("0.020")),
+                CalculadoraGradePrice.faixaTaxas(new BigDecimal("0.01"), new BigDecimal("0.02"), new BigDecimal("0.005")));
+        assertArrayEquals(new int[]{6, 16, 26}, CalculadoraGradePrice.faixaPrazos(6, 30, 10));
+        assertThrows(IllegalArgumentException.class, () -> CalculadoraGradePrice.faixaPrazos(10, 1, 1));
+        assertThrows(IllegalArgumentException.class,
+                () -> CalculadoraGradePrice.faixaTaxas(BigDecimal.ONE, BigDecimal.TEN, BigDecimal.ZERO));
+    }
+
+    @Test
+    void entradasInvalidas_deveLancar() {
+        try (CalculadoraGradePrice calc = new CalculadoraGradePrice(1)) {
+            List<BigDecimal> taxas = List.of(new BigDecimal("0.01"));
+            assertThrows(IllegalArgumentException.class, () -> calc.calcular(null, taxas, new int[]{12}));
+            assertThrows(IllegalArgumentException.class, () -> calc.calcular(BigDecimal.TEN, List.of(), new int[]{12}));
+            assertThrows(IllegalArgumentException.class,
+                    () -> calc.calcular(BigDecimal.TEN, List.of(BigDecimal.ZERO), new int[]{12}));
+            assertThrows(IllegalArgumentException.class, () -> calc.calcular(BigDecimal.TEN, taxas, new int[]{12, 12}));
+            assertThrows(IllegalArgumentException.class, () -> calc.calcular(BigDecimal.TEN, taxas, new int[]{0}));
+            assertThrows(IllegalArgumentException.class,
+                    () -> calc.calcular(BigDecimal.TEN, taxas, new int[]{12}, List.of(new GradePrice.Celula(0, 1))));
+        }
+        assertThrows(IllegalArgumentException.class, () -> new CalculadoraGradePrice(0));
+    }
+}
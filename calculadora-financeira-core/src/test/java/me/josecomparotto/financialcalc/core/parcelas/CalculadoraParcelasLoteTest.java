@@ -0,0 +1,216 @@
+package me.josecomparotto.financialcalc.core.parcelas;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.Arrays;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+import java.util.concurrent.atomic.AtomicInteger;
+import java.util.stream.IntStream;
+import java.util.stream.Stream;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CalculadoraParcelasLoteTest {
+
+    private final MathContext mc = MathContext.DECIMAL128;
+
+    private List<ContratoParcelamento> contratos(int quantidade) {
+        Random random = new Random(42);
+        SistemaAmortizacao[] sistemas = SistemaAmortizacao.values();
+        List<ContratoParcelamento> contratos = new ArrayList<>();
+        for (int k = 0; k < quantidade; k++) {
+            SistemaAmortizacao sistema = sistemas[k % sistemas.length];
+            BigDecimal principal = BigDecimal.valueOf(100_000 + random.nextInt(10_000_000), 2);
+            BigDecimal taxa = sistema == SistemaAmortizacao.SEM_JUROS ? BigDecimal.ZERO
+                    : BigDecimal.valueOf(1 + random.nextInt(300), 4);
+            contratos.add(new ContratoParcelamento(sistema, principal, taxa, 1 + random.nextInt(60), 2 + k % 3));
+        }
+        return contratos;
+    }
+
+    @Test
+    void resultadosNaOrdemDeEntrada_iguaisAoCalculoSequencial() {
+        List<ContratoParcelamento> contratos = contratos(200);
+        try (CalculadoraParcelasLote lote = new CalculadoraParcelasLote(4, mc)) {
+            List<List<Parcela>> resultados = lote.calcular(contratos);
+            assertEquals(contratos.size(), resultados.size());
+            for (int k = 0; k < contratos.size(); k++) {
+                ContratoParcelamento c = contratos.get(k);
+                List<Parcela> esperado = c.getSistema()
+                        .criarCalculadora(mc, new MathContext(c.getPrecisao(), RoundingMode.HALF_UP))
+                        .calcularParcelas(c.getValorPrincipal(), c.getTaxaJuros(), c.getNumeroParcelas());
+                List<Parcela> obtido = resultados.get(k);
+                assertEquals(esperado.size(), obtido.size());
+                for (int i = 0; i < esperado.size(); i++) {
+                    assertEquals(esperado.get(i).getValorParcela(), obtido.get(i).getValorParcela());
+                    assertEquals(esperado.get(i).getSaldoDevedor(), obtido.get(i).getSaldoDevedor());
+                }
+            }
+        }
+    }
+
+    @Test
+    void reducaoPorContrato_eStream() {
+        List<ContratoParcelamento> contratos = contratos(50);
+        try (CalculadoraParcelasLote lote = new CalculadoraParcelasLote(1, mc)) {
+            List<Integer> tamanhos = lote.calcular(contratos, List::size);
+            for (int k = 0; k < contratos.size(); k++) {
+                assertEquals(contratos.get(k).getNumeroParcelas(), tamanhos.get(k));
+            }
+            assertEquals(contratos.size(), lote.calcular(contratos.stream()).size());
+        }
+    }
+
+    @Test
+    void contratoInvalido_propagaExcecao() {
+        List<ContratoParcelamento> contratos = new ArrayList<>(contratos(20));
+        contratos.add(new ContratoParcelamento(SistemaAmortizacao.PRICE, new BigDecimal("1000"), BigDecimal.ZERO, 12, 2));
+        try (CalculadoraParcelasLote lote = new CalculadoraParcelasLote(2, mc)) {
+            assertThrows(IllegalArgumentException.class, () -> lote.calcular(contratos));
+        }
+    }
+
+    @Test
+    void emFluxo_entregaNaOrdemDeEntrada_iguaisAoCalculoEmLista() {
+        List<ContratoParcelamento> contratos = contratos(300);
+        try (CalculadoraParcelasLote lote = new CalculadoraParcelasLote(4, mc)) {
+            List<ResumoParcelas> esperado = lote.calcular(contratos, p -> ResumoParcelas.acumular(p.iterator()));
+            List<ResumoParcelas> obtido = new ArrayList<>();
+            lote.calcular(contratos.iterator(), p -> ResumoParcelas.acumular(p.iterator()), 7, obtido::add);
+            assertEquals(esperado.size(), obtido.size());
+            for (int k = 0; k < esperado.size(); k++) {
+                assertEquals(esperado.get(k).getTotalParcelas(), obtido.get(k).getTotalParcelas());
+                assertEquals(esperado.get(k).getUltimaParcela().getValorParcela(),
+                        obtido.get(k).getUltimaParcela().getValorParcela());
+            }
+        }
+    }
+
+    @Test
+    void emFluxo_leEntradaSobDemanda_respeitandoJanela() {
+        int janela = 5;
+        AtomicInteger lidos = new AtomicInteger();
+        AtomicInteger entregues = new AtomicInteger();
+        AtomicInteger maiorAdiantamento = new AtomicInteger();
+        Iterator<Integer> entrada = IntStream.range(0, 1000).peek(i -> {
+            lidos.incrementAndGet();
+            maiorAdiantamento.accumulateAndGet(lidos.get() - entregues.get(), Math::max);
+        }).iterator();
+        List<Integer> saida = new ArrayList<>();
+        try (CalculadoraParcelasLote lote = new CalculadoraParcelasLote(3, mc)) {
+            lote.processarEmOrdem(entrada, i -> i * 2, janela, r -> {
+                saida.add(r);
+                entregues.incrementAndGet();
+            });
+        }
+        assertEquals(1000, saida.size());
+        for (int k = 0; k < saida.size(); k++) {
+            assertEquals(2 * k, saida.get(k));
+        }
+        assertTrue(maiorAdiantamento.get() <= janela + 1, "adiantamento " + maiorAdiantamento.get());
+    }
+
+    @Test
+    void emFluxo_excecaoNaTarefa_propagaSemEntregarPosteriores() {
+        List<Integer> saida = new ArrayList<>();
+        try (CalculadoraParcelasLote lote = new CalculadoraParcelasLote(2, mc)) {
+            IllegalStateException e = assertThrows(IllegalStateException.class,
+                    () -> lote.processarEmOrdem(IntStream.range(0, 100).iterator(), i -> {
+                        if (i == 40) {
+                            throw new IllegalStateException("falhou " + i);
+                        }
+                        return i;
+                    }, 8, saida::add));
+            assertTrue(e.getMessage().contains("falhou 40"), e.getMessage());
+        }
+        assertEquals(40, saida.size());
+        assertEquals(39, saida.get(39));
+    }
+
+    @Test
+    void emFluxo_argumentosInvalidos_deveLancar() {
+        try (CalculadoraParcelasLote lote = new CalculadoraParcelasLote(1, mc)) {
+            assertThrows(IllegalArgumentException.class,
+                    () -> lote.processarEmOrdem(List.of(1).iterator(), i -> i, 0, r -> { }));
+            assertThrows(IllegalArgumentException.class,
+                    () -> lote.processarEmOrdem(null, i -> i, 1, r -> { }));
+        }
+    }
+
+    @Test
+    void paralelismoInvalido_deveLancar() {
+        assertThrows(IllegalArgumentException.class, () -> new CalculadoraParcelasLote(0));
+    }
+
+    @Test
+    void projecaoDaCarteira_igualASomaDosCronogramas() {
+        Random random = new Random(7);
+        SistemaAmortizacao[] sistemas = SistemaAmortizacao.values();
+        List<ContratoParcelamento> contratos = new ArrayList<>();
+        for (int k = 0; k < 1500; k++) {
+            SistemaAmortizacao sistema = sistemas[k % sistemas.length];
+            BigDecimal principal = BigDecimal.valueOf(100_000 + random.nextInt(50_000_000), 2);
+            BigDecimal taxa = sistema == SistemaAmortizacao.SEM_JUROS ? BigDecimal.ZERO
+                    : BigDecimal.valueOf(1 + random.nextInt(300), 4);
+            contratos.add(new ContratoParcelamento(sistema, principal, taxa, 1 + random.nextInt(120), 2,
+                    random.nextInt(130) - 40));
+        }
+        int horizonte = 100;
+        BigDecimal[][] esperado = new BigDecimal[4][horizonte];
+        for (BigDecimal[] coluna : esperado) {
+            Arrays.fill(coluna, BigDecimal.ZERO);
+        }
+        for (ContratoParcelamento c : contratos) {
+            List<Parcela> parcelas = c.getSistema()
+                    .criarCalculadora(mc, new MathContext(c.getPrecisao(), RoundingMode.HALF_UP))
+                    .calcularParcelas(c.getValorPrincipal(), c.getTaxaJuros(), c.getNumeroParcelas());
+            for (Parcela p : parcelas) {
+                int t = c.getPeriodoInicial() + p.getSerie() - 1;
+                if (t >= 0 && t < horizonte) {
+                    esperado[0][t] = esperado[0][t].add(p.getValorParcela());
+                    esperado[1][t] = esperado[1][t].add(p.getValorAmortizacao());
+                    esperado[2][t] = esperado[2][t].add(p.getValorJuros());
+                    esperado[3][t] = esperado[3][t].add(p.getSaldoDevedor());
+                }
+            }
+        }
+        for (MotorCalculo motor : MotorCalculo.values()) {
+            try (CalculadoraParcelasLote lote = new CalculadoraParcelasLote(4, mc, motor)) {
+                FluxoCarteira fluxo = lote.projetar(contratos.stream(), horizonte);
+                assertEquals(contratos.size(), fluxo.getContratos());
+                assertEquals(horizonte, fluxo.horizonte());
+                assertEquals(2, fluxo.getEscala());
+                for (int t = 0; t < horizonte; t++) {
+                    String periodo = motor + " periodo " + t;
+                    assertEquals(0, esperado[0][t].compareTo(fluxo.getTotalParcelas(t)), periodo);
+                    assertEquals(0, esperado[1][t].compareTo(fluxo.getTotalAmortizacao(t)), periodo);
+                    assertEquals(0, esperado[2][t].compareTo(fluxo.getTotalJuros(t)), periodo);
+                    assertEquals(0, esperado[3][t].compareTo(fluxo.getSaldoDevedor(t)), periodo);
+                }
+                assertThrows(IndexOutOfBoundsException.class, () -> fluxo.getTotalParcelas(horizonte));
+            }
+        }
+    }
+
+    @Test
+    void projecaoDaCarteira_entradasInvalidas() {
+        try (CalculadoraParcelasLote lote = new CalculadoraParcelasLote(2, mc, MotorCalculo.CENTAVOS)) {
+            List<ContratoParcelamento> escalasDiferentes = List.of(
+                    new ContratoParcelamento(SistemaAmortizacao.SAC, new BigDecimal("1000"), new BigDecimal("0.01"), 12, 2),
+                    new ContratoParcelamento(SistemaAmortizacao.SAC, new BigDecimal("1000"), new BigDecimal("0.01"), 12, 4));
+            assertThrows(IllegalArgumentException.class, () -> lote.projetar(escalasDiferentes.stream(), 12));
+            assertThrows(IllegalArgumentException.class, () -> lote.projetar(escalasDiferentes.stream(), 0));
+            assertThrows(IllegalArgumentException.class, () -> lote.projetar(null, 12));
+
+            FluxoCarteira vazio = lote.projetar(Stream.empty(), 3);
+            assertEquals(0, vazio.getContratos());
+            assertEquals(new BigDecimal("0.00"), vazio.getSaldoDevedor(2));
+        }
+    }
+}
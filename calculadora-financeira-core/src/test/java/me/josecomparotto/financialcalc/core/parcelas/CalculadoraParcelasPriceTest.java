@@ -5,9 +5,14 @@ import org.junit.jupiter.api.Test;
 import java.math.BigDecimal;
 import java.math.MathContext;
 import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.Iterator;
 import java.util.List;
+import java.util.Random;
+import java.util.NoSuchElementException;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static me.josecomparotto.financialcalc.core.parcelas.ParcelaAsserts.assertParcelasIguais;
 
 public class CalculadoraParcelasPriceTest {
 
@@ -64,4 +69,102 @@ public class CalculadoraParcelasPriceTest {
         int n = 3;
         assertThrows(IllegalArgumentException.class, () -> calc.calcularParcelas(V, i, n));
     }
+
+    @Test
+    void streamParcelas_identicoALista() {
+        BigDecimal V = new BigDecimal("250000.00");
+        BigDecimal i = new BigDecimal("0.0149");
+        int n = 420;
+        List<Parcela> lista = calc.calcularParcelas(V, i, n);
+        assertParcelasIguais(lista, calc.streamParcelas(V, i, n).toList());
+
+        Iterator<Parcela> it = calc.iterarParcelas(V, i, n);
+        List<Parcela> iteradas = new ArrayList<>();
+        it.forEachRemaining(iteradas::add);
+        assertParcelasIguais(lista, iteradas);
+        assertThrows(NoSuchElementException.class, it::next);
+    }
+
+    @Test
+    void streamParcelas_validaArgumentosNaChamada() {
+        assertThrows(IllegalArgumentException.class, () -> calc.streamParcelas(new BigDecimal("1000"), BigDecimal.ZERO, 3));
+    }
+
+    @Test
+    void cacheFatores_identicoAoCalculoSemCache() {
+        CacheFatoresPrice cache = new CacheFatoresPrice(4, 4);
+        MathContext[] contextos = {MathContext.DECIMAL64, MathContext.DECIMAL128};
+        String[] taxas = {"0.0149", "0.0000493", "0.012345678901234567890123456789012345678"};
+        for (MathContext mcCalculo : contextos) {
+            CalculadoraParcelasPrice semCache = new CalculadoraParcelasPrice(mcCalculo, mcResultado);
+            CalculadoraParcelasPrice comCache = new CalculadoraParcelasPrice(
+                    mcCalculo, mcResultado, MotorCalculo.BIG_DECIMAL, cache);
+            for (String taxa : taxas) {
+                BigDecimal i = new BigDecimal(taxa);
+                for (int n : new int[] {1, 12, 360}) {
+                    BigDecimal V = new BigDecimal("98765.43");
+                    List<Parcela> esperadas = semCache.calcularParcelas(V, i, n);
+                    assertParcelasIguais(esperadas, comCache.calcularParcelas(V, i, n));
+                    assertParcelasIguais(esperadas, comCache.calcularParcelas(V, i, n));
+                }
+            }
+        }
+    }
+
+    @Test
+    void cacheFatores_compartilhaFatoresEntrePrincipais() {
+        CacheFatoresPrice cache = new CacheFatoresPrice();
+        CalculadoraParcelasPrice comCache = new CalculadoraParcelasPrice(
+                mc, mcResultado, MotorCalculo.BIG_DECIMAL, cache);
+        BigDecimal i = new BigDecimal("0.0149");
+
+        comCache.calcularParcelas(new BigDecimal("1000.00"), i, 24);
+        comCache.calcularParcelas(new BigDecimal("2000.00"), i, 24);
+        comCache.calcularParcelas(new BigDecimal("1000.00"), i, 24);
+
+        assertEquals(1, cache.estatisticasFatores().getFalhas());
+        assertEquals(1, cache.estatisticasFatores().getAcertos());
+        assertEquals(2, cache.estatisticasAjustes().getFalhas());
+        assertEquals(1, cache.estatisticasAjustes().getAcertos());
+
+        cache.limpar();
+        assertEquals(0, cache.estatisticasAjustes().getTamanho());
+    }
+
+    @Test
+    void calcularParcela_exaustivoPrazosCurtos() {
+        for (RoundingMode rm : new RoundingMode[] {RoundingMode.HALF_UP, RoundingMode.HALF_EVEN, RoundingMode.FLOOR}) {
+            CalculadoraParcelasPrice c = new CalculadoraParcelasPrice(mc, new MathContext(2, rm));
+            for (int n = 1; n <= 30; n++) {
+                BigDecimal V = new BigDecimal("1234.57");
+                BigDecimal i = new BigDecimal("0.0137");
+                List<Parcela> lista = c.calcularParcelas(V, i, n);
+                for (int k = 1; k <= n; k++) {
+                    assertParcelasIguais(List.of(lista.get(k - 1)), List.of(c.calcularParcela(V, i, n, k)));
+                }
+            }
+        }
+    }
+
+    @Test
+    void calcularParcela_aleatorioPrazosLongos() {
+        Random random = new Random(10);
+        for (int caso = 0; caso < 6; caso++) {
+            int n = 100 + random.nextInt(321);
+            BigDecimal V = BigDecimal.valueOf(random.nextLong(1, 5_000_000_000L), 2);
+            BigDecimal i = BigDecimal.valueOf(1 + random.nextInt(500), 4);
+            List<Parcela> lista = calc.calcularParcelas(V, i, n);
+            for (int k : new int[] {1, 1 + random.nextInt(n), 1 + random.nextInt(n), n}) {
+                assertParcelasIguais(List.of(lista.get(k - 1)), List.of(calc.calcularParcela(V, i, n, k)));
+            }
+        }
+    }
+
+    @Test
+    void calcularParcela_validaSerie() {
+        BigDecimal V = new BigDecimal("1000");
+        BigDecimal i = new BigDecimal("0.01");
+        assertThrows(IllegalArgumentException.class, () -> calc.calcularParcela(V, i, 12, 0));
+        assertThrows(IllegalArgumentException.class, () -> calc.calcularParcela(V, i, 12, 13));
+    }
 }
@@ -6,8 +6,10 @@ import java.math.BigDecimal;
 import java.math.MathContext;
 import java.math.RoundingMode;
 import java.util.List;
+import java.util.Random;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static me.josecomparotto.financialcalc.core.parcelas.ParcelaAsserts.assertParcelasIguais;
 
 public class CalculadoraParcelasSacTest {
 
@@ -84,4 +86,52 @@ public class CalculadoraParcelasSacTest {
         assertEquals(ps.get(2).getValorAmortizacao(), ps.get(2).getValorParcela());
         assertEquals(new BigDecimal("0.00"), ps.get(2).getSaldoDevedor());
     }
+
+    @Test
+    void streamParcelas_identicoALista() {
+        BigDecimal principal = new BigDecimal("250000.01");
+        BigDecimal taxa = new BigDecimal("0.0149");
+        int n = 420;
+        List<Parcela> lista = calc.calcularParcelas(principal, taxa, n);
+        assertParcelasIguais(lista, calc.streamParcelas(principal, taxa, n).toList());
+        assertEquals(lista.get(10).getSaldoDevedor(),
+                calc.streamParcelas(principal, taxa, n).skip(10).findFirst().orElseThrow().getSaldoDevedor());
+    }
+
+    @Test
+    void calcularParcela_exaustivoPrazosCurtos() {
+        for (RoundingMode rm : new RoundingMode[] {RoundingMode.HALF_UP, RoundingMode.HALF_EVEN, RoundingMode.FLOOR}) {
+            CalculadoraParcelasSac c = new CalculadoraParcelasSac(mc, new MathContext(2, rm));
+            for (int n = 1; n <= 30; n++) {
+                BigDecimal V = new BigDecimal("1234.57");
+                BigDecimal i = new BigDecimal("0.0137");
+                List<Parcela> lista = c.calcularParcelas(V, i, n);
+                for (int k = 1; k <= n; k++) {
+                    assertParcelasIguais(List.of(lista.get(k - 1)), List.of(c.calcularParcela(V, i, n, k)));
+                }
+            }
+        }
+    }
+
+    @Test
+    void calcularParcela_aleatorioPrazosLongos() {
+        Random random = new Random(8);
+        for (int caso = 0; caso < 40; caso++) {
+            int n = 100 + random.nextInt(10000);
+            BigDecimal V = BigDecimal.valueOf(random.nextLong(1, 5_000_000_000L), 2);
+            BigDecimal i = BigDecimal.valueOf(1 + random.nextInt(5000), 2 + random.nextInt(4));
+            List<Parcela> lista = calc.calcularParcelas(V, i, n);
+            for (int k : new int[] {1, 1 + random.nextInt(n), n}) {
+                assertParcelasIguais(List.of(lista.get(k - 1)), List.of(calc.calcularParcela(V, i, n, k)));
+            }
+        }
+    }
+
+    @Test
+    void calcularParcela_validaSerie() {
+        BigDecimal V = new BigDecimal("1000");
+        BigDecimal i = new BigDecimal("0.01");
+        assertThrows(IllegalArgumentException.class, () -> calc.calcularParcela(V, i, 12, 0));
+        assertThrows(IllegalArgumentException.class, () -> calc.calcularParcela(V, i, 12, 13));
+    }
 }
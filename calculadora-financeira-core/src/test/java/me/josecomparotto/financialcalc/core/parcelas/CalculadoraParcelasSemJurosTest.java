@@ -6,8 +6,10 @@ import java.math.BigDecimal;
 import java.math.MathContext;
 import java.math.RoundingMode;
 import java.util.List;
+import java.util.Random;
 
 import static org.junit.jupiter.api.Assertions.*;
+import static me.josecomparotto.financialcalc.core.parcelas.ParcelaAsserts.assertParcelasIguais;
 
 public class CalculadoraParcelasSemJurosTest {
 
@@ -57,4 +59,46 @@ public class CalculadoraParcelasSemJurosTest {
         assertThrows(IllegalArgumentException.class, () -> calc.calcularParcelas(new BigDecimal("1000"), 0));
         assertThrows(IllegalArgumentException.class, () -> calc.calcularParcelas(new BigDecimal("1000"), -1));
     }
+
+    @Test
+    void streamParcelas_identicoALista() {
+        BigDecimal principal = new BigDecimal("1000.01");
+        int n = 7;
+        List<Parcela> lista = calc.calcularParcelas(principal, n);
+        assertParcelasIguais(lista, calc.streamParcelas(principal, n).toList());
+        assertParcelasIguais(lista, calc.streamParcelas(principal, BigDecimal.ZERO, n).toList());
+        assertThrows(IllegalArgumentException.class, () -> calc.streamParcelas(principal, new BigDecimal("0.01"), n));
+    }
+
+    @Test
+    void calcularParcela_exaustivoPrazosCurtos() {
+        for (int n = 1; n <= 40; n++) {
+            BigDecimal V = new BigDecimal("1000.01");
+            List<Parcela> lista = calc.calcularParcelas(V, n);
+            for (int k = 1; k <= n; k++) {
+                assertParcelasIguais(List.of(lista.get(k - 1)), List.of(calc.calcularParcela(V, n, k)));
+                assertParcelasIguais(List.of(lista.get(k - 1)), List.of(calc.calcularParcela(V, BigDecimal.ZERO, n, k)));
+            }
+        }
+    }
+
+    @Test
+    void calcularParcela_aleatorioPrazosLongos() {
+        Random random = new Random(9);
+        for (int caso = 0; caso < 40; caso++) {
+            int n = 100 + random.nextInt(10000);
+            BigDecimal V = BigDecimal.valueOf(random.nextLong(1, 5_000_000_000L), random.nextInt(4));
+            List<Parcela> lista = calc.calcularParcelas(V, n);
+            for (int k : new int[] {1, 1 + random.nextInt(n), n}) {
+                assertParcelasIguais(List.of(lista.get(k - 1)), List.of(calc.calcularParcela(V, n, k)));
+            }
+        }
+    }
+
+    @Test
+    void calcularParcela_validaSerieETaxa() {
+        BigDecimal V = new BigDecimal("1000");
+        assertThrows(IllegalArgumentException.class, () -> calc.calcularParcela(V, 3, 4));
+        assertThrows(IllegalArgumentException.class, () -> calc.calcularParcela(V, new BigDecimal("0.01"), 3, 1));
+    }
 }
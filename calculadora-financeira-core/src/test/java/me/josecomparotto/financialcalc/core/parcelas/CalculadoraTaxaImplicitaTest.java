@@ -0,0 +1,178 @@
+package me.josecomparotto.financialcalc.core.parcelas;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.util.ArrayList;
+import java.util.Collections;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CalculadoraTaxaImplicitaTest {
+
+    private final MathContext mc = MathContext.DECIMAL128;
+    private final CalculadoraTaxaImplicita calc = new CalculadoraTaxaImplicita(mc);
+
+    private BigDecimal prestacao(BigDecimal V, BigDecimal i, int n) {
+        BigDecimal desconto = BigDecimal.ONE.divide(BigDecimal.ONE.add(i), mc).pow(n, mc);
+        return V.multiply(i).divide(BigDecimal.ONE.subtract(desconto, mc), mc);
+    }
+
+    private static void assertProximo(BigDecimal esperado, BigDecimal obtido, String tolerancia) {
+        BigDecimal erro = esperado.subtract(obtido).abs();
+        assertTrue(erro.compareTo(new BigDecimal(tolerancia)) <= 0,
+                "esperado " + esperado + ", obtido " + obtido + " (erro " + erro + ")");
+    }
+
+    @Test
+    void prestacaoExata_recuperaTaxaComPrecisaoDoContexto() {
+        BigDecimal V = new BigDecimal("5000");
+        BigDecimal i = new BigDecimal("0.02");
+        ResultadoTaxa r = calc.calcularTaxa(V, prestacao(V, i, 24), 24);
+        assertTrue(r.isConvergiu());
+        assertTrue(r.getIteracoes() <= 4, "iteracoes " + r.getIteracoes());
+        assertProximo(i, r.getTaxa(), "1E-30");
+        assertProximo(BigDecimal.ZERO, r.getResiduo(), "1E-28");
+    }
+
+    @Test
+    void prestacaoArredondada_taxaReproduzPrestacao() {
+        BigDecimal V = new BigDecimal("250000");
+        BigDecimal P = new BigDecimal("3722.91");
+        ResultadoTaxa r = calc.calcularTaxa(V, P, 360);
+        assertTrue(r.isConvergiu());
+        assertProximo(P, prestacao(V, r.getTaxa(), 360), "1E-26");
+    }
+
+    @Test
+    void aleatorio_taxasPequenasEGrandes_convergem() {
+        Random random = new Random(13);
+        for (int k = 0; k < 300; k++) {
+            BigDecimal V = BigDecimal.valueOf(1000 + random.nextInt(1_000_000), 2);
+            int n = 1 + random.nextInt(480);
+            BigDecimal i = BigDecimal.valueOf(1 + random.nextInt(50_000), 6); // 0,0001% a 5%
+            if (k % 10 == 0) {
+                i = BigDecimal.valueOf(1 + random.nextInt(500), 2); // até 500%
+            }
+            ResultadoTaxa r = calc.calcularTaxa(V, prestacao(V, i, n), n);
+            assertTrue(r.isConvergiu(), "V=" + V + " i=" + i + " n=" + n);
+            assertProximo(i, r.getTaxa(), "1E-25");
+        }
+    }
+
+    @Test
+    void semJuros_taxaZero_eAbaixoDoPrincipal_taxaNegativa() {
+        ResultadoTaxa zero = calc.calcularTaxa(new BigDecimal("1200"), new BigDecimal("100"), 12);
+        assertEquals(0, zero.getTaxa().signum());
+        assertEquals(0, zero.getIteracoes());
+
+        BigDecimal V = new BigDecimal("1200");
+        BigDecimal i = new BigDecimal("-0.01");
+        ResultadoTaxa negativa = calc.calcularTaxa(V, prestacao(V, i, 12), 12);
+        assertTrue(negativa.isConvergiu());
+        assertProximo(i, negativa.getTaxa(), "1E-28");
+    }
+
+    @Test
+    void prestacaoRenteAoPrincipalSobreN_convergeParaTaxaQuaseZero() {
+        BigDecimal V = new BigDecimal("5000");
+        int n = 24;
+        for (String p : new String[] {"208.3333334", "208.33333334", "208.3333332", "208.333333333334", "208.34"}) {
+            BigDecimal P = new BigDecimal(p);
+            ResultadoTaxa r = calc.calcularTaxa(V, P, n);
+            assertTrue(r.isConvergiu(), "P=" + p + " iteracoes " + r.getIteracoes());
+            assertTrue(r.getIteracoes() <= 6, "P=" + p + " iteracoes " + r.getIteracoes());
+            assertProximo(BigDecimal.ZERO, r.getResiduo(), "1E-28");
+            // Primeira ordem: P ~ (V/n)(1 + i(n+1)/2); o erro relativo é da ordem de n*i.
+            BigDecimal linear = P.multiply(BigDecimal.valueOf(n)).divide(V, mc).subtract(BigDecimal.ONE)
+                    .multiply(BigDecimal.valueOf(2)).divide(BigDecimal.valueOf(n + 1), mc);
+            assertEquals(linear.signum(), r.getTaxa().signum());
+            assertProximo(linear, r.getTaxa(), linear.abs().multiply(new BigDecimal("0.01")).toPlainString());
+        }
+    }
+
+    @Test
+    void umaParcela_taxaEhPrestacaoSobrePrincipalMenosUm() {
+        ResultadoTaxa r = calc.calcularTaxa(new BigDecimal("1000"), new BigDecimal("1100"), 1);
+        assertProximo(new BigDecimal("0.1"), r.getTaxa(), "1E-30");
+    }
+
+    @Test
+    void taxaInterna_fluxoPrice_igualTaxaImplicita() {
+        BigDecimal V = new BigDecimal("5000");
+        BigDecimal P = new BigDecimal("264.36");
+        List<BigDecimal> fluxos = new ArrayList<>();
+        fluxos.add(V.negate());
+        fluxos.addAll(Collections.nCopies(24, P));
+        ResultadoTaxa interna = calc.calcularTaxaInterna(fluxos);
+        ResultadoTaxa implicita = calc.calcularTaxa(V, P, 24);
+        assertTrue(interna.isConvergiu());
+        assertProximo(implicita.getTaxa(), interna.getTaxa(), "1E-28");
+    }
+
+    @Test
+    void taxaInterna_cet_comTarifasMaiorQueTaxaDoContrato() {
+        BigDecimal V = new BigDecimal("10000");
+        BigDecimal i = new BigDecimal("0.015");
+        int n = 36;
+        BigDecimal P = prestacao(V, i, n);
+        List<BigDecimal> fluxos = new ArrayList<>();
+        fluxos.add(V.subtract(new BigDecimal("350"))); // valor liberado líquido de tarifas
+        for (int t = 1; t <= n; t++) {
+            fluxos.add(P.add(new BigDecimal("4.50")).negate()); // prestação + seguro
+        }
+        ResultadoTaxa cet = calc.calcularTaxaInterna(fluxos);
+        assertTrue(cet.isConvergiu());
+        assertTrue(cet.getTaxa().compareTo(i) > 0);
+        assertProximo(BigDecimal.ZERO, cet.getResiduo(), "1E-25");
+    }
+
+    @Test
+    void taxaInterna_fluxoIrregular() {
+        // -100 + 60v + 60v^2 = 0, v = 1/(1+r) -> v = (sqrt(27600) - 60) / 120
+        List<BigDecimal> fluxos = List.of(new BigDecimal("-100"), new BigDecimal("60"), new BigDecimal("60"));
+        ResultadoTaxa r = calc.calcularTaxaInterna(fluxos);
+        assertTrue(r.isConvergiu());
+        BigDecimal v = BigDecimal.ONE.divide(BigDecimal.ONE.add(r.getTaxa()), mc);
+        BigDecimal vp = new BigDecimal("-100").add(new BigDecimal("60").multiply(v)).add(new BigDecimal("60").multiply(v.pow(2)));
+        assertProximo(BigDecimal.ZERO, vp, "1E-28");
+        assertProximo(new BigDecimal("0.1306623862918074852"), r.getTaxa(), "1E-18");
+    }
+
+    @Test
+    void loteDouble_proximoDoBigDecimal_eNaNParaInvalidos() {
+        double[] V = {5000, 250000, 1200, -1, 1000};
+        double[] P = {264.36, 3722.91, 100, 10, 0};
+        int[] n = {24, 360, 12, 12, 10};
+        double[] taxas = new double[V.length];
+        CalculadoraTaxaImplicita.calcularTaxas(V, P, n, taxas);
+        for (int k = 0; k < 3; k++) {
+            BigDecimal esperado = calc.calcularTaxa(BigDecimal.valueOf(V[k]), BigDecimal.valueOf(P[k]), n[k]).getTaxa();
+            assertEquals(esperado.doubleValue(), taxas[k], 1e-13);
+        }
+        assertTrue(Double.isNaN(taxas[3]));
+        assertTrue(Double.isNaN(taxas[4]));
+    }
+
+    @Test
+    void limiteDeIteracoes_reportaNaoConvergencia() {
+        CalculadoraTaxaImplicita umaIteracao = new CalculadoraTaxaImplicita(new MathContext(60), 1);
+        ResultadoTaxa r = umaIteracao.calcularTaxa(new BigDecimal("5000"), new BigDecimal("264.36"), 24);
+        assertFalse(r.isConvergiu());
+        assertEquals(1, r.getIteracoes());
+    }
+
+    @Test
+    void entradasInvalidas_deveLancar() {
+        assertThrows(IllegalArgumentException.class, () -> calc.calcularTaxa(BigDecimal.ZERO, BigDecimal.ONE, 12));
+        assertThrows(IllegalArgumentException.class, () -> calc.calcularTaxa(BigDecimal.TEN, null, 12));
+        assertThrows(IllegalArgumentException.class, () -> calc.calcularTaxa(BigDecimal.TEN, BigDecimal.ONE, 0));
+        assertThrows(IllegalArgumentException.class,
+                () -> calc.calcularTaxaInterna(List.of(BigDecimal.ONE, BigDecimal.TEN)));
+        assertThrows(IllegalArgumentException.class, () -> new CalculadoraTaxaImplicita(MathContext.UNLIMITED));
+        assertThrows(IllegalArgumentException.class, () -> new CalculadoraTaxaImplicita(mc, 0));
+    }
+}
@@ -0,0 +1,133 @@
+package me.josecomparotto.financialcalc.core.parcelas;
+
+import org.junit.jupiter.api.Test;
+import org.junit.jupiter.api.io.TempDir;
+
+import java.io.IOException;
+import java.io.RandomAccessFile;
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.math.RoundingMode;
+import java.nio.LongBuffer;
+import java.nio.file.Files;
+import java.nio.file.Path;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static me.josecomparotto.financialcalc.core.parcelas.ParcelaAsserts.assertParcelaIgual;
+
+public class CronogramaBinarioTest {
+
+    @TempDir
+    Path dir;
+
+    @Test
+    void idaEVolta_todosOsSistemasEMotores() throws IOException {
+        MathContext mcResultado = new MathContext(2, RoundingMode.HALF_UP);
+        for (SistemaAmortizacao sistema : SistemaAmortizacao.values()) {
+            for (MotorCalculo motor : MotorCalculo.values()) {
+                ICalculadoraParcelas calc = sistema.criarCalculadora(MathContext.DECIMAL128, mcResultado, motor);
+                BigDecimal taxa = sistema == SistemaAmortizacao.SEM_JUROS ? BigDecimal.ZERO : new BigDecimal("0.0125");
+                // mais de um bloco do escritor; no PRICE o saldo exato torna prazos longos lentos
+                int n = sistema == SistemaAmortizacao.PRICE ? 360 : 20_000;
+                List<Parcela> esperado = calc.calcularParcelas(new BigDecimal("1234567.89"), taxa, n);
+                Path arquivo = dir.resolve(sistema + "-" + motor + ".bin");
+                try (EscritorCronogramaBinario escritor = new EscritorCronogramaBinario(arquivo, sistema, n)) {
+                    escritor.escreverTodas(esperado.iterator());
+                    assertEquals(n, escritor.getQuantidade());
+                }
+                assertEquals(32 + 36L * n, Files.size(arquivo));
+
+                try (LeitorCronogramaBinario leitor = new LeitorCronogramaBinario(arquivo)) {
+                    assertEquals(sistema, leitor.getSistema());
+                    assertEquals(n, leitor.tamanho());
+                    assertEquals(2, leitor.getEscala(LeitorCronogramaBinario.Coluna.PARCELA));
+                    int k = 0;
+                    for (Parcela obtida : leitor) {
+                        assertParcelaIgual(esperado.get(k++), obtida);
+                    }
+                    assertEquals(n, k);
+                    CronogramaColunar colunar = leitor.lerCronograma();
+                    CronogramaColunar direto = calc.calcularCronograma(new BigDecimal("1234567.89"), taxa, n);
+                    assertEquals(direto.totalParcelas(), colunar.totalParcelas());
+                    assertEquals(direto.totalJuros(), colunar.totalJuros());
+                    assertParcelaIgual(esperado.get(n - 1), colunar.parcela(n - 1));
+                }
+            }
+        }
+    }
+
+    @Test
+    void colunasSemCopia_eCapacidadeMaiorQueOCronograma() throws IOException {
+        List<Parcela> parcelas = new CalculadoraParcelasSac().calcularParcelas(
+                new BigDecimal("1000.00"), new BigDecimal("0.01"), 10);
+        Path arquivo = dir.resolve("parcial.bin");
+        try (EscritorCronogramaBinario escritor = new EscritorCronogramaBinario(arquivo, null, 25)) {
+            escritor.escreverTodas(parcelas.iterator());
+        }
+        try (LeitorCronogramaBinario leitor = new LeitorCronogramaBinario(arquivo)) {
+            assertNull(leitor.getSistema());
+            assertEquals(10, leitor.tamanho());
+            LongBuffer saldos = leitor.naoEscalados(LeitorCronogramaBinario.Coluna.SALDO);
+            assertEquals(10, saldos.remaining());
+            assertTrue(saldos.isReadOnly());
+            assertEquals(90000, saldos.get(0));
+            assertEquals(0, saldos.get(9));
+            assertEquals(new BigDecimal("10.00"), leitor.getValor(LeitorCronogramaBinario.Coluna.JUROS, 0));
+            assertEquals(10, leitor.getSerie(9));
+            assertThrows(IndexOutOfBoundsException.class, () -> leitor.getSerie(10));
+        }
+    }
+
+    @Test
+    void entradasInvalidas() throws IOException {
+        Path arquivo = dir.resolve("invalido.bin");
+        Parcela parcela = new Parcela();
+        parcela.setSerie(1);
+        parcela.setValorParcela(new BigDecimal("10.00"));
+        parcela.setValorAmortizacao(new BigDecimal("9.00"));
+        parcela.setValorJuros(new BigDecimal("1.00"));
+        parcela.setSaldoDevedor(new BigDecimal("0.00"));
+        Parcela outraEscala = new Parcela();
+        outraEscala.setSerie(2);
+        outraEscala.setValorParcela(new BigDecimal("10.000"));
+        outraEscala.setValorAmortizacao(new BigDecimal("9.00"));
+        outraEscala.setValorJuros(new BigDecimal("1.00"));
+        outraEscala.setSaldoDevedor(new BigDecimal("0.00"));
+        try (EscritorCronogramaBinario escritor = new EscritorCronogramaBinario(arquivo, SistemaAmortizacao.PRICE, 2)) {
+            escritor.escrever(parcela);
+            assertThrows(IllegalArgumentException.class, () -> escritor.escrever(outraEscala));
+            outraEscala.setValorParcela(new BigDecimal("1e30").setScale(2));
+            assertThrows(IllegalArgumentException.class, () -> escritor.escrever(outraEscala));
+            escritor.escrever(parcela);
+            assertThrows(IllegalArgumentException.class, () -> escritor.escrever(parcela));
+        }
+        assertThrows(IllegalArgumentException.class, () -> new EscritorCronogramaBinario(arquivo, null, -1));
+
+        Path texto = dir.resolve("texto.csv");
+        Files.writeString(texto, "serie,parcela,amortizacao,juros,saldo\n1,10.00,9.00,1.00,0.00\n");
+        assertThrows(IOException.class, () -> new LeitorCronogramaBinario(texto));
+        Path truncado = dir.resolve("truncado.bin");
+        Files.write(truncado, java.util.Arrays.copyOf(Files.readAllBytes(arquivo), 40));
+        assertThrows(IOException.class, () -> new LeitorCronogramaBinario(truncado));
+    }
+
+    @Test
+    void capacidadeAcimaDoMaximo_deveLancarIOException() throws IOException {
+        // Arquivo esparso maior que 2 GB: o cabeçalho declara mais linhas do que
+        // o mapeamento consegue endereçar, mas o arquivo não está truncado.
+        int capacidade = FormatoCronogramaBinario.CAPACIDADE_MAXIMA + 20_000_000;
+        Path arquivo = dir.resolve("capacidade.bin");
+        try (RandomAccessFile raf = new RandomAccessFile(arquivo.toFile(), "rw")) {
+            raf.write(FormatoCronogramaBinario.cabecalho(SistemaAmortizacao.SAC, new int[4], capacidade, 1).array());
+            raf.setLength(FormatoCronogramaBinario.tamanhoArquivo(capacidade));
+        }
+        IOException e = assertThrows(IOException.class, () -> new LeitorCronogramaBinario(arquivo));
+        assertTrue(e.getMessage().contains("inválida"), e.getMessage());
+
+        try (RandomAccessFile raf = new RandomAccessFile(arquivo.toFile(), "rw")) {
+            raf.write(FormatoCronogramaBinario.cabecalho(SistemaAmortizacao.SAC, new int[4], -1, 0).array());
+        }
+        assertThrows(IOException.class, () -> new LeitorCronogramaBinario(arquivo));
+    }
+}
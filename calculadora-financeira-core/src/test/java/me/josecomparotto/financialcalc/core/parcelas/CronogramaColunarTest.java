@@ -0,0 +1,112 @@
+package me.josecomparotto.financialcalc.core.parcelas;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class CronogramaColunarTest {
+
+    private static final MathContext mc = MathContext.DECIMAL128;
+
+    private static void assertMesmoCronograma(List<Parcela> esperadas, CronogramaColunar cronograma, String caso) {
+        assertEquals(esperadas.size(), cronograma.tamanho(), caso);
+        for (int k = 0; k < esperadas.size(); k++) {
+            Parcela e = esperadas.get(k);
+            Parcela o = cronograma.parcela(k);
+            String linha = caso + " indice=" + k;
+            assertEquals(e.getSerie(), o.getSerie(), linha);
+            assertEquals(e.getValorParcela(), o.getValorParcela(), linha);
+            assertEquals(e.getValorAmortizacao(), o.getValorAmortizacao(), linha);
+            assertEquals(e.getValorJuros(), o.getValorJuros(), linha);
+            assertEquals(e.getSaldoDevedor(), o.getSaldoDevedor(), linha);
+        }
+        ResumoParcelas totais = ResumoParcelas.acumular(esperadas.iterator());
+        assertEquals(totais.getTotalParcelas(), cronograma.totalParcelas(), caso);
+        assertEquals(totais.getTotalAmortizacao(), cronograma.totalAmortizacao(), caso);
+        assertEquals(totais.getTotalJuros(), cronograma.totalJuros(), caso);
+    }
+
+    @Test
+    void calcularCronograma_identicoALista_todosOsSistemasEMotores() {
+        Random random = new Random(31);
+        for (int caso = 0; caso < 300; caso++) {
+            SistemaAmortizacao sistema = SistemaAmortizacao.values()[caso % 3];
+            MotorCalculo motor = MotorCalculo.values()[(caso / 3) % 2];
+            MathContext mcResultado = new MathContext(random.nextInt(5), RoundingMode.HALF_UP);
+            int n = 1 + random.nextInt(caso % 10 == 0 ? 360 : 48);
+            BigDecimal principal = BigDecimal.valueOf(random.nextLong(1, 5_000_000_000L), random.nextInt(3));
+            BigDecimal taxa = sistema == SistemaAmortizacao.SEM_JUROS ? BigDecimal.ZERO
+                    : BigDecimal.valueOf(1 + random.nextInt(5000), 2 + random.nextInt(4));
+            ICalculadoraParcelas calc = sistema.criarCalculadora(mc, mcResultado, motor);
+            assertMesmoCronograma(calc.calcularParcelas(principal, taxa, n),
+                    calc.calcularCronograma(principal, taxa, n), sistema + "/" + motor);
+        }
+    }
+
+    @Test
+    void builder_recaiEmBigDecimalQuandoNecessario() {
+        List<Parcela> parcelas = new ArrayList<>();
+        String[][] linhas = {
+                {"10.00", "1.00", "0", "9.00"},
+                {"10.000", "99999999999999999999.99", "0.5", "-1E+3"},
+                {"10.00", "1.00", "0", "8.00"},
+        };
+        for (int k = 0; k < linhas.length; k++) {
+            Parcela p = new Parcela();
+            p.setSerie(k + 1);
+            p.setValorParcela(new BigDecimal(linhas[k][0]));
+            p.setValorAmortizacao(new BigDecimal(linhas[k][1]));
+            p.setValorJuros(new BigDecimal(linhas[k][2]));
+            p.setSaldoDevedor(new BigDecimal(linhas[k][3]));
+            parcelas.add(p);
+        }
+        CronogramaColunar.Builder builder = CronogramaColunar.builder(1);
+        parcelas.forEach(builder::adicionar);
+        assertMesmoCronograma(parcelas, builder.construir(), "misto");
+    }
+
+    @Test
+    void totais_escalaNegativaESomaAlemDeLong() {
+        CronogramaColunar.Builder builder = CronogramaColunar.builder(2);
+        for (int k = 1; k <= 3; k++) {
+            Parcela p = new Parcela();
+            p.setSerie(k);
+            p.setValorParcela(BigDecimal.valueOf(Long.MAX_VALUE, 2));
+            p.setValorAmortizacao(new BigDecimal("5E+2"));
+            p.setValorJuros(BigDecimal.valueOf(Long.MIN_VALUE, 2));
+            p.setSaldoDevedor(BigDecimal.ZERO);
+            builder.adicionar(p);
+        }
+        CronogramaColunar cronograma = builder.construir();
+        assertEquals(BigDecimal.valueOf(Long.MAX_VALUE, 2).multiply(BigDecimal.valueOf(3)), cronograma.totalParcelas());
+        assertEquals(new BigDecimal("1500"), cronograma.totalAmortizacao());
+        assertEquals(BigDecimal.valueOf(Long.MIN_VALUE, 2).multiply(BigDecimal.valueOf(3)), cronograma.totalJuros());
+    }
+
+    @Test
+    void visoes_listaEIteradorEIndices() {
+        CalculadoraParcelasSemJuros calc = new CalculadoraParcelasSemJuros();
+        CronogramaColunar cronograma = calc.calcularCronograma(new BigDecimal("100.00"), 3);
+        List<Parcela> lista = cronograma.comoLista();
+        assertEquals(3, lista.size());
+        assertEquals(new BigDecimal("33.34"), lista.get(1).getValorParcela());
+        assertEquals(new BigDecimal("0.00"), cronograma.getSaldoDevedor(2));
+        assertEquals(BigDecimal.ZERO, cronograma.totalJuros());
+        int series = 0;
+        for (Parcela p : cronograma) {
+            assertEquals(++series, p.getSerie());
+        }
+        assertEquals(3, series);
+        assertThrows(IndexOutOfBoundsException.class, () -> cronograma.parcela(3));
+        assertThrows(UnsupportedOperationException.class, () -> lista.add(new Parcela()));
+        assertEquals(0, CronogramaColunar.builder(0).construir().tamanho());
+    }
+
+}
@@ -0,0 +1,100 @@
+package me.josecomparotto.financialcalc.core.parcelas;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.io.PrintWriter;
+import java.io.StringWriter;
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.math.RoundingMode;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class EscritorCsvCronogramaTest {
+
+    // Formato anterior (printf sobre BigDecimal.toString), referência byte a byte.
+    private static String comPrintf(List<Parcela> parcelas, String prefixo) {
+        StringWriter texto = new StringWriter();
+        PrintWriter out = new PrintWriter(texto);
+        out.println(EscritorCsvCronograma.CABECALHO);
+        BigDecimal totalParcela = BigDecimal.ZERO;
+        BigDecimal totalAmort = BigDecimal.ZERO;
+        BigDecimal totalJuros = BigDecimal.ZERO;
+        for (Parcela p : parcelas) {
+            out.printf("%s%d,%s,%s,%s,%s%n", prefixo, p.getSerie(), p.getValorParcela(), p.getValorAmortizacao(),
+                    p.getValorJuros(), p.getSaldoDevedor());
+            totalParcela = totalParcela.add(p.getValorParcela());
+            totalAmort = totalAmort.add(p.getValorAmortizacao());
+            totalJuros = totalJuros.add(p.getValorJuros());
+        }
+        out.printf("%sTOTAL,%s,%s,%s,%s%n", prefixo, totalParcela, totalAmort, totalJuros, "");
+        out.flush();
+        return texto.toString();
+    }
+
+    private static String comEscritor(List<Parcela> parcelas, String prefixo, int buffer) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (EscritorCsvCronograma csv = new EscritorCsvCronograma(Channels.newChannel(bytes), buffer)) {
+            csv.escreverCabecalho();
+            csv.escreverParcelas(parcelas.iterator(), prefixo);
+        }
+        return bytes.toString(StandardCharsets.UTF_8);
+    }
+
+    private static Parcela parcela(int serie, String parcela, String amortizacao, String juros, String saldo) {
+        Parcela p = new Parcela();
+        p.setSerie(serie);
+        p.setValorParcela(new BigDecimal(parcela));
+        p.setValorAmortizacao(new BigDecimal(amortizacao));
+        p.setValorJuros(new BigDecimal(juros));
+        p.setSaldoDevedor(new BigDecimal(saldo));
+        return p;
+    }
+
+    @Test
+    void mesmosBytesQuePrintf_nosCronogramas() throws IOException {
+        for (int precisao : new int[] {0, 2, 4}) {
+            MathContext mcResultado = new MathContext(precisao, RoundingMode.HALF_UP);
+            for (SistemaAmortizacao sistema : SistemaAmortizacao.values()) {
+                for (MotorCalculo motor : MotorCalculo.values()) {
+                    ICalculadoraParcelas calc = sistema.criarCalculadora(MathContext.DECIMAL128, mcResultado, motor);
+                    BigDecimal taxa = sistema == SistemaAmortizacao.SEM_JUROS ? BigDecimal.ZERO : new BigDecimal("0.0149");
+                    List<Parcela> parcelas = calc.calcularParcelas(new BigDecimal("250000.01"), taxa, 120);
+                    String descricao = sistema + "/" + motor + "/" + precisao;
+                    assertEquals(comPrintf(parcelas, ""), comEscritor(parcelas, "", 64 * 1024), descricao);
+                    // buffer pequeno: descarrega no meio das linhas
+                    assertEquals(comPrintf(parcelas, "17,"), comEscritor(parcelas, "17,", 256), descricao);
+                }
+            }
+        }
+    }
+
+    @Test
+    void mesmosBytesQuePrintf_valoresAtipicos() throws IOException {
+        List<Parcela> parcelas = new ArrayList<>();
+        parcelas.add(parcela(1, "0.00", "-0.05", "0.0000001", "1E+3"));
+        parcelas.add(parcela(2, "0.000001", "-12.5", "0E-8", "-9223372036854775808"));
+        parcelas.add(parcela(3, "92233720368547758.07", "-922337203685477580.8", "123456789012345678901234.5", "7"));
+        parcelas.add(parcela(-4, "10", "10.000", "1.00", "-0.000"));
+        assertEquals(comPrintf(parcelas, ""), comEscritor(parcelas, "", 256));
+        assertEquals(comPrintf(List.of(), "ação,"), comEscritor(List.of(), "ação,", 256));
+
+        List<Parcela> estouro = new ArrayList<>();
+        estouro.add(parcela(1, "9223372036854775.00", "0.01", "0.01", "0.01"));
+        estouro.add(parcela(2, "9223372036854775.00", "0.01", "0.01", "0.01"));
+        assertEquals(comPrintf(estouro, ""), comEscritor(estouro, "", 256));
+    }
+
+    @Test
+    void argumentosInvalidos() {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        assertThrows(IllegalArgumentException.class, () -> new EscritorCsvCronograma(null));
+        assertThrows(IllegalArgumentException.class, () -> new EscritorCsvCronograma(Channels.newChannel(bytes), 16));
+    }
+}
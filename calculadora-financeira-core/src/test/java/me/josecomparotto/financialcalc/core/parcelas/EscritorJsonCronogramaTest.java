@@ -0,0 +1,106 @@
+package me.josecomparotto.financialcalc.core.parcelas;
+
+import org.junit.jupiter.api.Test;
+
+import java.io.ByteArrayOutputStream;
+import java.io.IOException;
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.math.RoundingMode;
+import java.nio.channels.Channels;
+import java.nio.charset.StandardCharsets;
+import java.util.ArrayList;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class EscritorJsonCronogramaTest {
+
+    private static String objeto(Parcela p) {
+        return "{\"serie\":" + p.getSerie()
+                + ",\"parcela\":" + p.getValorParcela().toPlainString()
+                + ",\"amortizacao\":" + p.getValorAmortizacao().toPlainString()
+                + ",\"juros\":" + p.getValorJuros().toPlainString()
+                + ",\"saldo\":" + p.getSaldoDevedor().toPlainString() + "}";
+    }
+
+    private static String totais(List<Parcela> parcelas) {
+        BigDecimal parcela = BigDecimal.ZERO;
+        BigDecimal amortizacao = BigDecimal.ZERO;
+        BigDecimal juros = BigDecimal.ZERO;
+        for (Parcela p : parcelas) {
+            parcela = parcela.add(p.getValorParcela());
+            amortizacao = amortizacao.add(p.getValorAmortizacao());
+            juros = juros.add(p.getValorJuros());
+        }
+        return "\"totais\":{\"parcelas\":" + parcela.toPlainString() + ",\"amortizacao\":" + amortizacao.toPlainString()
+                + ",\"juros\":" + juros.toPlainString() + "}";
+    }
+
+    private static String esperado(List<Parcela> parcelas, EscritorJsonCronograma.Modo modo) {
+        StringBuilder texto = new StringBuilder();
+        if (modo == EscritorJsonCronograma.Modo.JSON) {
+            texto.append("{\"parcelas\":[");
+            for (int i = 0; i < parcelas.size(); i++) {
+                texto.append(i == 0 ? "" : ",").append(objeto(parcelas.get(i)));
+            }
+            return texto.append("],").append(totais(parcelas)).append("}\n").toString();
+        }
+        for (Parcela p : parcelas) {
+            texto.append(objeto(p)).append('\n');
+        }
+        return texto.append('{').append(totais(parcelas)).append("}\n").toString();
+    }
+
+    private static String escrever(List<Parcela> parcelas, EscritorJsonCronograma.Modo modo, int buffer) throws IOException {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        try (EscritorJsonCronograma json = new EscritorJsonCronograma(Channels.newChannel(bytes), modo, buffer)) {
+            json.escreverCronograma(parcelas.iterator());
+        }
+        return bytes.toString(StandardCharsets.UTF_8);
+    }
+
+    private static Parcela parcela(int serie, String parcela, String amortizacao, String juros, String saldo) {
+        Parcela p = new Parcela();
+        p.setSerie(serie);
+        p.setValorParcela(new BigDecimal(parcela));
+        p.setValorAmortizacao(new BigDecimal(amortizacao));
+        p.setValorJuros(new BigDecimal(juros));
+        p.setSaldoDevedor(new BigDecimal(saldo));
+        return p;
+    }
+
+    @Test
+    void cronogramas_jsonENdjson() throws IOException {
+        MathContext mcResultado = new MathContext(2, RoundingMode.HALF_UP);
+        for (SistemaAmortizacao sistema : SistemaAmortizacao.values()) {
+            ICalculadoraParcelas calc = sistema.criarCalculadora(MathContext.DECIMAL128, mcResultado, MotorCalculo.CENTAVOS);
+            BigDecimal taxa = sistema == SistemaAmortizacao.SEM_JUROS ? BigDecimal.ZERO : new BigDecimal("0.0149");
+            List<Parcela> parcelas = calc.calcularParcelas(new BigDecimal("250000.01"), taxa, 240);
+            for (EscritorJsonCronograma.Modo modo : EscritorJsonCronograma.Modo.values()) {
+                assertEquals(esperado(parcelas, modo), escrever(parcelas, modo, 64 * 1024), sistema + "/" + modo);
+                assertEquals(esperado(parcelas, modo), escrever(parcelas, modo, 256), sistema + "/" + modo);
+            }
+        }
+    }
+
+    @Test
+    void valoresComoToPlainString() throws IOException {
+        List<Parcela> parcelas = new ArrayList<>();
+        parcelas.add(parcela(1, "1E+3", "0E-8", "1E-10", "-0.05"));
+        parcelas.add(parcela(2, "9223372036854775807", "123456789012345678901234.5", "0.000", "-12"));
+        for (EscritorJsonCronograma.Modo modo : EscritorJsonCronograma.Modo.values()) {
+            assertEquals(esperado(parcelas, modo), escrever(parcelas, modo, 256));
+            assertEquals(esperado(List.of(), modo), escrever(List.of(), modo, 256));
+        }
+        assertEquals("{\"parcelas\":[],\"totais\":{\"parcelas\":0,\"amortizacao\":0,\"juros\":0}}\n",
+                escrever(List.of(), EscritorJsonCronograma.Modo.JSON, 256));
+    }
+
+    @Test
+    void argumentosInvalidos() {
+        ByteArrayOutputStream bytes = new ByteArrayOutputStream();
+        assertThrows(IllegalArgumentException.class, () -> new EscritorJsonCronograma(Channels.newChannel(bytes), null));
+        assertThrows(IllegalArgumentException.class, () -> new EscritorJsonCronograma(null, EscritorJsonCronograma.Modo.JSON));
+    }
+}
@@ -0,0 +1,148 @@
+package me.josecomparotto.financialcalc.core.parcelas;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.math.RoundingMode;
+import java.util.ArrayList;
+import java.util.Iterator;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static me.josecomparotto.financialcalc.core.parcelas.ParcelaAsserts.assertParcelasIguais;
+
+// Paridade entre MotorCalculo.CENTAVOS e MotorCalculo.BIG_DECIMAL: as parcelas
+// devem ser idênticas (equals do BigDecimal, que também compara a escala).
+public class MotorCentavosTest {
+
+    private static final MathContext mc = MathContext.DECIMAL128;
+
+    private static void assertParidade(SistemaAmortizacao sistema, MathContext mcCalculo, MathContext mcResultado,
+            BigDecimal principal, BigDecimal taxa, int n) {
+        List<Parcela> esperadas = sistema.criarCalculadora(mcCalculo, mcResultado, MotorCalculo.BIG_DECIMAL)
+                .calcularParcelas(principal, taxa, n);
+        List<Parcela> obtidas = sistema.criarCalculadora(mcCalculo, mcResultado, MotorCalculo.CENTAVOS)
+                .calcularParcelas(principal, taxa, n);
+        String caso = sistema + " V=" + principal + " i=" + taxa + " n=" + n + " mc=" + mcResultado;
+        assertParcelasIguais(esperadas, obtidas, caso);
+    }
+
+    @Test
+    void paridadeAleatoria_todosOsSistemas() {
+        Random random = new Random(20240501);
+        for (int caso = 0; caso < 600; caso++) {
+            SistemaAmortizacao sistema = SistemaAmortizacao.values()[caso % 3];
+            int escala = random.nextInt(5);
+            MathContext mcResultado = new MathContext(escala, RoundingMode.HALF_UP);
+            int n = 1 + random.nextInt(caso % 10 == 0 ? 420 : 60);
+            BigDecimal principal = BigDecimal.valueOf(random.nextLong(1, 5_000_000_000L), random.nextInt(3));
+            BigDecimal taxa = sistema == SistemaAmortizacao.SEM_JUROS ? BigDecimal.ZERO
+                    : BigDecimal.valueOf(1 + random.nextInt(5000), 2 + random.nextInt(4));
+            assertParidade(sistema, mc, mcResultado, principal, taxa, n);
+        }
+    }
+
+    @Test
+    void paridade_empatesNaMetadeDoCentavo() {
+        MathContext mcResultado = new MathContext(2, RoundingMode.HALF_UP);
+        // 0.01 / 6 não é exato em DECIMAL128; na série 3 o saldo exato é 0.005
+        assertParidade(SistemaAmortizacao.SEM_JUROS, mc, mcResultado, new BigDecimal("0.01"), BigDecimal.ZERO, 6);
+        assertParidade(SistemaAmortizacao.SAC, mc, mcResultado, new BigDecimal("0.01"), BigDecimal.ZERO, 6);
+        for (int n = 1; n <= 40; n++) {
+            for (int centavos = 1; centavos <= 40; centavos++) {
+                BigDecimal principal = BigDecimal.valueOf(centavos, 2);
+                assertParidade(SistemaAmortizacao.SEM_JUROS, mc, mcResultado, principal, BigDecimal.ZERO, n);
+                assertParidade(SistemaAmortizacao.SAC, mc, mcResultado, principal, new BigDecimal("0.5"), n);
+                assertParidade(SistemaAmortizacao.SAC, mc, mcResultado, principal, new BigDecimal("0.25"), n);
+            }
+        }
+    }
+
+    @Test
+    void paridade_prazosLongos() {
+        MathContext mcResultado = new MathContext(2, RoundingMode.HALF_UP);
+        BigDecimal principal = new BigDecimal("250000.00");
+        assertParidade(SistemaAmortizacao.PRICE, mc, mcResultado, principal, new BigDecimal("0.0149"), 420);
+        assertParidade(SistemaAmortizacao.SAC, mc, mcResultado, principal, new BigDecimal("0.0149"), 420);
+        assertParidade(SistemaAmortizacao.SAC, mc, mcResultado, principal, new BigDecimal("0.000493"), 10000);
+        assertParidade(SistemaAmortizacao.SEM_JUROS, mc, mcResultado, new BigDecimal("999999.99"), BigDecimal.ZERO, 10000);
+        assertParidade(SistemaAmortizacao.PRICE, mc, mcResultado, new BigDecimal("9999999999999.99"), new BigDecimal("0.021"), 360);
+    }
+
+    @Test
+    void paridade_foraDoDominio_recaiEmBigDecimal() {
+        MathContext duasCasas = new MathContext(2, RoundingMode.HALF_UP);
+        // principal com mais casas que o resultado
+        assertParidade(SistemaAmortizacao.SAC, mc, duasCasas, new BigDecimal("1000.005"), new BigDecimal("0.01"), 12);
+        assertParidade(SistemaAmortizacao.PRICE, mc, duasCasas, new BigDecimal("1000.005"), new BigDecimal("0.01"), 12);
+        // arredondamento diferente de HALF_UP
+        MathContext halfEven = new MathContext(2, RoundingMode.HALF_EVEN);
+        assertParidade(SistemaAmortizacao.SAC, mc, halfEven, new BigDecimal("1000.01"), new BigDecimal("0.015"), 7);
+        assertParidade(SistemaAmortizacao.PRICE, mc, halfEven, new BigDecimal("1000.01"), new BigDecimal("0.015"), 7);
+        // mcCalculo de baixa precisão: o erro de V/n passa do limite garantido
+        assertParidade(SistemaAmortizacao.SEM_JUROS, MathContext.DECIMAL32, duasCasas, new BigDecimal("123456789.01"), BigDecimal.ZERO, 7);
+        assertParidade(SistemaAmortizacao.SAC, MathContext.DECIMAL32, duasCasas, new BigDecimal("123456789.01"), new BigDecimal("0.013"), 7);
+        // taxa com muitos dígitos e principal acima do limite em centavos
+        assertParidade(SistemaAmortizacao.SAC, mc, duasCasas, new BigDecimal("1000"), new BigDecimal("0.0123456789012345678901"), 12);
+        assertParidade(SistemaAmortizacao.PRICE, mc, duasCasas, new BigDecimal("100000000000000000.00"), new BigDecimal("0.01"), 12);
+        // taxa >= 100% por período
+        assertParidade(SistemaAmortizacao.PRICE, mc, duasCasas, new BigDecimal("1000"), new BigDecimal("1.5"), 12);
+        // principal negativo
+        assertParidade(SistemaAmortizacao.SAC, mc, duasCasas, new BigDecimal("-1000"), new BigDecimal("0.01"), 3);
+    }
+
+    @Test
+    void geradorIndeterminado_retomaEmBigDecimalNaSerieCorreta() {
+        List<Parcela> referencia = new CalculadoraParcelasSac(mc, new MathContext(2, RoundingMode.HALF_UP))
+                .calcularParcelas(new BigDecimal("1000"), new BigDecimal("0.01"), 10);
+        GeradorCentavos gerador = geradorIndeterminadoNaSerie4(referencia);
+        Iterator<Parcela> iterador = new IteradorCentavos(gerador, emitidas -> referencia.listIterator(emitidas));
+        List<Parcela> obtidas = new ArrayList<>();
+        iterador.forEachRemaining(obtidas::add);
+        assertEquals(10, obtidas.size());
+        for (int k = 0; k < 10; k++) {
+            assertEquals(k + 1, obtidas.get(k).getSerie());
+            assertEquals(referencia.get(k).getSaldoDevedor(), obtidas.get(k).getSaldoDevedor());
+        }
+    }
+
+    @Test
+    void geradorIndeterminado_cronogramaColunarRetomaNaSerieCorreta() {
+        List<Parcela> referencia = new CalculadoraParcelasSac(mc, new MathContext(2, RoundingMode.HALF_UP))
+                .calcularParcelas(new BigDecimal("1000"), new BigDecimal("0.01"), 10);
+        IteradorCentavos iterador = new IteradorCentavos(geradorIndeterminadoNaSerie4(referencia),
+                emitidas -> referencia.listIterator(emitidas));
+        assertTrue(iterador.hasNext());
+        CronogramaColunar cronograma = CronogramaColunar.de(iterador, 10);
+        assertEquals(10, cronograma.tamanho());
+        for (int k = 0; k < 10; k++) {
+            assertEquals(k + 1, cronograma.getSerie(k));
+            assertEquals(referencia.get(k).getSaldoDevedor(), cronograma.getSaldoDevedor(k));
+        }
+    }
+
+    private static GeradorCentavos geradorIndeterminadoNaSerie4(List<Parcela> referencia) {
+        return new GeradorCentavos(2, 10) {
+            @Override
+            boolean proxima() {
+                if (serie == 4) {
+                    return false;
+                }
+                Parcela p = referencia.get(serie);
+                serie++;
+                parcela = p.getValorParcela().unscaledValue().longValueExact();
+                amortizacao = p.getValorAmortizacao().unscaledValue().longValueExact();
+                juros = p.getValorJuros().unscaledValue().longValueExact();
+                saldo = p.getSaldoDevedor().unscaledValue().longValueExact();
+                return true;
+            }
+
+            @Override
+            boolean isIndeterminado() {
+                return serie == 4;
+            }
+        };
+    }
+}
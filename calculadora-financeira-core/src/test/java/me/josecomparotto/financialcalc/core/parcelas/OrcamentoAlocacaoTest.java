@@ -0,0 +1,111 @@
+package me.josecomparotto.financialcalc.core.parcelas;
+
+import org.junit.jupiter.api.BeforeAll;
+import org.junit.jupiter.params.ParameterizedTest;
+import org.junit.jupiter.params.provider.CsvSource;
+
+import java.lang.management.ManagementFactory;
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.math.RoundingMode;
+import java.util.Iterator;
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertTrue;
+import static org.junit.jupiter.api.Assumptions.assumeTrue;
+
+// Orçamento de alocação por parcela gerada nos caminhos quentes dos
+// cronogramas, medido com ThreadMXBean#getThreadAllocatedBytes. Cada caso roda
+// algumas vezes antes de medir e vale o menor valor entre as medições, para
+// descontar classes carregadas e compilação. Os orçamentos incluem a Parcela,
+// seus BigDecimal e a posição na lista (calcularParcelas) e devem ser revistos
+// para baixo quando um caminho fica mais barato, nunca para cima sem motivo.
+public class OrcamentoAlocacaoTest {
+
+    private static final BigDecimal PRINCIPAL = new BigDecimal("250000.00");
+    private static final BigDecimal TAXA = new BigDecimal("0.0085");
+    private static final MathContext MC_RESULTADO = new MathContext(2, RoundingMode.HALF_UP);
+    private static final int AQUECIMENTO = 20;
+    private static final int MEDICOES = 5;
+
+    private static com.sun.management.ThreadMXBean threads;
+
+    @BeforeAll
+    static void verificarSuporte() {
+        if (ManagementFactory.getThreadMXBean() instanceof com.sun.management.ThreadMXBean bean
+                && bean.isThreadAllocatedMemorySupported() && bean.isThreadAllocatedMemoryEnabled()) {
+            threads = bean;
+        }
+    }
+
+    private static ICalculadoraParcelas calculadora(SistemaAmortizacao sistema, MotorCalculo motor) {
+        return sistema.criarCalculadora(MathContext.DECIMAL128, MC_RESULTADO, motor);
+    }
+
+    private static long bytesPorParcela(Runnable cronograma, int parcelas) {
+        assumeTrue(threads != null, "JVM sem medição de alocação por thread");
+        long id = Thread.currentThread().threadId();
+        for (int k = 0; k < AQUECIMENTO; k++) {
+            cronograma.run();
+        }
+        long menor = Long.MAX_VALUE;
+        for (int k = 0; k < MEDICOES; k++) {
+            long antes = threads.getThreadAllocatedBytes(id);
+            cronograma.run();
+            menor = Math.min(menor, threads.getThreadAllocatedBytes(id) - antes);
+        }
+        return menor / parcelas;
+    }
+
+    private static void assertDentroDoOrcamento(String caso, long medido, long orcamento) {
+        assertTrue(medido <= orcamento, caso + ": " + medido + " B/parcela, orçamento " + orcamento);
+    }
+
+    // O PRICE em BIG_DECIMAL carrega o saldo exato, que ganha dígitos a cada
+    // série: o custo por parcela cresce com o prazo, daí o orçamento por prazo.
+    @ParameterizedTest(name = "{0} {1} n={2}")
+    @CsvSource({
+            "SEM_JUROS, BIG_DECIMAL, 360, 640",
+            "SEM_JUROS, CENTAVOS,    360, 140",
+            "SAC,       BIG_DECIMAL, 360, 1200",
+            "SAC,       CENTAVOS,    360, 240",
+            "PRICE,     BIG_DECIMAL, 60,  16000",
+            "PRICE,     CENTAVOS,    360, 240",
+    })
+    void calcularParcelas(SistemaAmortizacao sistema, MotorCalculo motor, int n, long orcamento) {
+        ICalculadoraParcelas calc = calculadora(sistema, motor);
+        BigDecimal taxa = sistema == SistemaAmortizacao.SEM_JUROS ? BigDecimal.ZERO : TAXA;
+        long medido = bytesPorParcela(() -> {
+            List<Parcela> parcelas = calc.calcularParcelas(PRINCIPAL, taxa, n);
+            assertTrue(parcelas.size() == n);
+        }, n);
+        assertDentroDoOrcamento("calcularParcelas " + sistema + " " + motor + " n=" + n, medido, orcamento);
+    }
+
+    @ParameterizedTest(name = "{0} {1} n={2}")
+    @CsvSource({
+            "SAC,   CENTAVOS, 360, 100",
+            "PRICE, CENTAVOS, 360, 150",
+    })
+    void calcularCronograma(SistemaAmortizacao sistema, MotorCalculo motor, int n, long orcamento) {
+        ICalculadoraParcelas calc = calculadora(sistema, motor);
+        long medido = bytesPorParcela(() -> calc.calcularCronograma(PRINCIPAL, TAXA, n), n);
+        assertDentroDoOrcamento("calcularCronograma " + sistema + " " + motor + " n=" + n, medido, orcamento);
+    }
+
+    @ParameterizedTest(name = "{0} {1} n={2}")
+    @CsvSource({
+            "SAC,   BIG_DECIMAL, 360, 1200",
+            "PRICE, CENTAVOS,    360, 240",
+    })
+    void iterarParcelas(SistemaAmortizacao sistema, MotorCalculo motor, int n, long orcamento) {
+        ICalculadoraParcelas calc = calculadora(sistema, motor);
+        long medido = bytesPorParcela(() -> {
+            Iterator<Parcela> parcelas = calc.iterarParcelas(PRINCIPAL, TAXA, n);
+            while (parcelas.hasNext()) {
+                parcelas.next();
+            }
+        }, n);
+        assertDentroDoOrcamento("iterarParcelas " + sistema + " " + motor + " n=" + n, medido, orcamento);
+    }
+}
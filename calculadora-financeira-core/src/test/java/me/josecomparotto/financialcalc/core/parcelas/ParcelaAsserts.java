@@ -0,0 +1,37 @@
+package me.josecomparotto.financialcalc.core.parcelas;
+
+import java.util.List;
+
+import static org.junit.jupiter.api.Assertions.assertEquals;
+
+// Comparação campo a campo de parcelas, com o equals do BigDecimal (que também
+// compara a escala).
+final class ParcelaAsserts {
+
+    private ParcelaAsserts() {
+    }
+
+    static void assertParcelaIgual(Parcela esperada, Parcela obtida) {
+        assertParcelaIgual(esperada, obtida, "serie " + esperada.getSerie());
+    }
+
+    static void assertParcelaIgual(Parcela esperada, Parcela obtida, String caso) {
+        assertEquals(esperada.getSerie(), obtida.getSerie(), caso);
+        assertEquals(esperada.getValorParcela(), obtida.getValorParcela(), caso);
+        assertEquals(esperada.getValorAmortizacao(), obtida.getValorAmortizacao(), caso);
+        assertEquals(esperada.getValorJuros(), obtida.getValorJuros(), caso);
+        assertEquals(esperada.getSaldoDevedor(), obtida.getSaldoDevedor(), caso);
+    }
+
+    static void assertParcelasIguais(List<Parcela> esperadas, List<Parcela> obtidas) {
+        assertParcelasIguais(esperadas, obtidas, "");
+    }
+
+    static void assertParcelasIguais(List<Parcela> esperadas, List<Parcela> obtidas, String caso) {
+        assertEquals(esperadas.size(), obtidas.size(), caso);
+        for (int k = 0; k < esperadas.size(); k++) {
+            String serie = "serie " + esperadas.get(k).getSerie();
+            assertParcelaIgual(esperadas.get(k), obtidas.get(k), caso.isEmpty() ? serie : caso + " " + serie);
+        }
+    }
+}
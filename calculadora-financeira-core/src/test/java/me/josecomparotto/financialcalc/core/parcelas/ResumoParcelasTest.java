@@ -0,0 +1,100 @@
+package me.josecomparotto.financialcalc.core.parcelas;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.MathContext;
+import java.math.RoundingMode;
+import java.util.List;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+import static me.josecomparotto.financialcalc.core.parcelas.ParcelaAsserts.assertParcelaIgual;
+
+// calcularResumo deve coincidir com a soma das colunas de calcularParcelas
+// (equals do BigDecimal, que também compara a escala).
+public class ResumoParcelasTest {
+
+    private static final MathContext mc = MathContext.DECIMAL128;
+    private static final RoundingMode[] MODOS = {
+            RoundingMode.HALF_UP, RoundingMode.HALF_DOWN, RoundingMode.HALF_EVEN,
+            RoundingMode.UP, RoundingMode.DOWN, RoundingMode.CEILING, RoundingMode.FLOOR
+    };
+
+    private static void assertResumo(ICalculadoraParcelas calc, BigDecimal principal, BigDecimal taxa, int n) {
+        List<Parcela> parcelas = calc.calcularParcelas(principal, taxa, n);
+        ResumoParcelas esperado = ResumoParcelas.acumular(parcelas.iterator());
+        ResumoParcelas obtido = calc.calcularResumo(principal, taxa, n);
+        String caso = calc.getClass().getSimpleName() + " V=" + principal + " i=" + taxa + " n=" + n;
+
+        assertEquals(esperado.getNumeroParcelas(), obtido.getNumeroParcelas(), caso);
+        assertEquals(esperado.getTotalParcelas(), obtido.getTotalParcelas(), caso);
+        assertEquals(esperado.getTotalAmortizacao(), obtido.getTotalAmortizacao(), caso);
+        assertEquals(esperado.getTotalJuros(), obtido.getTotalJuros(), caso);
+        assertParcelaIgual(esperado.getPrimeiraParcela(), obtido.getPrimeiraParcela(), caso);
+        assertParcelaIgual(esperado.getUltimaParcela(), obtido.getUltimaParcela(), caso);
+    }
+
+    @Test
+    void resumoAleatorio_todosOsSistemasEModos() {
+        Random random = new Random(20240617);
+        for (int caso = 0; caso < 700; caso++) {
+            SistemaAmortizacao sistema = SistemaAmortizacao.values()[caso % 3];
+            MathContext mcResultado = new MathContext(random.nextInt(5), MODOS[random.nextInt(MODOS.length)]);
+            int n = 1 + random.nextInt(caso % 20 == 0 ? 360 : 48);
+            BigDecimal principal = BigDecimal.valueOf(random.nextLong(1, 5_000_000_000L), random.nextInt(4));
+            if (sistema != SistemaAmortizacao.PRICE && random.nextInt(10) == 0) {
+                principal = principal.negate();
+            }
+            BigDecimal taxa = sistema == SistemaAmortizacao.SEM_JUROS ? BigDecimal.ZERO
+                    : BigDecimal.valueOf(1 + random.nextInt(5000), 2 + random.nextInt(4));
+            assertResumo(sistema.criarCalculadora(mc, mcResultado), principal, taxa, n);
+        }
+    }
+
+    @Test
+    void resumoSac_empatesNaMetadeDoCentavo() {
+        // juros de 0.5 centavo em várias séries: V * i = 0.005, a * i = 0.0005
+        for (RoundingMode rm : MODOS) {
+            ICalculadoraParcelas calc = new CalculadoraParcelasSac(mc, new MathContext(2, rm));
+            assertResumo(calc, new BigDecimal("1.00"), new BigDecimal("0.005"), 10);
+            assertResumo(calc, new BigDecimal("0.01"), new BigDecimal("0.5"), 6);
+            assertResumo(calc, BigDecimal.ZERO, new BigDecimal("0.01"), 3);
+        }
+    }
+
+    @Test
+    void resumoSac_taxaZero() {
+        assertResumo(new CalculadoraParcelasSac(), new BigDecimal("1000.00"), BigDecimal.ZERO, 7);
+    }
+
+    @Test
+    void resumoPrice_prazoLongo() {
+        ICalculadoraParcelas calc = new CalculadoraParcelasPrice(mc, new MathContext(2, RoundingMode.HALF_UP));
+        assertResumo(calc, new BigDecimal("250000.00"), new BigDecimal("0.0149"), 420);
+        assertResumo(calc, new BigDecimal("1"), new BigDecimal("0.99"), 1);
+    }
+
+    @Test
+    void resumoSemJuros_sobrecargaSemTaxa() {
+        CalculadoraParcelasSemJuros calc = new CalculadoraParcelasSemJuros();
+        ResumoParcelas resumo = calc.calcularResumo(new BigDecimal("100.00"), 3);
+        assertEquals(new BigDecimal("100.00"), resumo.getTotalParcelas());
+        assertEquals(BigDecimal.ZERO, resumo.getTotalJuros());
+        assertEquals(new BigDecimal("33.33"), resumo.getPrimeiraParcela().getValorParcela());
+        assertEquals(new BigDecimal("33.33"), resumo.getUltimaParcela().getValorParcela());
+        assertThrows(IllegalArgumentException.class,
+                () -> calc.calcularResumo(new BigDecimal("100.00"), new BigDecimal("0.01"), 3));
+    }
+
+    @Test
+    void resumo_validaArgumentos() {
+        assertThrows(IllegalArgumentException.class,
+                () -> new CalculadoraParcelasPrice().calcularResumo(new BigDecimal("1000"), BigDecimal.ZERO, 3));
+        assertThrows(IllegalArgumentException.class,
+                () -> new CalculadoraParcelasSac().calcularResumo(null, BigDecimal.ZERO, 3));
+        assertThrows(IllegalArgumentException.class,
+                () -> new CalculadoraParcelasSemJuros().calcularResumo(new BigDecimal("1000"), 0));
+    }
+
+}
@@ -0,0 +1,60 @@
+package me.josecomparotto.financialcalc.core.parcelas;
+
+import org.junit.jupiter.api.Test;
+
+import java.math.BigDecimal;
+import java.math.BigInteger;
+import java.math.RoundingMode;
+import java.util.Random;
+
+import static org.junit.jupiter.api.Assertions.*;
+
+public class SomaArredondadaTest {
+
+    @Test
+    void somaFloor_igualAForcaBruta() {
+        Random random = new Random(7);
+        for (int caso = 0; caso < 2000; caso++) {
+            int n = random.nextInt(60);
+            BigInteger m = BigInteger.valueOf(1 + random.nextInt(1000));
+            BigInteger a = BigInteger.valueOf(random.nextInt(20001) - 10000);
+            BigInteger b = BigInteger.valueOf(random.nextInt(20001) - 10000);
+            long esperado = 0;
+            for (int j = 0; j < n; j++) {
+                esperado += Math.floorDiv(a.longValue() * j + b.longValue(), m.longValue());
+            }
+            assertEquals(BigInteger.valueOf(esperado), SomaArredondada.somaFloor(n, m, a, b));
+        }
+    }
+
+    @Test
+    void somar_igualASomaTermoATermo() {
+        Random random = new Random(11);
+        RoundingMode[] modos = {RoundingMode.HALF_UP, RoundingMode.HALF_DOWN, RoundingMode.UP,
+                RoundingMode.DOWN, RoundingMode.CEILING, RoundingMode.FLOOR};
+        for (int caso = 0; caso < 2000; caso++) {
+            int n = 1 + random.nextInt(50);
+            int escala = random.nextInt(4);
+            BigDecimal beta = BigDecimal.valueOf(random.nextInt(5000), random.nextInt(6));
+            BigDecimal alfa = beta.multiply(BigDecimal.valueOf(n - 1))
+                    .add(BigDecimal.valueOf(random.nextInt(5000), random.nextInt(6)));
+            if (random.nextBoolean()) {
+                alfa = alfa.negate();
+                beta = beta.negate();
+            }
+            RoundingMode rm = modos[random.nextInt(modos.length)];
+            BigDecimal esperado = BigDecimal.ZERO;
+            for (int j = 0; j < n; j++) {
+                esperado = esperado.add(alfa.subtract(beta.multiply(BigDecimal.valueOf(j))).setScale(escala, rm));
+            }
+            assertEquals(esperado, SomaArredondada.somar(alfa, beta, n, escala, rm));
+        }
+    }
+
+    @Test
+    void somar_semFormaFechada() {
+        assertNull(SomaArredondada.somar(BigDecimal.ONE, BigDecimal.ONE, 3, 2, RoundingMode.HALF_EVEN));
+        assertNull(SomaArredondada.somar(BigDecimal.ONE, BigDecimal.ONE, 3, 2, RoundingMode.HALF_UP));
+    }
+
+}
@@ -0,0 +1,13 @@
+#!/usr/bin/env bash
+set -euo pipefail
+# Compare time-to-first-output of the plain shaded jar against the startup profile (minimized jar + AppCDS)
+RUNS="${1:-20}"
+mvn -q -DskipTests -Pstartup -pl calculadora-financeira-cli,calculadora-financeira-bench -am package
+BENCH="java -cp calculadora-financeira-bench/target/benchmarks.jar me.josecomparotto.financialcalc.bench.InicializacaoCli"
+SHADED=calculadora-financeira-cli/target/calculadora-financeira-cli-1.0-SNAPSHOT-shaded.jar
+STARTUP=calculadora-financeira-cli/target/startup
+ARGS=(price -P 5000 -i 2% -n 24)
+$BENCH "$RUNS" "shaded" -- java -jar "$SHADED" "${ARGS[@]}"
+$BENCH "$RUNS" "startup (jar minimizado)" -- java -jar "$STARTUP/calcfin.jar" "${ARGS[@]}"
+$BENCH "$RUNS" "startup + AppCDS" -- java -XX:SharedArchiveFile="$STARTUP/calcfin.jsa" -jar "$STARTUP/calcfin.jar" "${ARGS[@]}"
+$BENCH "$RUNS" "startup + AppCDS + C1" -- java -XX:SharedArchiveFile="$STARTUP/calcfin.jsa" -XX:TieredStopAtLevel=1 -jar "$STARTUP/calcfin.jar" "${ARGS[@]}"
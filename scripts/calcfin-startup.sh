@@ -0,0 +1,5 @@
+#!/usr/bin/env bash
+set -euo pipefail
+# Run the startup-optimized distribution (mvn -Pstartup package) with its AppCDS archive
+DIR="$(cd "$(dirname "$0")/.." && pwd)/calculadora-financeira-cli/target/startup"
+exec java -XX:SharedArchiveFile="$DIR/calcfin.jsa" -Xshare:auto -XX:TieredStopAtLevel=1 -jar "$DIR/calcfin.jar" "$@"